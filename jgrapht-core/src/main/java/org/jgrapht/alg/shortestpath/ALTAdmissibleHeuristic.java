@@ -61,6 +61,10 @@ import java.util.*;
  * vertices source and target, a good landmark appears "before" source or "after" target where
  * before and after are relative to the "direction" from source to target.
  *
+ * <p>
+ * For large graphs see {@link ALTLandmarkTables}, which selects the landmarks automatically,
+ * computes the distances in parallel and can store them in a file.
+ *
  * @author Dimitrios Michail
  *
  * @param <V> the graph vertex type
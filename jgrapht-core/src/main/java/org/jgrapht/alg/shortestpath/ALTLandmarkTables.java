@@ -0,0 +1,779 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.ConcurrencyUtil;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Precomputed landmark distance tables for the ALT heuristic, which can be selected
+ * automatically, computed in parallel and stored on disk.
+ *
+ * <p>
+ * The heuristic is the same as the one of {@link ALTAdmissibleHeuristic}: for every landmark $l$
+ * the distances $d(l, v)$ and $d(v, l)$ are known for all vertices $v$, and the distance from $u$
+ * to $t$ is estimated from below by $\max_l \max(d(u, l) - d(t, l), d(l, t) - d(l, u))$. This class
+ * differs in the way the tables are obtained and stored:
+ * <ul>
+ * <li>Landmarks can be selected automatically using one of the strategies of
+ * {@link LandmarkSelection}, described in: Andrew V. Goldberg and Renato F. Werneck. Computing
+ * point-to-point shortest paths from external memory. In Proceedings of the 7th Workshop on
+ * Algorithm Engineering and Experiments (ALENEX'05), 26--40, 2005.</li>
+ * <li>The shortest path searches from and to the landmarks are executed in parallel on primitive
+ * arrays, using the {@link ThreadPoolExecutor} supplied from outside.</li>
+ * <li>The distances are stored as {@code float} values in two arrays, where the distances of a
+ * vertex to and from all landmarks are adjacent. This halves the memory compared to
+ * {@code double} values and makes the evaluation of the heuristic cache friendly.</li>
+ * <li>The tables can be written to a file using {@link #write(Path)} and loaded again using
+ * {@link #read(Graph, Path)}, so the preprocessing does not have to be repeated at every
+ * start.</li>
+ * </ul>
+ *
+ * <p>
+ * The distances are rounded down when they are converted to {@code float}, and the estimate is
+ * reduced by the maximal rounding error, so the heuristic is admissible. Because of the rounding it
+ * is not guaranteed to be consistent and {@link #isConsistent(Graph)} returns false.
+ *
+ * <p>
+ * A file can only be loaded for a graph which has the same number of vertices, which are
+ * identified by their position in the iteration order of {@link Graph#vertexSet()}. The tables
+ * have to be recomputed whenever the edge weights change.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see ALTAdmissibleHeuristic
+ */
+public class ALTLandmarkTables<V, E>
+    implements AStarAdmissibleHeuristic<V>
+{
+    private static final int MAGIC = 0x544C414A; // "JALT" in little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 4;
+
+    /**
+     * Strategy for the automatic selection of landmarks.
+     */
+    public enum LandmarkSelection
+    {
+        /**
+         * Starts with the vertex farthest from a random vertex, then repeatedly selects the vertex
+         * whose distance from the closest selected landmark is maximal.
+         */
+        FARTHEST,
+        /**
+         * Starts like {@link #FARTHEST}. Then repeatedly grows a shortest path tree from a random
+         * root, weights each vertex by how much the current landmarks underestimate its distance
+         * from the root, and descends from the root into the subtree of maximal total weight not
+         * containing a landmark. The leaf reached becomes the next landmark. This strategy usually
+         * gives better estimates than {@link #FARTHEST}.
+         */
+        AVOID
+    }
+
+    private final Map<V, Integer> vertexIndex;
+    private final List<V> landmarks;
+    private final int numLandmarks;
+    private final boolean directed;
+    /**
+     * Entry $v \cdot L + l$ is the distance from landmark $l$ to vertex $v$.
+     */
+    private final float[] fromLandmark;
+    /**
+     * Entry $v \cdot L + l$ is the distance from vertex $v$ to landmark $l$. Same as
+     * {@link #fromLandmark} for undirected graphs.
+     */
+    private final float[] toLandmark;
+
+    private ALTLandmarkTables(
+        Graph<V, E> graph, List<V> vertices, int[] landmarkIndices, boolean directed,
+        float[] fromLandmark, float[] toLandmark)
+    {
+        this.vertexIndex = HashMap.newHashMap(vertices.size());
+        for (V v : vertices) {
+            vertexIndex.put(v, vertexIndex.size());
+        }
+        List<V> landmarkList = new ArrayList<>(landmarkIndices.length);
+        for (int l : landmarkIndices) {
+            landmarkList.add(vertices.get(l));
+        }
+        this.landmarks = Collections.unmodifiableList(landmarkList);
+        this.numLandmarks = landmarkIndices.length;
+        this.directed = directed;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * Computes the tables for the given {@code landmarks}. It is up to a user of this method to
+     * handle the creation and termination of the provided {@code executor}. For utility methods
+     * to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph the graph
+     * @param landmarks the landmarks
+     * @param executor executor which will be used for parallelization
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the tables
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public static <V, E> ALTLandmarkTables<V, E> compute(
+        Graph<V, E> graph, Collection<V> landmarks, ThreadPoolExecutor executor)
+    {
+        Objects.requireNonNull(landmarks, "Landmarks cannot be null");
+        if (landmarks.isEmpty()) {
+            throw new IllegalArgumentException("At least one landmark must be provided");
+        }
+        Preprocessing<V, E> preprocessing = new Preprocessing<>(graph, executor);
+        Set<V> distinct = new LinkedHashSet<>(landmarks);
+        preprocessing.allocate(distinct.size());
+        for (V landmark : distinct) {
+            Integer index = preprocessing.vertexIndex.get(landmark);
+            if (index == null) {
+                throw new IllegalArgumentException("Landmarks must be vertices of the graph");
+            }
+            preprocessing.addLandmark(index, false);
+        }
+        return preprocessing.finish();
+    }
+
+    /**
+     * Selects {@code numberOfLandmarks} landmarks using the given {@code strategy} and computes
+     * their tables. Fewer landmarks are selected if the graph has fewer vertices. It is up to a
+     * user of this method to handle the creation and termination of the provided
+     * {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph the graph
+     * @param numberOfLandmarks the number of landmarks
+     * @param strategy the landmark selection strategy
+     * @param random random number generator used to select the roots of the searches
+     * @param executor executor which will be used for parallelization
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the tables
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public static <V, E> ALTLandmarkTables<V, E> compute(
+        Graph<V, E> graph, int numberOfLandmarks, LandmarkSelection strategy, Random random,
+        ThreadPoolExecutor executor)
+    {
+        if (numberOfLandmarks < 1) {
+            throw new IllegalArgumentException("At least one landmark must be selected");
+        }
+        Objects.requireNonNull(strategy, "Strategy cannot be null");
+        Objects.requireNonNull(random, "Random cannot be null");
+        Preprocessing<V, E> preprocessing = new Preprocessing<>(graph, executor);
+        int n = preprocessing.n;
+        if (n == 0) {
+            throw new IllegalArgumentException("Graph must contain at least one vertex");
+        }
+        preprocessing.allocate(Math.min(numberOfLandmarks, n));
+        preprocessing.selectLandmarks(strategy, random);
+        return preprocessing.finish();
+    }
+
+    /**
+     * Get the landmarks.
+     *
+     * @return the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        return landmarks;
+    }
+
+    /**
+     * An admissible heuristic estimate from a source vertex to a target vertex. The estimate is
+     * always non-negative and never overestimates the true distance.
+     *
+     * @param u the source vertex
+     * @param t the target vertex
+     *
+     * @return an admissible heuristic estimate
+     */
+    @Override
+    public double getCostEstimate(V u, V t)
+    {
+        if (u.equals(t)) {
+            return 0d;
+        }
+        int ui = vertexIndex.get(u) * numLandmarks;
+        int ti = vertexIndex.get(t) * numLandmarks;
+        double maxEstimate = 0d;
+        for (int l = 0; l < numLandmarks; ++l) {
+            // d(u, t) >= d(u, l) - d(t, l)
+            maxEstimate = Math.max(maxEstimate, estimate(toLandmark[ui + l], toLandmark[ti + l]));
+            // d(u, t) >= d(l, t) - d(l, u)
+            maxEstimate =
+                Math.max(maxEstimate, estimate(fromLandmark[ti + l], fromLandmark[ui + l]));
+        }
+        return maxEstimate;
+    }
+
+    /**
+     * Lower bound of $a - b$ given the values of $a$ and $b$ rounded down.
+     */
+    private static double estimate(float a, float b)
+    {
+        if (a == Float.POSITIVE_INFINITY || b == Float.POSITIVE_INFINITY) {
+            return 0d;
+        }
+        return (double) a - b - Math.ulp(b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Returns false, because the rounding of the distances may violate consistency by a tiny
+     * amount.
+     */
+    @Override
+    public <ET> boolean isConsistent(Graph<V, ET> graph)
+    {
+        return false;
+    }
+
+    /**
+     * Writes the landmarks and the tables to a file. An existing file is overwritten.
+     *
+     * @param file the file
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Path file)
+        throws IOException
+    {
+        int n = vertexIndex.size();
+        int[] landmarkIndices = new int[numLandmarks];
+        for (int l = 0; l < numLandmarks; ++l) {
+            landmarkIndices[l] = vertexIndex.get(landmarks.get(l));
+        }
+        try (FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(directed ? 1 : 0);
+            for (int l : landmarkIndices) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush(channel, buffer);
+                }
+                buffer.putInt(l);
+            }
+            writeFloats(channel, buffer, fromLandmark);
+            if (directed) {
+                writeFloats(channel, buffer, toLandmark);
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Reads landmarks and tables from a file written by {@link #write(Path)}.
+     *
+     * @param graph the graph the tables were computed for
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the tables
+     * @throws IOException if an I/O error occurs or the file is not a landmark tables file
+     * @throws IllegalArgumentException if the file does not match the graph
+     */
+    public static <V, E> ALTLandmarkTables<V, E> read(Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_INTS * Integer.BYTES) {
+                throw new IOException("Not a landmark tables file");
+            }
+            ByteBuffer header = channel
+                .map(FileChannel.MapMode.READ_ONLY, 0, HEADER_INTS * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a landmark tables file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported file version " + version);
+            }
+            int n = header.getInt();
+            boolean directed = header.getInt() != 0;
+            if (n != vertices.size() || directed != graph.getType().isDirected()) {
+                throw new IllegalArgumentException("File does not match the graph");
+            }
+            long tableBytes = size - HEADER_INTS * Integer.BYTES;
+            long bytesPerLandmark = Integer.BYTES + (directed ? 2L : 1L) * n * Float.BYTES;
+            if (tableBytes % bytesPerLandmark != 0) {
+                throw new IOException("Invalid landmark tables file");
+            }
+            long landmarks = tableBytes / bytesPerLandmark;
+            if (landmarks == 0) {
+                throw new IOException("Landmark tables file contains no landmarks");
+            }
+            long tableLength = landmarks * n;
+            if (Math.max(landmarks, tableLength) > Integer.MAX_VALUE - 8) {
+                throw new IOException("Landmark tables too large to be loaded");
+            }
+            int numLandmarks = (int) landmarks;
+
+            long position = HEADER_INTS * Integer.BYTES;
+            int[] landmarkIndices = new int[numLandmarks];
+            channel
+                .map(FileChannel.MapMode.READ_ONLY, position, (long) numLandmarks * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(landmarkIndices);
+            position += (long) numLandmarks * Integer.BYTES;
+            for (int l : landmarkIndices) {
+                if (l < 0 || l >= n) {
+                    throw new IOException("Invalid landmark " + l);
+                }
+            }
+            float[] from = readFloats(channel, position, (int) tableLength);
+            position += tableLength * Float.BYTES;
+            float[] to = directed ? readFloats(channel, position, (int) tableLength) : from;
+            return new ALTLandmarkTables<>(graph, vertices, landmarkIndices, directed, from, to);
+        }
+    }
+
+    private static void writeFloats(FileChannel channel, ByteBuffer buffer, float[] values)
+        throws IOException
+    {
+        int pos = 0;
+        while (pos < values.length) {
+            if (buffer.remaining() < Float.BYTES) {
+                flush(channel, buffer);
+            }
+            int count = Math.min(values.length - pos, buffer.remaining() / Float.BYTES);
+            buffer.asFloatBuffer().put(values, pos, count);
+            buffer.position(buffer.position() + count * Float.BYTES);
+            pos += count;
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer)
+        throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static float[] readFloats(FileChannel channel, long position, int length)
+        throws IOException
+    {
+        float[] result = new float[length];
+        int chunk = 1 << 28;
+        for (int pos = 0; pos < length; pos += chunk) {
+            int count = Math.min(chunk, length - pos);
+            channel
+                .map(
+                    FileChannel.MapMode.READ_ONLY, position + (long) pos * Float.BYTES,
+                    (long) count * Float.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(result, pos, count);
+        }
+        return result;
+    }
+
+    /**
+     * Landmark selection and table computation on a compressed sparse row representation of the
+     * graph.
+     */
+    private static class Preprocessing<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final ExecutorCompletionService<Void> completionService;
+        private final List<V> vertices;
+        private final Map<V, Integer> vertexIndex;
+        private final int n;
+        private final boolean directed;
+
+        private final int[] outOffsets;
+        private final int[] outTargets;
+        private final double[] outWeights;
+        private final int[] inOffsets;
+        private final int[] inSources;
+        private final double[] inWeights;
+
+        private int[] landmarkIndices;
+        private int numLandmarks;
+        private float[] fromLandmark;
+        private float[] toLandmark;
+        private int pendingTasks;
+
+        Preprocessing(Graph<V, E> graph, ThreadPoolExecutor executor)
+        {
+            this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+            this.completionService =
+                new ExecutorCompletionService<>(Objects.requireNonNull(executor));
+            if (graph.getType().isDirected()) {
+                this.directed = true;
+            } else if (graph.getType().isUndirected()) {
+                this.directed = false;
+            } else {
+                throw new IllegalArgumentException("Graph must be directed or undirected");
+            }
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            this.n = vertices.size();
+            this.vertexIndex = HashMap.newHashMap(n);
+            for (V v : vertices) {
+                vertexIndex.put(v, vertexIndex.size());
+            }
+
+            this.outOffsets = new int[n + 1];
+            this.inOffsets = new int[n + 1];
+            for (E e : graph.edgeSet()) {
+                if (graph.getEdgeWeight(e) < 0d) {
+                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
+                }
+                int s = vertexIndex.get(graph.getEdgeSource(e));
+                int t = vertexIndex.get(graph.getEdgeTarget(e));
+                ++outOffsets[s + 1];
+                ++inOffsets[t + 1];
+                if (!directed) {
+                    ++outOffsets[t + 1];
+                    ++inOffsets[s + 1];
+                }
+            }
+            for (int v = 0; v < n; ++v) {
+                outOffsets[v + 1] += outOffsets[v];
+                inOffsets[v + 1] += inOffsets[v];
+            }
+            this.outTargets = new int[outOffsets[n]];
+            this.outWeights = new double[outOffsets[n]];
+            this.inSources = new int[inOffsets[n]];
+            this.inWeights = new double[inOffsets[n]];
+            int[] outPos = Arrays.copyOf(outOffsets, n);
+            int[] inPos = Arrays.copyOf(inOffsets, n);
+            for (E e : graph.edgeSet()) {
+                int s = vertexIndex.get(graph.getEdgeSource(e));
+                int t = vertexIndex.get(graph.getEdgeTarget(e));
+                double w = graph.getEdgeWeight(e);
+                outTargets[outPos[s]] = t;
+                outWeights[outPos[s]++] = w;
+                inSources[inPos[t]] = s;
+                inWeights[inPos[t]++] = w;
+                if (!directed) {
+                    outTargets[outPos[t]] = s;
+                    outWeights[outPos[t]++] = w;
+                    inSources[inPos[s]] = t;
+                    inWeights[inPos[s]++] = w;
+                }
+            }
+        }
+
+        void allocate(int landmarks)
+        {
+            if ((long) n * landmarks > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many landmarks for the size of the graph");
+            }
+            this.landmarkIndices = new int[landmarks];
+            this.fromLandmark = new float[n * landmarks];
+            this.toLandmark = directed ? new float[n * landmarks] : fromLandmark;
+        }
+
+        /**
+         * Adds a landmark and submits the computation of its tables.
+         *
+         * @param wait whether to wait for all submitted computations to finish
+         */
+        void addLandmark(int landmark, boolean wait)
+        {
+            int l = numLandmarks++;
+            landmarkIndices[l] = landmark;
+            submit(() -> fillTable(landmark, l, outOffsets, outTargets, outWeights, fromLandmark));
+            if (directed) {
+                submit(() -> fillTable(landmark, l, inOffsets, inSources, inWeights, toLandmark));
+            }
+            if (wait) {
+                waitForTasks();
+            }
+        }
+
+        ALTLandmarkTables<V, E> finish()
+        {
+            waitForTasks();
+            int[] indices = Arrays.copyOf(landmarkIndices, numLandmarks);
+            float[] from = fromLandmark;
+            float[] to = toLandmark;
+            if (numLandmarks < landmarkIndices.length) {
+                // fewer landmarks were selected than requested, compact the tables
+                from = compact(fromLandmark);
+                to = directed ? compact(toLandmark) : from;
+            }
+            return new ALTLandmarkTables<>(graph, vertices, indices, directed, from, to);
+        }
+
+        private float[] compact(float[] table)
+        {
+            float[] result = new float[n * numLandmarks];
+            for (int v = 0; v < n; ++v) {
+                System.arraycopy(
+                    table, v * landmarkIndices.length, result, v * numLandmarks, numLandmarks);
+            }
+            return result;
+        }
+
+        void selectLandmarks(LandmarkSelection strategy, Random random)
+        {
+            int capacity = landmarkIndices.length;
+            boolean[] isLandmark = new boolean[n];
+            double[] dist = new double[n];
+            int[] pred = new int[n];
+            int[] order = new int[n];
+            IndexedDaryDoubleHeap heap = new IndexedDaryDoubleHeap(n);
+
+            // the first landmark is the vertex farthest from a random vertex
+            int settled = search(random.nextInt(n), outOffsets, outTargets, outWeights, heap, dist,
+                pred, order);
+            int first = order[settled - 1];
+            isLandmark[first] = true;
+            addLandmark(first, strategy == LandmarkSelection.AVOID);
+
+            double[] minDist = new double[n];
+            Arrays.fill(minDist, Double.POSITIVE_INFINITY);
+            while (numLandmarks < capacity) {
+                int next = -1;
+                if (strategy == LandmarkSelection.AVOID) {
+                    next = avoid(random, isLandmark, heap, dist, pred, order);
+                }
+                if (next < 0) {
+                    next = farthest(isLandmark, minDist, heap, dist, pred, order, random);
+                }
+                isLandmark[next] = true;
+                addLandmark(next, strategy == LandmarkSelection.AVOID);
+            }
+        }
+
+        /**
+         * Selects the vertex whose distance from the closest landmark is maximal. Vertices which
+         * are not reachable from any landmark are preferred, so that every component gets a
+         * landmark.
+         */
+        private int farthest(
+            boolean[] isLandmark, double[] minDist, IndexedDaryDoubleHeap heap, double[] dist,
+            int[] pred, int[] order, Random random)
+        {
+            // update with the landmarks added since the last call
+            for (int l = 0; l < numLandmarks; ++l) {
+                int landmark = landmarkIndices[l];
+                if (minDist[landmark] == 0d) {
+                    continue;
+                }
+                int settled =
+                    search(landmark, outOffsets, outTargets, outWeights, heap, dist, pred, order);
+                for (int i = 0; i < settled; ++i) {
+                    int v = order[i];
+                    minDist[v] = Math.min(minDist[v], dist[v]);
+                }
+            }
+            int best = -1;
+            int unreached = 0;
+            for (int v = 0; v < n; ++v) {
+                if (isLandmark[v]) {
+                    continue;
+                }
+                if (minDist[v] == Double.POSITIVE_INFINITY) {
+                    // reservoir sampling among the unreached vertices
+                    if (random.nextInt(++unreached) == 0) {
+                        best = v;
+                    }
+                } else if (unreached == 0 && (best < 0 || minDist[v] > minDist[best])) {
+                    best = v;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Selects a landmark using the avoid strategy, or returns -1 if the search from the random
+         * root does not reach any vertex outside the subtrees of landmarks.
+         */
+        private int avoid(
+            Random random, boolean[] isLandmark, IndexedDaryDoubleHeap heap, double[] dist,
+            int[] pred, int[] order)
+        {
+            int root = random.nextInt(n);
+            if (isLandmark[root]) {
+                return -1;
+            }
+            int settled = search(root, outOffsets, outTargets, outWeights, heap, dist, pred, order);
+
+            // weight of a vertex is the error of the current lower bound from the root
+            int rootBase = root * numLandmarks;
+            double[] size = new double[n];
+            boolean[] blocked = new boolean[n];
+            for (int i = settled - 1; i >= 0; --i) {
+                int v = order[i];
+                int vBase = v * numLandmarks;
+                double lowerBound = 0d;
+                for (int l = 0; l < numLandmarks; ++l) {
+                    lowerBound = Math.max(
+                        lowerBound, estimate(toLandmark[rootBase + l], toLandmark[vBase + l]));
+                    lowerBound = Math.max(
+                        lowerBound, estimate(fromLandmark[vBase + l], fromLandmark[rootBase + l]));
+                }
+                size[v] += dist[v] - lowerBound;
+                if (isLandmark[v]) {
+                    blocked[v] = true;
+                }
+                if (v != root) {
+                    if (blocked[v]) {
+                        blocked[pred[v]] = true;
+                    } else {
+                        size[pred[v]] += size[v];
+                    }
+                }
+            }
+
+            // descend into the heaviest subtree without landmarks
+            int[] childCount = new int[n + 1];
+            for (int i = 1; i < settled; ++i) {
+                ++childCount[pred[order[i]] + 1];
+            }
+            for (int v = 0; v < n; ++v) {
+                childCount[v + 1] += childCount[v];
+            }
+            int[] children = new int[Math.max(0, settled - 1)];
+            int[] pos = Arrays.copyOf(childCount, n);
+            for (int i = 1; i < settled; ++i) {
+                int v = order[i];
+                children[pos[pred[v]]++] = v;
+            }
+            int current = root;
+            while (true) {
+                int bestChild = -1;
+                for (int i = childCount[current]; i < childCount[current + 1]; ++i) {
+                    int c = children[i];
+                    if (!blocked[c] && (bestChild < 0 || size[c] > size[bestChild])) {
+                        bestChild = c;
+                    }
+                }
+                if (bestChild < 0) {
+                    break;
+                }
+                current = bestChild;
+            }
+            return current == root ? -1 : current;
+        }
+
+        private void submit(Runnable task)
+        {
+            completionService.submit(task, null);
+            ++pendingTasks;
+        }
+
+        private void waitForTasks()
+        {
+            RuntimeException failure = null;
+            for (; pendingTasks > 0; --pendingTasks) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = new IllegalStateException(e);
+                } catch (ExecutionException e) {
+                    failure = e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause()
+                        : new IllegalStateException(e.getCause());
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Computes the distances from {@code landmark} in the given CSR graph and stores them in
+         * column {@code l} of {@code table}.
+         */
+        private void fillTable(
+            int landmark, int l, int[] offsets, int[] targets, double[] weights, float[] table)
+        {
+            double[] dist = new double[n];
+            search(
+                landmark, offsets, targets, weights, new IndexedDaryDoubleHeap(n), dist, new int[n],
+                new int[n]);
+            int stride = landmarkIndices.length;
+            for (int v = 0; v < n; ++v) {
+                table[v * stride + l] = roundDown(dist[v]);
+            }
+        }
+
+        /**
+         * Dijkstra search from {@code source}. Unreached vertices get infinite distance.
+         *
+         * @return the number of settled vertices, which are stored in {@code order} in the order
+         *         they were settled
+         */
+        private int search(
+            int source, int[] offsets, int[] targets, double[] weights,
+            IndexedDaryDoubleHeap heap, double[] dist, int[] pred, int[] order)
+        {
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            heap.clear();
+            dist[source] = 0d;
+            pred[source] = -1;
+            heap.insert(source, 0d);
+            int settled = 0;
+            while (!heap.isEmpty()) {
+                double vDist = heap.findMinKey();
+                int v = heap.deleteMin();
+                order[settled++] = v;
+                for (int i = offsets[v], end = offsets[v + 1]; i < end; ++i) {
+                    int u = targets[i];
+                    double uDist = vDist + weights[i];
+                    if (uDist < dist[u]) {
+                        if (dist[u] == Double.POSITIVE_INFINITY) {
+                            heap.insert(u, uDist);
+                        } else if (heap.contains(u)) {
+                            heap.decreaseKey(u, uDist);
+                        } else {
+                            continue;
+                        }
+                        dist[u] = uDist;
+                        pred[u] = v;
+                    }
+                }
+            }
+            return settled;
+        }
+    }
+
+    /**
+     * Converts a distance to {@code float}, rounding towards negative infinity.
+     */
+    private static float roundDown(double value)
+    {
+        float f = (float) value;
+        return f > value ? Math.nextDown(f) : f;
+    }
+}
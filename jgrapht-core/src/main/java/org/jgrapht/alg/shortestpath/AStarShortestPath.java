@@ -52,6 +52,10 @@ import java.util.function.*;
  * complexities for A* with inconsistent heuristics described in literature can be used to improve
  * this implementation!
  *
+ * <p>
+ * The search can be pruned by a {@link GoalDirectedEdgeFilter}, such as {@link ArcFlags}. Then
+ * only the edges accepted by the forward filter of the query are scanned.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Joris Kinable
@@ -85,6 +89,10 @@ public class AStarShortestPath<V, E> extends BaseShortestPathAlgorithm<V, E>
     // Comparator for comparing doubles with tolerance
     protected Comparator<Double> comparator;
 
+    // Optional filter of the edges scanned by the search
+    private final GoalDirectedEdgeFilter<V, E> edgeFilter;
+    private Function<V, Iterable<E>> scannedEdges;
+
     /**
      * Create a new instance of the A* shortest path algorithm.
      *
@@ -108,12 +116,48 @@ public class AStarShortestPath<V, E> extends BaseShortestPathAlgorithm<V, E>
     public AStarShortestPath(
         Graph<V, E> graph, AStarAdmissibleHeuristic<V> admissibleHeuristic,
         Supplier<AddressableHeap<Double, V>> heapSupplier)
+    {
+        this(graph, admissibleHeuristic, null, heapSupplier);
+    }
+
+    /**
+     * Create a new instance of the A* shortest path algorithm which scans only the edges accepted
+     * by an edge filter.
+     *
+     * @param graph the input graph
+     * @param admissibleHeuristic admissible heuristic which estimates the distance from a node to
+     *        the target node. The heuristic must never overestimate the distance.
+     * @param heapSupplier supplier of the preferable heap implementation
+     * @param edgeFilter the edge filter
+     */
+    public AStarShortestPath(
+        Graph<V, E> graph, AStarAdmissibleHeuristic<V> admissibleHeuristic,
+        Supplier<AddressableHeap<Double, V>> heapSupplier, GoalDirectedEdgeFilter<V, E> edgeFilter)
+    {
+        this(
+            graph, admissibleHeuristic,
+            Objects.requireNonNull(edgeFilter, "Edge filter cannot be null!"), heapSupplier);
+    }
+
+    /**
+     * Create a new instance of the A* shortest path algorithm with an optional edge filter.
+     *
+     * @param graph the input graph
+     * @param admissibleHeuristic admissible heuristic which estimates the distance from a node to
+     *        the target node. The heuristic must never overestimate the distance.
+     * @param edgeFilter the edge filter, or null to scan all edges
+     * @param heapSupplier supplier of the preferable heap implementation
+     */
+    private AStarShortestPath(
+        Graph<V, E> graph, AStarAdmissibleHeuristic<V> admissibleHeuristic,
+        GoalDirectedEdgeFilter<V, E> edgeFilter, Supplier<AddressableHeap<Double, V>> heapSupplier)
     {
         super(graph);
         this.admissibleHeuristic =
             Objects.requireNonNull(admissibleHeuristic, "Heuristic function cannot be null!");
         this.comparator = new ToleranceDoubleComparator();
         this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null!");
+        this.edgeFilter = edgeFilter;
     }
 
     /**
@@ -153,6 +197,8 @@ public class AStarShortestPath<V, E> extends BaseShortestPathAlgorithm<V, E>
         }
 
         this.initialize(admissibleHeuristic);
+        scannedEdges =
+            edgeFilter == null ? null : edgeFilter.getForwardEdges(sourceVertex, targetVertex);
         gScoreMap.put(sourceVertex, 0.0);
         AddressableHeap.Handle<Double, V> heapNode = openList.insert(0.0, sourceVertex);
         vertexToHeapNodeMap.put(sourceVertex, heapNode);
@@ -190,7 +236,9 @@ public class AStarShortestPath<V, E> extends BaseShortestPathAlgorithm<V, E>
     {
         numberOfExpandedNodes++;
 
-        Set<E> outgoingEdges = graph.outgoingEdgesOf(currentNode.getValue());
+        Iterable<E> outgoingEdges = scannedEdges == null
+            ? graph.outgoingEdgesOf(currentNode.getValue())
+            : scannedEdges.apply(currentNode.getValue());
 
         for (E edge : outgoingEdges) {
             V successor = Graphs.getOppositeVertex(graph, edge, currentNode.getValue());
@@ -38,8 +38,9 @@ import java.util.Set;
  * subgraph obtained by removing vertices/edges (Dijkstra never gets shorter when the graph
  * shrinks). So {@code h(v) = reverseDistancesToSink[v]} is admissible for the spur subproblem on
  * the masked graph. If the heuristic map is {@code null} or missing for some vertex, the engine
- * falls back to {@code 0.0} for that vertex (still admissible, equivalent to running A* with a
- * trivial heuristic, i.e. Dijkstra).
+ * falls back to the heuristic supplied at construction, e.g. a geographic distance bound, or to
+ * {@code 0.0} when there is none (still admissible, equivalent to running A* with a trivial
+ * heuristic, i.e. Dijkstra).
  *
  * <p>
  * Edge weights must be non-negative.
@@ -50,9 +51,30 @@ import java.util.Set;
 public class AStarSpurEngine<V, E>
     implements SpurShortestPathEngine<V, E>
 {
+    private final AStarAdmissibleHeuristic<V> fallbackHeuristic;
     private long expandedVertices;
     private long pathQueries;
 
+    /**
+     * Constructs an engine which falls back to Dijkstra where the reverse distances are missing.
+     */
+    public AStarSpurEngine()
+    {
+        this(null);
+    }
+
+    /**
+     * Constructs an engine which falls back to the given heuristic where the reverse distances
+     * are missing.
+     *
+     * @param fallbackHeuristic admissible heuristic for the original graph, or {@code null} for
+     *        none
+     */
+    public AStarSpurEngine(AStarAdmissibleHeuristic<V> fallbackHeuristic)
+    {
+        this.fallbackHeuristic = fallbackHeuristic;
+    }
+
     @Override
     public GraphPath<V, E> findPath(
         Graph<V, E> graph, V source, V sink, Set<V> bannedVertices, Set<E> bannedEdges,
@@ -72,12 +94,15 @@ public class AStarSpurEngine<V, E>
             : new MaskSubgraph<>(graph, banV::contains, banE::contains);
 
         AStarAdmissibleHeuristic<V> heuristic = (sourceVertex, targetVertex) -> {
-            if (reverseDistancesToSink == null) {
-                return 0.0;
+            Double d =
+                reverseDistancesToSink == null ? null : reverseDistancesToSink.get(sourceVertex);
+            if (d != null && !Double.isInfinite(d)) {
+                return d;
             }
-            Double d = reverseDistancesToSink.get(sourceVertex);
-            // Missing entry => unreachable to sink on the original graph; 0.0 is still admissible.
-            return d == null || Double.isInfinite(d) ? 0.0 : d;
+            // Missing entry => unreachable to sink on the original graph; any estimate, including
+            // the fallback's or 0.0, is still admissible.
+            return fallbackHeuristic == null ? 0.0
+                : fallbackHeuristic.getCostEstimate(sourceVertex, targetVertex);
         };
 
         CountingAStar<V, E> astar = new CountingAStar<>(masked, heuristic);
@@ -21,6 +21,8 @@ import org.jgrapht.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 /**
  * A Dijkstra-like algorithm to find all paths between two sets of nodes in a directed graph, with
@@ -37,6 +39,13 @@ import java.util.*;
  * {@link #setForwardPruning(boolean)} for how to disable it.
  * </p>
  *
+ * <p>
+ * Instead of collecting all paths into a list, the paths can also be enumerated lazily with
+ * {@link #getAllPathsStream(Set, Set, boolean, Integer)}. The stream performs the same
+ * preprocessing once and then explores the decorated edges depth-first as it is consumed; a
+ * parallel stream splits the unexplored parts of the search tree between threads.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -162,14 +171,7 @@ public class AllDirectedPaths<V, E>
         Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
         Integer maxPathLength)
     {
-        if ((maxPathLength != null) && (maxPathLength < 0)) {
-            throw new IllegalArgumentException("maxPathLength must be non-negative if defined");
-        }
-
-        if (!simplePathsOnly && (maxPathLength == null)) {
-            throw new IllegalArgumentException(
-                "If search is not restricted to simple paths, a maximum path length must be set to avoid infinite cycles");
-        }
+        checkArguments(simplePathsOnly, maxPathLength);
 
         if ((sourceVertices.isEmpty()) || (targetVertices.isEmpty())) {
             return Collections.emptyList();
@@ -179,10 +181,8 @@ public class AllDirectedPaths<V, E>
         // is enabled (the default), first compute forward distances from the source set and use
         // them to drop edges that cannot lie on any feasible source -> target walk within the
         // budget. When disabled, behave identically to the historical backward-only sweep.
-        Map<V, Integer> vertexMinDistancesFromSources = forwardPruning
-            ? vertexMinDistancesForwards(sourceVertices, maxPathLength) : null;
-        Map<E, Integer> edgeMinDistancesFromTargets = edgeMinDistancesBackwards(
-            targetVertices, vertexMinDistancesFromSources, maxPathLength);
+        Map<E, Integer> edgeMinDistancesFromTargets =
+            new Pruning(sourceVertices, targetVertices, maxPathLength).edgeMinDistances();
 
         // Generate all the paths
 
@@ -192,166 +192,104 @@ public class AllDirectedPaths<V, E>
     }
 
     /**
-     * Compute the minimum number of edges in a walk to the targets through each edge, so long as
-     * it is not greater than a bound and the edge can lie on at least one source -&gt; target walk
-     * of length at most {@code maxPathLength} (this includes every simple path of length at most
-     * {@code maxPathLength}, since every simple path is also a walk).
+     * Lazily enumerate all paths from the source vertex to the target vertex.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered, which may be very slow due to potentially huge output)
+     * @return a stream of all paths from the source vertex to the target vertex
+     * @see #getAllPathsStream(Set, Set, boolean, Integer)
+     */
+    public Stream<GraphPath<V, E>> getAllPathsStream(
+        V sourceVertex, V targetVertex, boolean simplePathsOnly, Integer maxPathLength)
+    {
+        return getAllPathsStream(
+            Collections.singleton(sourceVertex), Collections.singleton(targetVertex),
+            simplePathsOnly, maxPathLength);
+    }
+
+    /**
+     * Lazily enumerate all paths from the source vertices to the target vertices.
      *
      * <p>
-     * When {@code vertexMinDistancesFromSources} is non-{@code null} the sandwich condition is
-     * enforced: an edge {@code (u, v)} is retained only when {@code u} is forward-reachable from
-     * some source and {@code dF(u) + (1 + dB(v)) <= maxPathLength} (when bounded), where
-     * {@code dF(u)} is the forward BFS distance from the source set to {@code u} and
-     * {@code 1 + dB(v)} is the backward BFS distance to a target through this edge. Edges that
-     * fail the sandwich cannot appear on any feasible source -&gt; target walk and would therefore
-     * never be traversed by the forward enumeration in {@link #generatePaths} in either
-     * {@code simplePathsOnly = true} or {@code simplePathsOnly = false} mode. When
-     * {@code vertexMinDistancesFromSources} is {@code null}, the historical backward-only sweep
-     * is performed.
-     * </p>
+     * The stream contains the same paths as {@link #getAllPaths(Set, Set, boolean, Integer)},
+     * possibly in a different order, but only the preprocessing is done eagerly. The paths are
+     * generated by a depth-first search while the stream is consumed, so that memory usage is
+     * proportional to the length of the current path instead of the number of paths, and a
+     * short-circuiting operation such as {@link Stream#limit(long)} stops the search. Paths which
+     * share a prefix share its representation until they are emitted.
+     *
+     * <p>
+     * If the stream is made {@link Stream#parallel() parallel}, the unexplored subtrees of the
+     * search are split between the worker threads. In that case the path validator, if any, must
+     * be thread-safe. The graph must not be modified while the stream is consumed.
      *
+     * @param sourceVertices the source vertices
      * @param targetVertices the target vertices
-     * @param vertexMinDistancesFromSources forward BFS distances from the source set, computed
-     *        with the same {@code maxPathLength} bound; vertices not in the map are not
-     *        forward-reachable within that bound. May be {@code null} to disable the sandwich
-     *        prune.
-     * @param maxPathLength maximum number of edges to allow in a path (if null, all edges will be
-     *        considered, which may be expensive)
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered, which may be very slow due to potentially huge output)
      *
-     * @return the minimum number of edges in a path from each edge to the targets, encoded in a
-     *         Map
+     * @return a stream of all paths from the sources to the targets containing no more than
+     *         maxPathLength edges
      */
-    private Map<E, Integer> edgeMinDistancesBackwards(
-        Set<V> targetVertices, Map<V, Integer> vertexMinDistancesFromSources,
+    public Stream<GraphPath<V, E>> getAllPathsStream(
+        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
         Integer maxPathLength)
     {
-        /*
-         * We walk backwards through the network from the target vertices, marking edges and
-         * vertices with their minimum distances as we go.
-         */
-        Map<E, Integer> edgeMinDistances = new HashMap<>();
-        Map<V, Integer> vertexMinDistances = new HashMap<>();
-        Queue<V> verticesToProcess = new ArrayDeque<>();
-
-        // Input sanity checking
-        if (maxPathLength != null) {
-            if (maxPathLength < 0) {
-                throw new IllegalArgumentException("maxPathLength must be non-negative if defined");
-            }
-            if (maxPathLength == 0) {
-                return edgeMinDistances;
-            }
-        }
-
-        // Bootstrap the process with the target vertices. When the sandwich prune is enabled,
-        // skip targets that no source can reach within the budget.
-        for (V target : targetVertices) {
-            if (vertexMinDistancesFromSources != null
-                && !vertexMinDistancesFromSources.containsKey(target))
-            {
-                continue;
-            }
-            vertexMinDistances.put(target, 0);
-            verticesToProcess.add(target);
-        }
-
-        // Work through the node queue. When it's empty, we're done!
-        for (V vertex; (vertex = verticesToProcess.poll()) != null;) {
-            assert vertexMinDistances.containsKey(vertex);
-
-            Integer childDistance = vertexMinDistances.get(vertex) + 1;
-
-            // Check whether the incoming edges of this node are correctly
-            // decorated
-            for (E edge : graph.incomingEdgesOf(vertex)) {
-                V edgeSource = graph.getEdgeSource(edge);
-
-                // Sandwich prune: drop edges whose source side is not reachable from the
-                // source set, or whose total forward + backward length already exceeds the
-                // budget. Skipped entirely when the prune is disabled. The bound comparison is
-                // written as (forwardOfSource > maxPathLength - childDistance) rather than the
-                // addition form to avoid integer overflow at extreme maxPathLength values; the
-                // BFS bounds guarantee childDistance <= maxPathLength when maxPathLength is set,
-                // so the right-hand side is non-negative.
-                if (vertexMinDistancesFromSources != null) {
-                    Integer forwardOfSource = vertexMinDistancesFromSources.get(edgeSource);
-                    if (forwardOfSource == null) {
-                        continue;
-                    }
-                    if (maxPathLength != null
-                        && forwardOfSource > maxPathLength - childDistance)
-                    {
-                        continue;
-                    }
-                }
-
-                // Mark the edge if needed
-                if (!edgeMinDistances.containsKey(edge)
-                    || (edgeMinDistances.get(edge) > childDistance))
-                {
-                    edgeMinDistances.put(edge, childDistance);
-                }
-
-                // Mark the edge's source vertex if needed
-                if (!vertexMinDistances.containsKey(edgeSource)
-                    || (vertexMinDistances.get(edgeSource) > childDistance))
-                {
-                    vertexMinDistances.put(edgeSource, childDistance);
-
-                    if ((maxPathLength == null) || (childDistance < maxPathLength)) {
-                        verticesToProcess.add(edgeSource);
-                    }
-                }
-            }
-        }
-
-        assert verticesToProcess.isEmpty();
-        return edgeMinDistances;
+        return StreamSupport.stream(
+            pathSpliterator(sourceVertices, targetVertices, simplePathsOnly, maxPathLength),
+            false);
     }
 
     /**
-     * Compute the minimum number of edges in a forward BFS from the source vertices, capped at
-     * {@code maxPathLength} when given. Used together with
-     * {@link #edgeMinDistancesBackwards(Set, Map, Integer)} to apply sandwich-style pruning of the
-     * edge decoration map.
+     * Lazily enumerate all paths from the source vertices to the target vertices. This is
+     * equivalent to the iterator of a sequential
+     * {@link #getAllPathsStream(Set, Set, boolean, Integer) stream}.
      *
      * @param sourceVertices the source vertices
-     * @param maxPathLength maximum number of forward edges to expand (if null, the BFS is
-     *        unrestricted)
+     * @param targetVertices the target vertices
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered, which may be very slow due to potentially huge output)
      *
-     * @return for every vertex reachable from {@code sourceVertices} within {@code maxPathLength}
-     *         edges, its minimum forward distance from the source set
+     * @return an iterator over all paths from the sources to the targets containing no more than
+     *         maxPathLength edges
      */
-    private Map<V, Integer> vertexMinDistancesForwards(
-        Set<V> sourceVertices, Integer maxPathLength)
+    public Iterator<GraphPath<V, E>> getAllPathsIterator(
+        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+        Integer maxPathLength)
     {
-        Map<V, Integer> vertexMinDistances = new HashMap<>();
-        Queue<V> verticesToProcess = new ArrayDeque<>();
+        return Spliterators.iterator(
+            pathSpliterator(sourceVertices, targetVertices, simplePathsOnly, maxPathLength));
+    }
 
-        for (V source : sourceVertices) {
-            if (!vertexMinDistances.containsKey(source)) {
-                vertexMinDistances.put(source, 0);
-                verticesToProcess.add(source);
-            }
+    private void checkArguments(boolean simplePathsOnly, Integer maxPathLength)
+    {
+        if ((maxPathLength != null) && (maxPathLength < 0)) {
+            throw new IllegalArgumentException("maxPathLength must be non-negative if defined");
         }
 
-        for (V vertex; (vertex = verticesToProcess.poll()) != null;) {
-            int currentDistance = vertexMinDistances.get(vertex);
-            if (maxPathLength != null && currentDistance >= maxPathLength) {
-                continue;
-            }
-            int childDistance = currentDistance + 1;
+        if (!simplePathsOnly && (maxPathLength == null)) {
+            throw new IllegalArgumentException(
+                "If search is not restricted to simple paths, a maximum path length must be set to avoid infinite cycles");
+        }
+    }
 
-            for (E edge : graph.outgoingEdgesOf(vertex)) {
-                V child = graph.getEdgeTarget(edge);
-                if (!vertexMinDistances.containsKey(child)) {
-                    vertexMinDistances.put(child, childDistance);
-                    verticesToProcess.add(child);
-                }
-            }
+    private Spliterator<GraphPath<V, E>> pathSpliterator(
+        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+        Integer maxPathLength)
+    {
+        checkArguments(simplePathsOnly, maxPathLength);
+
+        if ((sourceVertices.isEmpty()) || (targetVertices.isEmpty())) {
+            return Spliterators.emptySpliterator();
         }
 
-        return vertexMinDistances;
+        Pruning pruning = new Pruning(sourceVertices, targetVertices, maxPathLength);
+        return new PathSpliterator(new PathIndex(pruning, targetVertices, simplePathsOnly));
     }
 
     /**
@@ -363,8 +301,7 @@ public class AllDirectedPaths<V, E>
      * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths (if null,
      *        all edges will be considered, which may be expensive)
      * @param edgeMinDistancesFromTargets the minimum number of edges in a path to a target through
-     *        each edge, as computed by {@code
-     * edgeMinDistancesBackwards}.
+     *        each edge, as computed by {@link Pruning#edgeMinDistances()}.
      *
      * @return a List of all GraphPaths from the sources to the targets satisfying the given
      *         constraints
@@ -504,4 +441,477 @@ public class AllDirectedPaths<V, E>
         double weight = edges.stream().mapToDouble(edge -> graph.getEdgeWeight(edge)).sum();
         return new GraphWalk<>(graph, source, target, edges, weight);
     }
+
+    /**
+     * Transform a prefix of the search tree into an ordered list of edges.
+     *
+     * @param index the index the prefix refers to
+     * @param path the last node of the prefix
+     *
+     * @return the edges of the prefix
+     */
+    private List<E> edgeList(PathIndex index, PathNode path)
+    {
+        Object[] edges = new Object[path.length];
+        for (PathNode node = path; node != null; node = node.parent) {
+            edges[node.length - 1] = index.arcEdges.get(node.arc);
+        }
+        @SuppressWarnings("unchecked") List<E> result = (List<E>) Arrays.asList(edges);
+        return result;
+    }
+
+    /**
+     * The preprocessing sweeps, run over the vertices numbered in the order in which the sweeps
+     * reach them. The reached vertices are kept in bitsets and their distances in arrays indexed
+     * by number, so that the sweeps and the decoration of an edge need no map of distances.
+     *
+     * <p>
+     * The sources are numbered first. If forward pruning is enabled, the forward sweep is a BFS
+     * from the sources which computes the distance $d_F(u)$ of every vertex $u$ reachable within
+     * {@code maxPathLength} edges. The backward sweep is a BFS from the targets over the incoming
+     * edges which computes the distance $d_B(v)$ from every vertex $v$ to the targets.
+     *
+     * <p>
+     * An edge $(u, v)$ is decorated with $1 + d_B(v)$, the minimum number of edges in a walk to the
+     * targets through it, if $v$ was expanded by the backward sweep and, when forward pruning is
+     * enabled, the sandwich condition holds: $u$ is forward-reachable and
+     * $d_F(u) + 1 + d_B(v) \le$ {@code maxPathLength}. Edges which fail the sandwich cannot appear
+     * on any feasible source -&gt; target walk of length at most {@code maxPathLength}, and
+     * therefore on no such simple path either, so they are neither decorated nor followed by the
+     * backward sweep. Without forward pruning the historical backward-only sweep is performed.
+     */
+    private class Pruning
+    {
+        final int maxPathLength;
+        final int sourceCount;
+        final Map<V, Integer> vertexIndex;
+        final List<V> vertices;
+        // vertices reached by the forward sweep, null if forward pruning is disabled
+        final BitSet forwardReached;
+        final BitSet backwardReached;
+        int[] forwardDistances;
+        int[] backwardDistances;
+
+        Pruning(Set<V> sourceVertices, Set<V> targetVertices, Integer maxPathLength)
+        {
+            this.maxPathLength = maxPathLength == null ? Integer.MAX_VALUE : maxPathLength;
+            this.sourceCount = sourceVertices.size();
+            this.vertexIndex = new HashMap<>();
+            this.vertices = new ArrayList<>();
+            this.forwardReached = forwardPruning ? new BitSet() : null;
+            this.backwardReached = new BitSet();
+            this.forwardDistances = new int[Math.max(16, sourceCount)];
+            this.backwardDistances = new int[forwardDistances.length];
+            for (V source : sourceVertices) {
+                indexOf(source);
+            }
+
+            // no edge lies on a path of length zero
+            if (this.maxPathLength > 0) {
+                if (forwardReached != null) {
+                    sweepForwards();
+                }
+                sweepBackwards(targetVertices);
+            }
+        }
+
+        private void sweepForwards()
+        {
+            forwardReached.set(0, sourceCount);
+            // only the forward sweep numbers vertices so far, so the numbering is its BFS order
+            for (int v = 0; v < vertices.size(); v++) {
+                if (forwardDistances[v] >= maxPathLength) {
+                    continue;
+                }
+                int childDistance = forwardDistances[v] + 1;
+                for (E edge : graph.outgoingEdgesOf(vertices.get(v))) {
+                    int child = indexOf(graph.getEdgeTarget(edge));
+                    if (!forwardReached.get(child)) {
+                        forwardReached.set(child);
+                        forwardDistances[child] = childDistance;
+                    }
+                }
+            }
+        }
+
+        private void sweepBackwards(Set<V> targetVertices)
+        {
+            int[] queue = new int[Math.max(16, targetVertices.size())];
+            int head = 0;
+            int tail = 0;
+
+            // Bootstrap the sweep with the target vertices. When the sandwich prune is enabled,
+            // skip targets that no source can reach within the budget.
+            for (V target : targetVertices) {
+                int v = forwardReached == null ? indexOf(target) : indexOfReached(target);
+                if (v >= 0 && !backwardReached.get(v)) {
+                    backwardReached.set(v);
+                    backwardDistances[v] = 0;
+                    queue[tail++] = v;
+                }
+            }
+
+            // The first distance assigned to a vertex is its minimum, as in any BFS, and only
+            // vertices below the budget are expanded.
+            while (head < tail) {
+                int v = queue[head++];
+                int childDistance = backwardDistances[v] + 1;
+                for (E edge : graph.incomingEdgesOf(vertices.get(v))) {
+                    V edgeSource = graph.getEdgeSource(edge);
+                    int u = forwardReached == null ? indexOf(edgeSource)
+                        : indexOfReached(edgeSource);
+                    if (!isSandwiched(u, childDistance) || backwardReached.get(u)) {
+                        continue;
+                    }
+                    backwardReached.set(u);
+                    backwardDistances[u] = childDistance;
+                    if (childDistance < maxPathLength) {
+                        if (tail == queue.length) {
+                            queue = Arrays.copyOf(queue, 2 * tail);
+                        }
+                        queue[tail++] = u;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Get the decoration of an edge.
+         *
+         * @param u the number of the source of the edge, or -1 if it has no number
+         * @param v the number of the target of the edge
+         * @return the minimum number of edges in a walk to the targets through the edge, or -1 if
+         *         the edge is not decorated
+         */
+        int edgeDistance(int u, int v)
+        {
+            if (!backwardReached.get(v) || backwardDistances[v] >= maxPathLength) {
+                return -1;
+            }
+            int distance = backwardDistances[v] + 1;
+            return isSandwiched(u, distance) ? distance : -1;
+        }
+
+        /**
+         * Compute the decoration of all edges, as used by {@link #generatePaths}.
+         *
+         * @return the minimum number of edges in a walk to the targets through each decorated
+         *         edge
+         */
+        Map<E, Integer> edgeMinDistances()
+        {
+            Map<E, Integer> edgeMinDistances = new HashMap<>();
+            for (int v = backwardReached.nextSetBit(0); v >= 0;
+                v = backwardReached.nextSetBit(v + 1))
+            {
+                for (E edge : graph.incomingEdgesOf(vertices.get(v))) {
+                    int distance = edgeDistance(indexOfReached(graph.getEdgeSource(edge)), v);
+                    if (distance >= 0) {
+                        edgeMinDistances.put(edge, distance);
+                    }
+                }
+            }
+            return edgeMinDistances;
+        }
+
+        /**
+         * Whether an edge from a vertex with a given distance through it to the targets can lie on
+         * a source -&gt; target walk within the budget. The comparison is written as
+         * {@code forwardDistance > maxPathLength - distance} rather than the addition form to
+         * avoid integer overflow; the distance through an edge never exceeds the budget, so the
+         * right-hand side is non-negative.
+         */
+        private boolean isSandwiched(int u, int distance)
+        {
+            if (forwardReached == null) {
+                return true;
+            }
+            return u >= 0 && forwardReached.get(u)
+                && forwardDistances[u] <= maxPathLength - distance;
+        }
+
+        private int indexOf(V vertex)
+        {
+            int index = vertices.size();
+            Integer existing = vertexIndex.putIfAbsent(vertex, index);
+            if (existing != null) {
+                return existing;
+            }
+            vertices.add(vertex);
+            if (index == forwardDistances.length) {
+                forwardDistances = Arrays.copyOf(forwardDistances, 2 * index);
+                backwardDistances = Arrays.copyOf(backwardDistances, 2 * index);
+            }
+            return index;
+        }
+
+        private int indexOfReached(V vertex)
+        {
+            return vertexIndex.getOrDefault(vertex, -1);
+        }
+    }
+
+    /**
+     * The edges which can lie on a path within the bound, compiled into arrays indexed by vertex.
+     * It is computed once per query and shared by all parts of a split search.
+     */
+    private class PathIndex
+    {
+        final boolean simplePathsOnly;
+        final int maxPathLength;
+        final int sourceCount;
+        final List<V> vertices;
+        final BitSet targets;
+        final int[] offsets;
+        final List<E> arcEdges;
+        final int[] arcTargets;
+        final int[] arcDistances;
+
+        PathIndex(Pruning pruning, Set<V> targetVertices, boolean simplePathsOnly)
+        {
+            this.simplePathsOnly = simplePathsOnly;
+            this.maxPathLength = pruning.maxPathLength;
+            this.sourceCount = pruning.sourceCount;
+
+            // number the sources first, followed by the vertices reachable through decorated
+            // edges in breadth-first order, and record the pruning numbers of both directions
+            int pruned = pruning.vertices.size();
+            int[] order = new int[pruned];
+            int[] number = new int[pruned];
+            Arrays.fill(number, -1);
+            for (int v = 0; v < sourceCount; v++) {
+                order[v] = v;
+                number[v] = v;
+            }
+            int n = sourceCount;
+            int[] arcOffsets = new int[pruned + 1];
+            int[] heads = new int[16];
+            int[] distances = new int[16];
+            this.arcEdges = new ArrayList<>();
+            for (int v = 0; v < n; v++) {
+                int u = order[v];
+                for (E edge : graph.outgoingEdgesOf(pruning.vertices.get(u))) {
+                    int target = pruning.indexOfReached(graph.getEdgeTarget(edge));
+                    int distance = target < 0 ? -1 : pruning.edgeDistance(u, target);
+                    if (distance < 0) {
+                        continue;
+                    }
+                    if (number[target] < 0) {
+                        number[target] = n;
+                        order[n++] = target;
+                    }
+                    int arc = arcEdges.size();
+                    if (arc == heads.length) {
+                        heads = Arrays.copyOf(heads, 2 * arc);
+                        distances = Arrays.copyOf(distances, 2 * arc);
+                    }
+                    heads[arc] = number[target];
+                    distances[arc] = distance;
+                    arcEdges.add(edge);
+                }
+                arcOffsets[v + 1] = arcEdges.size();
+            }
+
+            this.vertices = new ArrayList<>(n);
+            for (int v = 0; v < n; v++) {
+                vertices.add(pruning.vertices.get(order[v]));
+            }
+            this.offsets = Arrays.copyOf(arcOffsets, n + 1);
+            this.arcTargets = Arrays.copyOf(heads, arcEdges.size());
+            this.arcDistances = Arrays.copyOf(distances, arcEdges.size());
+
+            this.targets = new BitSet(n);
+            for (V target : targetVertices) {
+                int v = pruning.indexOfReached(target);
+                if (v >= 0 && number[v] >= 0) {
+                    targets.set(number[v]);
+                }
+            }
+        }
+    }
+
+    /**
+     * A node of the search tree, which represents a path by its last edge and its prefix.
+     */
+    private static final class PathNode
+    {
+        final PathNode parent;
+        final int arc;
+        final int length;
+
+        PathNode(PathNode parent, int arc)
+        {
+            this.parent = parent;
+            this.arc = arc;
+            this.length = parent == null ? 1 : parent.length + 1;
+        }
+    }
+
+    /**
+     * A vertex on the current path of the depth-first search, with its unexplored edges.
+     */
+    private static final class Frame
+    {
+        final int vertex;
+        final PathNode path;
+        int next;
+        int end;
+        boolean marked;
+
+        Frame(int vertex, PathNode path, int next, int end)
+        {
+            this.vertex = vertex;
+            this.path = path;
+            this.next = next;
+            this.end = end;
+        }
+    }
+
+    /**
+     * A depth-first search over the paths, which can be split by handing over the unexplored
+     * sources or the unexplored edges of the vertex closest to the root of the search tree.
+     */
+    private class PathSpliterator
+        implements Spliterator<GraphPath<V, E>>
+    {
+        private final PathIndex index;
+        private final List<Frame> stack;
+        private final BitSet onPath;
+        private int nextSource;
+        private int endSource;
+        private long estimatedSize;
+
+        PathSpliterator(PathIndex index)
+        {
+            this(index, 0, index.sourceCount, Long.MAX_VALUE);
+        }
+
+        private PathSpliterator(PathIndex index, int nextSource, int endSource, long estimatedSize)
+        {
+            this.index = index;
+            this.stack = new ArrayList<>();
+            this.onPath = index.simplePathsOnly ? new BitSet(index.vertices.size()) : null;
+            this.nextSource = nextSource;
+            this.endSource = endSource;
+            this.estimatedSize = estimatedSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super GraphPath<V, E>> action)
+        {
+            while (true) {
+                if (stack.isEmpty()) {
+                    if (nextSource == endSource) {
+                        return false;
+                    }
+                    int source = nextSource++;
+                    push(source, null);
+                    if (index.targets.get(source)) {
+                        // pathValidator intentionally not invoked here
+                        action.accept(
+                            GraphWalk.singletonWalk(graph, index.vertices.get(source), 0d));
+                        return true;
+                    }
+                    continue;
+                }
+
+                Frame top = stack.get(stack.size() - 1);
+                if (top.next == top.end) {
+                    Frame frame = stack.remove(stack.size() - 1);
+                    if (frame.marked) {
+                        onPath.clear(frame.vertex);
+                    }
+                    continue;
+                }
+                int arc = top.next++;
+                int lengthSoFar = top.path == null ? 0 : top.path.length;
+
+                // Proceed if the edge can still reach a target within the bound
+                if (index.arcDistances[arc] > index.maxPathLength - lengthSoFar) {
+                    continue;
+                }
+
+                // If requested, make sure this path isn't self-intersecting. As in getAllPaths,
+                // the edges leaving the sources are not checked.
+                int target = index.arcTargets[arc];
+                if (onPath != null && lengthSoFar > 0 && onPath.get(target)) {
+                    continue;
+                }
+
+                // If requested, validate the path
+                if (pathValidator != null) {
+                    GraphPath<V, E> partialPath = top.path == null ? GraphWalk.emptyWalk(graph)
+                        : makePath(edgeList(index, top.path));
+                    if (!pathValidator.isValidPath(partialPath, index.arcEdges.get(arc))) {
+                        continue;
+                    }
+                }
+
+                PathNode path = new PathNode(top.path, arc);
+                if (path.length < index.maxPathLength) {
+                    push(target, path);
+                }
+                if (index.targets.get(target)) {
+                    action.accept(makePath(edgeList(index, path)));
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<GraphPath<V, E>> trySplit()
+        {
+            PathSpliterator split = null;
+            int sources = endSource - nextSource;
+            if (sources > 1 || (sources == 1 && !stack.isEmpty())) {
+                int mid = stack.isEmpty() ? nextSource + sources / 2 : nextSource;
+                split = new PathSpliterator(index, mid, endSource, estimatedSize >>> 1);
+                endSource = mid;
+            } else {
+                for (int i = 0; i < stack.size() && split == null; i++) {
+                    Frame frame = stack.get(i);
+                    int remaining = frame.end - frame.next;
+                    if (remaining == 0) {
+                        continue;
+                    }
+                    int mid = frame.next + remaining / 2;
+                    split = new PathSpliterator(index, 0, 0, estimatedSize >>> 1);
+                    split.stack.add(new Frame(frame.vertex, frame.path, mid, frame.end));
+                    if (onPath != null) {
+                        for (int j = 0; j <= i; j++) {
+                            split.onPath.set(stack.get(j).vertex);
+                        }
+                    }
+                    frame.end = mid;
+                }
+            }
+            if (split != null) {
+                estimatedSize >>>= 1;
+            }
+            return split;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.NONNULL;
+        }
+
+        private void push(int vertex, PathNode path)
+        {
+            Frame frame =
+                new Frame(vertex, path, index.offsets[vertex], index.offsets[vertex + 1]);
+            if (onPath != null && !onPath.get(vertex)) {
+                onPath.set(vertex);
+                frame.marked = true;
+            }
+            stack.add(frame);
+        }
+    }
 }
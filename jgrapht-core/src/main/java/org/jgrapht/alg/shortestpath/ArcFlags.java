@@ -0,0 +1,609 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ClusteringAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Arc-flags for goal directed shortest path searches.
+ *
+ * <p>
+ * The vertices of the graph are partitioned into regions and every edge stores one bit per
+ * region, which is set if the edge lies on a shortest path to some vertex of that region. A query
+ * towards a sink only needs to scan the edges which have the bit of the region of the sink set.
+ * For directed graphs a second set of flags marks the edges which lie on a shortest path from
+ * some vertex of each region and is used to prune the backward search of bidirectional
+ * algorithms. The technique is described in: Moritz Hilger, Ekkehard Köhler, Rolf H. Möhring and
+ * Heiko Schilling. Fast point-to-point shortest path computations with arc-flags. In The Shortest
+ * Path Problem: Ninth DIMACS Implementation Challenge, 41--72, 2009.
+ *
+ * <p>
+ * The flags are used as a {@link GoalDirectedEdgeFilter}, for example:
+ *
+ * <pre>
+ * {@code
+ * ArcFlags<V, E> arcFlags = new ArcFlags<>(graph, 64, new Random(), executor);
+ * ShortestPathAlgorithm<V, E> algorithm = new BidirectionalDijkstraShortestPath<>(
+ *     graph, Double.POSITIVE_INFINITY, PairingHeap::new, arcFlags);
+ * }
+ * </pre>
+ *
+ * <p>
+ * The flags of a region are computed with one shortest path search from every boundary vertex of
+ * the region, that is from every vertex of the region which has an edge to or from another
+ * region. The regions are processed in parallel using the {@link ThreadPoolExecutor} supplied
+ * from outside. The preprocessing is much cheaper than the one of a
+ * {@link ContractionHierarchyPrecomputation contraction hierarchy} when the regions have few
+ * boundary vertices, which makes arc-flags usable for graphs whose edge weights change often.
+ * After the weights change the flags have to be computed again using {@link #recompute()}, the
+ * partition is kept. Queries executed with stale flags may return paths which are not shortest.
+ * Changes of the graph structure require a new instance.
+ *
+ * <p>
+ * The flags need $k \cdot m$ bits for directed and $k \cdot m / 2$ bits per direction for
+ * undirected graphs, where $k$ is the number of regions and $m$ the number of edges. The regions
+ * should therefore be few and contain many vertices, and preferably have small boundaries. Such a
+ * partition can be provided as a {@link Clustering}, or computed by this class by growing regions
+ * in breadth-first order from seeds which are spread over the graph. In addition the outgoing and
+ * incoming edges of every vertex are stored together with their indices, so that a search finds
+ * the flags of the edges it scans without looking them up.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ArcFlags<V, E>
+    implements GoalDirectedEdgeFilter<V, E>
+{
+    /**
+     * Relative tolerance when testing whether an edge lies on a shortest path, so that ties which
+     * differ only by rounding errors are flagged as well.
+     */
+    private static final double TOLERANCE = 1e-12;
+
+    private final Graph<V, E> graph;
+    private final ThreadPoolExecutor executor;
+    private final boolean directed;
+    private final Map<V, Integer> vertexIndex;
+    private final List<E> edges;
+    private final int n;
+    private final int m;
+    private final int[] region;
+    private final int numRegions;
+    /**
+     * Number of words of the flags of one region.
+     */
+    private final int words;
+
+    /**
+     * Bit $e$ of the words of region $r$ is set if edge $e$ lies on a shortest path to region $r$.
+     */
+    private final long[] forwardFlags;
+    /**
+     * Bit $e$ of the words of region $r$ is set if edge $e$ lies on a shortest path from region
+     * $r$. Same as {@link #forwardFlags} for undirected graphs.
+     */
+    private final long[] backwardFlags;
+
+    /**
+     * The outgoing and incoming edges of every vertex with their indices. The same object for
+     * undirected graphs.
+     */
+    private final Adjacency outgoing;
+    private final Adjacency incoming;
+
+    /**
+     * Computes the arc-flags for a partition of the graph into {@code numberOfRegions} regions,
+     * computed by growing the regions from seeds. Fewer regions are used if the graph has fewer
+     * vertices. It is up to a user of this method to handle the creation and termination of the
+     * provided {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph the graph
+     * @param numberOfRegions the number of regions
+     * @param random random number generator used to select the first seed
+     * @param executor executor which will be used for parallelization
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ArcFlags(
+        Graph<V, E> graph, int numberOfRegions, Random random, ThreadPoolExecutor executor)
+    {
+        this(graph, executor, null, numberOfRegions, Objects.requireNonNull(random));
+    }
+
+    /**
+     * Computes the arc-flags for a given partition of the graph. Each cluster of the
+     * {@code partition} becomes a region. It is up to a user of this method to handle the
+     * creation and termination of the provided {@code executor}. For utility methods to manage a
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph the graph
+     * @param partition the partition of the vertices of the graph into regions
+     * @param executor executor which will be used for parallelization
+     * @throws IllegalArgumentException if the partition does not contain every vertex of the
+     *         graph exactly once
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ArcFlags(Graph<V, E> graph, Clustering<V> partition, ThreadPoolExecutor executor)
+    {
+        this(
+            graph, executor, Objects.requireNonNull(partition, "Partition cannot be null"), 0,
+            null);
+    }
+
+    private ArcFlags(
+        Graph<V, E> graph, ThreadPoolExecutor executor, Clustering<V> partition,
+        int numberOfRegions, Random random)
+    {
+        this.graph = GraphTests.requireDirectedOrUndirected(graph);
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.directed = graph.getType().isDirected();
+
+        VertexToIntegerMapping<V> vertexMapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.vertexIndex = vertexMapping.getVertexMap();
+        this.n = vertexIndex.size();
+        this.edges = new ArrayList<>(graph.edgeSet());
+        this.m = edges.size();
+        Map<E, Integer> edgeIndex = HashMap.newHashMap(m);
+        for (E e : edges) {
+            edgeIndex.put(e, edgeIndex.size());
+        }
+        List<V> vertices = vertexMapping.getIndexList();
+        this.outgoing = new Adjacency(vertices, graph::outgoingEdgesOf, edgeIndex);
+        this.incoming =
+            directed ? new Adjacency(vertices, graph::incomingEdgesOf, edgeIndex) : outgoing;
+
+        this.region = new int[n];
+        if (partition != null) {
+            Arrays.fill(region, -1);
+            int r = 0;
+            for (Set<V> cluster : partition.getClusters()) {
+                for (V v : cluster) {
+                    Integer index = vertexIndex.get(v);
+                    if (index == null || region[index] >= 0) {
+                        throw new IllegalArgumentException(
+                            "Partition must contain every vertex of the graph exactly once");
+                    }
+                    region[index] = r;
+                }
+                ++r;
+            }
+            for (int v = 0; v < n; ++v) {
+                if (region[v] < 0) {
+                    throw new IllegalArgumentException(
+                        "Partition must contain every vertex of the graph exactly once");
+                }
+            }
+            this.numRegions = r;
+        } else {
+            if (numberOfRegions < 1) {
+                throw new IllegalArgumentException("Number of regions must be positive");
+            }
+            this.numRegions = growRegions(Math.min(numberOfRegions, n), random);
+        }
+
+        this.words = (m + Long.SIZE - 1) / Long.SIZE;
+        if ((long) numRegions * words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many regions for the size of the graph");
+        }
+        this.forwardFlags = new long[numRegions * words];
+        this.backwardFlags = directed ? new long[numRegions * words] : forwardFlags;
+        computeFlags();
+    }
+
+    /**
+     * Get the number of regions.
+     *
+     * @return the number of regions
+     */
+    public int getNumberOfRegions()
+    {
+        return numRegions;
+    }
+
+    /**
+     * Get the region of a vertex.
+     *
+     * @param v the vertex
+     * @return the region of the vertex, an integer in $[0, k)$ where $k$ is the number of regions
+     * @throws IllegalArgumentException if the vertex is not contained in the graph
+     */
+    public int getRegion(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex not contained in the graph");
+        }
+        return region[index];
+    }
+
+    /**
+     * Recomputes the flags using the current edge weights of the graph. The partition of the graph
+     * is not changed.
+     *
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public void recompute()
+    {
+        computeFlags();
+    }
+
+    private void computeFlags()
+    {
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        for (int i = 0; i < m; ++i) {
+            E e = edges.get(i);
+            double w = graph.getEdgeWeight(e);
+            if (w < 0d) {
+                throw new IllegalArgumentException("Graph edge weights cannot be negative");
+            }
+            sources[i] = vertexIndex.get(graph.getEdgeSource(e));
+            targets[i] = vertexIndex.get(graph.getEdgeTarget(e));
+            weights[i] = w;
+        }
+        Csr out = new Csr(sources, targets, weights, !directed);
+        Csr in = directed ? new Csr(targets, sources, weights, false) : out;
+
+        Arrays.fill(forwardFlags, 0L);
+        if (directed) {
+            Arrays.fill(backwardFlags, 0L);
+        }
+
+        ExecutorCompletionService<Void> completionService =
+            new ExecutorCompletionService<>(executor);
+        int tasks = 0;
+        for (int r = 0; r < numRegions; ++r) {
+            int regionIndex = r;
+            completionService.submit(
+                () -> flagRegion(regionIndex, in, sources, targets, weights, forwardFlags),
+                null);
+            ++tasks;
+            if (directed) {
+                completionService.submit(
+                    () -> flagRegion(regionIndex, out, targets, sources, weights, backwardFlags),
+                    null);
+                ++tasks;
+            }
+        }
+        RuntimeException failure = null;
+        for (int i = 0; i < tasks; ++i) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new IllegalStateException(e.getCause());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public Function<V, Iterable<E>> getForwardEdges(V source, V sink)
+    {
+        return flaggedEdges(outgoing, forwardFlags, getRegion(sink));
+    }
+
+    @Override
+    public Function<V, Iterable<E>> getBackwardEdges(V source, V sink)
+    {
+        return flaggedEdges(incoming, backwardFlags, getRegion(source));
+    }
+
+    private Function<V, Iterable<E>> flaggedEdges(Adjacency adjacency, long[] flags, int r)
+    {
+        int offset = r * words;
+        return v -> {
+            Integer index = vertexIndex.get(v);
+            if (index == null) {
+                throw new IllegalArgumentException("Vertex not contained in the graph");
+            }
+            return () -> new FlaggedEdgeIterator(adjacency, index, flags, offset);
+        };
+    }
+
+    /**
+     * Sets the flags of a region for the edges which lie on a shortest path to the region. The
+     * flags for the edges on a shortest path from the region are computed by swapping the
+     * direction of all arguments.
+     *
+     * @param r the region
+     * @param search the graph with all edges reversed, in which the distances to the boundary
+     *        vertices are computed
+     * @param sources the sources of the edges
+     * @param targets the targets of the edges
+     * @param weights the weights of the edges
+     * @param flags the flags
+     */
+    private void flagRegion(
+        int r, Csr search, int[] sources, int[] targets, double[] weights, long[] flags)
+    {
+        int offset = r * words;
+
+        // edges into the region
+        for (int e = 0; e < m; ++e) {
+            if (region[targets[e]] == r || (!directed && region[sources[e]] == r)) {
+                flags[offset + (e >>> 6)] |= 1L << e;
+            }
+        }
+
+        IndexedDaryDoubleHeap heap = new IndexedDaryDoubleHeap(n);
+        double[] dist = new double[n];
+        for (int b = 0; b < n; ++b) {
+            if (region[b] != r || !isBoundary(b, search, r)) {
+                continue;
+            }
+            search.dijkstra(b, heap, dist);
+            for (int e = 0; e < m; ++e) {
+                int u = sources[e];
+                int v = targets[e];
+                if (onShortestPath(dist[u], dist[v], weights[e])
+                    || (!directed && onShortestPath(dist[v], dist[u], weights[e])))
+                {
+                    flags[offset + (e >>> 6)] |= 1L << e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether vertex {@code v} of region {@code r} has a neighbor in {@code search}, that is a
+     * predecessor in the original direction, outside of region {@code r}.
+     */
+    private boolean isBoundary(int v, Csr search, int r)
+    {
+        for (int i = search.offsets[v], end = search.offsets[v + 1]; i < end; ++i) {
+            if (region[search.targets[i]] != r) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an edge from {@code u} to {@code v} lies on a shortest path from {@code u} to the
+     * root of the search, given the distances of both vertices to the root.
+     */
+    private static boolean onShortestPath(double uDist, double vDist, double weight)
+    {
+        return uDist != Double.POSITIVE_INFINITY
+            && vDist + weight <= uDist + TOLERANCE * Math.max(1d, uDist);
+    }
+
+    /**
+     * Partitions the graph into regions by growing them in breadth-first order from seeds. The
+     * first seed is random, each subsequent seed is the vertex with the largest number of hops to
+     * the closest seed. Each vertex belongs to the region of the closest seed.
+     *
+     * @return the number of regions
+     */
+    private int growRegions(int numberOfRegions, Random random)
+    {
+        if (n == 0) {
+            return 0;
+        }
+        int[] neighborOffsets = new int[n + 1];
+        for (E e : graph.edgeSet()) {
+            ++neighborOffsets[vertexIndex.get(graph.getEdgeSource(e)) + 1];
+            ++neighborOffsets[vertexIndex.get(graph.getEdgeTarget(e)) + 1];
+        }
+        for (int v = 0; v < n; ++v) {
+            neighborOffsets[v + 1] += neighborOffsets[v];
+        }
+        int[] neighbors = new int[neighborOffsets[n]];
+        int[] pos = Arrays.copyOf(neighborOffsets, n);
+        for (E e : graph.edgeSet()) {
+            int s = vertexIndex.get(graph.getEdgeSource(e));
+            int t = vertexIndex.get(graph.getEdgeTarget(e));
+            neighbors[pos[s]++] = t;
+            neighbors[pos[t]++] = s;
+        }
+
+        int[] hops = new int[n];
+        Arrays.fill(hops, Integer.MAX_VALUE);
+        int[] queue = new int[n];
+        int seed = random.nextInt(n);
+        int regions = 0;
+        while (regions < numberOfRegions) {
+            int r = regions++;
+            hops[seed] = 0;
+            region[seed] = r;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = seed;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int i = neighborOffsets[v]; i < neighborOffsets[v + 1]; ++i) {
+                    int u = neighbors[i];
+                    if (hops[v] + 1 < hops[u]) {
+                        hops[u] = hops[v] + 1;
+                        region[u] = r;
+                        queue[tail++] = u;
+                    }
+                }
+            }
+
+            seed = 0;
+            for (int v = 1; v < n; ++v) {
+                if (hops[v] > hops[seed]) {
+                    seed = v;
+                }
+            }
+            if (hops[seed] == 0) {
+                break;
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * The edges scanned from every vertex by one direction of a search, stored next to their
+     * indices so that their flags are found without a lookup.
+     */
+    private class Adjacency
+    {
+        final int[] offsets;
+        final Object[] edges;
+        final int[] edgeIds;
+
+        Adjacency(List<V> vertices, Function<V, Set<E>> edgesOf, Map<E, Integer> edgeIndex)
+        {
+            this.offsets = new int[n + 1];
+            for (int v = 0; v < n; ++v) {
+                offsets[v + 1] = offsets[v] + edgesOf.apply(vertices.get(v)).size();
+            }
+            this.edges = new Object[offsets[n]];
+            this.edgeIds = new int[offsets[n]];
+            int pos = 0;
+            for (int v = 0; v < n; ++v) {
+                for (E e : edgesOf.apply(vertices.get(v))) {
+                    edges[pos] = e;
+                    edgeIds[pos++] = edgeIndex.get(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates over the edges of a vertex whose flag is set.
+     */
+    private class FlaggedEdgeIterator
+        implements Iterator<E>
+    {
+        private final Adjacency adjacency;
+        private final long[] flags;
+        private final int offset;
+        private final int end;
+        private int next;
+
+        FlaggedEdgeIterator(Adjacency adjacency, int v, long[] flags, int offset)
+        {
+            this.adjacency = adjacency;
+            this.flags = flags;
+            this.offset = offset;
+            this.end = adjacency.offsets[v + 1];
+            this.next = advance(adjacency.offsets[v]);
+        }
+
+        private int advance(int i)
+        {
+            while (i < end) {
+                int e = adjacency.edgeIds[i];
+                if ((flags[offset + (e >>> 6)] & (1L << e)) != 0L) {
+                    break;
+                }
+                ++i;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next()
+        {
+            if (next >= end) {
+                throw new NoSuchElementException();
+            }
+            E e = (E) adjacency.edges[next];
+            next = advance(next + 1);
+            return e;
+        }
+    }
+
+    /**
+     * Compressed sparse row representation of the graph or of its reverse.
+     */
+    private class Csr
+    {
+        final int[] offsets;
+        final int[] targets;
+        final double[] weights;
+
+        Csr(int[] edgeSources, int[] edgeTargets, double[] edgeWeights, boolean symmetric)
+        {
+            this.offsets = new int[n + 1];
+            for (int e = 0; e < m; ++e) {
+                ++offsets[edgeSources[e] + 1];
+                if (symmetric) {
+                    ++offsets[edgeTargets[e] + 1];
+                }
+            }
+            for (int v = 0; v < n; ++v) {
+                offsets[v + 1] += offsets[v];
+            }
+            this.targets = new int[offsets[n]];
+            this.weights = new double[offsets[n]];
+            int[] pos = Arrays.copyOf(offsets, n);
+            for (int e = 0; e < m; ++e) {
+                int s = edgeSources[e];
+                int t = edgeTargets[e];
+                targets[pos[s]] = t;
+                weights[pos[s]++] = edgeWeights[e];
+                if (symmetric) {
+                    targets[pos[t]] = s;
+                    weights[pos[t]++] = edgeWeights[e];
+                }
+            }
+        }
+
+        void dijkstra(int source, IndexedDaryDoubleHeap heap, double[] dist)
+        {
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            heap.clear();
+            dist[source] = 0d;
+            heap.insert(source, 0d);
+            while (!heap.isEmpty()) {
+                double vDist = heap.findMinKey();
+                int v = heap.deleteMin();
+                for (int i = offsets[v], end = offsets[v + 1]; i < end; ++i) {
+                    int u = targets[i];
+                    double uDist = vDist + weights[i];
+                    if (uDist < dist[u]) {
+                        if (dist[u] == Double.POSITIVE_INFINITY) {
+                            heap.insert(u, uDist);
+                        } else if (heap.contains(u)) {
+                            heap.decreaseKey(u, uDist);
+                        } else {
+                            continue;
+                        }
+                        dist[u] = uDist;
+                    }
+                }
+            }
+        }
+    }
+}
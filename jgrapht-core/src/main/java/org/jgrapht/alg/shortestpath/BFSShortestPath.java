@@ -33,6 +33,10 @@ import java.util.*;
  * <p>
  * The running time is $O(|V|+|E|)$.
  *
+ * <p>
+ * For large graphs with a small diameter see {@link DirectionOptimizingBFSShortestPath}, which
+ * expands the levels in parallel and scans edges bottom-up when the frontier is large.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Base class for the bidirectional shortest path algorithms. Currently known extensions are
@@ -109,6 +110,12 @@ public abstract class BaseBidirectionalShortestPathAlgorithm<V, E> extends BaseS
          */
         final Graph<V, E> graph;
 
+        /**
+         * Edges which may be scanned from each vertex by this frontier, or null if all edges may
+         * be scanned.
+         */
+        Function<V, Iterable<E>> scannedEdges;
+
         /**
          * Constructs instance for a given {@code graph}.
          *
@@ -119,6 +126,18 @@ public abstract class BaseBidirectionalShortestPathAlgorithm<V, E> extends BaseS
             this.graph = graph;
         }
 
+        /**
+         * Returns the outgoing edges of vertex {@code v} in the frontier's graph which may be
+         * scanned by this frontier.
+         *
+         * @param v vertex
+         * @return the edges which may be scanned
+         */
+        Iterable<E> scannedEdgesOf(V v)
+        {
+            return scannedEdges == null ? graph.outgoingEdgesOf(v) : scannedEdges.apply(v);
+        }
+
         /**
          * Returns distance to vertex {@code v} computed so far.
          *
@@ -41,6 +41,11 @@ import java.util.*;
  * <p>
  * The running time is $O(|E||V|)$.
  *
+ * <p>
+ * For large graphs see {@link SPFAShortestPath}, which scans only vertices whose distance
+ * decreased and reports negative cycles as soon as they close, and
+ * {@link ParallelBellmanFordShortestPath}, which relaxes the frontier of every round in parallel.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -45,6 +45,11 @@ import java.util.function.*;
  * is the current best-known path cost from $source$ to $sink$ and $g_b(v)$ is the current
  * best-known path cost from $sink$ to $source$.
  *
+ * <p>
+ * The search can be pruned by a {@link GoalDirectedEdgeFilter}, such as {@link ArcFlags}. Then
+ * the forward search scans only the edges accepted by the forward filter of the query and the
+ * backward search only those accepted by the backward filter.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -66,6 +71,10 @@ public class BidirectionalAStarShortestPath<V, E> extends BaseBidirectionalShort
      */
     private AStarAdmissibleHeuristic<V> backwardHeuristic;
     private final Supplier<AddressableHeap<Double, V>> heapSupplier;
+    /**
+     * Optional filter of the edges scanned by the search.
+     */
+    private final GoalDirectedEdgeFilter<V, E> edgeFilter;
 
     /**
      * Constructs a new instance of the algorithm for a given graph and heuristic.
@@ -88,18 +97,51 @@ public class BidirectionalAStarShortestPath<V, E> extends BaseBidirectionalShort
     public BidirectionalAStarShortestPath(
         Graph<V, E> graph, AStarAdmissibleHeuristic<V> heuristic,
         Supplier<AddressableHeap<Double, V>> heapSupplier)
+    {
+        this(graph, heuristic, null, heapSupplier);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph, heuristic, heap supplier and
+     * edge filter.
+     *
+     * @param graph the graph
+     * @param heuristic heuristic that estimates distances between nodes
+     * @param heapSupplier supplier of the preferable heap implementation
+     * @param edgeFilter filter of the edges scanned by the search
+     */
+    public BidirectionalAStarShortestPath(
+        Graph<V, E> graph, AStarAdmissibleHeuristic<V> heuristic,
+        Supplier<AddressableHeap<Double, V>> heapSupplier, GoalDirectedEdgeFilter<V, E> edgeFilter)
+    {
+        this(
+            graph, heuristic, Objects.requireNonNull(edgeFilter, "Edge filter cannot be null!"),
+            heapSupplier);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph, heuristic, optional edge
+     * filter and heap supplier.
+     *
+     * @param graph the graph
+     * @param heuristic heuristic that estimates distances between nodes
+     * @param edgeFilter filter of the edges scanned by the search, or null to scan all edges
+     * @param heapSupplier supplier of the preferable heap implementation
+     */
+    private BidirectionalAStarShortestPath(
+        Graph<V, E> graph, AStarAdmissibleHeuristic<V> heuristic,
+        GoalDirectedEdgeFilter<V, E> edgeFilter, Supplier<AddressableHeap<Double, V>> heapSupplier)
     {
         super(graph);
         this.forwardHeuristic =
             Objects.requireNonNull(heuristic, "Heuristic function cannot be null!");
         if (graph.getType().isDirected()) {
-            backwardHeuristic = new ReversedGraphHeuristic(
-                Objects.requireNonNull(heuristic, "Heuristic function cannot be null!"));
+            backwardHeuristic = new ReversedGraphHeuristic(heuristic);
         } else {
-            this.backwardHeuristic =
-                Objects.requireNonNull(heuristic, "Heuristic function cannot be null!");
+            this.backwardHeuristic = heuristic;
         }
         this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null!");
+        this.edgeFilter = edgeFilter;
     }
 
     /**
@@ -131,6 +173,11 @@ public class BidirectionalAStarShortestPath<V, E> extends BaseBidirectionalShort
             backwardFrontier = new AStarSearchFrontier(graph, source, backwardHeuristic);
         }
 
+        if (edgeFilter != null) {
+            forwardFrontier.scannedEdges = edgeFilter.getForwardEdges(source, sink);
+            backwardFrontier.scannedEdges = edgeFilter.getBackwardEdges(source, sink);
+        }
+
         forwardFrontier.updateDistance(source, null, 0.0, 0.0);
         backwardFrontier.updateDistance(sink, null, 0.0, 0.0);
 
@@ -160,7 +207,7 @@ public class BidirectionalAStarShortestPath<V, E> extends BaseBidirectionalShort
             AddressableHeap.Handle<Double, V> node = frontier.openList.deleteMin();
             V v = node.getValue();
 
-            for (E edge : frontier.graph.outgoingEdgesOf(v)) {
+            for (E edge : frontier.scannedEdgesOf(v)) {
                 V successor = Graphs.getOppositeVertex(frontier.graph, edge, v);
 
                 if (successor.equals(v)) { // Ignore self-loop
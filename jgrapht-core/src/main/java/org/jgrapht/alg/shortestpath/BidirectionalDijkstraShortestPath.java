@@ -20,6 +20,7 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
@@ -39,6 +40,17 @@ import java.util.function.*;
  * This iterator can use a custom heap implementation, which can specified during the construction
  * time. Pairing heap is used by default
  *
+ * <p>
+ * Alternatively, the algorithm can be constructed with a {@link SearchWorkspacePool}. In that case
+ * both search directions run inside {@link SearchWorkspace} instances obtained from the pool, see
+ * {@link DijkstraShortestPath} for details. The vertices of the graph are indexed on the first
+ * query; the graph must not be modified afterwards.
+ *
+ * <p>
+ * The search can be pruned by a {@link GoalDirectedEdgeFilter}, such as {@link ArcFlags}. Then
+ * the forward search scans only the edges accepted by the forward filter of the query and the
+ * backward search only those accepted by the backward filter.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Dimitrios Michail
@@ -48,6 +60,9 @@ public final class BidirectionalDijkstraShortestPath<V, E> extends BaseBidirecti
 {
     private double radius;
     private final Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier;
+    private final SearchWorkspacePool<E> workspacePool;
+    private final GoalDirectedEdgeFilter<V, E> edgeFilter;
+    private volatile VertexToIntegerMapping<V> vertexMapping;
 
     /**
      * Constructs a new instance for a specified graph.
@@ -100,6 +115,80 @@ public final class BidirectionalDijkstraShortestPath<V, E> extends BaseBidirecti
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
+        this.workspacePool = null;
+        this.edgeFilter = null;
+        this.radius = radius;
+    }
+
+    /**
+     * Constructs a new instance for a specified graph. The constructed algorithm will use the heap
+     * supplied by the {@code heapSupplier} and scan only the edges accepted by the
+     * {@code edgeFilter}.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapSupplier supplier of the preferable heap implementation
+     * @param edgeFilter the edge filter
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius,
+        Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier,
+        GoalDirectedEdgeFilter<V, E> edgeFilter)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
+        this.workspacePool = null;
+        this.edgeFilter = Objects.requireNonNull(edgeFilter, "Edge filter cannot be null");
+        this.radius = radius;
+    }
+
+    /**
+     * Constructs a new instance for a specified graph. The constructed algorithm will execute each
+     * query inside workspaces obtained from the {@code workspacePool}.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param workspacePool the workspace pool
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius, SearchWorkspacePool<E> workspacePool)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.heapSupplier = null;
+        this.workspacePool =
+            Objects.requireNonNull(workspacePool, "Workspace pool cannot be null");
+        this.edgeFilter = null;
+        this.radius = radius;
+    }
+
+    /**
+     * Constructs a new instance for a specified graph. The constructed algorithm will execute each
+     * query inside workspaces obtained from the {@code workspacePool} and scan only the edges
+     * accepted by the {@code edgeFilter}.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param workspacePool the workspace pool
+     * @param edgeFilter the edge filter
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius, SearchWorkspacePool<E> workspacePool,
+        GoalDirectedEdgeFilter<V, E> edgeFilter)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.heapSupplier = null;
+        this.workspacePool =
+            Objects.requireNonNull(workspacePool, "Workspace pool cannot be null");
+        this.edgeFilter = Objects.requireNonNull(edgeFilter, "Edge filter cannot be null");
         this.radius = radius;
     }
 
@@ -134,6 +223,10 @@ public final class BidirectionalDijkstraShortestPath<V, E> extends BaseBidirecti
             return createEmptyPath(source, sink);
         }
 
+        if (workspacePool != null) {
+            return getPathWithWorkspaces(source, sink);
+        }
+
         // create frontiers
         DijkstraSearchFrontier<V, E> forwardFrontier =
             new DijkstraSearchFrontier<>(graph, heapSupplier);
@@ -147,6 +240,8 @@ public final class BidirectionalDijkstraShortestPath<V, E> extends BaseBidirecti
 
         assert !source.equals(sink);
 
+        setEdgeFilters(forwardFrontier, backwardFrontier, source, sink);
+
         // initialize both frontiers
         forwardFrontier.updateDistance(source, null, 0d);
         backwardFrontier.updateDistance(sink, null, 0d);
@@ -172,7 +267,7 @@ public final class BidirectionalDijkstraShortestPath<V, E> extends BaseBidirecti
             V v = node.getValue().getFirst();
             double vDistance = node.getKey();
 
-            for (E e : frontier.graph.outgoingEdgesOf(v)) {
+            for (E e : frontier.scannedEdgesOf(v)) {
                 V u = Graphs.getOppositeVertex(frontier.graph, e, v);
 
                 double eWeight = frontier.graph.getEdgeWeight(e);
@@ -205,6 +300,112 @@ public final class BidirectionalDijkstraShortestPath<V, E> extends BaseBidirecti
         }
     }
 
+    private GraphPath<V, E> getPathWithWorkspaces(V source, V sink)
+    {
+        VertexToIntegerMapping<V> mapping = getVertexMapping();
+        int n = mapping.getIndexList().size();
+
+        SearchWorkspace<E> forwardWorkspace = workspacePool.acquire(n);
+        SearchWorkspace<E> backwardWorkspace = workspacePool.acquire(n);
+        try {
+            WorkspaceSearchFrontier<V, E> forwardFrontier =
+                new WorkspaceSearchFrontier<>(graph, mapping, forwardWorkspace);
+            WorkspaceSearchFrontier<V, E> backwardFrontier;
+            if (graph.getType().isDirected()) {
+                backwardFrontier = new WorkspaceSearchFrontier<>(
+                    new EdgeReversedGraph<>(graph), mapping, backwardWorkspace);
+            } else {
+                backwardFrontier = new WorkspaceSearchFrontier<>(graph, mapping, backwardWorkspace);
+            }
+
+            setEdgeFilters(forwardFrontier, backwardFrontier, source, sink);
+
+            forwardWorkspace.relax(mapping.getVertexMap().get(source), 0d, null);
+            backwardWorkspace.relax(mapping.getVertexMap().get(sink), 0d, null);
+
+            double bestPath = Double.POSITIVE_INFINITY;
+            V bestPathCommonVertex = null;
+
+            WorkspaceSearchFrontier<V, E> frontier = forwardFrontier;
+            WorkspaceSearchFrontier<V, E> otherFrontier = backwardFrontier;
+
+            while (true) {
+                IndexedDaryDoubleHeap heap = frontier.workspace.heap();
+                IndexedDaryDoubleHeap otherHeap = otherFrontier.workspace.heap();
+
+                // stopping condition
+                if (heap.isEmpty() || otherHeap.isEmpty()
+                    || heap.findMinKey() + otherHeap.findMinKey() >= bestPath)
+                {
+                    break;
+                }
+
+                // frontier scan
+                double vDistance = heap.findMinKey();
+                V v = mapping.getIndexList().get(heap.deleteMin());
+
+                for (E e : frontier.scannedEdgesOf(v)) {
+                    V u = Graphs.getOppositeVertex(frontier.graph, e, v);
+                    int uIndex = mapping.getVertexMap().get(u);
+
+                    double eWeight = frontier.graph.getEdgeWeight(e);
+
+                    frontier.workspace.relax(uIndex, vDistance + eWeight, e);
+
+                    // check path with u's distance from the other frontier
+                    double pathDistance =
+                        vDistance + eWeight + otherFrontier.workspace.getDistance(uIndex);
+
+                    if (pathDistance < bestPath) {
+                        bestPath = pathDistance;
+                        bestPathCommonVertex = u;
+                    }
+                }
+
+                // swap frontiers
+                WorkspaceSearchFrontier<V, E> tmpFrontier = frontier;
+                frontier = otherFrontier;
+                otherFrontier = tmpFrontier;
+            }
+
+            if (Double.isFinite(bestPath) && bestPath <= radius) {
+                return createPath(
+                    forwardFrontier, backwardFrontier, bestPath, source, bestPathCommonVertex,
+                    sink);
+            } else {
+                return createEmptyPath(source, sink);
+            }
+        } finally {
+            workspacePool.release(backwardWorkspace);
+            workspacePool.release(forwardWorkspace);
+        }
+    }
+
+    private void setEdgeFilters(
+        BaseSearchFrontier<V, E> forwardFrontier, BaseSearchFrontier<V, E> backwardFrontier,
+        V source, V sink)
+    {
+        if (edgeFilter != null) {
+            forwardFrontier.scannedEdges = edgeFilter.getForwardEdges(source, sink);
+            backwardFrontier.scannedEdges = edgeFilter.getBackwardEdges(source, sink);
+        }
+    }
+
+    private VertexToIntegerMapping<V> getVertexMapping()
+    {
+        VertexToIntegerMapping<V> result = vertexMapping;
+        if (result == null) {
+            synchronized (this) {
+                result = vertexMapping;
+                if (result == null) {
+                    result = new VertexToIntegerMapping<>(graph.vertexSet());
+                    vertexMapping = result;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Maintains search frontier during shortest path computation.
      *
@@ -261,4 +462,36 @@ public final class BidirectionalDijkstraShortestPath<V, E> extends BaseBidirecti
             }
         }
     }
+
+    /**
+     * Search frontier backed by a {@link SearchWorkspace}.
+     *
+     * @param <V> vertices type
+     * @param <E> edges type
+     */
+    static class WorkspaceSearchFrontier<V, E> extends BaseSearchFrontier<V, E>
+    {
+        final VertexToIntegerMapping<V> mapping;
+        final SearchWorkspace<E> workspace;
+
+        WorkspaceSearchFrontier(
+            Graph<V, E> graph, VertexToIntegerMapping<V> mapping, SearchWorkspace<E> workspace)
+        {
+            super(graph);
+            this.mapping = mapping;
+            this.workspace = workspace;
+        }
+
+        @Override
+        public double getDistance(V v)
+        {
+            return workspace.getDistance(mapping.getVertexMap().get(v));
+        }
+
+        @Override
+        public E getTreeEdge(V v)
+        {
+            return workspace.getPredecessor(mapping.getVertexMap().get(v));
+        }
+    }
 }
@@ -0,0 +1,491 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Blocked parallel variant of the Floyd-Warshall algorithm.
+ *
+ * <p>
+ * The algorithm computes all $n^2$ shortest path distances in $O(n^3)$ time, like
+ * {@link FloydWarshallShortestPaths}, but organizes the computation for modern memory hierarchies
+ * and multiple cores. The distance matrix is stored row-major in a single flat array and divided
+ * into square tiles of $b \times b$ entries. For each diagonal tile $k$ the algorithm performs
+ * three phases, see G. Venkataraman, S. Sahni, S. Mukhopadhyaya. A blocked all-pairs
+ * shortest-paths algorithm. Journal of Experimental Algorithmics, 8, 2003:
+ * <ol>
+ * <li>the diagonal tile is updated with the Floyd-Warshall recurrence restricted to itself,</li>
+ * <li>the remaining tiles of row $k$ and column $k$ are updated using the diagonal tile, in
+ * parallel,</li>
+ * <li>all other tiles are updated using the tiles of row $k$ and column $k$, in parallel.</li>
+ * </ol>
+ * Each tile update touches only three tiles, which fit in the cache for the default tile size, and
+ * the tiles of the second and third phase are independent and are processed by the tasks of a
+ * {@link ForkJoinPool}.
+ *
+ * <p>
+ * The distances can optionally be kept in single precision, which halves the memory of the
+ * distance matrix at the cost of rounding all distances to {@code float}. Paths are reconstructed
+ * from a matrix of first hops, so that the memory consumption is $12 n^2$ bytes in double
+ * precision and $8 n^2$ bytes in single precision. As a consequence, the number of vertices is
+ * limited to $46340$.
+ *
+ * <p>
+ * Negative edge weights are supported as long as the graph contains no negative cycles. As with
+ * {@link FloydWarshallShortestPaths}, no computations are performed during construction, and the
+ * matrices are computed the first time one of the query methods is invoked.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class BlockedFloydWarshallShortestPaths<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default tile size. Three tiles of doubles occupy $96$ KB.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private static final int MAX_VERTICES = 46340;
+
+    private final ForkJoinPool pool;
+    private final int blockSize;
+    private final boolean singlePrecision;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+    private final int blocks;
+
+    // exactly one of the distance matrices is used
+    private double[] dist;
+    private float[] distFloat;
+    private int[] firstHop;
+
+    /**
+     * Create a new instance of the algorithm which uses the {@link ForkJoinPool#commonPool() common
+     * pool}, double precision and the default tile size.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph has too many vertices
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance of the algorithm which uses double precision and the default tile
+     * size. It is up to a user of this algorithm to handle the creation and termination of the
+     * provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization
+     * @throws IllegalArgumentException if the graph has too many vertices
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, DEFAULT_BLOCK_SIZE, false);
+    }
+
+    /**
+     * Create a new instance of the algorithm. It is up to a user of this algorithm to handle the
+     * creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization
+     * @param blockSize the number of rows and columns of a tile
+     * @param singlePrecision whether to store distances as {@code float} instead of {@code double}
+     * @throws IllegalArgumentException if the graph has too many vertices or the block size is not
+     *         positive
+     */
+    public BlockedFloydWarshallShortestPaths(
+        Graph<V, E> graph, ForkJoinPool pool, int blockSize, boolean singlePrecision)
+    {
+        super(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.singlePrecision = singlePrecision;
+
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+        if (n > MAX_VERTICES) {
+            throw new IllegalArgumentException("Graph has too many vertices");
+        }
+        this.blocks = (n + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * Whether distances are stored in single precision.
+     *
+     * @return true if distances are stored as {@code float}, false otherwise
+     */
+    public boolean isSinglePrecision()
+    {
+        return singlePrecision;
+    }
+
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        lazyCalculateMatrix();
+
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        if (firstHop[s * n + t] < 0) {
+            return null;
+        }
+        List<E> edges = new ArrayList<>();
+        int u = s;
+        while (u != t) {
+            int x = firstHop[u * n + t];
+            edges.add(minimumWeightEdge(vertices.get(u), vertices.get(x)));
+            u = x;
+        }
+        return new GraphWalk<>(graph, source, sink, null, edges, distance(s, t));
+    }
+
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        lazyCalculateMatrix();
+        return distance(s, t);
+    }
+
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        lazyCalculateMatrix();
+        return new MatrixSingleSourcePaths(source);
+    }
+
+    /**
+     * Returns the first hop, i.e., the second vertex on the shortest path from $a$ to $b$, in
+     * constant time.
+     *
+     * @param a source vertex
+     * @param b target vertex
+     * @return next hop on the shortest path from $a$ to $b$, or null when there exists no path from
+     *         $a$ to $b$ or $a = b$
+     */
+    public V getFirstHop(V a, V b)
+    {
+        int s = indexOf(a, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(b, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        lazyCalculateMatrix();
+        int x = firstHop[s * n + t];
+        return s == t || x < 0 ? null : vertices.get(x);
+    }
+
+    private double distance(int s, int t)
+    {
+        return singlePrecision ? distFloat[s * n + t] : dist[s * n + t];
+    }
+
+    private int indexOf(V vertex, String message)
+    {
+        Integer v = vertexMap.get(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return v;
+    }
+
+    private E minimumWeightEdge(V u, V x)
+    {
+        E best = null;
+        double bestWeight = Double.POSITIVE_INFINITY;
+        for (E e : graph.getAllEdges(u, x)) {
+            if (graph.getType().isDirected() && !graph.getEdgeSource(e).equals(u)) {
+                continue;
+            }
+            double w = graph.getEdgeWeight(e);
+            if (best == null || w < bestWeight) {
+                best = e;
+                bestWeight = w;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Computes the distance and first hop matrices.
+     */
+    private void lazyCalculateMatrix()
+    {
+        if (firstHop != null) {
+            return;
+        }
+
+        int[] hops = new int[n * n];
+        Arrays.fill(hops, -1);
+        if (singlePrecision) {
+            distFloat = new float[n * n];
+            Arrays.fill(distFloat, Float.POSITIVE_INFINITY);
+        } else {
+            dist = new double[n * n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        }
+        firstHop = hops;
+
+        boolean undirected = graph.getType().isUndirected();
+        for (int i = 0; i < n; i++) {
+            setInitial(i, i, 0d);
+            V v = vertices.get(i);
+            // works for directed and mixed graphs
+            for (E e : undirected ? graph.edgesOf(v) : graph.outgoingEdgesOf(v)) {
+                int j = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+                if (i != j) {
+                    setInitial(i, j, graph.getEdgeWeight(e));
+                }
+            }
+        }
+
+        pool.invoke(new FloydWarshallTask());
+
+        for (int i = 0; i < n; i++) {
+            if (distance(i, i) < 0d) {
+                dist = null;
+                distFloat = null;
+                firstHop = null;
+                throw new NegativeCycleDetectedException(GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE);
+            }
+        }
+    }
+
+    private void setInitial(int i, int j, double weight)
+    {
+        int ij = i * n + j;
+        if (singlePrecision) {
+            if (weight < distFloat[ij]) {
+                distFloat[ij] = (float) weight;
+                firstHop[ij] = j;
+            }
+        } else if (weight < dist[ij]) {
+            dist[ij] = weight;
+            firstHop[ij] = j;
+        }
+    }
+
+    /**
+     * Update tile $(ib, jb)$ using the tiles $(ib, kb)$ and $(kb, jb)$. If the tile to update is
+     * in row or column $kb$, the intermediate vertices must be the outermost loop, otherwise any
+     * loop order is correct and the cache friendlier row order is used.
+     */
+    private void relaxBlock(int ib, int jb, int kb)
+    {
+        int i0 = ib * blockSize;
+        int i1 = Math.min(n, i0 + blockSize);
+        int j0 = jb * blockSize;
+        int j1 = Math.min(n, j0 + blockSize);
+        int k0 = kb * blockSize;
+        int k1 = Math.min(n, k0 + blockSize);
+        boolean dependent = ib == kb || jb == kb;
+
+        if (singlePrecision) {
+            float[] d = distFloat;
+            if (dependent) {
+                for (int k = k0; k < k1; k++) {
+                    for (int i = i0; i < i1; i++) {
+                        relaxRow(d, i, k, j0, j1);
+                    }
+                }
+            } else {
+                for (int i = i0; i < i1; i++) {
+                    for (int k = k0; k < k1; k++) {
+                        relaxRow(d, i, k, j0, j1);
+                    }
+                }
+            }
+        } else {
+            double[] d = dist;
+            if (dependent) {
+                for (int k = k0; k < k1; k++) {
+                    for (int i = i0; i < i1; i++) {
+                        relaxRow(d, i, k, j0, j1);
+                    }
+                }
+            } else {
+                for (int i = i0; i < i1; i++) {
+                    for (int k = k0; k < k1; k++) {
+                        relaxRow(d, i, k, j0, j1);
+                    }
+                }
+            }
+        }
+    }
+
+    private void relaxRow(double[] d, int i, int k, int j0, int j1)
+    {
+        int iRow = i * n;
+        int kRow = k * n;
+        double dik = d[iRow + k];
+        if (dik == Double.POSITIVE_INFINITY) {
+            return;
+        }
+        int hop = firstHop[iRow + k];
+        for (int j = j0; j < j1; j++) {
+            double sum = dik + d[kRow + j];
+            if (sum < d[iRow + j]) {
+                d[iRow + j] = sum;
+                firstHop[iRow + j] = hop;
+            }
+        }
+    }
+
+    private void relaxRow(float[] d, int i, int k, int j0, int j1)
+    {
+        int iRow = i * n;
+        int kRow = k * n;
+        float dik = d[iRow + k];
+        if (dik == Float.POSITIVE_INFINITY) {
+            return;
+        }
+        int hop = firstHop[iRow + k];
+        for (int j = j0; j < j1; j++) {
+            float sum = dik + d[kRow + j];
+            if (sum < d[iRow + j]) {
+                d[iRow + j] = sum;
+                firstHop[iRow + j] = hop;
+            }
+        }
+    }
+
+    /**
+     * Runs the three phases for all diagonal tiles.
+     */
+    private class FloydWarshallTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 2859472069017331184L;
+
+        @Override
+        protected void compute()
+        {
+            for (int kb = 0; kb < blocks; kb++) {
+                relaxBlock(kb, kb, kb);
+                if (blocks > 1) {
+                    // row and column of the diagonal tile
+                    new BlocksTask(kb, 0, 2 * blocks, true).invoke();
+                    // all remaining tiles
+                    new BlocksTask(kb, 0, blocks * blocks, false).invoke();
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates a range of tiles of the second or third phase, splitting it recursively.
+     */
+    private class BlocksTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = -6398047411960273651L;
+
+        private final int kb;
+        private final int from;
+        private final int to;
+        private final boolean cross;
+
+        BlocksTask(int kb, int from, int to, boolean cross)
+        {
+            this.kb = kb;
+            this.from = from;
+            this.to = to;
+            this.cross = cross;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                int ib;
+                int jb;
+                if (cross) {
+                    ib = from < blocks ? kb : from - blocks;
+                    jb = from < blocks ? from : kb;
+                    if (ib == kb && jb == kb) {
+                        return;
+                    }
+                } else {
+                    ib = from / blocks;
+                    jb = from % blocks;
+                    if (ib == kb || jb == kb) {
+                        return;
+                    }
+                }
+                relaxBlock(ib, jb, kb);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new BlocksTask(kb, from, mid, cross), new BlocksTask(kb, mid, to, cross));
+            }
+        }
+    }
+
+    private class MatrixSingleSourcePaths
+        implements SingleSourcePaths<V, E>
+    {
+        private final V source;
+
+        MatrixSingleSourcePaths(V source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPathWeight(source, sink);
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPath(source, sink);
+        }
+    }
+}
@@ -32,7 +32,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * Experimental bounded-pruned variant of Yen's $k$ shortest loopless paths algorithm.
@@ -94,6 +101,20 @@ import java.util.Set;
  * implementation eagerly inserts candidates as it accepts each path. The benchmark harness
  * verifies the path-weight sequences match exactly across many graph families.
  *
+ * <h3>Parallel mode</h3>
+ *
+ * The constructor
+ * {@link #BoundedPrunedYenKShortestPath(Graph, Supplier, ExecutorService, int)} enables a parallel
+ * mode. Whenever the cheapest deferred task has to be materialized, up to {@code speculationWidth}
+ * tasks are taken from the task heap in lower-bound order and their spur queries are run
+ * concurrently on the executor, each worker thread using its own engine obtained from the supplier.
+ * The results are then consumed strictly in task order, exactly as the sequential loop would
+ * consume them. A speculative result which is not needed yet is kept with its task together with
+ * the banned edges it was computed under; it is reused when the task is popped again and its
+ * banned edges did not change in the meantime, and recomputed otherwise. Therefore the output,
+ * including the tie-breaking, is identical to the sequential mode. The {@link Stats} counters
+ * report how many spur queries were run speculatively and how many of them were wasted.
+ *
  * <h3>What this class does NOT yet claim</h3>
  *
  * <ul>
@@ -128,6 +149,13 @@ public class BoundedPrunedYenKShortestPath<V, E>
     private final Graph<V, E> graph;
     private final SpurShortestPathEngine<V, E> engine;
 
+    // parallel mode, engineSupplier is null in sequential mode
+    private final Supplier<? extends SpurShortestPathEngine<V, E>> engineSupplier;
+    private final ExecutorService executor;
+    private final int speculationWidth;
+    private final Queue<SpurShortestPathEngine<V, E>> workerEngines;
+    private final ThreadLocal<SpurShortestPathEngine<V, E>> workerEngine;
+
     private final Stats stats = new Stats();
 
     /**
@@ -156,6 +184,44 @@ public class BoundedPrunedYenKShortestPath<V, E>
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         this.engine = Objects.requireNonNull(engine, "Engine cannot be null!");
+        this.engineSupplier = null;
+        this.executor = null;
+        this.speculationWidth = 1;
+        this.workerEngines = null;
+        this.workerEngine = null;
+    }
+
+    /**
+     * Constructor for the parallel mode. Spur queries are run speculatively on {@code executor},
+     * up to {@code speculationWidth} at a time. Engines are not thread-safe, therefore each thread
+     * which runs spur queries obtains its own engine from {@code engineSupplier}. It is up to the
+     * caller to handle the creation and termination of the provided {@code executor}.
+     *
+     * @param graph the input graph (must not be {@code null})
+     * @param engineSupplier supplier of spur shortest-path engines (must not be {@code null})
+     * @param executor executor which runs the spur queries (must not be {@code null})
+     * @param speculationWidth maximum number of spur queries run concurrently (at least 1)
+     */
+    public BoundedPrunedYenKShortestPath(
+        Graph<V, E> graph, Supplier<? extends SpurShortestPathEngine<V, E>> engineSupplier,
+        ExecutorService executor, int speculationWidth)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
+        this.engineSupplier =
+            Objects.requireNonNull(engineSupplier, "Engine supplier cannot be null!");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null!");
+        if (speculationWidth < 1) {
+            throw new IllegalArgumentException("Speculation width must be at least 1");
+        }
+        this.speculationWidth = speculationWidth;
+        this.engine = Objects.requireNonNull(engineSupplier.get(), "Engine cannot be null!");
+        this.workerEngines = new ConcurrentLinkedQueue<>();
+        this.workerEngine = ThreadLocal.withInitial(() -> {
+            SpurShortestPathEngine<V, E> e =
+                Objects.requireNonNull(engineSupplier.get(), "Engine cannot be null!");
+            workerEngines.add(e);
+            return e;
+        });
     }
 
     @Override
@@ -172,6 +238,9 @@ public class BoundedPrunedYenKShortestPath<V, E>
         }
         stats.reset();
         engine.resetCounters();
+        if (workerEngines != null) {
+            workerEngines.forEach(SpurShortestPathEngine::resetCounters);
+        }
 
         if (k == 0) {
             return new ArrayList<>();
@@ -219,18 +288,17 @@ public class BoundedPrunedYenKShortestPath<V, E>
                 && (candHeap.isEmpty() || taskHeap.peek().lowerBound < candHeap.peek().cost
                     || approxEq(taskHeap.peek().lowerBound, candHeap.peek().cost)))
             {
-                SpurTask t = taskHeap.poll();
-                stats.spurTasksMaterialized++;
-                Candidate c = materialize(t, accepted, reverseDistances);
-                if (c == null) {
-                    stats.unreachableSpurs++;
+                if (engineSupplier != null) {
+                    materializeParallel(
+                        taskHeap, candHeap, seenCandidates, accepted, reverseDistances);
                     continue;
                 }
-                if (seenCandidates.add(c.path.getVertexList())) {
-                    candHeap.offer(c);
-                    stats.candidateHeapPushes++;
-                    stats.materializedCandidates++;
-                }
+                SpurTask t = taskHeap.poll();
+                Set<E> bannedEdges = computeYenBannedEdges(
+                    accepted.get(t.parentIndex).getVertexList(), t.spurIndex, accepted);
+                consume(
+                    t, runSpur(engine, accepted, t, bannedEdges, reverseDistances), candHeap,
+                    seenCandidates);
             }
             if (candHeap.isEmpty()) {
                 break;
@@ -259,22 +327,143 @@ public class BoundedPrunedYenKShortestPath<V, E>
 
         stats.shortestPathCalls = engine.pathQueries();
         stats.expandedVertices = engine.expandedVertices();
+        if (workerEngines != null) {
+            for (SpurShortestPathEngine<V, E> e : workerEngines) {
+                stats.shortestPathCalls += e.pathQueries();
+                stats.expandedVertices += e.expandedVertices();
+            }
+            for (SpurTask t : taskHeap) {
+                if (t.speculativeBannedEdges != null) {
+                    stats.speculativeWaste++;
+                }
+            }
+        }
         stats.deferredTasksLeft = taskHeap.size();
         return accepted;
     }
 
-    /** Run a single spur query through the engine and stitch the candidate path. */
-    private Candidate runSpur(
-        GraphPath<V, E> parent, int spurIndex, Set<V> bannedVertices, Set<E> bannedEdges,
-        double rootCost, Map<V, Double> reverseDistances)
+    /**
+     * Consume the result of the spur query of a task: stitch it into a candidate, deduplicate and
+     * push it to the candidate heap. Must be called in the order in which the sequential loop
+     * materializes tasks, because it assigns the tie-breaking ordinals.
+     */
+    private void consume(
+        SpurTask task, GraphPath<V, E> candidate, PriorityQueue<Candidate> candHeap,
+        Set<List<V>> seenCandidates)
     {
+        stats.spurTasksMaterialized++;
+        if (candidate == null) {
+            stats.unreachableSpurs++;
+            return;
+        }
+        Candidate c = new Candidate(
+            candidate, candidate.getWeight(), task.spurIndex, stats.candidateOrdinal++);
+        if (seenCandidates.add(c.path.getVertexList())) {
+            candHeap.offer(c);
+            stats.candidateHeapPushes++;
+            stats.materializedCandidates++;
+        }
+    }
+
+    /**
+     * Parallel counterpart of a single step of the materialization loop. Takes up to
+     * {@code speculationWidth} tasks from the task heap, runs the spur queries which do not have a
+     * reusable speculative result concurrently, and consumes the results in task order as long as
+     * the sequential loop would. The remaining tasks are returned to the heap together with their
+     * speculative results.
+     */
+    private void materializeParallel(
+        PriorityQueue<SpurTask> taskHeap, PriorityQueue<Candidate> candHeap,
+        Set<List<V>> seenCandidates, List<GraphPath<V, E>> accepted,
+        Map<V, Double> reverseDistances)
+    {
+        List<SpurTask> batch = new ArrayList<>(speculationWidth);
+        while (batch.size() < speculationWidth && !taskHeap.isEmpty()) {
+            batch.add(taskHeap.poll());
+        }
+
+        List<Set<E>> bans = new ArrayList<>(batch.size());
+        List<Callable<GraphPath<V, E>>> queries = new ArrayList<>();
+        List<SpurTask> queried = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            SpurTask t = batch.get(i);
+            Set<E> bannedEdges = computeYenBannedEdges(
+                accepted.get(t.parentIndex).getVertexList(), t.spurIndex, accepted);
+            bans.add(bannedEdges);
+            if (t.speculativeBannedEdges != null) {
+                if (t.speculativeBannedEdges.equals(bannedEdges)) {
+                    continue;
+                }
+                // the bans changed since the speculative query, its result is lost
+                stats.speculativeWaste++;
+                t.speculativeBannedEdges = null;
+                t.speculativeResult = null;
+            }
+            if (i > 0) {
+                stats.speculativeSpurTasks++;
+            }
+            queries.add(
+                () -> runSpur(workerEngine.get(), accepted, t, bannedEdges, reverseDistances));
+            queried.add(t);
+        }
+
+        if (!queries.isEmpty()) {
+            List<Future<GraphPath<V, E>>> futures;
+            try {
+                futures = executor.invokeAll(queries);
+                for (int i = 0; i < futures.size(); i++) {
+                    SpurTask t = queried.get(i);
+                    t.speculativeResult = futures.get(i).get();
+                    t.speculativeBannedEdges = bans.get(batch.indexOf(t));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while computing spur paths", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            SpurTask t = batch.get(i);
+            if (i > 0 && !candHeap.isEmpty() && !(t.lowerBound < candHeap.peek().cost
+                || approxEq(t.lowerBound, candHeap.peek().cost)))
+            {
+                // the sequential loop would stop here, keep the speculative results for later
+                taskHeap.addAll(batch.subList(i, batch.size()));
+                return;
+            }
+            if (!queried.contains(t) || i > 0) {
+                // the result was computed before it was known to be needed
+                stats.speculativeHits++;
+            }
+            GraphPath<V, E> candidate = t.speculativeResult;
+            t.speculativeResult = null;
+            t.speculativeBannedEdges = null;
+            consume(t, candidate, candHeap, seenCandidates);
+        }
+    }
+
+    /**
+     * Run the spur query of a task through the engine and stitch the candidate path. Does not
+     * modify any state of the algorithm, so it can be called concurrently with distinct engines.
+     */
+    private GraphPath<V, E> runSpur(
+        SpurShortestPathEngine<V, E> engine, List<GraphPath<V, E>> accepted, SpurTask task,
+        Set<E> bannedEdges, Map<V, Double> reverseDistances)
+    {
+        GraphPath<V, E> parent = accepted.get(task.parentIndex);
+        int spurIndex = task.spurIndex;
         List<V> parentVertices = parent.getVertexList();
         List<E> parentEdges = parent.getEdgeList();
         V spurNode = parentVertices.get(spurIndex);
         V sink = parent.getEndVertex();
         V source = parent.getStartVertex();
         GraphPath<V, E> spur = engine.findPath(
-            graph, spurNode, sink, bannedVertices, bannedEdges, reverseDistances);
+            graph, spurNode, sink, task.bannedVertices, bannedEdges, reverseDistances);
         if (spur == null) {
             return null;
         }
@@ -286,9 +475,8 @@ public class BoundedPrunedYenKShortestPath<V, E>
         }
         candVerts.addAll(spur.getVertexList());
         candEdges.addAll(spur.getEdgeList());
-        double cost = rootCost + spur.getWeight();
-        GraphPath<V, E> candidate = new GraphWalk<>(graph, source, sink, candVerts, candEdges, cost);
-        return new Candidate(candidate, cost, spurIndex, stats.candidateOrdinal++);
+        double cost = task.rootCost + spur.getWeight();
+        return new GraphWalk<>(graph, source, sink, candVerts, candEdges, cost);
     }
 
     /**
@@ -449,17 +637,6 @@ public class BoundedPrunedYenKShortestPath<V, E>
         }
     }
 
-    private Candidate materialize(
-        SpurTask task, List<GraphPath<V, E>> accepted, Map<V, Double> reverseDistances)
-    {
-        GraphPath<V, E> parent = accepted.get(task.parentIndex);
-        Set<E> bannedEdges =
-            computeYenBannedEdges(parent.getVertexList(), task.spurIndex, accepted);
-        return runSpur(
-            parent, task.spurIndex, task.bannedVertices, bannedEdges, task.rootCost,
-            reverseDistances);
-    }
-
     private static boolean approxEq(double a, double b)
     {
         return Math.abs(a - b) <= 1e-12 * Math.max(1.0, Math.max(Math.abs(a), Math.abs(b)));
@@ -487,6 +664,20 @@ public class BoundedPrunedYenKShortestPath<V, E>
          * Adding more bans later can only remove legal exits, so the skip is sound.
          */
         public long skippedImpossibleSpurTasks;
+        /**
+         * Number of spur queries run in parallel mode before it was known whether their results
+         * would be needed.
+         */
+        public long speculativeSpurTasks;
+        /**
+         * Number of speculative results which were consumed, either in the same batch or later.
+         */
+        public long speculativeHits;
+        /**
+         * Number of speculative results which were thrown away, because the banned edges of their
+         * task changed before the result was needed or because the run ended before.
+         */
+        public long speculativeWaste;
         long candidateOrdinal;
 
         void reset()
@@ -501,6 +692,9 @@ public class BoundedPrunedYenKShortestPath<V, E>
             unreachableSpurs = 0;
             expandedVertices = 0;
             skippedImpossibleSpurTasks = 0;
+            speculativeSpurTasks = 0;
+            speculativeHits = 0;
+            speculativeWaste = 0;
             candidateOrdinal = 0;
         }
 
@@ -511,7 +705,9 @@ public class BoundedPrunedYenKShortestPath<V, E>
                 + ", tasksMaterialized=" + spurTasksMaterialized + ", candPushes="
                 + candidateHeapPushes + ", candPops=" + candidateHeapPops + ", unreachableSpurs="
                 + unreachableSpurs + ", skippedImpossibleSpurs=" + skippedImpossibleSpurTasks
-                + ", deferredLeft=" + deferredTasksLeft + ", expanded=" + expandedVertices + '}';
+                + ", deferredLeft=" + deferredTasksLeft + ", expanded=" + expandedVertices
+                + ", speculative=" + speculativeSpurTasks + ", speculativeHits=" + speculativeHits
+                + ", speculativeWaste=" + speculativeWaste + '}';
         }
     }
 
@@ -538,6 +734,12 @@ public class BoundedPrunedYenKShortestPath<V, E>
         final double rootCost;
         final double lowerBound;
         final long ord;
+        /**
+         * Result of a speculative spur query and the banned edges it was computed under, or null
+         * if there is none.
+         */
+        GraphPath<V, E> speculativeResult;
+        Set<E> speculativeBannedEdges;
 
         SpurTask(
             int parentIndex, int spurIndex, Set<V> bannedVertices, double rootCost,
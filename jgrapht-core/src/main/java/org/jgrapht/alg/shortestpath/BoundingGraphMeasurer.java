@@ -0,0 +1,568 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Exact diameter, radius and eccentricities of undirected graphs using bounds.
+ *
+ * <p>
+ * Unlike {@link GraphMeasurer}, which computes the distances between all pairs of vertices, this
+ * class computes single-source shortest paths only from a few selected vertices and derives bounds
+ * on the eccentricities of the remaining vertices:
+ * <ul>
+ * <li>The diameter of a graph without edge weights is computed with the iFUB algorithm, see P.
+ * Crescenzi, R. Grossi, M. Habib, L. Lanzi and A. Marino. On computing the diameter of real-world
+ * undirected graphs. Theoretical Computer Science, 514:84–95, 2013. A central vertex $u$ is
+ * selected with the 4-sweep heuristic and the eccentricities of the vertices farthest from $u$ are
+ * computed level by level, until the lower bound on the diameter exceeds twice the distance of
+ * the remaining levels from $u$.</li>
+ * <li>The eccentricities, and the diameter of weighted graphs and the radius, are computed by
+ * eccentricity bounding, see F. W. Takes and W. A. Kosters. Computing the eccentricity
+ * distribution of large graphs. Algorithms, 6(1):100–118, 2013. After a search from $v$ the
+ * eccentricity of every vertex $w$ is at least $\max(\epsilon(v) - d(v, w), d(v, w))$ and at most
+ * $\epsilon(v) + d(v, w)$. The searches start from vertices with the smallest lower bound and the
+ * largest upper bound alternately, until the bounds of all vertices coincide. For the diameter
+ * and the radius alone, vertices whose bounds cannot affect them are discarded early.</li>
+ * </ul>
+ * On real-world graphs typically only a handful of breadth-first searches, or Dijkstra searches if
+ * the graph has edge weights different from one, are needed. The worst-case running time remains
+ * that of a search from every vertex. The number of searches executed so far is available from
+ * {@link #getNumberOfSearches()}.
+ *
+ * <p>
+ * When constructed with a {@link ForkJoinPool}, the searches from the vertices of an iFUB level,
+ * and from as many vertices as the parallelism of the pool in every round of eccentricity
+ * bounding, are executed in parallel. In the latter case the bounds are updated only after all
+ * searches of a round have finished, so more searches may be needed in total.
+ *
+ * <p>
+ * The graph must be undirected and its edge weights must be non-negative. As in
+ * {@link GraphMeasurer}, the eccentricity of every vertex, the diameter and the radius of a
+ * disconnected graph are {@link Double#POSITIVE_INFINITY}, and the diameter and radius of an empty
+ * graph are 0. The graph is copied during construction and the results are computed lazily and
+ * cached. Eccentricities of weighted graphs are computed up to the tolerance of
+ * {@link ToleranceDoubleComparator}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see GraphMeasurer
+ */
+public class BoundingGraphMeasurer<V, E>
+{
+    private static final ToleranceDoubleComparator COMPARATOR = new ToleranceDoubleComparator();
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+    private final List<V> vertices;
+    private final int n;
+
+    // CSR representation of the edges, without weights if all weights are one
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+
+    private final AtomicLong searches = new AtomicLong();
+    private Boolean connected;
+    private double diameter = Double.NaN;
+    private double radius = Double.NaN;
+    private Map<V, Double> eccentricityMap;
+
+    /**
+     * Constructs a new instance which executes all searches sequentially.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is not undirected or has negative edge weights
+     */
+    public BoundingGraphMeasurer(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Constructs a new instance. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization, or null to execute all searches
+     *        sequentially
+     * @throws IllegalArgumentException if the graph is not undirected or has negative edge weights
+     */
+    public BoundingGraphMeasurer(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.pool = pool;
+
+        CsrAdjacency<V, E> csr = new CsrAdjacency<>(graph);
+        this.vertices = csr.vertices;
+        this.n = csr.n;
+        this.offsets = csr.offsets;
+        this.targets = csr.targets;
+        double[] edgeWeights = csr.arcWeights(graph::getEdgeWeight);
+        boolean unweighted = true;
+        for (double w : edgeWeights) {
+            if (w < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            unweighted &= w == 1d;
+        }
+        this.weights = unweighted ? null : edgeWeights;
+    }
+
+    /**
+     * Compute the diameter of the graph, see {@link GraphMeasurer#getDiameter()}.
+     *
+     * @return the diameter of the graph
+     */
+    public double getDiameter()
+    {
+        if (Double.isNaN(diameter)) {
+            if (eccentricityMap != null) {
+                computeExtremes();
+            } else if (weights == null) {
+                diameter = iFub();
+            } else {
+                boundEccentricities(true);
+            }
+        }
+        return diameter;
+    }
+
+    /**
+     * Compute the radius of the graph, see {@link GraphMeasurer#getRadius()}.
+     *
+     * @return the radius of the graph
+     */
+    public double getRadius()
+    {
+        if (Double.isNaN(radius)) {
+            if (eccentricityMap != null) {
+                computeExtremes();
+            } else {
+                boundEccentricities(true);
+            }
+        }
+        return radius;
+    }
+
+    /**
+     * Compute the eccentricity of each vertex in the graph, see
+     * {@link GraphMeasurer#getVertexEccentricityMap()}.
+     *
+     * @return a map containing the eccentricity of each vertex
+     */
+    public Map<V, Double> getVertexEccentricityMap()
+    {
+        if (eccentricityMap == null) {
+            boundEccentricities(false);
+        }
+        return eccentricityMap;
+    }
+
+    /**
+     * Compute the graph center, see {@link GraphMeasurer#getGraphCenter()}.
+     *
+     * @return the graph center
+     */
+    public Set<V> getGraphCenter()
+    {
+        return verticesWithEccentricity(getRadius());
+    }
+
+    /**
+     * Compute the graph periphery, see {@link GraphMeasurer#getGraphPeriphery()}.
+     *
+     * @return the graph periphery
+     */
+    public Set<V> getGraphPeriphery()
+    {
+        return verticesWithEccentricity(getDiameter());
+    }
+
+    /**
+     * Get the number of single-source shortest path searches executed so far.
+     *
+     * @return the number of searches
+     */
+    public long getNumberOfSearches()
+    {
+        return searches.get();
+    }
+
+    private Set<V> verticesWithEccentricity(double eccentricity)
+    {
+        Set<V> result = new LinkedHashSet<>();
+        for (Map.Entry<V, Double> entry : getVertexEccentricityMap().entrySet()) {
+            if (COMPARATOR.compare(entry.getValue(), eccentricity) == 0) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private void computeExtremes()
+    {
+        diameter = 0d;
+        radius = n == 0 ? 0d : Double.POSITIVE_INFINITY;
+        for (double eccentricity : eccentricityMap.values()) {
+            diameter = Math.max(diameter, eccentricity);
+            radius = Math.min(radius, eccentricity);
+        }
+    }
+
+    /**
+     * Handles empty and disconnected graphs, which are detected by the first search.
+     *
+     * @return true if the results are known without further searches
+     */
+    private boolean isTrivial(double[] distances)
+    {
+        if (connected == null && distances != null) {
+            connected = max(distances) < Double.POSITIVE_INFINITY;
+        }
+        if (n == 0 || Boolean.FALSE.equals(connected)) {
+            double value = n == 0 ? 0d : Double.POSITIVE_INFINITY;
+            diameter = value;
+            radius = value;
+            Map<V, Double> map = LinkedHashMap.newLinkedHashMap(n);
+            for (V v : vertices) {
+                map.put(v, Double.POSITIVE_INFINITY);
+            }
+            eccentricityMap = Collections.unmodifiableMap(map);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the diameter of a graph without edge weights with the iFUB algorithm.
+     */
+    private double iFub()
+    {
+        if (isTrivial(null)) {
+            return diameter;
+        }
+
+        // 4-sweep
+        int[] parent = new int[n];
+        int r1 = 0;
+        for (int v = 1; v < n; ++v) {
+            if (degree(v) > degree(r1)) {
+                r1 = v;
+            }
+        }
+        double[] d = search(r1, null);
+        if (isTrivial(d)) {
+            return diameter;
+        }
+        double lower = max(d);
+        int a1 = argMax(d);
+        d = search(a1, parent);
+        lower = Math.max(lower, max(d));
+        int r2 = middle(d, parent);
+        d = search(r2, null);
+        lower = Math.max(lower, max(d));
+        int a2 = argMax(d);
+        d = search(a2, parent);
+        lower = Math.max(lower, max(d));
+        int u = middle(d, parent);
+
+        // group the vertices by their distance from u
+        d = search(u, null);
+        int eccentricity = (int) max(d);
+        lower = Math.max(lower, eccentricity);
+        int[] levelOffsets = new int[eccentricity + 2];
+        for (double distance : d) {
+            levelOffsets[(int) distance + 1]++;
+        }
+        for (int i = 0; i <= eccentricity; ++i) {
+            levelOffsets[i + 1] += levelOffsets[i];
+        }
+        int[] levels = new int[n];
+        int[] next = Arrays.copyOf(levelOffsets, eccentricity + 1);
+        for (int v = 0; v < n; ++v) {
+            levels[next[(int) d[v]]++] = v;
+        }
+
+        double upper = 2d * eccentricity;
+        for (int i = eccentricity; upper > lower; --i) {
+            double levelMax = maxEccentricity(
+                Arrays.copyOfRange(levels, levelOffsets[i], levelOffsets[i + 1]));
+            lower = Math.max(lower, levelMax);
+            upper = 2d * (i - 1);
+        }
+        return lower;
+    }
+
+    /**
+     * Bounds the eccentricities until all of them are known, or only until the diameter and the
+     * radius are known.
+     */
+    private void boundEccentricities(boolean extremesOnly)
+    {
+        if (isTrivial(null)) {
+            return;
+        }
+
+        double[] lower = new double[n];
+        double[] upper = new double[n];
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+        boolean[] candidate = new boolean[n];
+        Arrays.fill(candidate, true);
+        int remaining = n;
+        boolean[] known = new boolean[n];
+        int batchSize = pool == null ? 1 : pool.getParallelism();
+        boolean selectHigh = false;
+
+        while (remaining > 0) {
+            // alternate between the smallest lower and the largest upper bound
+            int[] batch = new int[Math.min(batchSize, remaining)];
+            for (int i = 0; i < batch.length; ++i) {
+                int best = -1;
+                for (int v = 0; v < n; ++v) {
+                    if (!candidate[v] || contains(batch, i, v)) {
+                        continue;
+                    }
+                    if (best < 0) {
+                        best = v;
+                        continue;
+                    }
+                    int c = selectHigh ? Double.compare(upper[v], upper[best])
+                        : Double.compare(lower[best], lower[v]);
+                    if (c > 0 || c == 0 && degree(v) > degree(best)) {
+                        best = v;
+                    }
+                }
+                batch[i] = best;
+                selectHigh = !selectHigh;
+            }
+
+            double[][] distances = searchAll(batch);
+            for (int i = 0; i < batch.length; ++i) {
+                double[] d = distances[i];
+                if (isTrivial(d)) {
+                    return;
+                }
+                int v = batch[i];
+                double eccentricity = max(d);
+                lower[v] = eccentricity;
+                upper[v] = eccentricity;
+                for (int w = 0; w < n; ++w) {
+                    if (!candidate[w]) {
+                        continue;
+                    }
+                    double dw = d[w];
+                    lower[w] = Math.max(lower[w], Math.max(eccentricity - dw, dw));
+                    upper[w] = Math.min(upper[w], eccentricity + dw);
+                    if (w == v || COMPARATOR.compare(lower[w], upper[w]) == 0) {
+                        candidate[w] = false;
+                        known[w] = true;
+                        upper[w] = lower[w];
+                        --remaining;
+                    }
+                }
+            }
+
+            if (extremesOnly) {
+                // discard vertices which cannot determine the diameter or the radius
+                double diameterLower = 0d;
+                double radiusUpper = Double.POSITIVE_INFINITY;
+                for (int v = 0; v < n; ++v) {
+                    diameterLower = Math.max(diameterLower, lower[v]);
+                    radiusUpper = Math.min(radiusUpper, upper[v]);
+                }
+                for (int v = 0; v < n; ++v) {
+                    if (candidate[v] && COMPARATOR.compare(upper[v], diameterLower) <= 0
+                        && COMPARATOR.compare(lower[v], radiusUpper) >= 0)
+                    {
+                        candidate[v] = false;
+                        --remaining;
+                    }
+                }
+                diameter = diameterLower;
+                radius = radiusUpper;
+            }
+        }
+
+        if (!extremesOnly) {
+            Map<V, Double> map = LinkedHashMap.newLinkedHashMap(n);
+            for (int v = 0; v < n; ++v) {
+                assert known[v];
+                map.put(vertices.get(v), lower[v]);
+            }
+            eccentricityMap = Collections.unmodifiableMap(map);
+            computeExtremes();
+        }
+    }
+
+    /**
+     * Computes the maximum eccentricity of a set of vertices.
+     */
+    private double maxEccentricity(int[] sources)
+    {
+        double result = 0d;
+        if (pool == null || sources.length == 1) {
+            for (int s : sources) {
+                result = Math.max(result, max(search(s, null)));
+            }
+        } else {
+            List<ForkJoinTask<Double>> tasks = new ArrayList<>(sources.length);
+            for (int s : sources) {
+                tasks.add(pool.submit(() -> max(search(s, null))));
+            }
+            for (ForkJoinTask<Double> task : tasks) {
+                result = Math.max(result, task.join());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the distances from a set of vertices.
+     */
+    private double[][] searchAll(int[] sources)
+    {
+        double[][] result = new double[sources.length][];
+        if (pool == null || sources.length == 1) {
+            for (int i = 0; i < sources.length; ++i) {
+                result[i] = search(sources[i], null);
+            }
+        } else {
+            List<ForkJoinTask<double[]>> tasks = new ArrayList<>(sources.length);
+            for (int s : sources) {
+                tasks.add(pool.submit(() -> search(s, null)));
+            }
+            for (int i = 0; i < sources.length; ++i) {
+                result[i] = tasks.get(i).join();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the distances from a source with a breadth-first search, or Dijkstra's algorithm
+     * if the graph has edge weights different from one. This method is thread-safe.
+     *
+     * @param source the source
+     * @param parent array to store the predecessors of the vertices in, or null
+     * @return the distances
+     */
+    private double[] search(int source, int[] parent)
+    {
+        searches.incrementAndGet();
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[source] = 0d;
+        if (parent != null) {
+            parent[source] = -1;
+        }
+
+        if (weights == null) {
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                int u = queue[head++];
+                double du = dist[u] + 1d;
+                for (int j = offsets[u], end = offsets[u + 1]; j < end; ++j) {
+                    int v = targets[j];
+                    if (dist[v] == Double.POSITIVE_INFINITY) {
+                        dist[v] = du;
+                        if (parent != null) {
+                            parent[v] = u;
+                        }
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        } else {
+            IndexedDaryDoubleHeap heap = new IndexedDaryDoubleHeap(4, n);
+            heap.insert(source, 0d);
+            while (!heap.isEmpty()) {
+                double du = heap.findMinKey();
+                int u = heap.deleteMin();
+                for (int j = offsets[u], end = offsets[u + 1]; j < end; ++j) {
+                    int v = targets[j];
+                    double dv = du + weights[j];
+                    if (dv < dist[v]) {
+                        dist[v] = dv;
+                        if (parent != null) {
+                            parent[v] = u;
+                        }
+                        heap.insertOrDecreaseKey(v, dv);
+                    }
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Get the vertex in the middle of the path to the farthest vertex of a search.
+     */
+    private static int middle(double[] d, int[] parent)
+    {
+        int v = argMax(d);
+        for (int steps = (int) d[v] / 2; steps > 0; --steps) {
+            v = parent[v];
+        }
+        return v;
+    }
+
+    private int degree(int v)
+    {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    private static double max(double[] d)
+    {
+        double result = 0d;
+        for (double value : d) {
+            result = Math.max(result, value);
+        }
+        return result;
+    }
+
+    private static int argMax(double[] d)
+    {
+        int result = 0;
+        for (int v = 1; v < d.length; ++v) {
+            if (d[v] > d[result]) {
+                result = v;
+            }
+        }
+        return result;
+    }
+
+    private static boolean contains(int[] array, int length, int value)
+    {
+        for (int i = 0; i < length; ++i) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
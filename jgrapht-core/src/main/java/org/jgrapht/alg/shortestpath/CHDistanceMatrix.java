@@ -0,0 +1,463 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+
+/**
+ * Parallel computation of large shortest path distance matrices based on contraction hierarchy.
+ *
+ * <p>
+ * The algorithm is the bucket-based many-to-many algorithm used by
+ * {@link CHManyToManyShortestPaths}: a backward upward search is performed from every target and
+ * its search space is stored in buckets at the visited vertices, then a forward upward search is
+ * performed from every source and the buckets of the vertices it visits are scanned. In contrast to
+ * {@link CHManyToManyShortestPaths} only distances are computed and no paths are stored, all
+ * searches run on primitive arrays and the work is split into tiles which are processed on a
+ * {@link ForkJoinPool}.
+ *
+ * <p>
+ * The targets are split into tiles of {@code targetTileSize} vertices. The tiles are processed one
+ * after another, so the buckets of only one target tile are held in memory at a time. The backward
+ * searches of a tile and the forward searches of all sources are executed in parallel, the sources
+ * being split into tiles of {@code sourceTileSize} vertices.
+ *
+ * <p>
+ * The computed distances are not collected in memory. Instead, each computed row segment is
+ * passed to a {@link RowSink} as soon as it is available. A {@link MappedDistanceMatrix} can be
+ * used as a sink to store the matrix in a memory-mapped file. Small matrices can be computed in
+ * memory using {@link #computeMatrix(List, List)}.
+ *
+ * <p>
+ * The edge weights of the contraction hierarchy are read once during construction.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see CHManyToManyShortestPaths
+ */
+public class CHDistanceMatrix<V, E>
+{
+    /**
+     * Default number of sources in a tile.
+     */
+    public static final int DEFAULT_SOURCE_TILE_SIZE = 64;
+    /**
+     * Default number of targets in a tile.
+     */
+    public static final int DEFAULT_TARGET_TILE_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int sourceTileSize;
+    private final int targetTileSize;
+    private final int n;
+    private final Map<V, Integer> vertexIndex;
+
+    // outgoing upward edges in CSR representation
+    private final int[] forwardOffsets;
+    private final int[] forwardTargets;
+    private final double[] forwardWeights;
+
+    // incoming downward edges in CSR representation
+    private final int[] backwardOffsets;
+    private final int[] backwardSources;
+    private final double[] backwardWeights;
+
+    private final SearchWorkspacePool<Void> workspacePool = SearchWorkspacePool.perThread();
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code contractionHierarchy} and
+     * {@code pool} using the default tile sizes.
+     *
+     * @param contractionHierarchy contraction of the graph
+     * @param pool pool which will be used for parallelization
+     */
+    public CHDistanceMatrix(ContractionHierarchy<V, E> contractionHierarchy, ForkJoinPool pool)
+    {
+        this(contractionHierarchy, pool, DEFAULT_SOURCE_TILE_SIZE, DEFAULT_TARGET_TILE_SIZE);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code contractionHierarchy},
+     * {@code pool} and tile sizes. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code pool}.
+     *
+     * @param contractionHierarchy contraction of the graph
+     * @param pool pool which will be used for parallelization
+     * @param sourceTileSize number of sources in a tile
+     * @param targetTileSize number of targets in a tile
+     */
+    public CHDistanceMatrix(
+        ContractionHierarchy<V, E> contractionHierarchy, ForkJoinPool pool, int sourceTileSize,
+        int targetTileSize)
+    {
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        if (sourceTileSize < 1 || targetTileSize < 1) {
+            throw new IllegalArgumentException("Tile sizes must be positive");
+        }
+        this.sourceTileSize = sourceTileSize;
+        this.targetTileSize = targetTileSize;
+
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            contractionHierarchy.getContractionGraph();
+        List<ContractionVertex<V>> vertices = new ArrayList<>(contractionGraph.vertexSet());
+        this.n = vertices.size();
+        this.vertexIndex = HashMap.newHashMap(n);
+        Map<ContractionVertex<V>, Integer> contractionIndex = HashMap.newHashMap(n);
+        for (ContractionVertex<V> v : vertices) {
+            contractionIndex.put(v, contractionIndex.size());
+            vertexIndex.put(v.vertex, vertexIndex.size());
+        }
+
+        this.forwardOffsets = new int[n + 1];
+        this.backwardOffsets = new int[n + 1];
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            if (e.isUpward) {
+                ++forwardOffsets[contractionIndex.get(contractionGraph.getEdgeSource(e)) + 1];
+            } else {
+                ++backwardOffsets[contractionIndex.get(contractionGraph.getEdgeTarget(e)) + 1];
+            }
+        }
+        for (int v = 0; v < n; ++v) {
+            forwardOffsets[v + 1] += forwardOffsets[v];
+            backwardOffsets[v + 1] += backwardOffsets[v];
+        }
+        this.forwardTargets = new int[forwardOffsets[n]];
+        this.forwardWeights = new double[forwardOffsets[n]];
+        this.backwardSources = new int[backwardOffsets[n]];
+        this.backwardWeights = new double[backwardOffsets[n]];
+        int[] forwardPos = Arrays.copyOf(forwardOffsets, n);
+        int[] backwardPos = Arrays.copyOf(backwardOffsets, n);
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            int source = contractionIndex.get(contractionGraph.getEdgeSource(e));
+            int target = contractionIndex.get(contractionGraph.getEdgeTarget(e));
+            double weight = contractionGraph.getEdgeWeight(e);
+            if (e.isUpward) {
+                forwardTargets[forwardPos[source]] = target;
+                forwardWeights[forwardPos[source]++] = weight;
+            } else {
+                backwardSources[backwardPos[target]] = source;
+                backwardWeights[backwardPos[target]++] = weight;
+            }
+        }
+    }
+
+    /**
+     * Computes the distances from every vertex in {@code sources} to every vertex in
+     * {@code targets} and passes them to {@code sink}. Every pair of source index and target index
+     * is passed to the sink exactly once. The method returns when all rows have been passed to the
+     * sink.
+     *
+     * @param sources list of sources
+     * @param targets list of targets
+     * @param sink consumer of the computed rows
+     */
+    public void compute(List<V> sources, List<V> targets, RowSink sink)
+    {
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        int[] sourceIndices = toIndices(sources);
+        int[] targetIndices = toIndices(targets);
+
+        for (int targetStart = 0; targetStart < targetIndices.length;
+            targetStart += targetTileSize)
+        {
+            int targetEnd = Math.min(targetStart + targetTileSize, targetIndices.length);
+            Buckets buckets = pool.invoke(new BucketsTask(targetIndices, targetStart, targetEnd));
+            pool.invoke(
+                new SourcesTask(
+                    sourceIndices, 0, sourceIndices.length, buckets, targetStart, sink));
+        }
+    }
+
+    /**
+     * Computes the distances from every vertex in {@code sources} to every vertex in
+     * {@code targets} in memory.
+     *
+     * @param sources list of sources
+     * @param targets list of targets
+     * @return the distance matrix, where entry $[i][j]$ is the distance from the $i$-th source to
+     *         the $j$-th target
+     */
+    public double[][] computeMatrix(List<V> sources, List<V> targets)
+    {
+        double[][] matrix = new double[sources.size()][targets.size()];
+        compute(
+            sources, targets, (sourceIndex, targetStart, distances) -> System
+                .arraycopy(distances, 0, matrix[sourceIndex], targetStart, distances.length));
+        return matrix;
+    }
+
+    private int[] toIndices(List<V> vertices)
+    {
+        int[] indices = new int[vertices.size()];
+        for (int i = 0; i < indices.length; ++i) {
+            Integer index = vertexIndex.get(vertices.get(i));
+            if (index == null) {
+                throw new IllegalArgumentException("Graph must contain all vertices");
+            }
+            indices[i] = index;
+        }
+        return indices;
+    }
+
+    /**
+     * Buckets of a target tile in CSR representation. The bucket of vertex $v$ consists of pairs
+     * of the index of a target within the tile and the distance from $v$ to this target.
+     */
+    private static class Buckets
+    {
+        final int size;
+        final int[] offsets;
+        final int[] targets;
+        final double[] distances;
+
+        Buckets(int size, int[] offsets, int[] targets, double[] distances)
+        {
+            this.size = size;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.distances = distances;
+        }
+    }
+
+    /**
+     * Search spaces of the backward searches from a range of targets.
+     */
+    private static class SearchSpaces
+    {
+        int size;
+        int[] targets = new int[16];
+        int[] vertices = new int[16];
+        double[] distances = new double[16];
+
+        void add(int target, int v, double distance)
+        {
+            if (size == vertices.length) {
+                targets = Arrays.copyOf(targets, 2 * size);
+                vertices = Arrays.copyOf(vertices, 2 * size);
+                distances = Arrays.copyOf(distances, 2 * size);
+            }
+            targets[size] = target;
+            vertices[size] = v;
+            distances[size] = distance;
+            ++size;
+        }
+    }
+
+    /**
+     * Computes the buckets of a target tile. The backward searches are split recursively and the
+     * resulting search spaces are merged into the buckets.
+     */
+    private class BucketsTask
+        extends RecursiveTask<Buckets>
+    {
+        private static final long serialVersionUID = -1738457238145683940L;
+
+        private final int[] targetIndices;
+        private final int start;
+        private final int end;
+
+        BucketsTask(int[] targetIndices, int start, int end)
+        {
+            this.targetIndices = targetIndices;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Buckets compute()
+        {
+            List<SearchSpaces> parts = new SearchSpacesTask(targetIndices, start, start, end)
+                .invoke();
+            int[] offsets = new int[n + 1];
+            for (SearchSpaces part : parts) {
+                for (int i = 0; i < part.size; ++i) {
+                    ++offsets[part.vertices[i] + 1];
+                }
+            }
+            for (int v = 0; v < n; ++v) {
+                offsets[v + 1] += offsets[v];
+            }
+            int[] targets = new int[offsets[n]];
+            double[] distances = new double[offsets[n]];
+            int[] pos = Arrays.copyOf(offsets, n);
+            for (SearchSpaces part : parts) {
+                for (int i = 0; i < part.size; ++i) {
+                    int p = pos[part.vertices[i]]++;
+                    targets[p] = part.targets[i];
+                    distances[p] = part.distances[i];
+                }
+            }
+            return new Buckets(end - start, offsets, targets, distances);
+        }
+    }
+
+    /**
+     * Performs the backward searches from a range of targets.
+     */
+    private class SearchSpacesTask
+        extends RecursiveTask<List<SearchSpaces>>
+    {
+        private static final long serialVersionUID = 5307446153785102857L;
+
+        private static final int THRESHOLD = 16;
+
+        private final int[] targetIndices;
+        private final int tileStart;
+        private final int start;
+        private final int end;
+
+        SearchSpacesTask(int[] targetIndices, int tileStart, int start, int end)
+        {
+            this.targetIndices = targetIndices;
+            this.tileStart = tileStart;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected List<SearchSpaces> compute()
+        {
+            if (end - start > THRESHOLD) {
+                int middle = (start + end) >>> 1;
+                SearchSpacesTask left =
+                    new SearchSpacesTask(targetIndices, tileStart, start, middle);
+                SearchSpacesTask right =
+                    new SearchSpacesTask(targetIndices, tileStart, middle, end);
+                left.fork();
+                List<SearchSpaces> result = new ArrayList<>(right.compute());
+                result.addAll(left.join());
+                return result;
+            }
+
+            SearchSpaces searchSpaces = new SearchSpaces();
+            SearchWorkspace<Void> workspace = workspacePool.acquire(n);
+            try {
+                for (int t = start; t < end; ++t) {
+                    int target = t - tileStart;
+                    search(
+                        workspace, targetIndices[t], backwardOffsets, backwardSources,
+                        backwardWeights, (v, d) -> searchSpaces.add(target, v, d));
+                }
+            } finally {
+                workspacePool.release(workspace);
+            }
+            return List.of(searchSpaces);
+        }
+    }
+
+    /**
+     * Performs the forward searches from a range of sources, scans the buckets and passes the rows
+     * to the sink.
+     */
+    private class SourcesTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 2204837541093385617L;
+
+        private final int[] sourceIndices;
+        private final int start;
+        private final int end;
+        private final Buckets buckets;
+        private final int targetStart;
+        private final RowSink sink;
+
+        SourcesTask(
+            int[] sourceIndices, int start, int end, Buckets buckets, int targetStart,
+            RowSink sink)
+        {
+            this.sourceIndices = sourceIndices;
+            this.start = start;
+            this.end = end;
+            this.buckets = buckets;
+            this.targetStart = targetStart;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (end - start > sourceTileSize) {
+                int middle = (start + end) >>> 1;
+                invokeAll(
+                    new SourcesTask(sourceIndices, start, middle, buckets, targetStart, sink),
+                    new SourcesTask(sourceIndices, middle, end, buckets, targetStart, sink));
+                return;
+            }
+
+            double[] row = new double[buckets.size];
+            SearchWorkspace<Void> workspace = workspacePool.acquire(n);
+            try {
+                for (int s = start; s < end; ++s) {
+                    Arrays.fill(row, Double.POSITIVE_INFINITY);
+                    search(
+                        workspace, sourceIndices[s], forwardOffsets, forwardTargets,
+                        forwardWeights, (v, d) -> {
+                            for (int i = buckets.offsets[v], e = buckets.offsets[v + 1]; i < e;
+                                ++i)
+                            {
+                                int t = buckets.targets[i];
+                                double distance = d + buckets.distances[i];
+                                if (distance < row[t]) {
+                                    row[t] = distance;
+                                }
+                            }
+                        });
+                    sink.accept(s, targetStart, row);
+                }
+            } finally {
+                workspacePool.release(workspace);
+            }
+        }
+    }
+
+    /**
+     * Consumer of the vertices settled by a search.
+     */
+    @FunctionalInterface
+    private interface SettledVertexConsumer
+    {
+        void accept(int v, double distance);
+    }
+
+    /**
+     * Performs a complete Dijkstra search from {@code source} in the given CSR graph and reports
+     * every settled vertex.
+     */
+    private static void search(
+        SearchWorkspace<Void> workspace, int source, int[] offsets, int[] targets, double[] weights,
+        SettledVertexConsumer consumer)
+    {
+        workspace.reset();
+        IndexedDaryDoubleHeap heap = workspace.heap();
+        workspace.relax(source, 0d, null);
+        while (!heap.isEmpty()) {
+            double vDistance = heap.findMinKey();
+            int v = heap.deleteMin();
+            consumer.accept(v, vDistance);
+            for (int i = offsets[v], end = offsets[v + 1]; i < end; ++i) {
+                workspace.relax(targets[i], vDistance + weights[i], null);
+            }
+        }
+    }
+}
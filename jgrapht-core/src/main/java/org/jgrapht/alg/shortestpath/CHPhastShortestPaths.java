@@ -0,0 +1,485 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.ConcurrencyUtil;
+
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+
+/**
+ * One-to-all shortest paths algorithm based on contraction hierarchy, known as PHAST.
+ *
+ * <p>
+ * The algorithm is originally described in the article: Daniel Delling, Andrew V. Goldberg, Andreas
+ * Nowatzyk, and Renato F. Werneck. 2013. PHAST: Hardware-accelerated shortest path trees. Journal
+ * of Parallel and Distributed Computing 73, 7, 940-952.
+ *
+ * <p>
+ * A query from a source vertex $s$ consists of two phases. First, a Dijkstra search from $s$ is
+ * performed which only follows upward edges of the contraction hierarchy. Its search space is
+ * usually very small. Second, all vertices are scanned once in descending order of their
+ * contraction level and the downward edges of each scanned vertex are relaxed. After the scan the
+ * distances of all vertices are exact. The second phase does not need a priority queue and
+ * accesses memory almost sequentially, because during construction the vertices are renumbered in
+ * scan order and the downward edges are stored in a compressed sparse row representation.
+ *
+ * <p>
+ * Several sources can be processed at once using {@link #getPaths(List)}. The sources are split
+ * into blocks of size {@code blockSize} and the downward scan is performed once per block. The
+ * distances of a block are interleaved, so that the relaxation of an edge for all sources of the
+ * block is a loop over consecutive array elements.
+ *
+ * <p>
+ * Queries can be bounded by a radius. In that case only vertices with distance at most the radius
+ * are reachable, which can be used to compute isochrones, see
+ * {@link #getIsochrone(Object, double)}.
+ *
+ * <p>
+ * The edge weights of the contraction hierarchy are read once during construction. If the weights
+ * change afterwards, for instance after a {@link CustomizableContractionHierarchy} is customized, a
+ * new instance has to be created. The algorithm keeps its workspace between queries and therefore
+ * instances are not thread-safe.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see CHManyToManyShortestPaths
+ */
+public class CHPhastShortestPaths<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default number of sources processed in a single downward scan.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 8;
+
+    private final ContractionHierarchy<V, E> contractionHierarchy;
+    private final int blockSize;
+    private final int n;
+
+    /**
+     * Vertices in scan order, that is in descending order of their contraction level.
+     */
+    private final List<V> vertices;
+    private final Map<V, Integer> positions;
+
+    // upward edges in CSR representation
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] upArcs;
+
+    // downward edges in CSR representation
+    private final int[] downOffsets;
+    private final int[] downTargets;
+    private final double[] downWeights;
+    private final int[] downArcs;
+
+    /**
+     * Edges of the contraction graph indexed by the arc ids stored in the CSR arrays.
+     */
+    private final List<ContractionEdge<E>> arcs;
+
+    // query workspace
+    private final IndexedDaryDoubleHeap heap;
+    private double[] blockDistances;
+    private int[] blockPredecessors;
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code graph} and {@code executor}. It is
+     * up to a user of this algorithm to handle the creation and termination of the provided
+     * {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph a graph
+     * @param executor executor which will be used to compute {@link ContractionHierarchy}
+     */
+    public CHPhastShortestPaths(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(
+            new ContractionHierarchyPrecomputation<>(graph, executor)
+                .computeContractionHierarchy());
+    }
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code contractionHierarchy}.
+     *
+     * @param contractionHierarchy contraction of the {@code graph}
+     */
+    public CHPhastShortestPaths(ContractionHierarchy<V, E> contractionHierarchy)
+    {
+        this(contractionHierarchy, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code contractionHierarchy} and
+     * {@code blockSize}.
+     *
+     * @param contractionHierarchy contraction of the {@code graph}
+     * @param blockSize number of sources processed in a single downward scan
+     */
+    public CHPhastShortestPaths(ContractionHierarchy<V, E> contractionHierarchy, int blockSize)
+    {
+        super(contractionHierarchy.getGraph());
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.contractionHierarchy = contractionHierarchy;
+        this.blockSize = blockSize;
+
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            contractionHierarchy.getContractionGraph();
+        List<ContractionVertex<V>> order = new ArrayList<>(contractionGraph.vertexSet());
+        order.sort((v1, v2) -> Integer.compare(v2.contractionLevel, v1.contractionLevel));
+        this.n = order.size();
+
+        this.vertices = new ArrayList<>(n);
+        this.positions = HashMap.newHashMap(n);
+        Map<ContractionVertex<V>, Integer> contractionPositions =
+            HashMap.newHashMap(n);
+        for (ContractionVertex<V> v : order) {
+            contractionPositions.put(v, vertices.size());
+            positions.put(v.vertex, vertices.size());
+            vertices.add(v.vertex);
+        }
+
+        this.arcs = new ArrayList<>(contractionGraph.edgeSet().size());
+        this.upOffsets = new int[n + 1];
+        this.downOffsets = new int[n + 1];
+        for (ContractionVertex<V> v : order) {
+            int p = contractionPositions.get(v);
+            for (ContractionEdge<E> e : contractionGraph.outgoingEdgesOf(v)) {
+                if (e.isUpward) {
+                    ++upOffsets[p + 1];
+                } else {
+                    ++downOffsets[p + 1];
+                }
+            }
+        }
+        for (int p = 0; p < n; ++p) {
+            upOffsets[p + 1] += upOffsets[p];
+            downOffsets[p + 1] += downOffsets[p];
+        }
+        this.upTargets = new int[upOffsets[n]];
+        this.upWeights = new double[upOffsets[n]];
+        this.upArcs = new int[upOffsets[n]];
+        this.downTargets = new int[downOffsets[n]];
+        this.downWeights = new double[downOffsets[n]];
+        this.downArcs = new int[downOffsets[n]];
+
+        for (ContractionVertex<V> v : order) {
+            int p = contractionPositions.get(v);
+            int up = upOffsets[p];
+            int down = downOffsets[p];
+            for (ContractionEdge<E> e : contractionGraph.outgoingEdgesOf(v)) {
+                int target = contractionPositions.get(contractionGraph.getEdgeTarget(e));
+                double weight = contractionGraph.getEdgeWeight(e);
+                if (e.isUpward) {
+                    upTargets[up] = target;
+                    upWeights[up] = weight;
+                    upArcs[up] = arcs.size();
+                    ++up;
+                } else {
+                    downTargets[down] = target;
+                    downWeights[down] = weight;
+                    downArcs[down] = arcs.size();
+                    ++down;
+                }
+                arcs.add(e);
+            }
+        }
+
+        this.heap = new IndexedDaryDoubleHeap(n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned object holds its own copy of the distances and stays valid when further queries
+     * are executed.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        return getPaths(source, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Computes shortest paths from {@code source} to all vertices whose distance from
+     * {@code source} is at most {@code radius}. The paths to all other vertices are reported as
+     * not existing.
+     *
+     * @param source the source vertex
+     * @param radius the maximum distance
+     * @return the single source paths
+     */
+    public SingleSourcePaths<V, E> getPaths(V source, double radius)
+    {
+        return getPaths(Collections.singletonList(source), radius).get(0);
+    }
+
+    /**
+     * Computes shortest paths from each vertex of {@code sources} to all vertices. The sources are
+     * processed in blocks of {@code blockSize} vertices.
+     *
+     * @param sources the source vertices
+     * @return the single source paths of each source, in the order of {@code sources}
+     */
+    public List<SingleSourcePaths<V, E>> getPaths(List<V> sources)
+    {
+        return getPaths(sources, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Computes shortest paths from each vertex of {@code sources} to all vertices whose distance
+     * from the respective source is at most {@code radius}. The sources are processed in blocks of
+     * {@code blockSize} vertices.
+     *
+     * @param sources the source vertices
+     * @param radius the maximum distance
+     * @return the single source paths of each source, in the order of {@code sources}
+     */
+    public List<SingleSourcePaths<V, E>> getPaths(List<V> sources, double radius)
+    {
+        Objects.requireNonNull(sources, "sources cannot be null!");
+        int[] sourcePositions = getSourcePositions(sources, radius);
+
+        List<SingleSourcePaths<V, E>> result = new ArrayList<>(sources.size());
+        for (int start = 0; start < sourcePositions.length; start += blockSize) {
+            int k = Math.min(blockSize, sourcePositions.length - start);
+            computeBlock(sourcePositions, start, k, radius);
+            for (int s = 0; s < k; ++s) {
+                double[] distances = new double[n];
+                int[] predecessors = new int[n];
+                for (int p = 0; p < n; ++p) {
+                    distances[p] = blockDistances[p * k + s];
+                    predecessors[p] = blockPredecessors[p * k + s];
+                }
+                result.add(
+                    new PhastSingleSourcePaths<>(
+                        graph, contractionHierarchy, vertices, positions, arcs,
+                        sourcePositions[start + s], distances, predecessors));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the isochrone of {@code source}, that is all vertices whose distance from
+     * {@code source} is at most {@code radius}.
+     *
+     * @param source the source vertex
+     * @param radius the maximum distance
+     * @return the vertices of the isochrone mapped to their distances from {@code source}
+     */
+    public Map<V, Double> getIsochrone(V source, double radius)
+    {
+        computeBlock(getSourcePositions(Collections.singletonList(source), radius), 0, 1, radius);
+        Map<V, Double> isochrone = new LinkedHashMap<>();
+        for (int p = 0; p < n; ++p) {
+            double d = blockDistances[p];
+            if (d <= radius) {
+                isochrone.put(vertices.get(p), d);
+            }
+        }
+        return isochrone;
+    }
+
+    private int[] getSourcePositions(List<V> sources, double radius)
+    {
+        if (radius < 0d) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        int[] sourcePositions = new int[sources.size()];
+        for (int i = 0; i < sources.size(); ++i) {
+            Integer p = positions.get(sources.get(i));
+            if (p == null) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            }
+            sourcePositions[i] = p;
+        }
+        return sourcePositions;
+    }
+
+    /**
+     * Computes the distances of {@code k} sources starting at index {@code start} of
+     * {@code sourcePositions}. The distance of vertex $p$ from source $s$ of the block is stored
+     * at index $p \cdot k + s$.
+     */
+    private void computeBlock(int[] sourcePositions, int start, int k, double radius)
+    {
+        if (blockDistances == null || blockDistances.length != n * k) {
+            blockDistances = new double[n * k];
+            blockPredecessors = new int[n * k];
+        }
+        double[] dist = blockDistances;
+        int[] pred = blockPredecessors;
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+
+        // upward searches
+        for (int s = 0; s < k; ++s) {
+            int source = sourcePositions[start + s];
+            dist[source * k + s] = 0d;
+            heap.insert(source, 0d);
+            while (!heap.isEmpty()) {
+                double vDist = heap.findMinKey();
+                int v = heap.deleteMin();
+                for (int i = upOffsets[v], end = upOffsets[v + 1]; i < end; ++i) {
+                    int u = upTargets[i];
+                    double uDist = vDist + upWeights[i];
+                    if (uDist <= radius && uDist < dist[u * k + s]) {
+                        dist[u * k + s] = uDist;
+                        pred[u * k + s] = upArcs[i];
+                        heap.insertOrDecreaseKey(u, uDist);
+                    }
+                }
+            }
+        }
+
+        // downward scan in descending order of contraction levels
+        for (int v = 0; v < n; ++v) {
+            int vBase = v * k;
+            boolean reached = false;
+            for (int s = 0; s < k; ++s) {
+                if (dist[vBase + s] <= radius) {
+                    reached = true;
+                    break;
+                }
+            }
+            if (!reached) {
+                continue;
+            }
+            for (int i = downOffsets[v], end = downOffsets[v + 1]; i < end; ++i) {
+                int uBase = downTargets[i] * k;
+                double w = downWeights[i];
+                int arc = downArcs[i];
+                for (int s = 0; s < k; ++s) {
+                    double uDist = dist[vBase + s] + w;
+                    if (uDist < dist[uBase + s] && uDist <= radius) {
+                        dist[uBase + s] = uDist;
+                        pred[uBase + s] = arc;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Single source paths computed by a downward scan. Paths are unpacked from the contraction
+     * hierarchy on demand, which is why the paths are not serializable. They hold the hierarchy
+     * but not the workspace of the algorithm.
+     */
+    private static class PhastSingleSourcePaths<V, E>
+        implements SingleSourcePaths<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final ContractionHierarchy<V, E> contractionHierarchy;
+        private final List<V> vertices;
+        private final Map<V, Integer> positions;
+        private final List<ContractionEdge<E>> arcs;
+        private final int source;
+        private final double[] distances;
+        private final int[] predecessors;
+
+        PhastSingleSourcePaths(
+            Graph<V, E> graph, ContractionHierarchy<V, E> contractionHierarchy, List<V> vertices,
+            Map<V, Integer> positions, List<ContractionEdge<E>> arcs, int source,
+            double[] distances, int[] predecessors)
+        {
+            this.graph = graph;
+            this.contractionHierarchy = contractionHierarchy;
+            this.vertices = vertices;
+            this.positions = positions;
+            this.arcs = arcs;
+            this.source = source;
+            this.distances = distances;
+            this.predecessors = predecessors;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return vertices.get(source);
+        }
+
+        @Override
+        public double getWeight(V targetVertex)
+        {
+            Integer p = positions.get(targetVertex);
+            if (p == null) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            return distances[p];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V targetVertex)
+        {
+            Integer p = positions.get(targetVertex);
+            if (p == null) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            V sourceVertex = vertices.get(source);
+            if (p == source) {
+                return GraphWalk.singletonWalk(graph, sourceVertex, 0d);
+            }
+            if (predecessors[p] < 0) {
+                return null;
+            }
+
+            Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+                contractionHierarchy.getContractionGraph();
+            LinkedList<V> vertexList = new LinkedList<>();
+            LinkedList<E> edgeList = new LinkedList<>();
+            vertexList.add(targetVertex);
+            int current = p;
+            while (current != source) {
+                ContractionEdge<E> e = arcs.get(predecessors[current]);
+                contractionHierarchy.unpackBackward(e, vertexList, edgeList);
+                current = positions.get(contractionGraph.getEdgeSource(e).vertex);
+            }
+            return new GraphWalk<>(
+                graph, sourceVertex, targetVertex, vertexList, edgeList, distances[p]);
+        }
+    }
+}
@@ -0,0 +1,1012 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+import org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.AccessVertex;
+import org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.AccessVertices;
+import org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.LocalityFilter;
+import org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.TransitNodeRouting;
+import org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.VoronoiDiagram;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Binary storage of precomputed contraction hierarchies and transit node routings.
+ *
+ * <p>
+ * Computing a {@link ContractionHierarchy} or a transit node routing for a large road network
+ * takes minutes. This class writes the result of the precomputation into a compact binary file,
+ * which can later be loaded in time linear in its size. After loading, the hierarchy can be used
+ * with {@link ContractionHierarchyBidirectionalDijkstra}, {@link CHManyToManyShortestPaths} and
+ * {@link TransitNodeRoutingShortestPath} exactly as a freshly computed one.
+ *
+ * <p>
+ * The query algorithms work on the contraction graph of a {@link ContractionHierarchy}, so the
+ * hierarchy is rebuilt on the heap while loading. Only the table of distances between transit
+ * vertices, which grows quadratically with their number and dominates the size of a transit node
+ * routing file, is served directly from a read-only memory mapping of the file. Several processes
+ * loading the same file therefore share this table through the operating system page cache.
+ *
+ * <p>
+ * The file does not contain the vertices and edges of the original graph. Instead they are
+ * identified by their position in the iteration order of {@link Graph#vertexSet()} and
+ * {@link Graph#edgeSet()}. Therefore a file can only be loaded for a graph which contains the same
+ * vertices and edges, iterated in the same order, as the graph for which it was written. This is
+ * the case when the graph is built the same way, for instance by the same importer from the same
+ * input. Loading checks that the number of vertices and edges and the endpoints of every
+ * referenced edge match, and fails with an {@link IllegalArgumentException} otherwise. Counts,
+ * offsets and indices read from the file are checked against the size of the file and against each
+ * other, and a corrupt file is reported with an {@link IOException}.
+ *
+ * <p>
+ * All numbers are stored in little-endian byte order. The contraction hierarchy is stored as the
+ * contraction level and the id of every vertex, followed by two compressed sparse row (CSR)
+ * sections: one for the upward and one for the downward edges of the hierarchy. An edge of each
+ * section consists of its target, weight, original edge (or $-1$ for shortcuts), the pair of edges
+ * it bypasses (or $-1$) and the number of original edges it represents. Bypassed edges are
+ * referenced by their index, where upward edges come before downward edges. This table is enough
+ * to unpack any shortcut into a path of the original graph.
+ *
+ * <p>
+ * A transit node routing file additionally stores the transit vertices, the table of distances
+ * between them, the Voronoi diagram, the forward and backward access vertices with their
+ * distances and the locality filter. The access vertices and the locality filter are stored as CSR
+ * sections, each preceded by its number of entries. The paths between transit vertices and to
+ * access vertices are not stored. They are computed with the contraction hierarchy the first time
+ * they are needed, so the distances of all queries are available right after loading.
+ */
+public final class ContractionHierarchyIO
+{
+    private static final int MAGIC = 0x4843474A; // "JGCH" in little-endian
+    private static final int VERSION = 2;
+    private static final int KIND_CONTRACTION_HIERARCHY = 1;
+    private static final int KIND_TRANSIT_NODE_ROUTING = 2;
+    private static final int HEADER_INTS = 8;
+    private static final int NO_EDGE = -1;
+    private static final int NO_VORONOI_CELL = -1;
+
+    /**
+     * The table of distances between transit vertices is mapped as a single buffer.
+     */
+    private static final long MAX_TRANSIT_DISTANCES = Integer.MAX_VALUE / Double.BYTES;
+
+    private ContractionHierarchyIO()
+    {
+    }
+
+    /**
+     * Write a contraction hierarchy to a file. An existing file is overwritten.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void writeContractionHierarchy(
+        ContractionHierarchy<V, E> hierarchy, Path file)
+        throws IOException
+    {
+        Objects.requireNonNull(hierarchy, "Hierarchy cannot be null");
+        try (Output out = new Output(file)) {
+            new HierarchyWriter<>(hierarchy).write(out, KIND_CONTRACTION_HIERARCHY);
+        }
+    }
+
+    /**
+     * Read a contraction hierarchy from a file written by
+     * {@link #writeContractionHierarchy(ContractionHierarchy, Path)}.
+     *
+     * @param graph the graph for which the hierarchy was computed
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the contraction hierarchy
+     * @throws IOException in case of an I/O error or if the file is not a contraction hierarchy
+     * @throws IllegalArgumentException if the file does not match the graph
+     */
+    public static <V, E> ContractionHierarchy<V, E> readContractionHierarchy(
+        Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        try (Input in = new Input(file)) {
+            return new HierarchyReader<>(graph).read(in, KIND_CONTRACTION_HIERARCHY);
+        }
+    }
+
+    /**
+     * Write the transit node routing of an algorithm to a file. If the algorithm has not performed
+     * its precomputation yet, it is performed first. An existing file is overwritten.
+     *
+     * @param algorithm the transit node routing algorithm
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void writeTransitNodeRouting(
+        TransitNodeRoutingShortestPath<V, E> algorithm, Path file)
+        throws IOException
+    {
+        Objects.requireNonNull(algorithm, "Algorithm cannot be null");
+        algorithm.performPrecomputation();
+        TransitNodeRouting<V, E> routing = algorithm.getTransitNodeRouting();
+
+        HierarchyWriter<V, E> writer = new HierarchyWriter<>(routing.getContractionHierarchy());
+        try (Output out = new Output(file)) {
+            writer.write(out, KIND_TRANSIT_NODE_ROUTING);
+            writer.writeTransitNodeRouting(out, routing);
+        }
+    }
+
+    /**
+     * Read a transit node routing from a file written by
+     * {@link #writeTransitNodeRouting(TransitNodeRoutingShortestPath, Path)} and create an
+     * algorithm which uses it.
+     *
+     * @param graph the graph for which the transit node routing was computed
+     * @param file the file
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return a transit node routing algorithm which requires no further precomputation
+     * @throws IOException in case of an I/O error or if the file is not a transit node routing
+     * @throws IllegalArgumentException if the file does not match the graph
+     */
+    public static <V, E> TransitNodeRoutingShortestPath<V, E> readTransitNodeRouting(
+        Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        try (Input in = new Input(file)) {
+            HierarchyReader<V, E> reader = new HierarchyReader<>(graph);
+            reader.read(in, KIND_TRANSIT_NODE_ROUTING);
+            return new TransitNodeRoutingShortestPath<>(reader.readTransitNodeRouting(in));
+        }
+    }
+
+    /**
+     * Serializes a contraction hierarchy and the data of a transit node routing which refers to
+     * it.
+     */
+    private static class HierarchyWriter<V, E>
+    {
+        private final ContractionHierarchy<V, E> hierarchy;
+        private final Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph;
+        private final Map<V, Integer> vertexIndex;
+        private final List<ContractionVertex<V>> byVertexId;
+
+        HierarchyWriter(ContractionHierarchy<V, E> hierarchy)
+        {
+            this.hierarchy = hierarchy;
+            this.contractionGraph = hierarchy.getContractionGraph();
+            Graph<V, E> graph = hierarchy.getGraph();
+            this.vertexIndex = new HashMap<>();
+            this.byVertexId =
+                new ArrayList<>(Collections.nCopies(graph.vertexSet().size(), null));
+            for (V v : graph.vertexSet()) {
+                ContractionVertex<V> cv = hierarchy.getContractionMapping().get(v);
+                vertexIndex.put(v, vertexIndex.size());
+                byVertexId.set(cv.vertexId, cv);
+            }
+        }
+
+        void write(Output out, int kind)
+            throws IOException
+        {
+            Graph<V, E> graph = hierarchy.getGraph();
+            int n = graph.vertexSet().size();
+
+            Map<E, Integer> edgeIndex = new HashMap<>();
+            for (E e : graph.edgeSet()) {
+                edgeIndex.put(e, edgeIndex.size());
+            }
+
+            // number the upward edges before the downward edges, grouped by source
+            Map<ContractionEdge<E>, Integer> contractionEdgeIndex = new IdentityHashMap<>();
+            List<ContractionEdge<E>> upward = new ArrayList<>();
+            List<ContractionEdge<E>> downward = new ArrayList<>();
+            int[] upwardOffsets = new int[n + 1];
+            int[] downwardOffsets = new int[n + 1];
+            int i = 0;
+            for (V v : graph.vertexSet()) {
+                ContractionVertex<V> cv = hierarchy.getContractionMapping().get(v);
+                upwardOffsets[i] = upward.size();
+                downwardOffsets[i] = downward.size();
+                for (ContractionEdge<E> e : contractionGraph.outgoingEdgesOf(cv)) {
+                    (e.isUpward ? upward : downward).add(e);
+                }
+                ++i;
+            }
+            upwardOffsets[n] = upward.size();
+            downwardOffsets[n] = downward.size();
+            for (ContractionEdge<E> e : upward) {
+                contractionEdgeIndex.put(e, contractionEdgeIndex.size());
+            }
+            for (ContractionEdge<E> e : downward) {
+                contractionEdgeIndex.put(e, contractionEdgeIndex.size());
+            }
+
+            out.writeInts(
+                new int[] { MAGIC, VERSION, kind, n, graph.edgeSet().size(), upward.size(),
+                    downward.size(), 0 });
+
+            int[] levels = new int[n];
+            int[] ids = new int[n];
+            i = 0;
+            for (V v : graph.vertexSet()) {
+                ContractionVertex<V> cv = hierarchy.getContractionMapping().get(v);
+                levels[i] = cv.contractionLevel;
+                ids[i] = cv.vertexId;
+                ++i;
+            }
+            out.writeInts(levels);
+            out.writeInts(ids);
+
+            writeEdges(out, upwardOffsets, upward, edgeIndex, contractionEdgeIndex);
+            writeEdges(out, downwardOffsets, downward, edgeIndex, contractionEdgeIndex);
+        }
+
+        private void writeEdges(
+            Output out, int[] offsets, List<ContractionEdge<E>> edges, Map<E, Integer> edgeIndex,
+            Map<ContractionEdge<E>, Integer> contractionEdgeIndex)
+            throws IOException
+        {
+            int size = edges.size();
+            int[] targets = new int[size];
+            double[] weights = new double[size];
+            int[] originalEdge = new int[size];
+            int[] bypassFirst = new int[size];
+            int[] bypassSecond = new int[size];
+            int[] originalEdges = new int[size];
+            for (int i = 0; i < size; ++i) {
+                ContractionEdge<E> e = edges.get(i);
+                targets[i] = vertexIndex.get(contractionGraph.getEdgeTarget(e).vertex);
+                weights[i] = contractionGraph.getEdgeWeight(e);
+                originalEdge[i] = e.edge == null ? NO_EDGE : edgeIndex.get(e.edge);
+                if (e.bypassedEdges == null) {
+                    bypassFirst[i] = NO_EDGE;
+                    bypassSecond[i] = NO_EDGE;
+                } else {
+                    bypassFirst[i] = contractionEdgeIndex.get(e.bypassedEdges.getFirst());
+                    bypassSecond[i] = contractionEdgeIndex.get(e.bypassedEdges.getSecond());
+                }
+                originalEdges[i] = e.originalEdges;
+            }
+            out.writeInts(offsets);
+            out.writeInts(targets);
+            out.writeDoubles(weights);
+            out.writeInts(originalEdge);
+            out.writeInts(bypassFirst);
+            out.writeInts(bypassSecond);
+            out.writeInts(originalEdges);
+        }
+
+        void writeTransitNodeRouting(Output out, TransitNodeRouting<V, E> routing)
+            throws IOException
+        {
+            int n = byVertexId.size();
+
+            List<V> transitVertices = new ArrayList<>();
+            for (ContractionVertex<V> cv : routing.getTransitVertices()) {
+                transitVertices.add(cv.vertex);
+            }
+            int k = transitVertices.size();
+            Map<V, Integer> transitIndex = new HashMap<>();
+            int[] transitVertexIndices = new int[k];
+            for (int i = 0; i < k; ++i) {
+                transitIndex.put(transitVertices.get(i), i);
+                transitVertexIndices[i] = vertexIndex.get(transitVertices.get(i));
+            }
+
+            if ((long) k * k > MAX_TRANSIT_DISTANCES) {
+                throw new IllegalArgumentException("Too many transit vertices: " + k);
+            }
+            out.writeInt(k);
+            out.writeInts(transitVertexIndices);
+
+            ManyToManyShortestPaths<V, E> paths = routing.getTransitVerticesPaths();
+            double[] row = new double[k];
+            for (int i = 0; i < k; ++i) {
+                for (int j = 0; j < k; ++j) {
+                    row[j] = paths.getWeight(transitVertices.get(i), transitVertices.get(j));
+                }
+                out.writeDoubles(row);
+            }
+
+            int[] voronoiCells = new int[n];
+            for (int id = 0; id < n; ++id) {
+                voronoiCells[id] =
+                    routing.getVoronoiDiagram().getVoronoiCellId(byVertexId.get(id));
+            }
+            out.writeInts(voronoiCells);
+
+            AccessVertices<V, E> accessVertices = routing.getAccessVertices();
+            List<List<AccessVertex<V, E>>> forward = new ArrayList<>(n);
+            List<List<AccessVertex<V, E>>> backward = new ArrayList<>(n);
+            for (int id = 0; id < n; ++id) {
+                forward.add(accessVertices.getForwardAccessVertices(byVertexId.get(id)));
+                backward.add(accessVertices.getBackwardAccessVertices(byVertexId.get(id)));
+            }
+            writeAccessVertices(out, forward, transitIndex);
+            writeAccessVertices(out, backward, transitIndex);
+
+            LocalityFilter<V> filter = routing.getLocalityFilter();
+            writeVoronoiCellSets(out, filter.getVisitedForwardVoronoiCells());
+            writeVoronoiCellSets(out, filter.getVisitedBackwardVoronoiCells());
+        }
+
+        private void writeAccessVertices(
+            Output out, List<List<AccessVertex<V, E>>> accessVertices,
+            Map<V, Integer> transitIndex)
+            throws IOException
+        {
+            int n = accessVertices.size();
+            int[] offsets = new int[n + 1];
+            for (int id = 0; id < n; ++id) {
+                offsets[id + 1] = offsets[id] + accessVertices.get(id).size();
+            }
+            int[] transit = new int[offsets[n]];
+            double[] weights = new double[offsets[n]];
+            int pos = 0;
+            for (List<AccessVertex<V, E>> list : accessVertices) {
+                for (AccessVertex<V, E> av : list) {
+                    transit[pos] = transitIndex.get(av.getVertex());
+                    weights[pos] = av.getPath().getWeight();
+                    ++pos;
+                }
+            }
+            out.writeInt(offsets[n]);
+            out.writeInts(offsets);
+            out.writeInts(transit);
+            out.writeDoubles(weights);
+        }
+
+        private void writeVoronoiCellSets(Output out, List<Set<Integer>> sets)
+            throws IOException
+        {
+            int n = sets.size();
+            int[] offsets = new int[n + 1];
+            for (int id = 0; id < n; ++id) {
+                offsets[id + 1] = offsets[id] + sets.get(id).size();
+            }
+            int[] cells = new int[offsets[n]];
+            int pos = 0;
+            for (Set<Integer> set : sets) {
+                for (Integer cell : set) {
+                    cells[pos++] = cell;
+                }
+            }
+            out.writeInt(offsets[n]);
+            out.writeInts(offsets);
+            out.writeInts(cells);
+        }
+    }
+
+    /**
+     * Rebuilds a contraction hierarchy and the data of a transit node routing which refers to it.
+     */
+    private static class HierarchyReader<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final List<V> vertices;
+        private ContractionHierarchy<V, E> hierarchy;
+        private List<ContractionVertex<V>> byVertexId;
+
+        HierarchyReader(Graph<V, E> graph)
+        {
+            this.graph = graph;
+            this.vertices = new ArrayList<>(graph.vertexSet());
+        }
+
+        ContractionHierarchy<V, E> read(Input in, int kind)
+            throws IOException
+        {
+            int[] header = in.readInts(HEADER_INTS);
+            if (header[0] != MAGIC) {
+                throw new IOException("Not a contraction hierarchy file");
+            }
+            if (header[1] != VERSION) {
+                throw new IOException("Unsupported file version " + header[1]);
+            }
+            if (header[2] != kind) {
+                throw new IOException(
+                    kind == KIND_CONTRACTION_HIERARCHY ? "Not a contraction hierarchy file"
+                        : "Not a transit node routing file");
+            }
+            int n = header[3];
+            int m = header[4];
+            int upwardSize = header[5];
+            int downwardSize = header[6];
+
+            if (n != graph.vertexSet().size() || m != graph.edgeSet().size()) {
+                throw new IllegalArgumentException("File does not match the graph");
+            }
+            if (upwardSize < 0 || downwardSize < 0) {
+                throw new IOException("Invalid edge counts");
+            }
+            long bytes = 2L * n * Integer.BYTES + sectionBytes(n, upwardSize)
+                + sectionBytes(n, downwardSize);
+            if (kind == KIND_CONTRACTION_HIERARCHY ? bytes != in.remaining()
+                : bytes > in.remaining())
+            {
+                throw new IOException("File size does not match its header");
+            }
+            List<E> edges = new ArrayList<>(graph.edgeSet());
+
+            int[] levels = in.readInts(n);
+            int[] ids = in.readInts(n);
+
+            Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+                GraphTypeBuilder.<ContractionVertex<V>, ContractionEdge<E>> directed()
+                    .weighted(true).allowingMultipleEdges(false).allowingSelfLoops(false)
+                    .buildGraph();
+            Map<V, ContractionVertex<V>> contractionMapping = new HashMap<>();
+            List<ContractionVertex<V>> contractionVertices = new ArrayList<>(n);
+            byVertexId = new ArrayList<>(Collections.nCopies(n, null));
+            for (int i = 0; i < n; ++i) {
+                V v = vertices.get(i);
+                ContractionVertex<V> cv = new ContractionVertex<>(v, ids[i]);
+                cv.contractionLevel = levels[i];
+                contractionGraph.addVertex(cv);
+                contractionMapping.put(v, cv);
+                contractionVertices.add(cv);
+                if (ids[i] < 0 || ids[i] >= n || byVertexId.get(ids[i]) != null) {
+                    throw new IOException("Invalid vertex id " + ids[i]);
+                }
+                byVertexId.set(ids[i], cv);
+            }
+
+            int totalSize = upwardSize + downwardSize;
+            List<ContractionEdge<E>> contractionEdges = new ArrayList<>(totalSize);
+            int[][] upwardBypass = readEdges(
+                in, n, upwardSize, totalSize, true, edges, contractionVertices, contractionGraph,
+                contractionEdges);
+            int[][] downwardBypass = readEdges(
+                in, n, downwardSize, totalSize, false, edges, contractionVertices,
+                contractionGraph, contractionEdges);
+
+            // link shortcuts to the edges they bypass
+            linkBypassedEdges(contractionEdges, 0, upwardBypass);
+            linkBypassedEdges(contractionEdges, upwardSize, downwardBypass);
+
+            hierarchy = new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+            return hierarchy;
+        }
+
+        private static long sectionBytes(int n, int size)
+        {
+            return (n + 1L) * Integer.BYTES + size * (5L * Integer.BYTES + Double.BYTES);
+        }
+
+        private int[][] readEdges(
+            Input in, int n, int size, int totalSize, boolean upward, List<E> edges,
+            List<ContractionVertex<V>> contractionVertices,
+            Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph,
+            List<ContractionEdge<E>> contractionEdges)
+            throws IOException
+        {
+            int[] offsets = in.readInts(n + 1);
+            int[] targets = in.readInts(size);
+            double[] weights = in.readDoubles(size);
+            int[] originalEdge = in.readInts(size);
+            int[] bypassFirst = in.readInts(size);
+            int[] bypassSecond = in.readInts(size);
+            int[] originalEdges = in.readInts(size);
+
+            checkOffsets(offsets, size, "edge offsets");
+            checkRange(targets, 0, n, "edge target");
+            checkRange(originalEdge, NO_EDGE, edges.size(), "original edge");
+            checkRange(bypassFirst, NO_EDGE, totalSize, "bypassed edge");
+            checkRange(bypassSecond, NO_EDGE, totalSize, "bypassed edge");
+            for (int i = 0; i < size; ++i) {
+                if ((bypassFirst[i] == NO_EDGE) != (bypassSecond[i] == NO_EDGE)) {
+                    throw new IOException("Invalid bypassed edge pair");
+                }
+            }
+            for (int v = 0; v < n; ++v) {
+                ContractionVertex<V> source = contractionVertices.get(v);
+                for (int i = offsets[v]; i < offsets[v + 1]; ++i) {
+                    ContractionVertex<V> target = contractionVertices.get(targets[i]);
+                    ContractionEdge<E> e = new ContractionEdge<>((E) null);
+                    if (originalEdge[i] != NO_EDGE) {
+                        e.edge = edges.get(originalEdge[i]);
+                        assertEndpoints(e.edge, source.vertex, target.vertex);
+                    }
+                    e.isUpward = upward;
+                    e.originalEdges = originalEdges[i];
+                    if (!contractionGraph.addEdge(source, target, e)) {
+                        throw new IOException("Duplicate edge in contraction hierarchy");
+                    }
+                    contractionGraph.setEdgeWeight(e, weights[i]);
+                    contractionEdges.add(e);
+                }
+            }
+            return new int[][] { bypassFirst, bypassSecond };
+        }
+
+        private void assertEndpoints(E e, V source, V target)
+        {
+            V s = graph.getEdgeSource(e);
+            V t = graph.getEdgeTarget(e);
+            boolean matches = s.equals(source) && t.equals(target)
+                || graph.getType().isUndirected() && s.equals(target) && t.equals(source);
+            if (!matches) {
+                throw new IllegalArgumentException("File does not match the graph");
+            }
+        }
+
+        private void linkBypassedEdges(
+            List<ContractionEdge<E>> contractionEdges, int start, int[][] bypass)
+        {
+            int[] first = bypass[0];
+            int[] second = bypass[1];
+            for (int i = 0; i < first.length; ++i) {
+                if (first[i] != NO_EDGE) {
+                    contractionEdges.get(start + i).bypassedEdges = Pair
+                        .of(contractionEdges.get(first[i]), contractionEdges.get(second[i]));
+                }
+            }
+        }
+
+        TransitNodeRouting<V, E> readTransitNodeRouting(Input in)
+            throws IOException
+        {
+            int n = vertices.size();
+            ShortestPathAlgorithm<V, E> pathAlgorithm =
+                new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+
+            int k = in.readInt();
+            if (k < 0 || k > n || (long) k * k > MAX_TRANSIT_DISTANCES) {
+                throw new IOException("Invalid number of transit vertices " + k);
+            }
+            int[] transitVertexIndices = in.readInts(k);
+            checkRange(transitVertexIndices, 0, n, "transit vertex");
+            DoubleBuffer distances = in.mapDoubles(k * k);
+            List<V> transitVertices = new ArrayList<>(k);
+            Set<ContractionVertex<V>> contractedTransitVertices = new HashSet<>();
+            for (int index : transitVertexIndices) {
+                V v = vertices.get(index);
+                transitVertices.add(v);
+                contractedTransitVertices.add(hierarchy.getContractionMapping().get(v));
+            }
+            TransitVerticesPaths<V, E> transitPaths =
+                new TransitVerticesPaths<>(graph, pathAlgorithm, transitVertices, distances);
+
+            int[] voronoiCells = in.readInts(n);
+            checkRange(voronoiCells, NO_VORONOI_CELL, n, "Voronoi cell");
+            VoronoiDiagram<V> voronoiDiagram = new VoronoiDiagram<>(voronoiCells);
+
+            AccessVertices<V, E> accessVertices = new AccessVertices<>(
+                readAccessVertices(in, n, transitVertices, pathAlgorithm, true),
+                readAccessVertices(in, n, transitVertices, pathAlgorithm, false));
+
+            LocalityFilter<V> localityFilter = new LocalityFilter<>(
+                hierarchy.getContractionMapping(), readVoronoiCellSets(in, n),
+                readVoronoiCellSets(in, n));
+
+            return new TransitNodeRouting<>(
+                hierarchy, contractedTransitVertices, transitPaths, voronoiDiagram,
+                accessVertices, localityFilter);
+        }
+
+        private List<List<AccessVertex<V, E>>> readAccessVertices(
+            Input in, int n, List<V> transitVertices, ShortestPathAlgorithm<V, E> pathAlgorithm,
+            boolean forward)
+            throws IOException
+        {
+            int size = in.readInt();
+            int[] offsets = in.readInts(n + 1);
+            checkOffsets(offsets, size, "access vertex offsets");
+            int[] transit = in.readInts(size);
+            checkRange(transit, 0, transitVertices.size(), "access vertex");
+            double[] weights = in.readDoubles(size);
+
+            List<List<AccessVertex<V, E>>> result = new ArrayList<>(n);
+            for (int id = 0; id < n; ++id) {
+                V v = byVertexId.get(id).vertex;
+                List<AccessVertex<V, E>> list = new ArrayList<>(offsets[id + 1] - offsets[id]);
+                for (int i = offsets[id]; i < offsets[id + 1]; ++i) {
+                    V t = transitVertices.get(transit[i]);
+                    GraphPath<V, E> path = forward
+                        ? new LazyGraphPath<>(graph, pathAlgorithm, v, t, weights[i])
+                        : new LazyGraphPath<>(graph, pathAlgorithm, t, v, weights[i]);
+                    list.add(new AccessVertex<>(t, path));
+                }
+                result.add(list);
+            }
+            return result;
+        }
+
+        private List<Set<Integer>> readVoronoiCellSets(Input in, int n)
+            throws IOException
+        {
+            int size = in.readInt();
+            int[] offsets = in.readInts(n + 1);
+            checkOffsets(offsets, size, "Voronoi cell offsets");
+            int[] cells = in.readInts(size);
+            checkRange(cells, NO_VORONOI_CELL, n, "Voronoi cell");
+            List<Set<Integer>> result = new ArrayList<>(n);
+            for (int id = 0; id < n; ++id) {
+                Set<Integer> set = HashSet.newHashSet(offsets[id + 1] - offsets[id]);
+                for (int i = offsets[id]; i < offsets[id + 1]; ++i) {
+                    set.add(cells[i]);
+                }
+                result.add(set);
+            }
+            return result;
+        }
+
+        /**
+         * Check that CSR offsets start at zero, never decrease and end at the given size.
+         */
+        private static void checkOffsets(int[] offsets, int size, String what)
+            throws IOException
+        {
+            if (offsets[0] != 0 || size < 0 || offsets[offsets.length - 1] != size) {
+                throw new IOException("Invalid " + what);
+            }
+            for (int i = 1; i < offsets.length; ++i) {
+                if (offsets[i] < offsets[i - 1]) {
+                    throw new IOException("Invalid " + what);
+                }
+            }
+        }
+
+        /**
+         * Check that all values lie in {@code [min, max)}.
+         */
+        private static void checkRange(int[] values, int min, int max, String what)
+            throws IOException
+        {
+            for (int value : values) {
+                if (value < min || value >= max) {
+                    throw new IOException("Invalid " + what + " " + value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Paths between transit vertices backed by a table of distances, which is a view of the
+     * mapped file. The paths themselves are computed when first requested.
+     */
+    private static class TransitVerticesPaths<V, E>
+        implements ManyToManyShortestPaths<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final ShortestPathAlgorithm<V, E> pathAlgorithm;
+        private final Set<V> transitVertices;
+        private final Map<V, Integer> transitIndex;
+        private final DoubleBuffer distances;
+        private final int k;
+
+        TransitVerticesPaths(
+            Graph<V, E> graph, ShortestPathAlgorithm<V, E> pathAlgorithm, List<V> transitVertices,
+            DoubleBuffer distances)
+        {
+            this.graph = graph;
+            this.pathAlgorithm = pathAlgorithm;
+            this.transitVertices = Collections.unmodifiableSet(new HashSet<>(transitVertices));
+            this.transitIndex = HashMap.newHashMap(transitVertices.size());
+            for (V v : transitVertices) {
+                transitIndex.put(v, transitIndex.size());
+            }
+            this.distances = distances;
+            this.k = transitVertices.size();
+        }
+
+        @Override
+        public Set<V> getSources()
+        {
+            return transitVertices;
+        }
+
+        @Override
+        public Set<V> getTargets()
+        {
+            return transitVertices;
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V source, V target)
+        {
+            double weight = getWeight(source, target);
+            if (weight == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+            return new LazyGraphPath<>(graph, pathAlgorithm, source, target, weight);
+        }
+
+        @Override
+        public double getWeight(V source, V target)
+        {
+            Integer i = transitIndex.get(source);
+            if (i == null) {
+                throw new IllegalArgumentException("Source must be a transit vertex");
+            }
+            Integer j = transitIndex.get(target);
+            if (j == null) {
+                throw new IllegalArgumentException("Target must be a transit vertex");
+            }
+            return distances.get(i * k + j);
+        }
+    }
+
+    /**
+     * A path of known weight whose vertices and edges are computed when first requested.
+     */
+    private static class LazyGraphPath<V, E>
+        implements GraphPath<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final ShortestPathAlgorithm<V, E> pathAlgorithm;
+        private final V source;
+        private final V sink;
+        private final double weight;
+        private volatile GraphPath<V, E> path;
+
+        LazyGraphPath(
+            Graph<V, E> graph, ShortestPathAlgorithm<V, E> pathAlgorithm, V source, V sink,
+            double weight)
+        {
+            this.graph = graph;
+            this.pathAlgorithm = pathAlgorithm;
+            this.source = source;
+            this.sink = sink;
+            this.weight = weight;
+        }
+
+        private GraphPath<V, E> resolve()
+        {
+            GraphPath<V, E> result = path;
+            if (result == null) {
+                result = pathAlgorithm.getPath(source, sink);
+                path = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getStartVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public V getEndVertex()
+        {
+            return sink;
+        }
+
+        @Override
+        public List<E> getEdgeList()
+        {
+            return resolve().getEdgeList();
+        }
+
+        @Override
+        public List<V> getVertexList()
+        {
+            return resolve().getVertexList();
+        }
+
+        @Override
+        public double getWeight()
+        {
+            return weight;
+        }
+
+        @Override
+        public int getLength()
+        {
+            return resolve().getLength();
+        }
+    }
+
+    /**
+     * Buffered little-endian output to a file channel.
+     */
+    private static class Output
+        implements AutoCloseable
+    {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        Output(Path file)
+            throws IOException
+        {
+            this.channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void writeInt(int value)
+            throws IOException
+        {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeInts(int[] values)
+            throws IOException
+        {
+            int pos = 0;
+            while (pos < values.length) {
+                ensureRemaining(Integer.BYTES);
+                int count = Math.min(values.length - pos, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().put(values, pos, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                pos += count;
+            }
+        }
+
+        void writeDoubles(double[] values)
+            throws IOException
+        {
+            int pos = 0;
+            while (pos < values.length) {
+                ensureRemaining(Double.BYTES);
+                int count = Math.min(values.length - pos, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().put(values, pos, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                pos += count;
+            }
+        }
+
+        private void ensureRemaining(int bytes)
+            throws IOException
+        {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush()
+            throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Little-endian input from read-only memory mappings of a file. Each array is mapped
+     * separately, so files larger than 2GB are supported. Arrays which are rebuilt into objects are
+     * copied to the heap, while {@link #mapDoubles(int)} returns a view which stays valid after the
+     * file is closed.
+     */
+    private static class Input
+        implements AutoCloseable
+    {
+        private final FileChannel channel;
+        private final long size;
+        private long position;
+
+        Input(Path file)
+            throws IOException
+        {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.size = channel.size();
+            this.position = 0;
+        }
+
+        long remaining()
+        {
+            return size - position;
+        }
+
+        private ByteBuffer map(int length, int elementBytes)
+            throws IOException
+        {
+            long bytes = (long) length * elementBytes;
+            if (length < 0 || bytes > size - position) {
+                throw new IOException("Unexpected end of file");
+            }
+            if (bytes > Integer.MAX_VALUE) {
+                throw new IOException("Array too large to be mapped");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, bytes);
+            position += bytes;
+            return buffer.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        int readInt()
+            throws IOException
+        {
+            return readInts(1)[0];
+        }
+
+        int[] readInts(int length)
+            throws IOException
+        {
+            ByteBuffer buffer = map(length, Integer.BYTES);
+            int[] result = new int[length];
+            buffer.asIntBuffer().get(result);
+            return result;
+        }
+
+        double[] readDoubles(int length)
+            throws IOException
+        {
+            ByteBuffer buffer = map(length, Double.BYTES);
+            double[] result = new double[length];
+            buffer.asDoubleBuffer().get(result);
+            return result;
+        }
+
+        DoubleBuffer mapDoubles(int length)
+            throws IOException
+        {
+            return map(length, Double.BYTES).asDoubleBuffer();
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            channel.close();
+        }
+    }
+}
@@ -40,6 +40,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -85,6 +86,14 @@ import java.util.function.Supplier;
  * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
  * supplied to this algorithm from outside.
  *
+ * <p>
+ * The witness searches, which decide whether a shortcut is needed, can be limited by the number of
+ * hops and the number of settled vertices. A limited search may fail to find a witness path and
+ * then an unnecessary shortcut is added. This never affects the correctness of the hierarchy, but
+ * trades faster preprocessing for more shortcuts and therefore slower queries. By default the
+ * searches are unlimited. For tuning the limits, statistics of each contraction round are available
+ * via {@link #getRoundStatistics()} after the hierarchy is computed.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -137,6 +146,27 @@ public class ContractionHierarchyPrecomputation<V, E>
      */
     private Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier;
 
+    /**
+     * Maximum number of edges on the paths explored by a witness search.
+     */
+    private int witnessSearchHopLimit;
+    /**
+     * Maximum number of vertices settled by a witness search.
+     */
+    private int witnessSearchSettledLimit;
+    /**
+     * Number of witness searches performed in the current round.
+     */
+    private LongAdder witnessSearches;
+    /**
+     * Number of vertices settled by witness searches in the current round.
+     */
+    private LongAdder witnessSearchSettledVertices;
+    /**
+     * Statistics of the performed contraction rounds.
+     */
+    private List<ContractionRoundStatistics> roundStatistics;
+
     /**
      * Decorator for {@link ThreadPoolExecutor} supplied to this algorithm that enables to keep
      * track of when all submitted tasks are finished.
@@ -224,6 +254,41 @@ public class ContractionHierarchyPrecomputation<V, E>
         Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier,
         ThreadPoolExecutor executor)
     {
+        this(
+            graph, randomSupplier, shortcutsSearchHeapSupplier, executor, Integer.MAX_VALUE,
+            Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given {@code graph},
+     * {@code randomSupplier}, {@code shortcutsSearchHeapSupplier}, {@code executor} and limits on
+     * the witness searches. Provided {@code randomSupplier} should return different random
+     * generators instances, because they are used by different threads. It is up to a user of this
+     * algorithm to handle the creation and termination of the provided {@code executor}. For
+     * utility methods to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param randomSupplier supplier for preferable instances of {@link Random}
+     * @param shortcutsSearchHeapSupplier supplier for the preferable heap implementation.
+     * @param executor executor which will be used for parallelization
+     * @param witnessSearchHopLimit maximum number of edges on the paths explored by a witness
+     *        search, or {@link Integer#MAX_VALUE} for no limit
+     * @param witnessSearchSettledLimit maximum number of vertices settled by a witness search, or
+     *        {@link Integer#MAX_VALUE} for no limit
+     */
+    public ContractionHierarchyPrecomputation(
+        Graph<V, E> graph, Supplier<Random> randomSupplier,
+        Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier,
+        ThreadPoolExecutor executor, int witnessSearchHopLimit, int witnessSearchSettledLimit)
+    {
+        if (witnessSearchHopLimit < 1) {
+            throw new IllegalArgumentException("Witness search hop limit must be positive");
+        }
+        if (witnessSearchSettledLimit < 1) {
+            throw new IllegalArgumentException("Witness search settled limit must be positive");
+        }
+        this.witnessSearchHopLimit = witnessSearchHopLimit;
+        this.witnessSearchSettledLimit = witnessSearchSettledLimit;
         init(graph, randomSupplier, shortcutsSearchHeapSupplier, executor);
     }
 
@@ -253,6 +318,10 @@ public class ContractionHierarchyPrecomputation<V, E>
 
         contractionLevelCounter = new AtomicInteger();
 
+        witnessSearches = new LongAdder();
+        witnessSearchSettledVertices = new LongAdder();
+        roundStatistics = new ArrayList<>();
+
         maskedContractionGraph = new MaskSubgraph<>(
             contractionGraph,
             v -> verticesData.get(v.vertexId) != null && verticesData.get(v.vertexId).isContracted,
@@ -306,6 +375,17 @@ public class ContractionHierarchyPrecomputation<V, E>
         return new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
     }
 
+    /**
+     * Returns the statistics of the contraction rounds in the order they were performed. The list
+     * is empty before {@link #computeContractionHierarchy()} is called.
+     *
+     * @return statistics of the contraction rounds
+     */
+    public List<ContractionRoundStatistics> getRoundStatistics()
+    {
+        return Collections.unmodifiableList(roundStatistics);
+    }
+
     /**
      * Fills {@code contractionGraph} and {@code vertices}. If there exist multiple edges between
      * two vertices in the original graph, the shortest is added to the {@code contractionGraph}.
@@ -371,6 +451,10 @@ public class ContractionHierarchyPrecomputation<V, E>
         int independentSetEnd = graph.vertexSet().size();
 
         while (independentSetEnd != 0) {
+            long roundStart = System.nanoTime();
+            witnessSearches.reset();
+            witnessSearchSettledVertices.reset();
+
             // compute independent set in parallel
             submitTasks(0, independentSetEnd, computeIndependentSetConsumer);
 
@@ -378,11 +462,17 @@ public class ContractionHierarchyPrecomputation<V, E>
 
             // compute shortcuts for independent vertices in parallel
             submitTasks(independentSetStart, independentSetEnd, computeShortcutsConsumer);
-            contractIndependentSet(independentSetStart, independentSetEnd);
+            int shortcuts = contractIndependentSet(independentSetStart, independentSetEnd);
             // update neighbours priorities in parallel
             submitTasks(independentSetStart, independentSetEnd, updateNeighboursConsumer);
             markContracted(independentSetStart, independentSetEnd);
 
+            roundStatistics.add(
+                new ContractionRoundStatistics(
+                    roundStatistics.size(), independentSetEnd - independentSetStart,
+                    independentSetStart, shortcuts, witnessSearches.sum(),
+                    witnessSearchSettledVertices.sum(), System.nanoTime() - roundStart));
+
             independentSetEnd = independentSetStart;
         }
     }
@@ -497,23 +587,31 @@ public class ContractionHierarchyPrecomputation<V, E>
      *
      * @param independentSetStart first vertex in the independent set
      * @param independentSetEnd position after the last vertex in the independent set
+     * @return number of added shortcuts
      */
-    private void contractIndependentSet(int independentSetStart, int independentSetEnd)
+    private int contractIndependentSet(int independentSetStart, int independentSetEnd)
     {
-        vertices.subList(independentSetStart, independentSetEnd)
-            .forEach(v -> contractVertex(v, contractionLevelCounter.getAndIncrement()));
+        int shortcuts = 0;
+        for (ContractionVertex<V> v : vertices.subList(independentSetStart, independentSetEnd)) {
+            shortcuts += contractVertex(v, contractionLevelCounter.getAndIncrement());
+        }
+        return shortcuts;
     }
 
     /**
      * Contracts provided {@code vertex} and assigns the specified {@code contractionLevel} to it.
+     * An existing edge is replaced by a shortcut only if the shortcut is shorter, which might not
+     * be the case when the witness searches are limited.
      *
      * @param vertex vertex to contract
      * @param contractionLevel vertex contraction level
+     * @return number of shortcuts added to the {@code contractionGraph}
      */
-    private void contractVertex(ContractionVertex<V> vertex, int contractionLevel)
+    private int contractVertex(ContractionVertex<V> vertex, int contractionLevel)
     {
         List<Pair<ContractionEdge<E>, ContractionEdge<E>>> shortcuts =
             this.shortcutEdges.get(vertex.vertexId);
+        int added = 0;
 
         // add shortcuts
         for (Pair<ContractionEdge<E>, ContractionEdge<E>> shortcut : shortcuts) {
@@ -526,13 +624,16 @@ public class ContractionHierarchyPrecomputation<V, E>
             double shortcutWeight = maskedContractionGraph.getEdgeWeight(shortcut.getFirst())
                 + maskedContractionGraph.getEdgeWeight(shortcut.getSecond());
 
-            boolean added = contractionGraph.addEdge(shortcutSource, shortcutTarget, shortcutEdge);
-
-            if (added) {
+            if (contractionGraph.addEdge(shortcutSource, shortcutTarget, shortcutEdge)) {
                 contractionGraph.setEdgeWeight(shortcutEdge, shortcutWeight);
+                ++added;
             } else { // update weight of already existing edge
                 ContractionEdge<E> originalEdge =
                     contractionGraph.getEdge(shortcutSource, shortcutTarget);
+                if (contractionGraph.getEdgeWeight(originalEdge) <= shortcutWeight) {
+                    continue;
+                }
+                ++added;
                 originalEdge.edge = null;
                 originalEdge.bypassedEdges = shortcut;
                 originalEdge.originalEdges =
@@ -542,6 +643,7 @@ public class ContractionHierarchyPrecomputation<V, E>
         }
 
         vertex.contractionLevel = contractionLevel;
+        return added;
     }
 
     /**
@@ -706,7 +808,8 @@ public class ContractionHierarchyPrecomputation<V, E>
      * Performs Dijkstra search in the {@code graph} starting at vertex {@code source} ignoring
      * vertex {@code vertexToIgnore}. The search is limited by {@code radius}. The search is
      * proceeded until all vertices in {@code successors} are reached or there is no vertex left to
-     * traverse.
+     * traverse. The search is additionally limited by {@code witnessSearchHopLimit} and
+     * {@code witnessSearchSettledLimit}.
      *
      * @param graph graph to traverse
      * @param source search start vertex
@@ -723,10 +826,14 @@ public class ContractionHierarchyPrecomputation<V, E>
         Map<ContractionVertex<V>, AddressableHeap.Handle<Double, ContractionVertex<V>>> distanceMap =
             new HashMap<>();
 
-        updateDistance(source, 0.0, heap, distanceMap);
+        Map<ContractionVertex<V>, Integer> hopsMap =
+            witnessSearchHopLimit == Integer.MAX_VALUE ? null : new HashMap<>();
+
+        updateDistance(source, 0.0, heap, distanceMap, hopsMap, 0);
 
         int numOfSuccessors = successors.size();
         int passedSuccessors = 0;
+        int settled = 0;
 
         while (!heap.isEmpty()) {
             AddressableHeap.Handle<Double, ContractionVertex<V>> min = heap.deleteMin();
@@ -736,6 +843,7 @@ public class ContractionHierarchyPrecomputation<V, E>
             if (distance > radius) {
                 break;
             }
+            ++settled;
 
             if (successors.contains(vertex)) {
                 ++passedSuccessors;
@@ -744,8 +852,19 @@ public class ContractionHierarchyPrecomputation<V, E>
                 }
             }
 
-            relaxNode(graph, heap, distanceMap, vertex, distance, vertexToIgnore);
+            if (settled >= witnessSearchSettledLimit) {
+                break;
+            }
+
+            int hops = hopsMap == null ? 0 : hopsMap.get(vertex);
+            if (hops < witnessSearchHopLimit) {
+                relaxNode(
+                    graph, heap, distanceMap, hopsMap, vertex, distance, hops, vertexToIgnore);
+            }
         }
+
+        witnessSearches.increment();
+        witnessSearchSettledVertices.add(settled);
         return distanceMap;
     }
 
@@ -756,15 +875,18 @@ public class ContractionHierarchyPrecomputation<V, E>
      * @param graph graph
      * @param heap search priority queue
      * @param distanceMap vertex distances
+     * @param hopsMap number of hops of the vertex paths, or null if hops are not limited
      * @param vertex vertex to relax
      * @param vertexDistance update distance for {@code vertex}
+     * @param vertexHops number of hops of the path to {@code vertex}
      * @param vertexToIgnore vertex to ignore
      */
     private void relaxNode(
         Graph<ContractionVertex<V>, ContractionEdge<E>> graph,
         AddressableHeap<Double, ContractionVertex<V>> heap,
         Map<ContractionVertex<V>, AddressableHeap.Handle<Double, ContractionVertex<V>>> distanceMap,
-        ContractionVertex<V> vertex, double vertexDistance, ContractionVertex<V> vertexToIgnore)
+        Map<ContractionVertex<V>, Integer> hopsMap, ContractionVertex<V> vertex,
+        double vertexDistance, int vertexHops, ContractionVertex<V> vertexToIgnore)
     {
 
         for (ContractionEdge<E> edge : graph.outgoingEdgesOf(vertex)) {
@@ -785,7 +907,7 @@ public class ContractionHierarchyPrecomputation<V, E>
 
             double updatedDistance = vertexDistance + edgeWeight;
 
-            updateDistance(successor, updatedDistance, heap, distanceMap);
+            updateDistance(successor, updatedDistance, heap, distanceMap, hopsMap, vertexHops + 1);
         }
     }
 
@@ -796,11 +918,14 @@ public class ContractionHierarchyPrecomputation<V, E>
      * @param distance updated distance
      * @param heap search priority queue
      * @param distanceMap vertex distances
+     * @param hopsMap number of hops of the vertex paths, or null if hops are not limited
+     * @param hops number of hops of the updated path
      */
     private void updateDistance(
         ContractionVertex<V> vertex, double distance,
         AddressableHeap<Double, ContractionVertex<V>> heap,
-        Map<ContractionVertex<V>, AddressableHeap.Handle<Double, ContractionVertex<V>>> distanceMap)
+        Map<ContractionVertex<V>, AddressableHeap.Handle<Double, ContractionVertex<V>>> distanceMap,
+        Map<ContractionVertex<V>, Integer> hopsMap, int hops)
     {
         AddressableHeap.Handle<Double, ContractionVertex<V>> node = distanceMap.get(vertex);
         if (node == null) {
@@ -808,6 +933,11 @@ public class ContractionHierarchyPrecomputation<V, E>
             distanceMap.put(vertex, node);
         } else if (distance < node.getKey()) {
             node.decreaseKey(distance);
+        } else {
+            return;
+        }
+        if (hopsMap != null) {
+            hopsMap.put(vertex, hops);
         }
     }
 
@@ -994,6 +1124,149 @@ public class ContractionHierarchyPrecomputation<V, E>
 
     }
 
+    /**
+     * Statistics of a single contraction round. In each round an independent set of vertices is
+     * contracted in parallel.
+     */
+    public static class ContractionRoundStatistics
+    {
+        /**
+         * Index of the round.
+         */
+        private final int round;
+        /**
+         * Number of vertices contracted in the round.
+         */
+        private final int contractedVertices;
+        /**
+         * Number of vertices which remain to be contracted after the round.
+         */
+        private final int remainingVertices;
+        /**
+         * Number of shortcuts added in the round.
+         */
+        private final int shortcuts;
+        /**
+         * Number of witness searches performed in the round.
+         */
+        private final long witnessSearches;
+        /**
+         * Number of vertices settled by the witness searches of the round.
+         */
+        private final long witnessSearchSettledVertices;
+        /**
+         * Duration of the round in nanoseconds.
+         */
+        private final long elapsedNanos;
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param round index of the round
+         * @param contractedVertices number of contracted vertices
+         * @param remainingVertices number of vertices remaining to be contracted
+         * @param shortcuts number of added shortcuts
+         * @param witnessSearches number of witness searches
+         * @param witnessSearchSettledVertices number of vertices settled by the witness searches
+         * @param elapsedNanos duration of the round in nanoseconds
+         */
+        ContractionRoundStatistics(
+            int round, int contractedVertices, int remainingVertices, int shortcuts,
+            long witnessSearches, long witnessSearchSettledVertices, long elapsedNanos)
+        {
+            this.round = round;
+            this.contractedVertices = contractedVertices;
+            this.remainingVertices = remainingVertices;
+            this.shortcuts = shortcuts;
+            this.witnessSearches = witnessSearches;
+            this.witnessSearchSettledVertices = witnessSearchSettledVertices;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the index of the round, starting from zero.
+         *
+         * @return index of the round
+         */
+        public int getRound()
+        {
+            return round;
+        }
+
+        /**
+         * Returns the number of vertices contracted in the round, which is the size of the
+         * independent set.
+         *
+         * @return number of contracted vertices
+         */
+        public int getContractedVertices()
+        {
+            return contractedVertices;
+        }
+
+        /**
+         * Returns the number of vertices which remain to be contracted after the round.
+         *
+         * @return number of remaining vertices
+         */
+        public int getRemainingVertices()
+        {
+            return remainingVertices;
+        }
+
+        /**
+         * Returns the number of shortcuts added in the round. Shortcuts which replace an existing
+         * edge are also counted.
+         *
+         * @return number of shortcuts
+         */
+        public int getShortcuts()
+        {
+            return shortcuts;
+        }
+
+        /**
+         * Returns the number of witness searches performed in the round. This includes the
+         * searches for the shortcuts of the contracted vertices and the simulated contractions used
+         * to update the priorities of their neighbours.
+         *
+         * @return number of witness searches
+         */
+        public long getWitnessSearches()
+        {
+            return witnessSearches;
+        }
+
+        /**
+         * Returns the total number of vertices settled by the witness searches of the round.
+         *
+         * @return number of settled vertices
+         */
+        public long getWitnessSearchSettledVertices()
+        {
+            return witnessSearchSettledVertices;
+        }
+
+        /**
+         * Returns the duration of the round in nanoseconds.
+         *
+         * @return duration of the round
+         */
+        public long getElapsedNanos()
+        {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "round " + round + ": contracted=" + contractedVertices + ", remaining="
+                + remainingVertices + ", shortcuts=" + shortcuts + ", witnessSearches="
+                + witnessSearches + ", settled=" + witnessSearchSettledVertices + ", time="
+                + (elapsedNanos / 1_000_000) + "ms";
+        }
+    }
+
     /**
      * Vertex for building the contraction hierarchy, which contains an original vertex from
      * {@code graph}.
@@ -0,0 +1,133 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Compressed sparse row (CSR) copy of the adjacency of a graph, shared by the algorithms of this
+ * package which run on primitive arrays.
+ *
+ * <p>
+ * The vertices are numbered in the order of a given collection. The arcs of a vertex are its
+ * outgoing edges, or all of its edges if the graph is undirected. Then every edge yields one arc
+ * at each of its endpoints, except for a self-loop which yields a single arc. The arcs of vertex
+ * $v$ are stored at positions {@code offsets[v]} to {@code offsets[v + 1] - 1}, and arc $i$ leads
+ * to vertex {@code targets[i]} along edge {@code arcEdges.get(i)}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+final class CsrAdjacency<V, E>
+{
+    final Map<V, Integer> vertexMap;
+    final List<V> vertices;
+    final int n;
+    final int[] offsets;
+    final int[] targets;
+    final List<E> arcEdges;
+
+    /**
+     * Create the adjacency of a graph, numbering the vertices in the order of its vertex set.
+     *
+     * @param graph the graph
+     */
+    CsrAdjacency(Graph<V, E> graph)
+    {
+        this(graph, graph.vertexSet());
+    }
+
+    /**
+     * Create the adjacency of a graph.
+     *
+     * @param graph the graph
+     * @param vertexOrder the vertices of the graph in the order in which they are numbered
+     */
+    CsrAdjacency(Graph<V, E> graph, Collection<V> vertexOrder)
+    {
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(vertexOrder);
+        this.vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+
+        boolean undirected = graph.getType().isUndirected();
+        this.offsets = new int[n + 1];
+        for (int v = 0; v < n; ++v) {
+            // sized by the edge sets, since Graph#degreeOf counts a self-loop twice
+            offsets[v + 1] = offsets[v] + arcsOf(graph, vertices.get(v), undirected).size();
+        }
+        this.targets = new int[offsets[n]];
+        this.arcEdges = new ArrayList<>(offsets[n]);
+        int pos = 0;
+        for (int v = 0; v < n; ++v) {
+            V vertex = vertices.get(v);
+            for (E e : arcsOf(graph, vertex, undirected)) {
+                targets[pos++] = vertexMap.get(Graphs.getOppositeVertex(graph, e, vertex));
+                arcEdges.add(e);
+            }
+        }
+    }
+
+    private static <V, E> Set<E> arcsOf(Graph<V, E> graph, V vertex, boolean undirected)
+    {
+        return undirected ? graph.edgesOf(vertex) : graph.outgoingEdgesOf(vertex);
+    }
+
+    /**
+     * Get the number of arcs.
+     *
+     * @return the number of arcs
+     */
+    int arcCount()
+    {
+        return offsets[n];
+    }
+
+    /**
+     * Get the weight of every arc.
+     *
+     * @param weight the weight of an edge
+     * @return the weights of the arcs
+     */
+    double[] arcWeights(ToDoubleFunction<E> weight)
+    {
+        double[] weights = new double[arcCount()];
+        for (int i = 0; i < weights.length; ++i) {
+            weights[i] = weight.applyAsDouble(arcEdges.get(i));
+        }
+        return weights;
+    }
+
+    /**
+     * Get the source of every arc.
+     *
+     * @return the sources of the arcs
+     */
+    int[] arcSources()
+    {
+        int[] sources = new int[arcCount()];
+        for (int v = 0; v < n; ++v) {
+            Arrays.fill(sources, offsets[v], offsets[v + 1], v);
+        }
+        return sources;
+    }
+}
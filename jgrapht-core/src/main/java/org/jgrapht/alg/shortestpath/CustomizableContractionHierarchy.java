@@ -0,0 +1,728 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Customizable contraction hierarchy, which supports fast updates of the edge weights.
+ *
+ * <p>
+ * The technique is described in the article: Julian Dibbelt, Ben Strasser, and Dorothea Wagner.
+ * 2016. Customizable Contraction Hierarchies. ACM Journal of Experimental Algorithmics 21, Article
+ * 1.5.
+ *
+ * <p>
+ * In contrast to {@link ContractionHierarchyPrecomputation}, the computation is split into two
+ * phases. The first phase is metric-independent: it orders the vertices and contracts them without
+ * any witness searches, which yields a hierarchy whose shortcuts do not depend on the edge weights.
+ * The second phase, called customization, computes the weights of all edges of the hierarchy from
+ * the current edge weights of the graph. Whenever the weights of the graph change, for instance
+ * because of traffic information, only the customization has to be repeated. The customization
+ * processes the vertices level by level, where all vertices of the same level are handled in
+ * parallel. If only a few edges changed, {@link #customize(Collection)} recomputes only the part of
+ * the hierarchy which is affected by them.
+ *
+ * <p>
+ * The computed {@link ContractionHierarchy} is updated in place by the customization, so instances
+ * of {@link ContractionHierarchyBidirectionalDijkstra} and {@link CHManyToManyShortestPaths} built
+ * on top of it keep working and use the new weights. Queries must not run concurrently with a
+ * customization.
+ *
+ * <p>
+ * The quality of the hierarchy depends on the vertex order. By default the vertices are ordered by
+ * a minimum degree heuristic. For large road networks an order computed by nested dissection
+ * gives considerably fewer shortcuts and can be supplied to the constructor.
+ *
+ * <p>
+ * The structure of the graph (its vertices and edges) must not change after
+ * {@link #computeContractionHierarchy()} is called. Only the edge weights may change.
+ *
+ * <p>
+ * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
+ * supplied to this algorithm from outside.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class CustomizableContractionHierarchy<V, E>
+{
+    /**
+     * Number of vertices of a level below which the level is customized in the calling thread.
+     */
+    private static final int PARALLEL_LEVEL_THRESHOLD = 256;
+
+    private final Graph<V, E> graph;
+    private final List<V> order;
+    private final int parallelLevelThreshold;
+    private final int parallelism;
+    private final ExecutorCompletionService<Void> completionService;
+
+    private List<V> vertices;
+    private Map<V, Integer> vertexIndex;
+    private int[] rank;
+
+    /**
+     * Pairs of vertices connected in the hierarchy. Pair $k$ connects its lower endpoint with the
+     * vertex {@code upTargets[k]}. The upward arc of the pair has id $2k$ and the downward arc has
+     * id $2k+1$.
+     */
+    private int[] upOffsets;
+    private int[] upTargets;
+    /**
+     * For each vertex, the pairs in which it is the higher endpoint.
+     */
+    private int[] downOffsets;
+    private int[] downSources;
+    private int[] downPairs;
+
+    /**
+     * Edges of the original graph which correspond to each arc.
+     */
+    private int[] arcEdgeOffsets;
+    private Object[] arcEdges;
+
+    private double[] arcWeights;
+    private Object[] arcBestEdge;
+    private int[] arcFirst;
+    private int[] arcSecond;
+    private boolean[] arcChanged;
+    private List<ContractionEdge<E>> contractionEdges;
+
+    private int[] levelOffsets;
+    private int[] levelVertices;
+    private boolean[] dirty;
+    private List<CustomizationTask> tasks;
+
+    private Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph;
+    private ContractionHierarchy<V, E> hierarchy;
+
+    /**
+     * Constructs a new instance of the algorithm for a given {@code graph} and {@code executor}
+     * using a minimum degree vertex order. It is up to a user of this algorithm to handle the
+     * creation and termination of the provided {@code executor}. For utility methods to manage a
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param executor executor which will be used for parallelization
+     */
+    public CustomizableContractionHierarchy(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, null, executor);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given {@code graph}, vertex {@code order}
+     * and {@code executor}. Vertices which appear earlier in the order are contracted earlier, that
+     * is they are less important. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code executor}. For utility methods to manage a
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param order the vertex order, or null to use a minimum degree order
+     * @param executor executor which will be used for parallelization
+     */
+    public CustomizableContractionHierarchy(
+        Graph<V, E> graph, List<V> order, ThreadPoolExecutor executor)
+    {
+        this(graph, order, executor, PARALLEL_LEVEL_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm with a given number of vertices of a level below
+     * which the level is customized in the calling thread.
+     *
+     * @param graph graph
+     * @param order the vertex order, or null to use a minimum degree order
+     * @param executor executor which will be used for parallelization
+     * @param parallelLevelThreshold minimum number of vertices of a level customized in parallel
+     */
+    CustomizableContractionHierarchy(
+        Graph<V, E> graph, List<V> order, ThreadPoolExecutor executor, int parallelLevelThreshold)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        if (order != null) {
+            if (order.size() != graph.vertexSet().size()
+                || !new HashSet<>(order).equals(graph.vertexSet()))
+            {
+                throw new IllegalArgumentException(
+                    "Order must contain every vertex of the graph exactly once");
+            }
+        }
+        this.order = order;
+        this.parallelLevelThreshold = parallelLevelThreshold;
+        this.parallelism = executor.getMaximumPoolSize();
+        this.completionService = new ExecutorCompletionService<>(executor);
+    }
+
+    /**
+     * Computes the metric-independent contraction hierarchy and customizes it with the current
+     * edge weights of the graph. Subsequent calls return the same hierarchy without any
+     * computation.
+     *
+     * @return contraction hierarchy
+     */
+    public ContractionHierarchy<V, E> computeContractionHierarchy()
+    {
+        if (hierarchy == null) {
+            computeOrder();
+            buildHierarchy();
+            Arrays.fill(dirty, true);
+            runCustomization();
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Recomputes the weights of all edges of the hierarchy from the current edge weights of the
+     * graph.
+     *
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public void customize()
+    {
+        if (hierarchy == null) {
+            computeContractionHierarchy();
+            return;
+        }
+        Arrays.fill(dirty, true);
+        runCustomization();
+    }
+
+    /**
+     * Recomputes the weights of the edges of the hierarchy after the weights of {@code edges} in
+     * the graph changed. Only the part of the hierarchy which depends on these edges is processed.
+     *
+     * @param edges edges of the graph whose weights changed
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public void customize(Collection<? extends E> edges)
+    {
+        if (hierarchy == null) {
+            computeContractionHierarchy();
+            return;
+        }
+        for (E e : edges) {
+            int s = vertexIndex.get(graph.getEdgeSource(e));
+            int t = vertexIndex.get(graph.getEdgeTarget(e));
+            if (s != t) {
+                dirty[rank[s] < rank[t] ? s : t] = true;
+            }
+        }
+        runCustomization();
+    }
+
+    /**
+     * Computes the rank of every vertex, either from the supplied order or using the minimum
+     * degree heuristic, and the pairs of vertices connected in the hierarchy.
+     */
+    private void computeOrder()
+    {
+        vertices = new ArrayList<>(graph.vertexSet());
+        int n = vertices.size();
+        vertexIndex = HashMap.newHashMap(n);
+        for (V v : vertices) {
+            vertexIndex.put(v, vertexIndex.size());
+        }
+
+        List<Set<Integer>> neighbours = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            neighbours.add(new HashSet<>());
+        }
+        for (E e : graph.edgeSet()) {
+            int s = vertexIndex.get(graph.getEdgeSource(e));
+            int t = vertexIndex.get(graph.getEdgeTarget(e));
+            if (s != t) {
+                neighbours.get(s).add(t);
+                neighbours.get(t).add(s);
+            }
+        }
+
+        rank = new int[n];
+        Arrays.fill(rank, -1);
+        int[][] up = new int[n][];
+
+        PriorityQueue<Long> queue = null;
+        if (order == null) {
+            queue = new PriorityQueue<>(n);
+            for (int v = 0; v < n; ++v) {
+                queue.add(degreeKey(neighbours.get(v).size(), v));
+            }
+        }
+
+        for (int r = 0; r < n; ++r) {
+            int v;
+            if (queue == null) {
+                v = vertexIndex.get(order.get(r));
+            } else {
+                while (true) {
+                    long key = queue.poll();
+                    v = (int) key;
+                    if (rank[v] < 0 && (int) (key >>> 32) == neighbours.get(v).size()) {
+                        break;
+                    }
+                }
+            }
+
+            // eliminate v, its remaining neighbours become a clique
+            rank[v] = r;
+            Set<Integer> vNeighbours = neighbours.get(v);
+            int[] higher = new int[vNeighbours.size()];
+            int i = 0;
+            for (int u : vNeighbours) {
+                higher[i++] = u;
+            }
+            up[v] = higher;
+            for (int u : higher) {
+                Set<Integer> uNeighbours = neighbours.get(u);
+                uNeighbours.remove(v);
+                for (int w : higher) {
+                    if (w != u) {
+                        uNeighbours.add(w);
+                    }
+                }
+                if (queue != null) {
+                    queue.add(degreeKey(uNeighbours.size(), u));
+                }
+            }
+            neighbours.set(v, null);
+        }
+
+        upOffsets = new int[n + 1];
+        for (int v = 0; v < n; ++v) {
+            upOffsets[v + 1] = upOffsets[v] + up[v].length;
+        }
+        int pairs = upOffsets[n];
+        upTargets = new int[pairs];
+        int[] downCount = new int[n + 1];
+        for (int v = 0; v < n; ++v) {
+            System.arraycopy(up[v], 0, upTargets, upOffsets[v], up[v].length);
+            for (int w : up[v]) {
+                ++downCount[w + 1];
+            }
+        }
+        downOffsets = new int[n + 1];
+        for (int v = 0; v < n; ++v) {
+            downOffsets[v + 1] = downOffsets[v] + downCount[v + 1];
+        }
+        downSources = new int[pairs];
+        downPairs = new int[pairs];
+        int[] pos = Arrays.copyOf(downOffsets, n);
+        for (int v = 0; v < n; ++v) {
+            for (int k = upOffsets[v]; k < upOffsets[v + 1]; ++k) {
+                int w = upTargets[k];
+                downSources[pos[w]] = v;
+                downPairs[pos[w]] = k;
+                ++pos[w];
+            }
+        }
+    }
+
+    private static long degreeKey(int degree, int v)
+    {
+        return ((long) degree << 32) | v;
+    }
+
+    /**
+     * Builds the contraction graph, the mapping of the original edges to arcs and the levels of
+     * the customization.
+     */
+    private void buildHierarchy()
+    {
+        int n = vertices.size();
+        int arcs = 2 * upTargets.length;
+
+        contractionGraph =
+            GraphTypeBuilder.<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+                .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = HashMap.newHashMap(n);
+        List<ContractionVertex<V>> contractionVertices = new ArrayList<>(n);
+        for (int v = 0; v < n; ++v) {
+            ContractionVertex<V> cv = new ContractionVertex<>(vertices.get(v), v);
+            cv.contractionLevel = rank[v];
+            contractionGraph.addVertex(cv);
+            contractionMapping.put(cv.vertex, cv);
+            contractionVertices.add(cv);
+        }
+
+        // arcs are created in the order of their ids
+        contractionEdges = new ArrayList<>(arcs);
+        for (int v = 0; v < n; ++v) {
+            for (int k = upOffsets[v]; k < upOffsets[v + 1]; ++k) {
+                ContractionVertex<V> lower = contractionVertices.get(v);
+                ContractionVertex<V> higher = contractionVertices.get(upTargets[k]);
+                ContractionEdge<E> upward = new ContractionEdge<>((E) null);
+                upward.isUpward = true;
+                ContractionEdge<E> downward = new ContractionEdge<>((E) null);
+                downward.isUpward = false;
+                contractionGraph.addEdge(lower, higher, upward);
+                contractionGraph.addEdge(higher, lower, downward);
+                contractionEdges.add(upward);
+                contractionEdges.add(downward);
+            }
+        }
+
+        // map original edges to arcs
+        int[] scratch = new int[n];
+        Arrays.fill(scratch, -1);
+        int[] arcOfEdge = new int[2 * graph.edgeSet().size()];
+        int[] arcEdgeCount = new int[arcs + 1];
+        List<E> edges = new ArrayList<>(graph.edgeSet());
+        boolean undirected = graph.getType().isUndirected();
+        for (int i = 0; i < edges.size(); ++i) {
+            E e = edges.get(i);
+            int s = vertexIndex.get(graph.getEdgeSource(e));
+            int t = vertexIndex.get(graph.getEdgeTarget(e));
+            arcOfEdge[2 * i] = -1;
+            arcOfEdge[2 * i + 1] = -1;
+            if (s == t) {
+                continue;
+            }
+            int k = findPair(s, t);
+            boolean forward = rank[s] < rank[t];
+            arcOfEdge[2 * i] = forward ? 2 * k : 2 * k + 1;
+            ++arcEdgeCount[arcOfEdge[2 * i] + 1];
+            if (undirected) {
+                arcOfEdge[2 * i + 1] = forward ? 2 * k + 1 : 2 * k;
+                ++arcEdgeCount[arcOfEdge[2 * i + 1] + 1];
+            }
+        }
+        arcEdgeOffsets = new int[arcs + 1];
+        for (int a = 0; a < arcs; ++a) {
+            arcEdgeOffsets[a + 1] = arcEdgeOffsets[a] + arcEdgeCount[a + 1];
+        }
+        arcEdges = new Object[arcEdgeOffsets[arcs]];
+        int[] pos = Arrays.copyOf(arcEdgeOffsets, arcs);
+        for (int i = 0; i < edges.size(); ++i) {
+            for (int j = 2 * i; j <= 2 * i + 1; ++j) {
+                if (arcOfEdge[j] >= 0) {
+                    arcEdges[pos[arcOfEdge[j]]++] = edges.get(i);
+                }
+            }
+        }
+
+        arcWeights = new double[arcs];
+        Arrays.fill(arcWeights, Double.NaN);
+        arcBestEdge = new Object[arcs];
+        arcFirst = new int[arcs];
+        arcSecond = new int[arcs];
+        arcChanged = new boolean[arcs];
+
+        // a vertex can be customized once all vertices below it are
+        int[] level = new int[n];
+        int maxLevel = 0;
+        int[] byRank = new int[n];
+        for (int v = 0; v < n; ++v) {
+            byRank[rank[v]] = v;
+        }
+        for (int r = 0; r < n; ++r) {
+            int v = byRank[r];
+            for (int i = downOffsets[v]; i < downOffsets[v + 1]; ++i) {
+                level[v] = Math.max(level[v], level[downSources[i]] + 1);
+            }
+            maxLevel = Math.max(maxLevel, level[v]);
+        }
+        levelOffsets = new int[maxLevel + 2];
+        for (int v = 0; v < n; ++v) {
+            ++levelOffsets[level[v] + 1];
+        }
+        for (int l = 0; l <= maxLevel; ++l) {
+            levelOffsets[l + 1] += levelOffsets[l];
+        }
+        levelVertices = new int[n];
+        int[] levelPos = Arrays.copyOf(levelOffsets, maxLevel + 1);
+        for (int v = 0; v < n; ++v) {
+            levelVertices[levelPos[level[v]]++] = v;
+        }
+
+        dirty = new boolean[n];
+        tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; ++i) {
+            tasks.add(new CustomizationTask(i, n));
+        }
+
+        hierarchy = new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+    }
+
+    /**
+     * Finds the pair which connects vertices {@code s} and {@code t}.
+     */
+    private int findPair(int s, int t)
+    {
+        int lower = rank[s] < rank[t] ? s : t;
+        int higher = lower == s ? t : s;
+        for (int k = upOffsets[lower]; k < upOffsets[lower + 1]; ++k) {
+            if (upTargets[k] == higher) {
+                return k;
+            }
+        }
+        throw new IllegalStateException("Missing pair in the hierarchy");
+    }
+
+    /**
+     * Customizes all dirty vertices level by level and writes the changed arcs to the contraction
+     * graph.
+     */
+    private void runCustomization()
+    {
+        int levels = levelOffsets.length - 1;
+        for (int l = 0; l < levels; ++l) {
+            int start = levelOffsets[l];
+            int end = levelOffsets[l + 1];
+            if (end - start < parallelLevelThreshold || parallelism == 1) {
+                tasks.get(0).customize(start, end);
+            } else {
+                for (CustomizationTask task : tasks) {
+                    task.segmentStart = start;
+                    task.segmentEnd = end;
+                    completionService.submit(task, null);
+                }
+                waitForTasksCompletion(tasks.size());
+            }
+        }
+
+        // write back changed arcs level by level, so that the arcs a shortcut bypasses are
+        // final before its number of original edges is computed
+        for (int i = 0; i < levelVertices.length; ++i) {
+            int u = levelVertices[i];
+            for (int a = 2 * upOffsets[u]; a < 2 * upOffsets[u + 1]; ++a) {
+                writeBack(a);
+            }
+        }
+    }
+
+    /**
+     * Writes an arc to the contraction graph if it changed. The number of original edges of a
+     * shortcut is recomputed in any case, since the arcs it bypasses may have changed.
+     */
+    private void writeBack(int a)
+    {
+        ContractionEdge<E> e = contractionEdges.get(a);
+        if (arcChanged[a]) {
+            arcChanged[a] = false;
+            contractionGraph.setEdgeWeight(e, arcWeights[a]);
+            if (arcFirst[a] >= 0) {
+                e.edge = null;
+                e.bypassedEdges =
+                    Pair.of(contractionEdges.get(arcFirst[a]), contractionEdges.get(arcSecond[a]));
+            } else {
+                @SuppressWarnings("unchecked") E best = (E) arcBestEdge[a];
+                e.edge = best;
+                e.bypassedEdges = null;
+                e.originalEdges = 1;
+            }
+        }
+        if (e.bypassedEdges != null) {
+            e.originalEdges =
+                e.bypassedEdges.getFirst().originalEdges + e.bypassedEdges.getSecond().originalEdges;
+        }
+    }
+
+    /**
+     * Takes {@code numOfTasks} tasks from the {@link #completionService}.
+     *
+     * @param numOfTasks number of tasks
+     */
+    private void waitForTasksCompletion(int numOfTasks)
+    {
+        RuntimeException failure = null;
+        for (int i = 0; i < numOfTasks; ++i) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    failure = (RuntimeException) e.getCause();
+                } else {
+                    failure = new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Customizes a chunk of the vertices of a level. Each task owns a scratch array which maps
+     * vertices to the pairs connecting them with the vertex being customized.
+     */
+    private class CustomizationTask
+        implements Runnable
+    {
+        private final int taskId;
+        private final int[] pairOf;
+        int segmentStart;
+        int segmentEnd;
+
+        CustomizationTask(int taskId, int n)
+        {
+            this.taskId = taskId;
+            this.pairOf = new int[n];
+            Arrays.fill(pairOf, -1);
+        }
+
+        @Override
+        public void run()
+        {
+            int size = segmentEnd - segmentStart;
+            customize(
+                segmentStart + (size * taskId) / parallelism,
+                segmentStart + (size * (taskId + 1)) / parallelism);
+        }
+
+        void customize(int start, int end)
+        {
+            for (int i = start; i < end; ++i) {
+                int u = levelVertices[i];
+                if (dirty[u]) {
+                    dirty[u] = false;
+                    if (customizeVertex(u)) {
+                        // vertices above u use its arcs
+                        for (int k = upOffsets[u]; k < upOffsets[u + 1]; ++k) {
+                            dirty[upTargets[k]] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Recomputes the arcs between {@code u} and its higher neighbours from their original
+         * edges and from the lower triangles, that is the paths through lower vertices adjacent to
+         * both endpoints.
+         *
+         * @return true if an arc changed
+         */
+        private boolean customizeVertex(int u)
+        {
+            int upStart = upOffsets[u];
+            int upEnd = upOffsets[u + 1];
+            int size = upEnd - upStart;
+            double[] weights = new double[2 * size];
+            int[] first = new int[2 * size];
+            int[] second = new int[2 * size];
+            Object[] best = new Object[2 * size];
+
+            for (int k = upStart; k < upEnd; ++k) {
+                pairOf[upTargets[k]] = k;
+                int j = 2 * (k - upStart);
+                for (int a = 0; a < 2; ++a) {
+                    int arc = 2 * k + a;
+                    double w = Double.POSITIVE_INFINITY;
+                    Object bestEdge = null;
+                    for (int p = arcEdgeOffsets[arc]; p < arcEdgeOffsets[arc + 1]; ++p) {
+                        @SuppressWarnings("unchecked") E e = (E) arcEdges[p];
+                        double ew = graph.getEdgeWeight(e);
+                        if (ew < 0d) {
+                            clearPairs(upStart, upEnd);
+                            throw new IllegalArgumentException("Negative edge weight not allowed");
+                        }
+                        if (ew < w) {
+                            w = ew;
+                            bestEdge = e;
+                        }
+                    }
+                    weights[j + a] = w;
+                    best[j + a] = bestEdge;
+                    first[j + a] = -1;
+                    second[j + a] = -1;
+                }
+            }
+
+            // lower triangles v < u < w
+            for (int i = downOffsets[u]; i < downOffsets[u + 1]; ++i) {
+                int v = downSources[i];
+                int vu = downPairs[i];
+                int uToV = 2 * vu + 1;
+                int vToU = 2 * vu;
+                double uvWeight = arcWeights[uToV];
+                double vuWeight = arcWeights[vToU];
+                for (int k = upOffsets[v]; k < upOffsets[v + 1]; ++k) {
+                    int w = upTargets[k];
+                    if (rank[w] <= rank[u]) {
+                        continue;
+                    }
+                    int j = 2 * (pairOf[w] - upStart);
+                    int vToW = 2 * k;
+                    int wToV = 2 * k + 1;
+
+                    double forward = uvWeight + arcWeights[vToW];
+                    if (forward < weights[j]) {
+                        weights[j] = forward;
+                        first[j] = uToV;
+                        second[j] = vToW;
+                    }
+                    double backward = arcWeights[wToV] + vuWeight;
+                    if (backward < weights[j + 1]) {
+                        weights[j + 1] = backward;
+                        first[j + 1] = wToV;
+                        second[j + 1] = vToU;
+                    }
+                }
+            }
+            clearPairs(upStart, upEnd);
+
+            boolean changed = false;
+            for (int j = 0; j < 2 * size; ++j) {
+                int arc = 2 * upStart + j;
+                if (Double.compare(arcWeights[arc], weights[j]) != 0 || arcFirst[arc] != first[j]
+                    || arcSecond[arc] != second[j] || arcBestEdge[arc] != best[j])
+                {
+                    arcWeights[arc] = weights[j];
+                    arcFirst[arc] = first[j];
+                    arcSecond[arc] = second[j];
+                    arcBestEdge[arc] = best[j];
+                    arcChanged[arc] = true;
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private void clearPairs(int upStart, int upEnd)
+        {
+            for (int k = upStart; k < upEnd; ++k) {
+                pairOf[upTargets[k]] = -1;
+            }
+        }
+    }
+}
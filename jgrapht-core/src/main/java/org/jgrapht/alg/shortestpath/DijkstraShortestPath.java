@@ -19,9 +19,11 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
+import java.util.*;
 import java.util.function.*;
 
 /**
@@ -29,6 +31,15 @@ import java.util.function.*;
  * shortest path algorithm</a> using a pairing heap by default. A custom heap implementation can by
  * specified during the construction time.
  *
+ * <p>
+ * Alternatively, the algorithm can be constructed with a {@link SearchWorkspacePool}. In that case
+ * each query runs inside a {@link SearchWorkspace} which stores distances and predecessors in
+ * arrays indexed by vertex and uses a primitive heap. With a {@link SearchWorkspacePool#perThread()
+ * per-thread} pool the workspaces are reused between queries, so resetting them costs constant time
+ * instead of time proportional to the size of the graph, and a single instance can answer queries
+ * concurrently from multiple threads. The vertices of the graph are indexed on the first query;
+ * the graph must not be modified afterwards.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author John V. Sichi
@@ -37,6 +48,8 @@ public final class DijkstraShortestPath<V, E> extends BaseShortestPathAlgorithm<
 {
     private final double radius;
     private final Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier;
+    private final SearchWorkspacePool<E> workspacePool;
+    private volatile WorkspaceDijkstraSearch<V, E> workspaceSearch;
 
     /**
      * Constructs a new instance of the algorithm for a given graph. The constructed algorithm will
@@ -90,6 +103,28 @@ public final class DijkstraShortestPath<V, E> extends BaseShortestPathAlgorithm<
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.heapSupplier = heapSupplier;
+        this.workspacePool = null;
+        this.radius = radius;
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The constructed algorithm will
+     * execute each query inside a workspace obtained from the {@code workspacePool}.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param workspacePool the workspace pool
+     */
+    public DijkstraShortestPath(
+        Graph<V, E> graph, double radius, SearchWorkspacePool<E> workspacePool)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.heapSupplier = null;
+        this.workspacePool =
+            Objects.requireNonNull(workspacePool, "Workspace pool cannot be null");
         this.radius = radius;
     }
 
@@ -125,6 +160,17 @@ public final class DijkstraShortestPath<V, E> extends BaseShortestPathAlgorithm<
             return createEmptyPath(source, sink);
         }
 
+        if (workspacePool != null) {
+            WorkspaceDijkstraSearch<V, E> search = getWorkspaceSearch();
+            SearchWorkspace<E> ws = workspacePool.acquire(search.capacity());
+            try {
+                search.run(ws, source, sink, radius);
+                return search.getPath(ws, source, sink, radius);
+            } finally {
+                workspacePool.release(ws);
+            }
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
@@ -152,6 +198,17 @@ public final class DijkstraShortestPath<V, E> extends BaseShortestPathAlgorithm<
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
 
+        if (workspacePool != null) {
+            WorkspaceDijkstraSearch<V, E> search = getWorkspaceSearch();
+            SearchWorkspace<E> ws = workspacePool.acquire(search.capacity());
+            try {
+                search.run(ws, source, null, radius);
+                return search.getPaths(ws, source, radius);
+            } finally {
+                workspacePool.release(ws);
+            }
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
@@ -162,4 +219,20 @@ public final class DijkstraShortestPath<V, E> extends BaseShortestPathAlgorithm<
         return it.getPaths();
     }
 
+    private WorkspaceDijkstraSearch<V, E> getWorkspaceSearch()
+    {
+        WorkspaceDijkstraSearch<V, E> result = workspaceSearch;
+        if (result == null) {
+            synchronized (this) {
+                result = workspaceSearch;
+                if (result == null) {
+                    result = new WorkspaceDijkstraSearch<>(
+                        graph, new VertexToIntegerMapping<>(graph.vertexSet()));
+                    workspaceSearch = result;
+                }
+            }
+        }
+        return result;
+    }
+
 }
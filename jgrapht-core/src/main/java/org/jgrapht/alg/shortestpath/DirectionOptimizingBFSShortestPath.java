@@ -0,0 +1,704 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel direction-optimizing breadth-first search.
+ *
+ * <p>
+ * Computes shortest paths with respect to the number of edges from a single source vertex, like
+ * {@link BFSShortestPath}, using the algorithm of S. Beamer, K. Asanović and D. Patterson.
+ * Direction-optimizing breadth-first search. Proceedings of the International Conference on High
+ * Performance Computing, Networking, Storage and Analysis (SC), 2012. The search is level
+ * synchronous and every level is expanded in one of two directions:
+ * <ul>
+ * <li>Top-down: the outgoing edges of the vertices of the frontier are scanned and every
+ * unvisited target is claimed by a compare-and-set on a visited bitset.</li>
+ * <li>Bottom-up: the incoming edges of every unvisited vertex are scanned until one of them starts
+ * at a vertex of the frontier, which is kept as a bitset. Each task owns a range of words of the
+ * bitsets and no synchronization is needed.</li>
+ * </ul>
+ * The search starts top-down and switches to bottom-up when the number of edges leaving the
+ * frontier exceeds the number of edges entering unvisited vertices divided by $\alpha$. It
+ * switches back when the frontier contains fewer than $|V| / \beta$ vertices. On graphs with a
+ * small diameter, like social networks, most edges are then never examined. Both directions are
+ * executed in parallel by recursive tasks of a {@link ForkJoinPool}, while small frontiers are
+ * expanded by the calling thread.
+ *
+ * <p>
+ * The graph is copied once during construction into compressed sparse row representations of its
+ * outgoing and incoming edges. Vertices are numbered from $0$ to $|V| - 1$. If the vertices of the
+ * graph are exactly the integers $0, \ldots, |V| - 1$, as in the sparse graphs of the
+ * {@code jgrapht-opt} module, the number of a vertex is the vertex itself and
+ * {@link #getHopDistances(int)} can be used without any mapping. Otherwise the vertices are
+ * numbered in the iteration order of the vertex set, see {@link #getVertexIndex(Object)}.
+ *
+ * <p>
+ * The weight of a path is its number of edges, regardless of the edge weights. The tree computed
+ * by the search depends on the scheduling of the tasks, so different shortest paths may be
+ * returned by different executions. Instances are thread-safe.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see BFSShortestPath
+ * @see org.jgrapht.traverse.DirectionOptimizingBreadthFirstIterator
+ */
+public class DirectionOptimizingBFSShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default value of the parameter $\alpha$ controlling the switch to bottom-up.
+     */
+    public static final double DEFAULT_ALPHA = 14d;
+    /**
+     * Default value of the parameter $\beta$ controlling the switch back to top-down.
+     */
+    public static final double DEFAULT_BETA = 24d;
+
+    /**
+     * Levels with fewer edges to scan are expanded by the calling thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+    /**
+     * Number of ranges per worker thread into which a level is split.
+     */
+    private static final int RANGES_PER_THREAD = 8;
+    /**
+     * Size of the buffer in which a task collects the vertices it claimed.
+     */
+    private static final int BUFFER_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final double alpha;
+    private final double beta;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+    private final int words;
+
+    // CSR representation of the outgoing edges
+    private final int[] offsets;
+    private final int[] targets;
+    private final List<E> arcEdges;
+
+    // CSR representation of the incoming edges, shared with the outgoing edges in undirected
+    // graphs, with the index of the corresponding outgoing arc
+    private final int[] inOffsets;
+    private final int[] inSources;
+    private final int[] inArcs;
+
+    /**
+     * Constructs a new instance of the algorithm which uses the {@link ForkJoinPool#commonPool()
+     * common pool}.
+     *
+     * @param graph the input graph
+     */
+    public DirectionOptimizingBFSShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using the default parameters. It is up to a user
+     * of this algorithm to handle the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization
+     */
+    public DirectionOptimizingBFSShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm. It is up to a user of this algorithm to handle
+     * the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization
+     * @param alpha the search switches to bottom-up when the edges leaving the frontier exceed the
+     *        edges entering unvisited vertices divided by this value
+     * @param beta the search switches to top-down when the frontier contains fewer vertices than
+     *        the number of vertices divided by this value
+     * @throws IllegalArgumentException if alpha or beta are not positive
+     */
+    public DirectionOptimizingBFSShortestPath(
+        Graph<V, E> graph, ForkJoinPool pool, double alpha, double beta)
+    {
+        super(graph);
+        GraphTests.requireDirectedOrUndirected(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        if (!(alpha > 0d)) {
+            throw new IllegalArgumentException("Alpha must be positive");
+        }
+        if (!(beta > 0d)) {
+            throw new IllegalArgumentException("Beta must be positive");
+        }
+        this.alpha = alpha;
+        this.beta = beta;
+
+        CsrAdjacency<V, E> csr = new CsrAdjacency<>(graph, vertexOrder(graph));
+        this.vertexMap = csr.vertexMap;
+        this.vertices = csr.vertices;
+        this.n = csr.n;
+        this.words = (n + 63) >>> 6;
+        this.offsets = csr.offsets;
+        this.targets = csr.targets;
+        this.arcEdges = csr.arcEdges;
+
+        boolean undirected = graph.getType().isUndirected();
+
+        if (undirected) {
+            this.inOffsets = offsets;
+            this.inSources = targets;
+            this.inArcs = null;
+        } else {
+            this.inOffsets = new int[n + 1];
+            for (int target : targets) {
+                inOffsets[target + 1]++;
+            }
+            for (int v = 0; v < n; ++v) {
+                inOffsets[v + 1] += inOffsets[v];
+            }
+            this.inSources = new int[targets.length];
+            this.inArcs = new int[targets.length];
+            int[] next = Arrays.copyOf(inOffsets, n);
+            for (int u = 0; u < n; ++u) {
+                for (int j = offsets[u]; j < offsets[u + 1]; ++j) {
+                    int k = next[targets[j]]++;
+                    inSources[k] = u;
+                    inArcs[k] = j;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the number of the vertex, between $0$ and $|V| - 1$
+     * @throws IllegalArgumentException if the graph does not contain the vertex
+     */
+    public int getVertexIndex(V vertex)
+    {
+        Integer index = vertexMap.get(vertex);
+        if (index == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex");
+        }
+        return index;
+    }
+
+    /**
+     * Get the vertex with a given number.
+     *
+     * @param index the number of the vertex
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Computes the number of edges of a shortest path from a source vertex to every vertex.
+     *
+     * @param source the number of the source vertex
+     * @return an array indexed by vertex number holding the number of edges of a shortest path
+     *         from the source, or $-1$ if the vertex is not reachable
+     * @throws IllegalArgumentException if the source is not the number of a vertex
+     */
+    public int[] getHopDistances(int source)
+    {
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        LevelSearch search = new LevelSearch(source);
+        while (search.advance()) {
+            // expand all levels
+        }
+        return search.depth;
+    }
+
+    /**
+     * Starts a search from a source vertex, which expands the levels on demand.
+     *
+     * @param source the source vertex
+     * @return the search, positioned at the level containing only the source
+     * @throws IllegalArgumentException if the graph does not contain the source vertex
+     */
+    public LevelSearch startSearch(V source)
+    {
+        Integer s = vertexMap.get(source);
+        if (s == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return new LevelSearch(s);
+    }
+
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        LevelSearch search = startSearch(source);
+        while (search.advance()) {
+            // expand all levels
+        }
+        Map<V, Pair<Double, E>> map = HashMap.newHashMap(search.levelEnd);
+        for (int i = 0; i < search.levelEnd; ++i) {
+            int v = search.order[i];
+            map.put(vertices.get(v), Pair.of((double) search.depth[v], search.getParentEdge(v)));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, map);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The search stops after the level containing the sink.
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        Integer t = vertexMap.get(sink);
+        if (t == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        LevelSearch search = startSearch(source);
+        if (search.depth[t] == 0) {
+            return createEmptyPath(source, sink);
+        }
+        while (search.depth[t] < 0 && search.advance()) {
+            // expand levels until the sink is reached
+        }
+        if (search.depth[t] < 0) {
+            return null;
+        }
+        LinkedList<E> path = new LinkedList<>();
+        for (int v = t; search.parentArc[v] >= 0; v = search.parent[v]) {
+            path.addFirst(arcEdges.get(search.parentArc[v]));
+        }
+        return new GraphWalk<>(graph, source, sink, null, path, search.depth[t]);
+    }
+
+    /**
+     * Find a path between two vertices.
+     *
+     * @param graph the graph to be searched
+     * @param source the vertex at which the path should start
+     * @param sink the vertex at which the path should end
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @return a shortest path, or null if no path exists
+     */
+    public static <V, E> GraphPath<V, E> findPathBetween(Graph<V, E> graph, V source, V sink)
+    {
+        return new DirectionOptimizingBFSShortestPath<>(graph).getPath(source, sink);
+    }
+
+    /**
+     * Orders the vertices by value if they are exactly the integers $0, \ldots, |V| - 1$ and in
+     * iteration order otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> List<V> vertexOrder(Graph<V, ?> graph)
+    {
+        Set<V> vertexSet = graph.vertexSet();
+        Object[] order = new Object[vertexSet.size()];
+        for (V v : vertexSet) {
+            if (!(v instanceof Integer i) || i < 0 || i >= order.length || order[i] != null) {
+                return new ArrayList<>(vertexSet);
+            }
+            order[i] = v;
+        }
+        return (List<V>) Arrays.asList(order);
+    }
+
+    /**
+     * A level synchronous search from a single source vertex. The vertices of every level are
+     * stored consecutively in the order in which the levels are expanded. The order of the
+     * vertices within a level is unspecified.
+     */
+    public final class LevelSearch
+    {
+        private final int[] depth;
+        private final int[] parent;
+        private final int[] parentArc;
+        private final AtomicLongArray visited;
+        private final int[] order;
+        private final AtomicInteger nextEnd;
+        private int levelStart;
+        private int levelEnd;
+        private int level;
+
+        // direction heuristic
+        private boolean topDown;
+        private long levelArcs;
+        private long unvisitedArcs;
+
+        // bitsets of the bottom-up direction
+        private long[] frontierBits;
+        private long[] nextBits;
+        private boolean frontierInBits;
+
+        LevelSearch(int source)
+        {
+            this.depth = new int[n];
+            Arrays.fill(depth, -1);
+            this.parent = new int[n];
+            this.parentArc = new int[n];
+            this.visited = new AtomicLongArray(words);
+            this.order = new int[n];
+            this.nextEnd = new AtomicInteger();
+            this.topDown = true;
+            this.unvisitedArcs = inOffsets[n];
+
+            depth[source] = 0;
+            parent[source] = -1;
+            parentArc[source] = -1;
+            visited.set(source >>> 6, 1L << source);
+            order[0] = source;
+            levelEnd = 1;
+            account(0, 1);
+        }
+
+        /**
+         * Get the depth of the current level, which is the number of edges of a shortest path
+         * from the source to its vertices.
+         *
+         * @return the depth of the current level
+         */
+        public int getLevel()
+        {
+            return level;
+        }
+
+        /**
+         * Get the number of vertices of the current level.
+         *
+         * @return the number of vertices of the current level
+         */
+        public int getLevelSize()
+        {
+            return levelEnd - levelStart;
+        }
+
+        /**
+         * Get a vertex of the current level.
+         *
+         * @param i the position of the vertex in the level
+         * @return the number of the vertex
+         */
+        public int getLevelVertex(int i)
+        {
+            Objects.checkIndex(i, levelEnd - levelStart);
+            return order[levelStart + i];
+        }
+
+        /**
+         * Get the depth of a vertex.
+         *
+         * @param v the number of the vertex
+         * @return the depth of the vertex, or $-1$ if the vertex has not been reached yet
+         */
+        public int getDepth(int v)
+        {
+            return depth[v];
+        }
+
+        /**
+         * Get the parent of a reached vertex in the search tree.
+         *
+         * @param v the number of the vertex
+         * @return the number of the parent, or $-1$ if the vertex is the source
+         */
+        public int getParent(int v)
+        {
+            return parent[v];
+        }
+
+        /**
+         * Get the edge between a reached vertex and its parent in the search tree.
+         *
+         * @param v the number of the vertex
+         * @return the edge to the parent, or null if the vertex is the source
+         */
+        public E getParentEdge(int v)
+        {
+            return parentArc[v] < 0 ? null : arcEdges.get(parentArc[v]);
+        }
+
+        /**
+         * Expands the current level and makes the next level current.
+         *
+         * @return true if the next level contains any vertices, false if the search is complete
+         */
+        public boolean advance()
+        {
+            if (levelStart == levelEnd) {
+                return false;
+            }
+            int size = levelEnd - levelStart;
+            if (topDown && levelArcs > unvisitedArcs / alpha) {
+                topDown = false;
+            } else if (!topDown && size < n / beta) {
+                topDown = true;
+            }
+
+            int end = topDown ? expandTopDown() : expandBottomUp();
+            account(levelEnd, end);
+            levelStart = levelEnd;
+            levelEnd = end;
+            ++level;
+            return levelStart < levelEnd;
+        }
+
+        /**
+         * Computes the edges leaving a new level and removes the edges entering it from the edges
+         * entering unvisited vertices.
+         */
+        private void account(int from, int to)
+        {
+            long out = 0;
+            long in = 0;
+            for (int i = from; i < to; ++i) {
+                int v = order[i];
+                out += offsets[v + 1] - offsets[v];
+                in += inOffsets[v + 1] - inOffsets[v];
+            }
+            levelArcs = out;
+            unvisitedArcs -= in;
+        }
+
+        private int expandTopDown()
+        {
+            nextEnd.set(levelEnd);
+            if (levelArcs <= SEQUENTIAL_THRESHOLD) {
+                topDownRange(levelStart, levelEnd);
+            } else {
+                pool.invoke(new TopDownTask(levelStart, levelEnd, grain(levelEnd - levelStart)));
+            }
+            frontierInBits = false;
+            return nextEnd.get();
+        }
+
+        /**
+         * Scans the outgoing edges of a range of the current level and claims their unvisited
+         * targets.
+         */
+        void topDownRange(int from, int to)
+        {
+            int[] buffer = new int[BUFFER_SIZE];
+            int count = 0;
+            int nextDepth = level + 1;
+            for (int i = from; i < to; ++i) {
+                int u = order[i];
+                for (int j = offsets[u], end = offsets[u + 1]; j < end; ++j) {
+                    int v = targets[j];
+                    if (claim(v)) {
+                        depth[v] = nextDepth;
+                        parent[v] = u;
+                        parentArc[v] = j;
+                        buffer[count++] = v;
+                        if (count == BUFFER_SIZE) {
+                            flush(buffer, count);
+                            count = 0;
+                        }
+                    }
+                }
+            }
+            flush(buffer, count);
+        }
+
+        private void flush(int[] buffer, int count)
+        {
+            if (count > 0) {
+                System.arraycopy(buffer, 0, order, nextEnd.getAndAdd(count), count);
+            }
+        }
+
+        /**
+         * Marks a vertex as visited.
+         *
+         * @return true if the vertex was not visited before, false otherwise
+         */
+        private boolean claim(int v)
+        {
+            int w = v >>> 6;
+            long bit = 1L << v;
+            long current = visited.get(w);
+            while ((current & bit) == 0) {
+                if (visited.weakCompareAndSetVolatile(w, current, current | bit)) {
+                    return true;
+                }
+                current = visited.get(w);
+            }
+            return false;
+        }
+
+        private int expandBottomUp()
+        {
+            if (frontierBits == null) {
+                frontierBits = new long[words];
+                nextBits = new long[words];
+            }
+            if (!frontierInBits) {
+                Arrays.fill(frontierBits, 0L);
+                for (int i = levelStart; i < levelEnd; ++i) {
+                    int v = order[i];
+                    frontierBits[v >>> 6] |= 1L << v;
+                }
+            }
+
+            if (unvisitedArcs <= SEQUENTIAL_THRESHOLD) {
+                bottomUpRange(0, words);
+            } else {
+                pool.invoke(new BottomUpTask(0, words, grain(words)));
+            }
+
+            int end = levelEnd;
+            for (int w = 0; w < words; ++w) {
+                long bits = nextBits[w];
+                while (bits != 0L) {
+                    order[end++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+            long[] tmp = frontierBits;
+            frontierBits = nextBits;
+            nextBits = tmp;
+            frontierInBits = true;
+            return end;
+        }
+
+        /**
+         * Searches a parent in the current level for every unvisited vertex in a range of words
+         * of the bitsets.
+         */
+        void bottomUpRange(int fromWord, int toWord)
+        {
+            int nextDepth = level + 1;
+            for (int w = fromWord; w < toWord; ++w) {
+                long visitedWord = visited.get(w);
+                long unvisited = ~visitedWord;
+                if (w == words - 1 && (n & 63) != 0) {
+                    unvisited &= (1L << n) - 1;
+                }
+                long found = 0L;
+                while (unvisited != 0L) {
+                    int bit = Long.numberOfTrailingZeros(unvisited);
+                    unvisited &= unvisited - 1;
+                    int v = (w << 6) + bit;
+                    for (int k = inOffsets[v], end = inOffsets[v + 1]; k < end; ++k) {
+                        int u = inSources[k];
+                        if ((frontierBits[u >>> 6] & (1L << u)) != 0L) {
+                            depth[v] = nextDepth;
+                            parent[v] = u;
+                            parentArc[v] = inArcs == null ? k : inArcs[k];
+                            found |= 1L << bit;
+                            break;
+                        }
+                    }
+                }
+                nextBits[w] = found;
+                if (found != 0L) {
+                    // no other task writes this word
+                    visited.set(w, visitedWord | found);
+                }
+            }
+        }
+
+        private int grain(int size)
+        {
+            return Math.max(1, size / (RANGES_PER_THREAD * pool.getParallelism()));
+        }
+
+        /**
+         * Task which expands a range of the current level top-down.
+         */
+        private class TopDownTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = -4426131820742353406L;
+
+            private final int from;
+            private final int to;
+            private final int grain;
+
+            TopDownTask(int from, int to, int grain)
+            {
+                this.from = from;
+                this.to = to;
+                this.grain = grain;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= grain) {
+                    topDownRange(from, to);
+                } else {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new TopDownTask(from, mid, grain), new TopDownTask(mid, to, grain));
+                }
+            }
+        }
+
+        /**
+         * Task which expands a range of words of the bitsets bottom-up.
+         */
+        private class BottomUpTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = 2750942630195413276L;
+
+            private final int from;
+            private final int to;
+            private final int grain;
+
+            BottomUpTask(int from, int to, int grain)
+            {
+                this.from = from;
+                this.to = to;
+                this.grain = grain;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= grain) {
+                    bottomUpRange(from, to);
+                } else {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(
+                        new BottomUpTask(from, mid, grain), new BottomUpTask(mid, to, grain));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An implicit, unmodifiable view of the edge-based graph of a directed graph with turn costs.
+ *
+ * <p>
+ * The vertices of the edge-based graph are the edges of the original graph, and each allowed turn
+ * $(e, f)$ of the {@link TurnCostTable} is an edge from $e$ to $f$. The weight of such an edge is
+ * the cost of the turn plus the weight of $f$. A path $e_1, \dots, e_k$ in the edge-based graph
+ * therefore corresponds to the path with the same edges in the original graph, whose length
+ * including turn costs is the weight of $e_1$ plus the weight of the edge-based path.
+ *
+ * <p>
+ * In contrast to the line graph computed by
+ * {@link org.jgrapht.alg.transform.LineGraphConverter}, the edge-based graph is never materialized.
+ * Incoming and outgoing edges are created on the fly from the original graph and the turn costs,
+ * and changes to either are immediately visible. This allows any shortest path algorithm, for
+ * example {@link DijkstraShortestPath}, {@link AStarShortestPath} or
+ * {@link ContractionHierarchyBidirectionalDijkstra}, to respect turn restrictions without copying
+ * the graph. Vertex to vertex queries on the original graph are answered by
+ * {@link #getPath(ShortestPathAlgorithm, Object, Object)}, and {@link TurnRestrictedShortestPath}
+ * provides a specialized search which avoids the overhead of the view.
+ *
+ * <p>
+ * Operation {@link #edgeSet()} enumerates all turns on every call and should be avoided on large
+ * graphs.
+ *
+ * @param <V> the vertex type of the original graph
+ * @param <E> the edge type of the original graph
+ */
+public class EdgeBasedGraph<V, E>
+    extends AbstractGraph<E, EdgeBasedGraph.Turn<E>>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final Graph<V, E> graph;
+    private final TurnCostTable<V, E> turnCosts;
+    private final GraphType type;
+
+    /**
+     * Create a new edge-based view.
+     *
+     * @param turnCosts the turn costs of the original graph
+     */
+    public EdgeBasedGraph(TurnCostTable<V, E> turnCosts)
+    {
+        this.turnCosts = Objects.requireNonNull(turnCosts, "Turn costs cannot be null");
+        this.graph = turnCosts.getGraph();
+        this.type = new DefaultGraphType.Builder()
+            .directed().weighted(true).allowMultipleEdges(false).allowSelfLoops(true)
+            .modifiable(false).build();
+    }
+
+    /**
+     * Get the original graph.
+     *
+     * @return the original graph
+     */
+    public Graph<V, E> getBaseGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the turn costs.
+     *
+     * @return the turn costs
+     */
+    public TurnCostTable<V, E> getTurnCosts()
+    {
+        return turnCosts;
+    }
+
+    /**
+     * Convert a path of the edge-based graph into the corresponding path of the original graph.
+     * The weight of the result includes the weight of the first edge and all turn costs.
+     *
+     * @param path a path of the edge-based graph
+     * @return the corresponding path of the original graph
+     */
+    public GraphPath<V, E> toBasePath(GraphPath<E, Turn<E>> path)
+    {
+        List<E> edgeList = path.getVertexList();
+        E first = edgeList.get(0);
+        E last = edgeList.get(edgeList.size() - 1);
+        return new GraphWalk<>(
+            graph, graph.getEdgeSource(first), graph.getEdgeTarget(last), null,
+            new ArrayList<>(edgeList), graph.getEdgeWeight(first) + path.getWeight());
+    }
+
+    /**
+     * Compute a shortest path between two vertices of the original graph respecting turn costs,
+     * using an arbitrary shortest path algorithm on this edge-based graph. The algorithm is queried
+     * for every pair of an outgoing edge of the source and an incoming edge of the sink, which is
+     * efficient for algorithms with fast point-to-point queries such as contraction hierarchies.
+     *
+     * @param algorithm a shortest path algorithm on this edge-based graph
+     * @param source the source vertex of the original graph
+     * @param sink the sink vertex of the original graph
+     * @return a shortest path in the original graph, or null if no path exists
+     * @throws IllegalArgumentException if the original graph does not contain the source or the
+     *         sink
+     */
+    public GraphPath<V, E> getPath(
+        ShortestPathAlgorithm<E, Turn<E>> algorithm, V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException("Graph must contain the source vertex!");
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException("Graph must contain the sink vertex!");
+        }
+        if (source.equals(sink)) {
+            return GraphWalk.singletonWalk(graph, source, 0d);
+        }
+        double best = Double.POSITIVE_INFINITY;
+        E bestFirst = null;
+        E bestLast = null;
+        for (E first : graph.outgoingEdgesOf(source)) {
+            double w = graph.getEdgeWeight(first);
+            for (E last : graph.incomingEdgesOf(sink)) {
+                double d = w + algorithm.getPathWeight(first, last);
+                if (d < best) {
+                    best = d;
+                    bestFirst = first;
+                    bestLast = last;
+                }
+            }
+        }
+        if (bestFirst == null) {
+            return null;
+        }
+        return toBasePath(algorithm.getPath(bestFirst, bestLast));
+    }
+
+    @Override
+    public Set<Turn<E>> getAllEdges(E sourceVertex, E targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Turn<E> turn = getEdge(sourceVertex, targetVertex);
+        return turn == null ? Collections.emptySet() : Collections.singleton(turn);
+    }
+
+    @Override
+    public Turn<E> getEdge(E sourceVertex, E targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        if (!isAllowed(sourceVertex, targetVertex)) {
+            return null;
+        }
+        return new Turn<>(sourceVertex, targetVertex);
+    }
+
+    @Override
+    public Supplier<E> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Turn<E>> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Turn<E> addEdge(E sourceVertex, E targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addEdge(E sourceVertex, E targetVertex, Turn<E> e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addVertex(E v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Turn<E> e)
+    {
+        return containsVertex(e.getFrom()) && containsVertex(e.getTo())
+            && isAllowed(e.getFrom(), e.getTo());
+    }
+
+    @Override
+    public boolean containsVertex(E v)
+    {
+        return graph.containsEdge(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned set enumerates all turns on every traversal.
+     */
+    @Override
+    public Set<Turn<E>> edgeSet()
+    {
+        return new AbstractSet<>()
+        {
+            @Override
+            public Iterator<Turn<E>> iterator()
+            {
+                return graph
+                    .edgeSet().stream().flatMap(e -> outgoingEdgesOf(e).stream()).iterator();
+            }
+
+            @Override
+            public int size()
+            {
+                int count = 0;
+                for (E e : graph.edgeSet()) {
+                    count += outDegreeOf(e);
+                }
+                return count;
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                if (!(o instanceof Turn)) {
+                    return false;
+                }
+                @SuppressWarnings("unchecked") Turn<E> turn = (Turn<E>) o;
+                return containsEdge(turn);
+            }
+        };
+    }
+
+    @Override
+    public int degreeOf(E vertex)
+    {
+        return inDegreeOf(vertex) + outDegreeOf(vertex);
+    }
+
+    @Override
+    public Set<Turn<E>> edgesOf(E vertex)
+    {
+        Set<Turn<E>> result = new LinkedHashSet<>(incomingEdgesOf(vertex));
+        result.addAll(outgoingEdgesOf(vertex));
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public int inDegreeOf(E vertex)
+    {
+        assertVertexExist(vertex);
+        int count = 0;
+        for (E e : graph.incomingEdgesOf(graph.getEdgeSource(vertex))) {
+            if (isAllowed(e, vertex)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Set<Turn<E>> incomingEdgesOf(E vertex)
+    {
+        assertVertexExist(vertex);
+        Set<E> in = graph.incomingEdgesOf(graph.getEdgeSource(vertex));
+        Set<Turn<E>> result = new ArrayUnenforcedSet<>(in.size());
+        for (E e : in) {
+            if (isAllowed(e, vertex)) {
+                result.add(new Turn<>(e, vertex));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public int outDegreeOf(E vertex)
+    {
+        assertVertexExist(vertex);
+        int count = 0;
+        for (E f : graph.outgoingEdgesOf(graph.getEdgeTarget(vertex))) {
+            if (isAllowed(vertex, f)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Set<Turn<E>> outgoingEdgesOf(E vertex)
+    {
+        assertVertexExist(vertex);
+        Set<E> out = graph.outgoingEdgesOf(graph.getEdgeTarget(vertex));
+        Set<Turn<E>> result = new ArrayUnenforcedSet<>(out.size());
+        for (E f : out) {
+            if (isAllowed(vertex, f)) {
+                result.add(new Turn<>(vertex, f));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeEdge(Turn<E> e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Turn<E> removeEdge(E sourceVertex, E targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeVertex(E v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<E> vertexSet()
+    {
+        return Collections.unmodifiableSet(graph.edgeSet());
+    }
+
+    @Override
+    public E getEdgeSource(Turn<E> e)
+    {
+        return e.getFrom();
+    }
+
+    @Override
+    public E getEdgeTarget(Turn<E> e)
+    {
+        return e.getTo();
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(Turn<E> e)
+    {
+        return turnCosts.getTurnCost(e.getFrom(), e.getTo()) + graph.getEdgeWeight(e.getTo());
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setEdgeWeight(Turn<E> e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    private boolean isAllowed(E from, E to)
+    {
+        return graph.getEdgeTarget(from).equals(graph.getEdgeSource(to))
+            && turnCosts.getTurnCost(from, to) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * A turn from one edge of the original graph to another.
+     *
+     * @param <E> the edge type of the original graph
+     */
+    public static final class Turn<E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 6093457921387016238L;
+
+        private final E from;
+        private final E to;
+
+        /**
+         * Create a new turn.
+         *
+         * @param from the edge before the turn
+         * @param to the edge after the turn
+         */
+        public Turn(E from, E to)
+        {
+            this.from = Objects.requireNonNull(from);
+            this.to = Objects.requireNonNull(to);
+        }
+
+        /**
+         * Get the edge before the turn.
+         *
+         * @return the edge before the turn
+         */
+        public E getFrom()
+        {
+            return from;
+        }
+
+        /**
+         * Get the edge after the turn.
+         *
+         * @return the edge after the turn
+         */
+        public E getTo()
+        {
+            return to;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Turn)) {
+                return false;
+            }
+            Turn<?> other = (Turn<?>) o;
+            return from.equals(other.from) && to.equals(other.to);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * from.hashCode() + to.hashCode();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "(" + from + " -> " + to + ")";
+        }
+    }
+}
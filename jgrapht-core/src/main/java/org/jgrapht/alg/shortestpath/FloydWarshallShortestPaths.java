@@ -34,6 +34,10 @@ import java.util.*;
  * member methods of this class is invoked. The results are stored, so all subsequent calls to the
  * same method are computationally efficient.
  *
+ * <p>
+ * For large dense graphs see {@link BlockedFloydWarshallShortestPaths}, which stores the distances
+ * in a flat array and processes tiles of the matrix in parallel.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -0,0 +1,70 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.function.*;
+
+/**
+ * Restricts the edges scanned by a point-to-point shortest path search to those which can lie on
+ * a shortest path to the sink.
+ *
+ * <p>
+ * Implementations precompute for each edge some information about the part of the graph the
+ * edge leads to, for example {@link ArcFlags}. For a given query the filter must accept all edges
+ * of all shortest paths from the source to the sink, otherwise the search may return a longer
+ * path or no path at all. Edges which cannot belong to a shortest path may be rejected and are
+ * then skipped by the search.
+ *
+ * <p>
+ * A filter provides for every vertex the accepted edges which the search would scan from it, so
+ * that an implementation can keep its information next to the adjacency of the vertex instead of
+ * looking up every scanned edge.
+ *
+ * <p>
+ * Filters are supported by {@link BidirectionalDijkstraShortestPath}, {@link AStarShortestPath}
+ * and {@link BidirectionalAStarShortestPath}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public interface GoalDirectedEdgeFilter<V, E>
+{
+    /**
+     * Get the edges which may be scanned by a search starting at {@code source} and moving
+     * towards {@code sink} along the direction of the edges. For each vertex the returned function
+     * gives the accepted edges among the outgoing edges of the vertex.
+     *
+     * @param source the source vertex of the query
+     * @param sink the sink vertex of the query
+     * @return a function from a vertex to the outgoing edges which may be scanned by the forward
+     *         search
+     */
+    Function<V, Iterable<E>> getForwardEdges(V source, V sink);
+
+    /**
+     * Get the edges which may be scanned by a search starting at {@code sink} and moving towards
+     * {@code source} against the direction of the edges. For each vertex the returned function
+     * gives the accepted edges among the incoming edges of the vertex.
+     *
+     * @param source the source vertex of the query
+     * @param sink the sink vertex of the query
+     * @return a function from a vertex to the incoming edges which may be scanned by the backward
+     *         search
+     */
+    Function<V, Iterable<E>> getBackwardEdges(V source, V sink);
+}
@@ -28,6 +28,10 @@ import java.util.*;
  * distance metrics can be found
  * <a href="https://en.wikipedia.org/wiki/Distance_(graph_theory)">here</a>.
  *
+ * <p>
+ * For large undirected graphs see {@link BoundingGraphMeasurer}, which computes the same metrics
+ * exactly from a few single-source searches instead of all-pairs shortest paths.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
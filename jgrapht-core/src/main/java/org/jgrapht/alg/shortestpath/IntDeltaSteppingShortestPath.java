@@ -0,0 +1,783 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Parallel delta-stepping single-source shortest path algorithm running on primitive arrays.
+ *
+ * <p>
+ * This is a variant of {@link DeltaSteppingShortestPath} designed for large graphs. The vertices of
+ * the graph are mapped to integers and the graph is copied once, during construction, into a
+ * compressed sparse row (CSR) representation. A query then works exclusively on arrays:
+ * <ul>
+ * <li>Tentative distances are kept in an {@link AtomicLongArray} holding the bit patterns of the
+ * distances, which for non-negative values are ordered like the distances themselves. An edge is
+ * relaxed by a compare-and-set loop, without any locks.</li>
+ * <li>Buckets are not shared. Every worker thread appends the vertices it improves to its own
+ * buckets, which are growable integer arrays arranged in a ring of $\lfloor w_{max} / \Delta
+ * \rfloor + 3$ slots, where $w_{max}$ is the maximum edge weight. The ring has at most
+ * {@value #MAX_RING_SIZE} slots; vertices whose bucket lies beyond the ring are kept in an
+ * overflow bucket and moved into the ring once the search gets close to them. A vertex is not
+ * removed from its old bucket when its distance decreases; stale entries are skipped when their
+ * bucket is processed.</li>
+ * <li>The vertices of the current bucket are collected from the buckets of all workers into a
+ * single array and relaxed in parallel by recursive tasks of a {@link ForkJoinPool}, so that idle
+ * workers steal the remaining ranges of the array from busy ones. A bucket is processed repeatedly
+ * until no vertex is inserted into it anymore, then the search advances to the next non-empty
+ * bucket. Small buckets are processed by the calling thread.</li>
+ * <li>The shortest path tree is not maintained during the search. After the distances are final,
+ * the predecessor of every vertex is selected in a parallel pass among its incoming edges whose
+ * relaxation yields exactly its distance.</li>
+ * </ul>
+ * The workspace of the algorithm is kept between queries, so after the first query only the
+ * returned distance and predecessor arrays are allocated.
+ *
+ * <p>
+ * When no bucket width is given, it is computed from the average edge weight $\bar{w}$ and the
+ * average out-degree $\bar{d}$ of the graph as $\Delta = 8 \bar{w} / \bar{d}$. For random weights
+ * this matches the $\Theta(1 / d)$ width recommended by Meyer and Sanders, while for sparse graphs
+ * like road networks it makes the buckets wide enough to keep all workers busy.
+ *
+ * <p>
+ * The edge weights are read once during construction. Changes to the graph after that point are
+ * not visible to the algorithm and require a new instance. Instances are not thread-safe, but the
+ * queries themselves run in parallel.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see DeltaSteppingShortestPath
+ */
+public class IntDeltaSteppingShortestPath<V, E> extends BaseShortestPathAlgorithm<V, E>
+{
+    private static final String NEGATIVE_EDGE_WEIGHT_NOT_ALLOWED =
+        "Negative edge weight not allowed";
+    private static final String DELTA_MUST_BE_NON_NEGATIVE = "Delta must be non-negative";
+
+    /**
+     * Factor of the automatically computed bucket width.
+     */
+    private static final double AUTO_DELTA_FACTOR = 8d;
+    /**
+     * Buckets with fewer vertices are processed by the calling thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+    /**
+     * Number of ranges per worker thread into which a bucket is split.
+     */
+    private static final int RANGES_PER_THREAD = 8;
+    /**
+     * Maximum number of slots of the bucket rings.
+     */
+    private static final int MAX_RING_SIZE = 4096;
+
+    private static final long INFINITY_BITS = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    private final ForkJoinPool pool;
+    private final VertexToIntegerMapping<V> mapping;
+    private final List<E> edges;
+    private final int n;
+    private final double delta;
+    /**
+     * Number of slots of the bucket rings.
+     */
+    private final int ringSize;
+
+    // CSR representation of the outgoing edges
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] edgeIds;
+    private final double[] weights;
+
+    // workspace
+    private final AtomicLongArray distance;
+    // buckets of the calling thread at index 0, followed by the buckets of the pool workers
+    private volatile Buckets[] workerBuckets;
+    private int[] frontier;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph, which uses the
+     * {@link ForkJoinPool#commonPool() common pool} and computes the bucket width automatically.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public IntDeltaSteppingShortestPath(Graph<V, E> graph)
+    {
+        this(graph, 0d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph and pool, which computes the
+     * bucket width automatically. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code pool}.
+     *
+     * @param graph the graph
+     * @param pool the pool which will be used for parallelization
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public IntDeltaSteppingShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, 0d, pool);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph, bucket width and pool. It is
+     * up to a user of this algorithm to handle the creation and termination of the provided
+     * {@code pool}.
+     *
+     * @param graph the graph
+     * @param delta the bucket width, or $0$ to compute it automatically
+     * @param pool the pool which will be used for parallelization
+     * @throws IllegalArgumentException if delta is negative
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public IntDeltaSteppingShortestPath(Graph<V, E> graph, double delta, ForkJoinPool pool)
+    {
+        super(graph);
+        if (delta < 0d || Double.isNaN(delta)) {
+            throw new IllegalArgumentException(DELTA_MUST_BE_NON_NEGATIVE);
+        }
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.n = mapping.getIndexList().size();
+        this.edges = new ArrayList<>(graph.edgeSet());
+        boolean undirected = graph.getType().isUndirected();
+
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        int m = edges.size();
+        int[] sources = new int[m];
+        int[] edgeTargets = new int[m];
+        double[] edgeWeights = new double[m];
+        this.offsets = new int[n + 1];
+        double maxWeight = 0d;
+        double weightSum = 0d;
+        for (int e = 0; e < m; ++e) {
+            E edge = edges.get(e);
+            double w = graph.getEdgeWeight(edge);
+            if (w < 0d) {
+                throw new IllegalArgumentException(NEGATIVE_EDGE_WEIGHT_NOT_ALLOWED);
+            }
+            sources[e] = vertexMap.get(graph.getEdgeSource(edge));
+            edgeTargets[e] = vertexMap.get(graph.getEdgeTarget(edge));
+            edgeWeights[e] = w;
+            maxWeight = Math.max(maxWeight, w);
+            weightSum += w;
+            ++offsets[sources[e] + 1];
+            if (undirected) {
+                ++offsets[edgeTargets[e] + 1];
+            }
+        }
+        for (int v = 0; v < n; ++v) {
+            offsets[v + 1] += offsets[v];
+        }
+        int arcs = offsets[n];
+        this.targets = new int[arcs];
+        this.edgeIds = new int[arcs];
+        this.weights = new double[arcs];
+        int[] pos = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < m; ++e) {
+            int i = pos[sources[e]]++;
+            targets[i] = edgeTargets[e];
+            edgeIds[i] = e;
+            weights[i] = edgeWeights[e];
+            if (undirected) {
+                i = pos[edgeTargets[e]]++;
+                targets[i] = sources[e];
+                edgeIds[i] = e;
+                weights[i] = edgeWeights[e];
+            }
+        }
+
+        if (delta == 0d) {
+            if (weightSum == 0d) {
+                delta = 1d;
+            } else {
+                double averageWeight = weightSum / m;
+                double averageDegree = (double) arcs / n;
+                delta = AUTO_DELTA_FACTOR * averageWeight / averageDegree;
+            }
+        }
+        this.delta = delta;
+        // no shortest path is longer than the sum of all weights
+        if (weightSum / delta >= Long.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Delta is too small for the edge weights");
+        }
+        this.ringSize = (int) Math.min(Math.floor(maxWeight / delta) + 3, MAX_RING_SIZE);
+
+        this.distance = new AtomicLongArray(n);
+        this.workerBuckets = new Buckets[pool.getParallelism() + 1];
+        this.frontier = new int[16];
+    }
+
+    /**
+     * Get the bucket width used by the algorithm.
+     *
+     * @return the bucket width
+     */
+    public double getDelta()
+    {
+        return delta;
+    }
+
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned object holds its own distance and predecessor arrays and thus stays valid when
+     * further queries are executed.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        int s = mapping.getVertexMap().get(source);
+
+        forEachRange(n, (from, to) -> {
+            for (int v = from; v < to; ++v) {
+                distance.set(v, INFINITY_BITS);
+            }
+        });
+        Buckets[] allBuckets = workerBuckets;
+        for (Buckets buckets : allBuckets) {
+            if (buckets != null) {
+                buckets.clear();
+            }
+        }
+
+        distance.set(s, 0L);
+        frontier[0] = s;
+        int frontierSize = 1;
+        long current = 0L;
+        while (frontierSize > 0) {
+            if (frontierSize <= SEQUENTIAL_THRESHOLD) {
+                relaxRange(0, frontierSize, current);
+            } else {
+                int grain = Math.max(
+                    SEQUENTIAL_THRESHOLD / 4,
+                    frontierSize / (RANGES_PER_THREAD * pool.getParallelism()));
+                pool.invoke(new RelaxTask(0, frontierSize, current, grain));
+            }
+
+            // advance to the smallest non-empty bucket, in the rings or in the overflow buckets
+            allBuckets = workerBuckets;
+            long next = Long.MAX_VALUE;
+            for (Buckets buckets : allBuckets) {
+                if (buckets != null) {
+                    next = Math.min(next, buckets.firstNonEmpty(current));
+                    next = Math.min(next, buckets.overflowMin);
+                }
+            }
+            if (next == Long.MAX_VALUE) {
+                break;
+            }
+            current = next;
+            frontierSize = 0;
+            for (Buckets buckets : allBuckets) {
+                if (buckets != null) {
+                    if (buckets.overflowMin - current < ringSize) {
+                        buckets.moveOverflow(
+                            current, v -> bucketOf(Double.longBitsToDouble(distance.get(v))));
+                    }
+                    int size = buckets.size(current);
+                    if (frontierSize + size > frontier.length) {
+                        frontier = Arrays
+                            .copyOf(frontier, Math.max(2 * frontier.length, frontierSize + size));
+                    }
+                    frontierSize = buckets.drain(current, frontier, frontierSize);
+                }
+            }
+        }
+
+        return buildPaths(s);
+    }
+
+    /**
+     * Relaxes all edges of the vertices of the frontier in the given range which still belong to
+     * the given bucket.
+     */
+    private void relaxRange(int from, int to, long bucket)
+    {
+        Buckets buckets = buckets();
+        for (int i = from; i < to; ++i) {
+            int v = frontier[i];
+            double d = Double.longBitsToDouble(distance.get(v));
+            if (bucketOf(d) < bucket) {
+                // already settled in an earlier bucket
+                continue;
+            }
+            for (int j = offsets[v], end = offsets[v + 1]; j < end; ++j) {
+                double newDistance = d + weights[j];
+                int u = targets[j];
+                if (relax(u, newDistance)) {
+                    buckets.add(bucketOf(newDistance), u, bucket);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lowers the distance of a vertex, if the new distance is smaller.
+     *
+     * @return true if the distance was lowered, false otherwise
+     */
+    private boolean relax(int v, double newDistance)
+    {
+        long newBits = Double.doubleToRawLongBits(newDistance);
+        long currentBits = distance.get(v);
+        while (newBits < currentBits) {
+            if (distance.weakCompareAndSetVolatile(v, currentBits, newBits)) {
+                return true;
+            }
+            currentBits = distance.get(v);
+        }
+        return false;
+    }
+
+    private long bucketOf(double d)
+    {
+        return (long) (d / delta);
+    }
+
+    /**
+     * Get the buckets of the current thread. Every worker thread of the pool uses the slot of its
+     * pool index, any other thread the first slot, so that a slot is only ever written by a single
+     * thread.
+     */
+    private Buckets buckets()
+    {
+        Thread thread = Thread.currentThread();
+        int index = 0;
+        if (thread instanceof ForkJoinWorkerThread worker && worker.getPool() == pool) {
+            index = worker.getPoolIndex() + 1;
+        }
+        Buckets[] allBuckets = workerBuckets;
+        if (index < allBuckets.length && allBuckets[index] != null) {
+            return allBuckets[index];
+        }
+        return createBuckets(index);
+    }
+
+    private synchronized Buckets createBuckets(int index)
+    {
+        Buckets[] allBuckets = workerBuckets;
+        if (index >= allBuckets.length) {
+            allBuckets = Arrays.copyOf(allBuckets, Math.max(2 * allBuckets.length, index + 1));
+        }
+        Buckets buckets = new Buckets(ringSize);
+        allBuckets[index] = buckets;
+        workerBuckets = allBuckets;
+        return buckets;
+    }
+
+    /**
+     * Builds the result of a query from the final distances.
+     */
+    private SingleSourcePaths<V, E> buildPaths(int source)
+    {
+        double[] dist = new double[n];
+        int[] predEdge = new int[n];
+        int[] predVertex = new int[n];
+        forEachRange(n, (from, to) -> {
+            for (int v = from; v < to; ++v) {
+                dist[v] = Double.longBitsToDouble(distance.get(v));
+                predEdge[v] = -1;
+            }
+        });
+
+        // an edge is a tree edge if it yields exactly the distance of its target, restricted to
+        // edges which increase the distance in order to avoid cycles
+        forEachRange(n, (from, to) -> {
+            for (int u = from; u < to; ++u) {
+                double d = dist[u];
+                if (d == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = offsets[u], end = offsets[u + 1]; j < end; ++j) {
+                    int v = targets[j];
+                    if (dist[v] > d && d + weights[j] == dist[v]) {
+                        predEdge[v] = edgeIds[j];
+                        predVertex[v] = u;
+                    }
+                }
+            }
+        });
+
+        // remaining vertices are reached from vertices with the same distance, using edges of
+        // zero weight or weights below the precision of the distances
+        boolean complete = true;
+        for (int v = 0; v < n; ++v) {
+            if (v != source && predEdge[v] < 0 && dist[v] != Double.POSITIVE_INFINITY) {
+                complete = false;
+                break;
+            }
+        }
+        if (!complete) {
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            for (int v = 0; v < n; ++v) {
+                if (v == source || predEdge[v] >= 0) {
+                    queue[tail++] = v;
+                }
+            }
+            while (head < tail) {
+                int u = queue[head++];
+                for (int j = offsets[u], end = offsets[u + 1]; j < end; ++j) {
+                    int v = targets[j];
+                    if (v != source && predEdge[v] < 0 && dist[v] == dist[u]
+                        && dist[u] + weights[j] == dist[v])
+                    {
+                        predEdge[v] = edgeIds[j];
+                        predVertex[v] = u;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        }
+
+        return new ArraySingleSourcePaths<>(
+            graph, mapping, edges, source, dist, predEdge, predVertex);
+    }
+
+    /**
+     * Executes an action on consecutive ranges of $[0, size)$ in parallel.
+     */
+    private void forEachRange(int size, RangeAction action)
+    {
+        if (size <= SEQUENTIAL_THRESHOLD) {
+            action.apply(0, size);
+        } else {
+            int grain = Math.max(
+                SEQUENTIAL_THRESHOLD, size / (RANGES_PER_THREAD * pool.getParallelism()));
+            pool.invoke(new RangeTask(0, size, grain, action));
+        }
+    }
+
+    /**
+     * An action on a range of integers.
+     */
+    private interface RangeAction
+    {
+        void apply(int from, int to);
+    }
+
+    /**
+     * Task which splits a range until it is small enough and then executes an action on it.
+     */
+    private static class RangeTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 8262741394532452387L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int grain, RangeAction action)
+        {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= grain) {
+                action.apply(from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new RangeTask(from, mid, grain, action), new RangeTask(mid, to, grain, action));
+            }
+        }
+    }
+
+    /**
+     * Task which relaxes the edges of a range of the frontier.
+     */
+    private class RelaxTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = -3217447040581234709L;
+
+        private final int from;
+        private final int to;
+        private final long bucket;
+        private final int grain;
+
+        RelaxTask(int from, int to, long bucket, int grain)
+        {
+            this.from = from;
+            this.to = to;
+            this.bucket = bucket;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= grain) {
+                relaxRange(from, to, bucket);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new RelaxTask(from, mid, bucket, grain), new RelaxTask(mid, to, bucket, grain));
+            }
+        }
+    }
+
+    /**
+     * Buckets of a single thread. Since the distance of a relaxed vertex exceeds the distance of
+     * the current bucket by at most the maximum edge weight, all non-empty buckets usually fit in
+     * a ring of {@link #ringSize} slots. When the ring is capped, vertices beyond it are kept in
+     * an overflow bucket.
+     */
+    private static class Buckets
+    {
+        private final int ringSize;
+        private final int[][] slots;
+        private final int[] sizes;
+        private int count;
+
+        private int[] overflow;
+        private int overflowSize;
+        /**
+         * Smallest bucket of the overflow entries, or {@link Long#MAX_VALUE} if there are none.
+         */
+        private long overflowMin;
+
+        Buckets(int ringSize)
+        {
+            this.ringSize = ringSize;
+            this.slots = new int[ringSize][];
+            this.sizes = new int[ringSize];
+            this.overflowMin = Long.MAX_VALUE;
+        }
+
+        void add(long bucket, int v, long current)
+        {
+            if (bucket - current >= ringSize) {
+                if (overflow == null) {
+                    overflow = new int[16];
+                } else if (overflowSize == overflow.length) {
+                    overflow = Arrays.copyOf(overflow, 2 * overflowSize);
+                }
+                overflow[overflowSize++] = v;
+                overflowMin = Math.min(overflowMin, bucket);
+                return;
+            }
+            addToRing(bucket, v);
+        }
+
+        private void addToRing(long bucket, int v)
+        {
+            int slot = (int) (bucket % ringSize);
+            int[] array = slots[slot];
+            int size = sizes[slot];
+            if (array == null) {
+                array = new int[16];
+                slots[slot] = array;
+            } else if (size == array.length) {
+                array = Arrays.copyOf(array, 2 * size);
+                slots[slot] = array;
+            }
+            array[size] = v;
+            sizes[slot] = size + 1;
+            if (size == 0) {
+                ++count;
+            }
+        }
+
+        /**
+         * Get the smallest non-empty bucket, which is at least {@code current}.
+         *
+         * @return the bucket or {@link Long#MAX_VALUE} if all buckets are empty
+         */
+        long firstNonEmpty(long current)
+        {
+            if (count == 0) {
+                return Long.MAX_VALUE;
+            }
+            int start = (int) (current % ringSize);
+            for (int i = 0; i < ringSize; ++i) {
+                int slot = start + i < ringSize ? start + i : start + i - ringSize;
+                if (sizes[slot] > 0) {
+                    return current + i;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        /**
+         * Get the number of entries of a bucket of the ring.
+         */
+        int size(long bucket)
+        {
+            return sizes[(int) (bucket % ringSize)];
+        }
+
+        /**
+         * Moves the vertices of a bucket of the ring to the frontier, which must have enough room.
+         *
+         * @return the new size of the frontier
+         */
+        int drain(long bucket, int[] frontier, int frontierSize)
+        {
+            int slot = (int) (bucket % ringSize);
+            int size = sizes[slot];
+            if (size == 0) {
+                return frontierSize;
+            }
+            System.arraycopy(slots[slot], 0, frontier, frontierSize, size);
+            sizes[slot] = 0;
+            --count;
+            return frontierSize + size;
+        }
+
+        /**
+         * Moves the overflow entries which fit in the ring starting at bucket {@code current} into
+         * the ring. Entries of vertices whose distance was lowered since are placed by their
+         * current distance or dropped, if their bucket was already processed.
+         */
+        void moveOverflow(long current, IntToLongFunction bucketOfVertex)
+        {
+            int kept = 0;
+            long min = Long.MAX_VALUE;
+            for (int i = 0; i < overflowSize; ++i) {
+                int v = overflow[i];
+                long bucket = bucketOfVertex.applyAsLong(v);
+                if (bucket < current) {
+                    continue;
+                }
+                if (bucket - current < ringSize) {
+                    addToRing(bucket, v);
+                } else {
+                    overflow[kept++] = v;
+                    min = Math.min(min, bucket);
+                }
+            }
+            overflowSize = kept;
+            overflowMin = min;
+        }
+
+        void clear()
+        {
+            Arrays.fill(sizes, 0);
+            count = 0;
+            overflowSize = 0;
+            overflowMin = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Paths of a query, which only refer to the graph, the vertex mapping and the edges so that the
+     * result does not keep the algorithm reachable. Paths are recovered by walking the predecessor
+     * indices, without looking up the vertices of the path in the mapping.
+     */
+    private static final class ArraySingleSourcePaths<V, E>
+        implements SingleSourcePaths<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final VertexToIntegerMapping<V> mapping;
+        private final List<E> edges;
+        private final int source;
+        private final double[] dist;
+        private final int[] predEdge;
+        private final int[] predVertex;
+
+        ArraySingleSourcePaths(
+            Graph<V, E> graph, VertexToIntegerMapping<V> mapping, List<E> edges, int source,
+            double[] dist, int[] predEdge, int[] predVertex)
+        {
+            this.graph = graph;
+            this.mapping = mapping;
+            this.edges = edges;
+            this.source = source;
+            this.dist = dist;
+            this.predEdge = predEdge;
+            this.predVertex = predVertex;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return mapping.getIndexList().get(source);
+        }
+
+        @Override
+        public double getWeight(V targetVertex)
+        {
+            Integer index = mapping.getVertexMap().get(targetVertex);
+            if (index == null) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            return dist[index];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V targetVertex)
+        {
+            Integer index = mapping.getVertexMap().get(targetVertex);
+            if (index == null) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            V sourceVertex = getSourceVertex();
+            if (index == source) {
+                return GraphWalk.singletonWalk(graph, sourceVertex, 0d);
+            }
+            if (predEdge[index] < 0) {
+                return null;
+            }
+            LinkedList<E> edgeList = new LinkedList<>();
+            for (int cur = index; cur != source; cur = predVertex[cur]) {
+                edgeList.addFirst(edges.get(predEdge[cur]));
+            }
+            return new GraphWalk<>(graph, sourceVertex, targetVertex, null, edgeList, dist[index]);
+        }
+    }
+}
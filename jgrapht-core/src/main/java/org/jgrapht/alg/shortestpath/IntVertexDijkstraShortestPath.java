@@ -49,6 +49,14 @@ import java.util.function.*;
  * Algorithm Engineering and Experiments (ALENEX). Society for Industrial and Applied Mathematics,
  * 2014.
  *
+ * <p>
+ * Alternatively, the algorithm can be constructed with a {@link SearchWorkspacePool}. In that case
+ * each query runs inside a {@link SearchWorkspace} using a primitive heap, and the vertex mapping
+ * is computed only once on the first query instead of on every query. With a
+ * {@link SearchWorkspacePool#perThread() per-thread} pool no memory proportional to the size of the
+ * graph is allocated after warm-up and a single instance can answer queries concurrently from
+ * multiple threads. The graph must not be modified after the first query.
+ *
  * @param <E> the graph edge type
  *
  * @author Dimitrios Michail
@@ -56,6 +64,8 @@ import java.util.function.*;
 public final class IntVertexDijkstraShortestPath<E> extends BaseShortestPathAlgorithm<Integer, E>
 {
     private final Supplier<AddressableHeap<Double, Integer>> heapSupplier;
+    private final SearchWorkspacePool<E> workspacePool;
+    private volatile WorkspaceDijkstraSearch<Integer, E> workspaceSearch;
 
     /**
      * Constructs a new instance of the algorithm for a given graph.
@@ -78,6 +88,23 @@ public final class IntVertexDijkstraShortestPath<E> extends BaseShortestPathAlgo
     {
         super(graph);
         this.heapSupplier = heapSupplier;
+        this.workspacePool = null;
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The constructed algorithm will
+     * execute each query inside a workspace obtained from the {@code workspacePool}.
+     *
+     * @param graph the graph
+     * @param workspacePool the workspace pool
+     */
+    public IntVertexDijkstraShortestPath(
+        Graph<Integer, E> graph, SearchWorkspacePool<E> workspacePool)
+    {
+        super(graph);
+        this.heapSupplier = null;
+        this.workspacePool =
+            Objects.requireNonNull(workspacePool, "Workspace pool cannot be null");
     }
 
     /**
@@ -105,6 +132,16 @@ public final class IntVertexDijkstraShortestPath<E> extends BaseShortestPathAlgo
         if (!graph.containsVertex(sink)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
+        if (workspacePool != null) {
+            WorkspaceDijkstraSearch<Integer, E> search = getWorkspaceSearch();
+            SearchWorkspace<E> ws = workspacePool.acquire(search.capacity());
+            try {
+                search.run(ws, source, sink, Double.POSITIVE_INFINITY);
+                return search.getPath(ws, source, sink, Double.POSITIVE_INFINITY);
+            } finally {
+                workspacePool.release(ws);
+            }
+        }
         return new Algorithm().getPath(source, sink);
     }
 
@@ -122,9 +159,56 @@ public final class IntVertexDijkstraShortestPath<E> extends BaseShortestPathAlgo
         if (!graph.containsVertex(source)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
+        if (workspacePool != null) {
+            WorkspaceDijkstraSearch<Integer, E> search = getWorkspaceSearch();
+            SearchWorkspace<E> ws = workspacePool.acquire(search.capacity());
+            try {
+                search.run(ws, source, null, Double.POSITIVE_INFINITY);
+                return search.getPaths(ws, source, Double.POSITIVE_INFINITY);
+            } finally {
+                workspacePool.release(ws);
+            }
+        }
         return new Algorithm().getPaths(source);
     }
 
+    private WorkspaceDijkstraSearch<Integer, E> getWorkspaceSearch()
+    {
+        WorkspaceDijkstraSearch<Integer, E> result = workspaceSearch;
+        if (result == null) {
+            synchronized (this) {
+                result = workspaceSearch;
+                if (result == null) {
+                    result = createWorkspaceSearch();
+                    workspaceSearch = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private WorkspaceDijkstraSearch<Integer, E> createWorkspaceSearch()
+    {
+        int n = graph.vertexSet().size();
+        int[] vertices = new int[n];
+        boolean remapVertices = false;
+        int i = 0;
+        for (Integer v : graph.vertexSet()) {
+            if (v < 0 || v >= n) {
+                remapVertices = true;
+            }
+            vertices[i++] = v;
+        }
+        if (!remapVertices) {
+            return new WorkspaceDijkstraSearch<>(graph, n, v -> v, v -> v);
+        }
+        IdentifierMap idMap = new IdentifierMap(n);
+        for (i = 0; i < n; i++) {
+            idMap.put(vertices[i], i);
+        }
+        return new WorkspaceDijkstraSearch<>(graph, n, idMap::get, v -> vertices[v]);
+    }
+
     /**
      * The actual implementation class. We use this inner class pattern in order to allow the user
      * to keep a reference to the implementation class, but allow the garbage collector to collect
@@ -45,6 +45,10 @@ import java.util.*;
  * In case the algorithm detects a negative weight cycle it will throw an exception of type
  * {@link NegativeCycleDetectedException} which will contain the detected negative weight cycle.
  *
+ * <p>
+ * For large graphs see {@link ParallelJohnsonShortestPaths}, which runs the Dijkstra searches in
+ * parallel and streams the distances instead of storing them in nested arrays.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
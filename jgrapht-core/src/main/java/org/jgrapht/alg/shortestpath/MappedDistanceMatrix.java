@@ -0,0 +1,196 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Distance matrix stored in a memory-mapped file. The file starts with the number of rows and
+ * columns stored as two 4-byte integers, followed by the distances in row-major order, all in
+ * little-endian byte order. The matrix can be used as a {@link RowSink}.
+ *
+ * <p>
+ * A file can be larger than the 2GB limit of a single mapping, therefore it is mapped in
+ * segments consisting of whole rows.
+ */
+public class MappedDistanceMatrix
+    implements RowSink, Closeable
+{
+    private static final int HEADER_BYTES = 8;
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final int rows;
+    private final int columns;
+    private final int rowsPerSegment;
+    private final DoubleBuffer[] segments;
+
+    private MappedDistanceMatrix(FileChannel channel, FileChannel.MapMode mode, int rows,
+        int columns)
+        throws IOException
+    {
+        this.channel = channel;
+        this.rows = rows;
+        this.columns = columns;
+        long rowBytes = Math.max(1L, (long) columns * Double.BYTES);
+        this.rowsPerSegment = (int) Math.max(1L, Math.min(rows, MAX_SEGMENT_BYTES / rowBytes));
+        int numSegments = rows == 0 ? 0 : (rows + rowsPerSegment - 1) / rowsPerSegment;
+        this.segments = new DoubleBuffer[numSegments];
+        for (int i = 0; i < numSegments; ++i) {
+            int firstRow = i * rowsPerSegment;
+            int segmentRows = Math.min(rowsPerSegment, rows - firstRow);
+            long position = HEADER_BYTES + (long) firstRow * columns * Double.BYTES;
+            segments[i] = channel
+                .map(mode, position, (long) segmentRows * columns * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Creates a new matrix file of the given dimensions. An existing file is overwritten. All
+     * distances are initially zero.
+     *
+     * @param path path of the file
+     * @param rows number of rows, usually the number of sources
+     * @param columns number of columns, usually the number of targets
+     * @return the matrix
+     * @throws IOException if an I/O error occurs
+     */
+    public static MappedDistanceMatrix create(Path path, int rows, int columns)
+        throws IOException
+    {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Dimensions must be non-negative");
+        }
+        FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header =
+                ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(rows).putInt(columns).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, HEADER_BYTES - header.remaining());
+            }
+            return new MappedDistanceMatrix(
+                channel, FileChannel.MapMode.READ_WRITE, rows, columns);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing matrix file for reading.
+     *
+     * @param path path of the file
+     * @return the matrix
+     * @throws IOException if an I/O error occurs or the file is not a matrix file
+     */
+    public static MappedDistanceMatrix open(Path path)
+        throws IOException
+    {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header =
+                ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Truncated matrix file");
+                }
+            }
+            header.flip();
+            int rows = header.getInt();
+            int columns = header.getInt();
+            if (rows < 0 || columns < 0
+                || channel.size() != HEADER_BYTES + (long) rows * columns * Double.BYTES)
+            {
+                throw new IOException("Invalid matrix file");
+            }
+            return new MappedDistanceMatrix(
+                channel, FileChannel.MapMode.READ_ONLY, rows, columns);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Get the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Get a distance of the matrix.
+     *
+     * @param row the row
+     * @param column the column
+     * @return the distance
+     */
+    public double getDistance(int row, int column)
+    {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        return segments[row / rowsPerSegment]
+            .get((row % rowsPerSegment) * columns + column);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void accept(int sourceIndex, int targetStart, double[] distances)
+    {
+        Objects.checkIndex(sourceIndex, rows);
+        Objects.checkFromIndexSize(targetStart, distances.length, columns);
+        segments[sourceIndex / rowsPerSegment]
+            .put((sourceIndex % rowsPerSegment) * columns + targetStart, distances);
+    }
+
+    /**
+     * Writes all changes to the file and closes it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        channel.force(true);
+        channel.close();
+    }
+}
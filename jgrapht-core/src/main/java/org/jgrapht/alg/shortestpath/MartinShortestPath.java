@@ -38,6 +38,11 @@ import java.util.stream.*;
  * <p>
  * Note that the multi-objective shortest path problem is a well-known NP-hard problem.
  *
+ * <p>
+ * For large graphs or more than two objectives see {@link ParallelMartinShortestPath}, which
+ * indexes the labels of every vertex for fast dominance tests and expands all final labels of a
+ * round in parallel.
+ *
  * @author Dimitrios Michail
  *
  * @param <V> the vertex type
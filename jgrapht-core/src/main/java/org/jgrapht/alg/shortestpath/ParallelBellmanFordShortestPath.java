@@ -0,0 +1,475 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel frontier-based Bellman-Ford algorithm.
+ *
+ * <p>
+ * Computes shortest paths from a single source vertex to all other vertices in a graph which may
+ * contain negative edge weights. The algorithm proceeds in rounds. In every round the outgoing
+ * edges of the frontier, the vertices whose distance decreased in the previous round, are relaxed
+ * in parallel by recursive tasks of a {@link ForkJoinPool}. Distances are kept in an
+ * {@link AtomicLongArray} holding an order-preserving encoding of the distances and are lowered by
+ * a compare-and-set loop, without any locks. The relaxations of a round read the distances of the
+ * frontier as they were at the beginning of the round, so that after the round the predecessor
+ * edge of every improved vertex can be selected deterministically among the edges yielding its
+ * distance. The algorithm stops as soon as a round improves no distance.
+ *
+ * <p>
+ * Negative cycles are detected by checking the predecessor graph for cycles, which only exist if
+ * a negative cycle has been found, see B. V. Cherkassky, A. V. Goldberg. Negative-cycle detection
+ * algorithms. Mathematical Programming, 85:277–311, 1999. Such a cycle always contains a vertex
+ * improved in the last round, so only the predecessor paths of these vertices are examined. A check
+ * is executed as soon as the number of improvements since the last check reaches the number of
+ * vertices, which keeps its amortized cost constant per improvement, and in every round after
+ * round $|V| - 1$. The cycle is then reported in a
+ * {@link NegativeCycleDetectedException} without waiting for $|V|$ rounds to pass. Negative cycles
+ * which are not reachable from the source are not reported. In undirected graphs every edge with a
+ * negative weight is reported as a negative cycle, traversed back and forth.
+ *
+ * <p>
+ * The graph is copied once during construction into a compressed sparse row representation and
+ * the edge weights are read at that time. Instances are thread-safe, and the queries themselves
+ * run in parallel.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see BellmanFordShortestPath
+ * @see SPFAShortestPath
+ */
+public class ParallelBellmanFordShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Frontiers with fewer vertices are processed by the calling thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+    /**
+     * Number of ranges per worker thread into which a frontier is split.
+     */
+    private static final int RANGES_PER_THREAD = 8;
+    /**
+     * Size of the buffer in which a task collects the improved vertices.
+     */
+    private static final int BUFFER_SIZE = 256;
+
+    private static final long INFINITY_KEY = key(Double.POSITIVE_INFINITY);
+
+    private final ForkJoinPool pool;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+
+    // CSR representation of the outgoing edges
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] arcSources;
+    private final double[] weights;
+    private final List<E> arcEdges;
+
+    /**
+     * Constructs a new instance of the algorithm which uses the {@link ForkJoinPool#commonPool()
+     * common pool}.
+     *
+     * @param graph the input graph
+     */
+    public ParallelBellmanFordShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm. It is up to a user of this algorithm to handle
+     * the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization
+     */
+    public ParallelBellmanFordShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        super(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+
+        CsrAdjacency<V, E> csr = new CsrAdjacency<>(graph);
+        this.vertexMap = csr.vertexMap;
+        this.vertices = csr.vertices;
+        this.n = csr.n;
+        this.offsets = csr.offsets;
+        this.targets = csr.targets;
+        this.arcSources = csr.arcSources();
+        this.weights = csr.arcWeights(graph::getEdgeWeight);
+        this.arcEdges = csr.arcEdges;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        Integer s = vertexMap.get(source);
+        if (s == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        Search search = new Search(s);
+        search.run();
+
+        Map<V, Pair<Double, E>> map = HashMap.newHashMap(n);
+        for (int v = 0; v < n; ++v) {
+            long key = search.distance.get(v);
+            if (key != INFINITY_KEY) {
+                int arc = search.predArc.get(v);
+                E e = arc == Integer.MAX_VALUE ? null : arcEdges.get(arc);
+                map.put(vertices.get(v), Pair.of(value(key), e));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, map);
+    }
+
+    /**
+     * Find a path between two vertices.
+     *
+     * @param graph the graph to be searched
+     * @param source the vertex at which the path should start
+     * @param sink the vertex at which the path should end
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @return a shortest path, or null if no path exists
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    public static <V, E> GraphPath<V, E> findPathBetween(Graph<V, E> graph, V source, V sink)
+    {
+        return new ParallelBellmanFordShortestPath<>(graph).getPath(source, sink);
+    }
+
+    /**
+     * Encodes a distance as a long which compares like the distance, also for negative values.
+     */
+    private static long key(double d)
+    {
+        // adding zero turns negative zero into positive zero
+        long bits = Double.doubleToRawLongBits(d + 0d);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Decodes a distance encoded by {@link #key(double)}.
+     */
+    private static double value(long key)
+    {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * State of a single query.
+     */
+    private class Search
+    {
+        private final int source;
+        private final AtomicLongArray distance;
+        /**
+         * Predecessor arc of every vertex, or {@link Integer#MAX_VALUE} if there is none.
+         */
+        private final AtomicIntegerArray predArc;
+        /**
+         * Last round in which a vertex was improved.
+         */
+        private final AtomicIntegerArray improved;
+        private final AtomicInteger nextSize;
+        private int[] frontier;
+        private double[] frontierDistance;
+        private int[] next;
+        private int round;
+
+        // cycle detection
+        private final int[] walk;
+        private int walkCount;
+
+        Search(int source)
+        {
+            this.source = source;
+            this.distance = new AtomicLongArray(n);
+            this.predArc = new AtomicIntegerArray(n);
+            this.improved = new AtomicIntegerArray(n);
+            this.nextSize = new AtomicInteger();
+            this.frontier = new int[n];
+            this.frontierDistance = new double[n];
+            this.next = new int[n];
+            this.walk = new int[n];
+            for (int v = 0; v < n; ++v) {
+                distance.set(v, INFINITY_KEY);
+                predArc.set(v, Integer.MAX_VALUE);
+                improved.set(v, -1);
+            }
+        }
+
+        void run()
+        {
+            distance.set(source, key(0d));
+            frontier[0] = source;
+            int frontierSize = 1;
+            long pendingCheck = 0;
+            for (round = 0; frontierSize > 0; ++round) {
+                for (int i = 0; i < frontierSize; ++i) {
+                    frontierDistance[i] = value(distance.get(frontier[i]));
+                }
+
+                nextSize.set(0);
+                if (frontierSize <= SEQUENTIAL_THRESHOLD) {
+                    relaxRange(0, frontierSize);
+                } else {
+                    pool.invoke(new RelaxTask(0, frontierSize, grain(frontierSize)));
+                }
+                int size = nextSize.get();
+                if (size == 0) {
+                    break;
+                }
+
+                if (frontierSize <= SEQUENTIAL_THRESHOLD) {
+                    selectPredecessors(0, frontierSize);
+                } else {
+                    pool.invoke(new PredecessorTask(0, frontierSize, grain(frontierSize)));
+                }
+
+                pendingCheck += size;
+                if (pendingCheck >= n || round >= n - 1) {
+                    // a cycle of the predecessor graph contains a vertex improved in this round,
+                    // otherwise its last improved vertex would have improved its successor
+                    checkForCycle(next, size);
+                    pendingCheck = 0;
+                }
+
+                int[] tmp = frontier;
+                frontier = next;
+                next = tmp;
+                frontierSize = size;
+            }
+        }
+
+        private int grain(int size)
+        {
+            return Math.max(
+                SEQUENTIAL_THRESHOLD / 4, size / (RANGES_PER_THREAD * pool.getParallelism()));
+        }
+
+        /**
+         * Relaxes all edges of the vertices of the frontier in the given range and appends the
+         * vertices improved for the first time in this round to the next frontier.
+         */
+        void relaxRange(int from, int to)
+        {
+            int[] buffer = new int[BUFFER_SIZE];
+            int count = 0;
+            for (int i = from; i < to; ++i) {
+                int u = frontier[i];
+                double du = frontierDistance[i];
+                for (int j = offsets[u], end = offsets[u + 1]; j < end; ++j) {
+                    int v = targets[j];
+                    if (relax(v, du + weights[j]) && improved.getAndSet(v, round) != round) {
+                        predArc.set(v, Integer.MAX_VALUE);
+                        buffer[count++] = v;
+                        if (count == BUFFER_SIZE) {
+                            flush(buffer, count);
+                            count = 0;
+                        }
+                    }
+                }
+            }
+            flush(buffer, count);
+        }
+
+        private void flush(int[] buffer, int count)
+        {
+            if (count > 0) {
+                System.arraycopy(buffer, 0, next, nextSize.getAndAdd(count), count);
+            }
+        }
+
+        /**
+         * Lowers the distance of a vertex, if the new distance is smaller.
+         *
+         * @return true if the distance was lowered, false otherwise
+         */
+        private boolean relax(int v, double newDistance)
+        {
+            long newKey = key(newDistance);
+            long currentKey = distance.get(v);
+            while (newKey < currentKey) {
+                if (distance.weakCompareAndSetVolatile(v, currentKey, newKey)) {
+                    return true;
+                }
+                currentKey = distance.get(v);
+            }
+            return false;
+        }
+
+        /**
+         * Selects as predecessor of every vertex improved in this round the smallest arc of the
+         * frontier in the given range which yields its distance.
+         */
+        void selectPredecessors(int from, int to)
+        {
+            for (int i = from; i < to; ++i) {
+                int u = frontier[i];
+                double du = frontierDistance[i];
+                for (int j = offsets[u], end = offsets[u + 1]; j < end; ++j) {
+                    int v = targets[j];
+                    if (improved.get(v) == round && key(du + weights[j]) == distance.get(v)) {
+                        predArc.accumulateAndGet(v, j, Math::min);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Follows the predecessor arcs from the given vertices and throws an exception if they
+         * form a cycle. Every vertex is visited at most once per check.
+         */
+        private void checkForCycle(int[] start, int size)
+        {
+            int first = ++walkCount;
+            for (int i = 0; i < size; ++i) {
+                int v = start[i];
+                int id = ++walkCount;
+                while (walk[v] < first) {
+                    walk[v] = id;
+                    int arc = predArc.get(v);
+                    if (arc == Integer.MAX_VALUE) {
+                        break;
+                    }
+                    v = arcSources[arc];
+                }
+                if (walk[v] == id && predArc.get(v) != Integer.MAX_VALUE) {
+                    throw negativeCycle(v);
+                }
+            }
+        }
+
+        /**
+         * Builds the exception for the cycle of the predecessor graph through vertex {@code v}.
+         */
+        private NegativeCycleDetectedException negativeCycle(int v)
+        {
+            LinkedList<E> cycle = new LinkedList<>();
+            double weight = 0d;
+            int u = v;
+            do {
+                int arc = predArc.get(u);
+                E e = arcEdges.get(arc);
+                cycle.addFirst(e);
+                weight += graph.getEdgeWeight(e);
+                u = arcSources[arc];
+            } while (u != v);
+            V start = vertices.get(v);
+            return new NegativeCycleDetectedException(
+                GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE,
+                new GraphWalk<>(graph, start, start, cycle, weight));
+        }
+
+        /**
+         * Task which relaxes the edges of a range of the frontier.
+         */
+        private class RelaxTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = 5528390267347145402L;
+
+            private final int from;
+            private final int to;
+            private final int grain;
+
+            RelaxTask(int from, int to, int grain)
+            {
+                this.from = from;
+                this.to = to;
+                this.grain = grain;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= grain) {
+                    relaxRange(from, to);
+                } else {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new RelaxTask(from, mid, grain), new RelaxTask(mid, to, grain));
+                }
+            }
+        }
+
+        /**
+         * Task which selects the predecessors reached from a range of the frontier.
+         */
+        private class PredecessorTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = -1890360428117396733L;
+
+            private final int from;
+            private final int to;
+            private final int grain;
+
+            PredecessorTask(int from, int to, int grain)
+            {
+                this.from = from;
+                this.to = to;
+                this.grain = grain;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= grain) {
+                    selectPredecessors(from, to);
+                } else {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(
+                        new PredecessorTask(from, mid, grain), new PredecessorTask(mid, to, grain));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parallel variant of Johnson's all pairs shortest paths algorithm.
+ *
+ * <p>
+ * Edge weights can be negative, but no negative-weight cycles may exist. As in
+ * {@link JohnsonShortestPaths}, a vertex potential $h$ is first computed with the Bellman-Ford
+ * algorithm, such that all reduced weights $w(u, v) + h(u) - h(v)$ are non-negative. Then a
+ * Dijkstra search on the reduced weights is executed from every source, and the distance from $s$
+ * to $t$ is recovered as the reduced distance minus $h(s)$ plus $h(t)$.
+ *
+ * <p>
+ * The graph is copied once during construction into a compressed sparse row representation with
+ * reduced weights, and the potential is computed at the same time. The Dijkstra searches of
+ * different sources are independent and are executed in parallel on a {@link ForkJoinPool}, each
+ * thread reusing its own {@link SearchWorkspace}. The results are not kept in nested maps:
+ * {@link #compute(List, List, RowSink)} passes every row to a {@link RowSink} as soon as it is
+ * available, for example a {@link MappedDistanceMatrix} for matrices which do not fit in memory,
+ * while {@link #computeMatrix(List, List)} collects the distances in a flat row-major array.
+ *
+ * <p>
+ * Single queries through the {@link org.jgrapht.alg.interfaces.ShortestPathAlgorithm} interface
+ * run one search on the reduced weights and are thread-safe.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see JohnsonShortestPaths
+ */
+public class ParallelJohnsonShortestPaths<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default number of sources in a tile.
+     */
+    public static final int DEFAULT_SOURCE_TILE_SIZE = 16;
+
+    private final ForkJoinPool pool;
+    private final int sourceTileSize;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+
+    // CSR representation of the outgoing edges with reduced weights
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] arcSources;
+    private final double[] reducedWeights;
+    private final int[] edges;
+    private final List<E> edgeList;
+    private final double[] potential;
+
+    private final SearchWorkspacePool<Void> workspacePool = SearchWorkspacePool.perThread();
+    // predecessor arcs of the reached vertices, only needed by path queries
+    private final ThreadLocal<int[]> predecessorArcs;
+
+    /**
+     * Constructs a new instance of the algorithm which uses the {@link ForkJoinPool#commonPool()
+     * common pool}.
+     *
+     * @param graph the input graph
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    public ParallelJohnsonShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using the default source tile size. It is up to a
+     * user of this algorithm to handle the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    public ParallelJohnsonShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, DEFAULT_SOURCE_TILE_SIZE);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm. It is up to a user of this algorithm to handle
+     * the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param pool the pool which will be used for parallelization
+     * @param sourceTileSize the number of sources processed by a single task
+     * @throws IllegalArgumentException if the source tile size is not positive
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    public ParallelJohnsonShortestPaths(Graph<V, E> graph, ForkJoinPool pool, int sourceTileSize)
+    {
+        super(graph);
+        GraphTests.requireDirectedOrUndirected(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        if (sourceTileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive");
+        }
+        this.sourceTileSize = sourceTileSize;
+
+        CsrAdjacency<V, E> csr = new CsrAdjacency<>(graph);
+        this.vertexMap = csr.vertexMap;
+        this.vertices = csr.vertices;
+        this.n = csr.n;
+        int size = n;
+        this.predecessorArcs = ThreadLocal.withInitial(() -> new int[size]);
+
+        boolean undirected = graph.getType().isUndirected();
+        this.edgeList = new ArrayList<>(graph.edgeSet());
+        Map<E, Integer> edgeIndex = HashMap.newHashMap(edgeList.size());
+        for (E e : edgeList) {
+            edgeIndex.put(e, edgeIndex.size());
+            if (undirected && graph.getEdgeWeight(e) < 0d) {
+                // traversing the edge back and forth is a negative cycle
+                V source = graph.getEdgeSource(e);
+                throw new NegativeCycleDetectedException(
+                    GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE, new GraphWalk<>(
+                        graph, source, source, List.of(e, e), 2d * graph.getEdgeWeight(e)));
+            }
+        }
+
+        this.offsets = csr.offsets;
+        this.targets = csr.targets;
+        this.arcSources = csr.arcSources();
+        this.reducedWeights = csr.arcWeights(graph::getEdgeWeight);
+        this.edges = new int[csr.arcCount()];
+        for (int i = 0; i < edges.length; ++i) {
+            edges[i] = edgeIndex.get(csr.arcEdges.get(i));
+        }
+
+        this.potential = computePotential();
+        for (int v = 0; v < n; ++v) {
+            for (int i = offsets[v]; i < offsets[v + 1]; ++i) {
+                // clamp rounding errors, reduced weights of shortest path edges are zero
+                reducedWeights[i] =
+                    Math.max(0d, reducedWeights[i] + potential[v] - potential[targets[i]]);
+            }
+        }
+    }
+
+    /**
+     * Computes the distances from every vertex in {@code sources} to every vertex in
+     * {@code targets} and passes them to {@code sink}. Every row is passed to the sink exactly once
+     * and as a single segment starting at target index zero. The method returns when all rows have
+     * been passed to the sink.
+     *
+     * @param sources list of sources
+     * @param targets list of targets
+     * @param sink consumer of the computed rows, which must be thread-safe
+     */
+    public void compute(List<V> sources, List<V> targets, RowSink sink)
+    {
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        int[] sourceIndices = toIndices(sources);
+        int[] targetIndices = toIndices(targets);
+        pool.invoke(new SourcesTask(sourceIndices, targetIndices, 0, sourceIndices.length, sink));
+    }
+
+    /**
+     * Computes the distances from every vertex in {@code sources} to every vertex in
+     * {@code targets} in memory.
+     *
+     * @param sources list of sources
+     * @param targets list of targets
+     * @return the distance matrix in row-major order, where entry $i \cdot |targets| + j$ is the
+     *         distance from the $i$-th source to the $j$-th target
+     * @throws IllegalArgumentException if the matrix has more than {@link Integer#MAX_VALUE}
+     *         entries
+     */
+    public double[] computeMatrix(List<V> sources, List<V> targets)
+    {
+        long size = (long) sources.size() * targets.size();
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Matrix too large, use a row sink instead");
+        }
+        int columns = targets.size();
+        double[] matrix = new double[(int) size];
+        compute(
+            sources, targets, (sourceIndex, targetStart, distances) -> System.arraycopy(
+                distances, 0, matrix, sourceIndex * columns + targetStart, distances.length));
+        return matrix;
+    }
+
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        SearchWorkspace<Void> workspace = workspacePool.acquire(n);
+        try {
+            int[] predArc = predecessorArcs.get();
+            search(workspace, predArc, s, t);
+            if (!workspace.isReached(t)) {
+                return null;
+            }
+            return buildPath(workspace, predArc, s, t);
+        } finally {
+            workspacePool.release(workspace);
+        }
+    }
+
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return 0d;
+        }
+        SearchWorkspace<Void> workspace = workspacePool.acquire(n);
+        try {
+            search(workspace, null, s, t);
+            return distance(workspace, s, t);
+        } finally {
+            workspacePool.release(workspace);
+        }
+    }
+
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        SearchWorkspace<Void> workspace = workspacePool.acquire(n);
+        try {
+            int[] predArc = predecessorArcs.get();
+            search(workspace, predArc, s, -1);
+            Map<V, Pair<Double, E>> map = HashMap.newHashMap(n);
+            for (int v = 0; v < n; ++v) {
+                if (workspace.isReached(v)) {
+                    int arc = predArc[v];
+                    E e = arc < 0 ? null : edgeList.get(edges[arc]);
+                    map.put(vertices.get(v), Pair.of(distance(workspace, s, v), e));
+                }
+            }
+            return new TreeSingleSourcePathsImpl<>(graph, source, map);
+        } finally {
+            workspacePool.release(workspace);
+        }
+    }
+
+    /**
+     * Computes the potential with the Bellman-Ford algorithm from a virtual source connected to
+     * all vertices by edges of weight zero.
+     */
+    private double[] computePotential()
+    {
+        double[] h = new double[n];
+        int[] predArc = new int[n];
+        Arrays.fill(predArc, -1);
+        boolean changed = true;
+        for (int round = 0; changed; ++round) {
+            changed = false;
+            int relaxed = -1;
+            for (int v = 0; v < n; ++v) {
+                double hv = h[v];
+                for (int i = offsets[v]; i < offsets[v + 1]; ++i) {
+                    double d = hv + reducedWeights[i];
+                    int u = targets[i];
+                    if (d < h[u]) {
+                        h[u] = d;
+                        predArc[u] = i;
+                        changed = true;
+                        relaxed = u;
+                    }
+                }
+            }
+            if (changed && round >= n) {
+                throw new NegativeCycleDetectedException(
+                    GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE, findCycle(relaxed, predArc));
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Extracts a negative cycle from the predecessor arcs of a vertex relaxed in round $n$.
+     */
+    private GraphPath<V, E> findCycle(int v, int[] predArc)
+    {
+        // walk back n steps to make sure we are on the cycle
+        for (int i = 0; i < n; ++i) {
+            v = arcSources[predArc[v]];
+        }
+        LinkedList<E> cycle = new LinkedList<>();
+        double weight = 0d;
+        int u = v;
+        do {
+            int arc = predArc[u];
+            E e = edgeList.get(edges[arc]);
+            cycle.addFirst(e);
+            weight += graph.getEdgeWeight(e);
+            u = arcSources[arc];
+        } while (u != v);
+        V start = vertices.get(v);
+        return new GraphWalk<>(graph, start, start, cycle, weight);
+    }
+
+    /**
+     * Runs Dijkstra on the reduced weights. If the sink is non-negative the search stops as soon
+     * as the sink is settled. If {@code predArc} is not null, the arc through which every reached
+     * vertex was reached last is stored in it, or -1 for the source.
+     */
+    private void search(SearchWorkspace<Void> workspace, int[] predArc, int source, int sink)
+    {
+        workspace.reset();
+        IndexedDaryDoubleHeap heap = workspace.heap();
+        workspace.relax(source, 0d, null);
+        if (predArc != null) {
+            predArc[source] = -1;
+        }
+        while (!heap.isEmpty()) {
+            double vDistance = heap.findMinKey();
+            int v = heap.deleteMin();
+            if (v == sink) {
+                break;
+            }
+            for (int i = offsets[v], end = offsets[v + 1]; i < end; ++i) {
+                int u = targets[i];
+                if (workspace.relax(u, vDistance + reducedWeights[i], null) && predArc != null) {
+                    predArc[u] = i;
+                }
+            }
+        }
+    }
+
+    private double distance(SearchWorkspace<Void> workspace, int source, int target)
+    {
+        if (!workspace.isReached(target)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return workspace.getDistance(target) - potential[source] + potential[target];
+    }
+
+    private GraphPath<V, E> buildPath(
+        SearchWorkspace<Void> workspace, int[] predArc, int source, int sink)
+    {
+        LinkedList<E> path = new LinkedList<>();
+        for (int arc = predArc[sink]; arc >= 0; arc = predArc[arcSources[arc]]) {
+            path.addFirst(edgeList.get(edges[arc]));
+        }
+        return new GraphWalk<>(
+            graph, vertices.get(source), vertices.get(sink), null, path,
+            distance(workspace, source, sink));
+    }
+
+    private int indexOf(V vertex, String message)
+    {
+        Integer v = vertexMap.get(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return v;
+    }
+
+    private int[] toIndices(List<V> list)
+    {
+        int[] indices = new int[list.size()];
+        for (int i = 0; i < indices.length; ++i) {
+            Integer index = vertexMap.get(list.get(i));
+            if (index == null) {
+                throw new IllegalArgumentException("Graph must contain all vertices");
+            }
+            indices[i] = index;
+        }
+        return indices;
+    }
+
+    /**
+     * Performs the searches from a range of sources and passes the rows to the sink.
+     */
+    private class SourcesTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 7043218660957158324L;
+
+        private final int[] sourceIndices;
+        private final int[] targetIndices;
+        private final int start;
+        private final int end;
+        private final RowSink sink;
+
+        SourcesTask(int[] sourceIndices, int[] targetIndices, int start, int end, RowSink sink)
+        {
+            this.sourceIndices = sourceIndices;
+            this.targetIndices = targetIndices;
+            this.start = start;
+            this.end = end;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (end - start > sourceTileSize) {
+                int middle = (start + end) >>> 1;
+                invokeAll(
+                    new SourcesTask(sourceIndices, targetIndices, start, middle, sink),
+                    new SourcesTask(sourceIndices, targetIndices, middle, end, sink));
+                return;
+            }
+
+            double[] row = new double[targetIndices.length];
+            SearchWorkspace<Void> workspace = workspacePool.acquire(n);
+            try {
+                for (int s = start; s < end; ++s) {
+                    int source = sourceIndices[s];
+                    search(workspace, null, source, -1);
+                    for (int j = 0; j < row.length; ++j) {
+                        row[j] = distance(workspace, source, targetIndices[j]);
+                    }
+                    sink.accept(s, 0, row);
+                }
+            } finally {
+                workspacePool.release(workspace);
+            }
+        }
+    }
+}
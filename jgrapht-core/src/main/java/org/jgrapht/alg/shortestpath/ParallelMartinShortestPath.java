@@ -0,0 +1,557 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Parallel label-setting algorithm for the multi-objective shortest paths problem.
+ *
+ * <p>
+ * Like {@link MartinShortestPath}, this is a multiple objective extension of Dijkstra's algorithm
+ * which computes a maximal complete set of efficient paths when all the cost values are
+ * non-negative. It differs in how the labels are stored and selected:
+ * <ul>
+ * <li>The labels of every vertex form a Pareto front kept in lexicographic order. A label can only
+ * be dominated by labels which precede it and can only dominate labels which follow it, so a
+ * dominance test scans one side of a binary search position only. With two objectives the front
+ * is monotone and a dominance test takes logarithmic time.</li>
+ * <li>Temporary labels are kept in buckets by the sum of their values. A label can only be
+ * dominated by labels of the same or an earlier bucket, hence every label of the first bucket
+ * which is not dominated by another label of that bucket is final. All these labels are expanded
+ * together in parallel by recursive tasks of a {@link ForkJoinPool}, an approach described in: P.
+ * Sanders and L. Mandow. (2013). Parallel Label-Setting Multi-objective Shortest Path Search.
+ * IEEE 27th International Symposium on Parallel and Distributed Processing. 215-224.</li>
+ * </ul>
+ *
+ * <p>
+ * Optionally, an approximation tolerance $\varepsilon$ may be provided. In that case a new label
+ * is also discarded if an existing label of its vertex is within a factor of $1 + \varepsilon$ of
+ * it in every objective, and the algorithm computes an approximation of the Pareto set. Which
+ * labels are kept then depends on the order in which the labels are generated, and may therefore
+ * differ between runs. With a tolerance equal to zero the complete Pareto set is computed.
+ *
+ * <p>
+ * The graph and the edge weights are copied during construction. Note that the multi-objective
+ * shortest path problem is a well-known NP-hard problem.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @see MartinShortestPath
+ * @see LabelCorrectingMultiObjectiveShortestPath
+ */
+public class ParallelMartinShortestPath<V, E>
+    extends BaseMultiObjectiveShortestPathAlgorithm<V, E>
+{
+    /**
+     * Sets of final labels with fewer labels are expanded by the calling thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+    /**
+     * Number of ranges per worker thread into which a set of final labels is split.
+     */
+    private static final int RANGES_PER_THREAD = 8;
+
+    private final ForkJoinPool pool;
+    private final double epsilon;
+    private final int objectives;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+
+    // CSR representation of the outgoing edges, with the weight vectors stored consecutively
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final List<E> arcEdges;
+    private final double bucketWidth;
+
+    private V lastSource;
+    private Map<V, List<GraphPath<V, E>>> lastPaths;
+
+    /**
+     * Create a new shortest path algorithm which computes the complete Pareto set and uses the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param graph the input graph
+     * @param edgeWeightFunction the edge weight function
+     */
+    public ParallelMartinShortestPath(Graph<V, E> graph, Function<E, double[]> edgeWeightFunction)
+    {
+        this(graph, edgeWeightFunction, 0d, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new shortest path algorithm which computes the complete Pareto set. It is up to a
+     * user of this algorithm to handle the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param edgeWeightFunction the edge weight function
+     * @param pool the pool which will be used for parallelization
+     */
+    public ParallelMartinShortestPath(
+        Graph<V, E> graph, Function<E, double[]> edgeWeightFunction, ForkJoinPool pool)
+    {
+        this(graph, edgeWeightFunction, 0d, pool);
+    }
+
+    /**
+     * Create a new shortest path algorithm which computes an epsilon-approximation of the Pareto
+     * set. A tolerance equal to zero computes the complete Pareto set. It is up to a user of this
+     * algorithm to handle the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the input graph
+     * @param edgeWeightFunction the edge weight function
+     * @param epsilon the approximation tolerance, must be non-negative
+     * @param pool the pool which will be used for parallelization
+     */
+    public ParallelMartinShortestPath(
+        Graph<V, E> graph, Function<E, double[]> edgeWeightFunction, double epsilon,
+        ForkJoinPool pool)
+    {
+        super(graph);
+        Objects.requireNonNull(edgeWeightFunction, "Function cannot be null");
+        if (Double.compare(epsilon, 0d) < 0) {
+            throw new IllegalArgumentException("Epsilon must be non-negative");
+        }
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.epsilon = epsilon;
+        this.objectives = validateEdgeWeightFunction(edgeWeightFunction);
+
+        CsrAdjacency<V, E> csr = new CsrAdjacency<>(graph);
+        this.vertexMap = csr.vertexMap;
+        this.vertices = csr.vertices;
+        this.n = csr.n;
+        this.offsets = csr.offsets;
+        this.targets = csr.targets;
+        this.arcEdges = csr.arcEdges;
+        int arcs = csr.arcCount();
+        this.weights = new double[arcs * objectives];
+        double totalWeight = 0d;
+        for (int pos = 0; pos < arcs; ++pos) {
+            double[] w = edgeWeightFunction.apply(arcEdges.get(pos));
+            for (int i = 0; i < objectives; i++) {
+                weights[pos * objectives + i] = w[i];
+                totalWeight += w[i];
+            }
+        }
+
+        // the buckets are as wide as the weight of an average edge
+        double averageWeight = arcs == 0 ? 0d : totalWeight / arcs;
+        this.bucketWidth = averageWeight > 0d ? averageWeight : 1d;
+    }
+
+    @Override
+    public List<GraphPath<V, E>> getPaths(V source, V sink)
+    {
+        return this.getPaths(source).getPaths(sink);
+    }
+
+    @Override
+    public MultiObjectiveSingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(
+                BaseMultiObjectiveShortestPathAlgorithm.GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        if (graph.vertexSet().isEmpty() || graph.edgeSet().isEmpty()) {
+            return new ListMultiObjectiveSingleSourcePathsImpl<>(
+                graph, source, Collections.emptyMap());
+        }
+
+        if (!source.equals(lastSource)) {
+            Front[] fronts = new Search(vertexMap.get(source)).run();
+            lastPaths = buildPaths(source, fronts);
+            lastSource = source;
+        }
+        return new ListMultiObjectiveSingleSourcePathsImpl<>(graph, source, lastPaths);
+    }
+
+    /**
+     * Build the actual paths from the final labels of each node.
+     *
+     * @param source the source vertex
+     * @param fronts the final labels of each node
+     * @return the paths
+     */
+    private Map<V, List<GraphPath<V, E>>> buildPaths(V source, Front[] fronts)
+    {
+        Map<V, List<GraphPath<V, E>>> paths = HashMap.newHashMap(n);
+        for (int v = 0; v < n; ++v) {
+            V sink = vertices.get(v);
+            if (sink.equals(source)) {
+                paths.put(sink, List.of(createEmptyPath(source, sink)));
+                continue;
+            }
+            Front front = fronts[v];
+            List<GraphPath<V, E>> sinkPaths = new ArrayList<>(front.size);
+            for (int i = 0; i < front.size; i++) {
+                double weight = 0d;
+                LinkedList<E> edgeList = new LinkedList<>();
+                for (Label cur = front.labels[i]; cur.previous != null; cur = cur.previous) {
+                    E e = arcEdges.get(cur.arc);
+                    weight += graph.getEdgeWeight(e);
+                    edgeList.push(e);
+                }
+                sinkPaths.add(new GraphWalk<>(graph, source, sink, edgeList, weight));
+            }
+            paths.put(sink, sinkPaths);
+        }
+        return paths;
+    }
+
+    /**
+     * Compare two vectors lexicographically.
+     */
+    private static int compare(double[] a, double[] b)
+    {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] < b[i]) {
+                return -1;
+            } else if (a[i] > b[i]) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private static double sum(double[] a)
+    {
+        double result = 0d;
+        for (double x : a) {
+            result += x;
+        }
+        return result;
+    }
+
+    /**
+     * A single execution of the algorithm from a source vertex.
+     */
+    private class Search
+    {
+        private final int source;
+        private final Front[] fronts;
+        private final TreeMap<Long, List<Label>> buckets;
+
+        Search(int source)
+        {
+            this.source = source;
+            this.fronts = new Front[n];
+            for (int v = 0; v < n; ++v) {
+                fronts[v] = new Front(objectives);
+            }
+            this.buckets = new TreeMap<>();
+        }
+
+        Front[] run()
+        {
+            Label sourceLabel = new Label(source, new double[objectives], null, -1);
+            fronts[source].add(sourceLabel, 0d);
+            enqueue(sourceLabel);
+
+            Comparator<Label> comparator = (l1, l2) -> compare(l1.value, l2.value);
+            while (!buckets.isEmpty()) {
+                Map.Entry<Long, List<Label>> first = buckets.firstEntry();
+                List<Label> bucket = first.getValue();
+                bucket.removeIf(l -> l.dominated);
+                bucket.sort(comparator);
+
+                // the labels of the bucket which are not dominated within the bucket are final
+                Front minima = new Front(objectives);
+                List<Label> settled = new ArrayList<>();
+                List<Label> remaining = new ArrayList<>();
+                for (Label label : bucket) {
+                    if (minima.isDominated(label.value, label.sum, 0d)) {
+                        remaining.add(label);
+                    } else {
+                        minima.append(label);
+                        settled.add(label);
+                    }
+                }
+                if (remaining.isEmpty()) {
+                    buckets.remove(first.getKey());
+                } else {
+                    buckets.put(first.getKey(), remaining);
+                }
+
+                List<Label> created;
+                if (settled.size() <= SEQUENTIAL_THRESHOLD) {
+                    created = new ArrayList<>();
+                    expand(settled, 0, settled.size(), created);
+                } else {
+                    int grain = Math.max(
+                        SEQUENTIAL_THRESHOLD / 4,
+                        settled.size() / (RANGES_PER_THREAD * pool.getParallelism()));
+                    created = pool.invoke(new ExpandTask(settled, 0, settled.size(), grain));
+                }
+                for (Label label : created) {
+                    if (!label.dominated) {
+                        enqueue(label);
+                    }
+                }
+            }
+            return fronts;
+        }
+
+        private void enqueue(Label label)
+        {
+            long key = (long) Math.floor(label.sum / bucketWidth);
+            buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(label);
+        }
+
+        /**
+         * Creates the labels reached by the outgoing edges of a range of final labels and adds
+         * those which are not dominated to the fronts of their vertices. This method is
+         * thread-safe.
+         */
+        private void expand(List<Label> labels, int from, int to, List<Label> created)
+        {
+            for (int i = from; i < to; i++) {
+                Label label = labels.get(i);
+                for (int arc = offsets[label.vertex], end = offsets[label.vertex + 1]; arc < end;
+                    ++arc)
+                {
+                    double[] value = new double[objectives];
+                    for (int j = 0; j < objectives; j++) {
+                        value[j] = label.value[j] + weights[arc * objectives + j];
+                    }
+                    Label newLabel = new Label(targets[arc], value, label, arc);
+                    Front front = fronts[newLabel.vertex];
+                    synchronized (front) {
+                        if (front.add(newLabel, epsilon)) {
+                            created.add(newLabel);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Task which expands a range of final labels.
+         */
+        private class ExpandTask
+            extends RecursiveTask<List<Label>>
+        {
+            private static final long serialVersionUID = 2931624457313624715L;
+
+            private final List<Label> labels;
+            private final int from;
+            private final int to;
+            private final int grain;
+
+            ExpandTask(List<Label> labels, int from, int to, int grain)
+            {
+                this.labels = labels;
+                this.from = from;
+                this.to = to;
+                this.grain = grain;
+            }
+
+            @Override
+            protected List<Label> compute()
+            {
+                if (to - from <= grain) {
+                    List<Label> created = new ArrayList<>();
+                    expand(labels, from, to, created);
+                    return created;
+                }
+                int mid = (from + to) >>> 1;
+                ExpandTask left = new ExpandTask(labels, from, mid, grain);
+                ExpandTask right = new ExpandTask(labels, mid, to, grain);
+                invokeAll(left, right);
+                List<Label> created = left.join();
+                created.addAll(right.join());
+                return created;
+            }
+        }
+    }
+
+    /**
+     * The non-dominated labels of a vertex in lexicographic order.
+     */
+    private static final class Front
+    {
+        private final int objectives;
+        private Label[] labels = new Label[2];
+        private int size;
+
+        Front(int objectives)
+        {
+            this.objectives = objectives;
+        }
+
+        /**
+         * Adds a label unless it is dominated, or within the approximation tolerance of another
+         * label, and removes the labels dominated by it.
+         *
+         * @return true if the label was added
+         */
+        boolean add(Label label, double epsilon)
+        {
+            if (isDominated(label.value, label.sum, epsilon)) {
+                return false;
+            }
+            removeDominatedBy(label.value);
+            int pos = upperBound(label.value);
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, 2 * size);
+            }
+            System.arraycopy(labels, pos, labels, pos + 1, size - pos);
+            labels[pos] = label;
+            ++size;
+            return true;
+        }
+
+        /**
+         * Appends a label which does not precede any label of the front.
+         */
+        void append(Label label)
+        {
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, 2 * size);
+            }
+            labels[size++] = label;
+        }
+
+        /**
+         * Returns whether a vector is dominated by a label of the front or, if the tolerance is
+         * positive, whether a label of the front is within a factor of $1 + \varepsilon$ of it in
+         * every objective.
+         */
+        boolean isDominated(double[] value, double valueSum, double epsilon)
+        {
+            double[] bound = value;
+            double boundSum = valueSum;
+            if (epsilon > 0d) {
+                bound = new double[objectives];
+                for (int i = 0; i < objectives; i++) {
+                    bound[i] = value[i] * (1d + epsilon);
+                }
+                boundSum = sum(bound);
+            }
+
+            // a label which is componentwise at most the bound precedes it lexicographically
+            int end = upperBound(bound);
+            if (objectives == 2) {
+                // the second objective decreases along the front, so the last candidate is the
+                // only one which needs to be checked
+                if (end == 0) {
+                    return false;
+                }
+                double[] other = labels[end - 1].value;
+                return other[1] <= bound[1] && (epsilon > 0d || !Arrays.equals(other, value));
+            }
+            for (int i = 0; i < end; i++) {
+                Label other = labels[i];
+                // the sum of a vector componentwise at most the bound is at most its sum
+                if (other.sum <= boundSum && atMost(other.value, bound)
+                    && (epsilon > 0d || !Arrays.equals(other.value, value)))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Removes the labels dominated by a vector. They all follow the vector lexicographically.
+         */
+        private void removeDominatedBy(double[] value)
+        {
+            int from = upperBound(value);
+            int to = from;
+            for (int i = from; i < size; i++) {
+                Label other = labels[i];
+                if (atMost(value, other.value)) {
+                    other.dominated = true;
+                } else if (objectives == 2) {
+                    // the remaining labels have a smaller second objective
+                    System.arraycopy(labels, i, labels, to, size - i);
+                    to += size - i;
+                    break;
+                } else {
+                    labels[to++] = other;
+                }
+            }
+            Arrays.fill(labels, to, size, null);
+            size = to;
+        }
+
+        /**
+         * Returns the position of the first label which follows a vector lexicographically.
+         */
+        private int upperBound(double[] value)
+        {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(labels[mid].value, value) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private boolean atMost(double[] a, double[] b)
+        {
+            for (int i = 0; i < objectives; i++) {
+                if (a[i] > b[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A node label.
+     */
+    private static final class Label
+    {
+        final int vertex;
+        final double[] value;
+        final double sum;
+        final Label previous;
+        final int arc;
+        boolean dominated;
+
+        Label(int vertex, double[] value, Label previous, int arc)
+        {
+            this.vertex = vertex;
+            this.value = value;
+            this.sum = ParallelMartinShortestPath.sum(value);
+            this.previous = previous;
+            this.arc = arc;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Label [node=" + vertex + ", value=" + Arrays.toString(value) + "]";
+        }
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A piecewise linear function of time, used as a travel time profile in time-dependent shortest
+ * path computations.
+ *
+ * <p>
+ * The function is given by breakpoints $(x_0, y_0), \dots, (x_k, y_k)$ with strictly increasing
+ * $x_i$, and is linear between consecutive breakpoints. Before the first and after the last
+ * breakpoint the function is constant. A single breakpoint therefore defines a constant function.
+ *
+ * <p>
+ * When the function maps a departure time to a travel time, it has the FIFO property if departing
+ * later never results in arriving earlier, that is if $x + f(x)$ is non-decreasing. This is
+ * equivalent to all slopes being at least $-1$. Time-dependent shortest path algorithms require
+ * FIFO travel time functions, see {@link #isFifo()}.
+ *
+ * <p>
+ * Instances are immutable.
+ *
+ * @see TravelTimeProfiles
+ * @see TimeDependentShortestPath
+ */
+public final class PiecewiseLinearFunction
+    implements Serializable
+{
+    private static final long serialVersionUID = 4726305843126593571L;
+
+    /**
+     * Relative tolerance used when comparing function values.
+     */
+    private static final double EPSILON = 1e-9;
+
+    private final double[] x;
+    private final double[] y;
+    private final double minimum;
+    private final double maximum;
+
+    /**
+     * Create a new function from its breakpoints.
+     *
+     * @param x the times of the breakpoints, strictly increasing
+     * @param y the values of the breakpoints
+     * @throws IllegalArgumentException if the arrays are empty or have different lengths, if the
+     *         times are not strictly increasing or if any value is not finite
+     */
+    public PiecewiseLinearFunction(double[] x, double[] y)
+    {
+        this(x.clone(), y.clone(), true);
+    }
+
+    private PiecewiseLinearFunction(double[] x, double[] y, boolean validate)
+    {
+        if (validate) {
+            validate(x, 0, y, 0, x.length, y.length);
+        }
+        this.x = x;
+        this.y = y;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : y) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        this.minimum = min;
+        this.maximum = max;
+    }
+
+    /**
+     * Create a constant function.
+     *
+     * @param value the value of the function
+     * @return the constant function
+     * @throws IllegalArgumentException if the value is not finite
+     */
+    public static PiecewiseLinearFunction constant(double value)
+    {
+        return new PiecewiseLinearFunction(new double[] { 0d }, new double[] { value });
+    }
+
+    /**
+     * Get the number of breakpoints.
+     *
+     * @return the number of breakpoints
+     */
+    public int getBreakpointCount()
+    {
+        return x.length;
+    }
+
+    /**
+     * Get the time of a breakpoint.
+     *
+     * @param i the index of the breakpoint
+     * @return the time of the breakpoint
+     */
+    public double getBreakpointTime(int i)
+    {
+        return x[i];
+    }
+
+    /**
+     * Get the value of a breakpoint.
+     *
+     * @param i the index of the breakpoint
+     * @return the value of the breakpoint
+     */
+    public double getBreakpointValue(int i)
+    {
+        return y[i];
+    }
+
+    /**
+     * Get the minimum value of the function.
+     *
+     * @return the minimum value of the function
+     */
+    public double getMinimum()
+    {
+        return minimum;
+    }
+
+    /**
+     * Get the maximum value of the function.
+     *
+     * @return the maximum value of the function
+     */
+    public double getMaximum()
+    {
+        return maximum;
+    }
+
+    /**
+     * Evaluate the function.
+     *
+     * @param t the time
+     * @return the value of the function at time {@code t}
+     */
+    public double evaluate(double t)
+    {
+        return evaluate(x, y, 0, x.length, t);
+    }
+
+    /**
+     * Whether the function has the FIFO property when interpreted as a travel time function.
+     *
+     * @return true if all slopes are at least $-1$, false otherwise
+     */
+    public boolean isFifo()
+    {
+        return isFifo(x, 0, y, 0, x.length);
+    }
+
+    /**
+     * Computes the travel time function of traversing first a connection with travel time function
+     * {@code this} and then a connection with travel time function {@code next}, that is the
+     * function $t \mapsto f(t) + g(t + f(t))$. Both functions must have the FIFO property.
+     *
+     * @param next the travel time function of the second connection
+     * @return the travel time function of the combined connection
+     */
+    PiecewiseLinearFunction link(PiecewiseLinearFunction next)
+    {
+        return link(next.x, next.y, 0, next.x.length);
+    }
+
+    /**
+     * Same as {@link #link(PiecewiseLinearFunction)} for a function {@code next} whose
+     * {@code count} breakpoints start at position {@code from} of the given arrays, which are
+     * read in place.
+     */
+    PiecewiseLinearFunction link(double[] nextX, double[] nextY, int from, int count)
+    {
+        if (count == 1) {
+            // fast path for constant travel times
+            double c = nextY[from];
+            double[] shifted = new double[y.length];
+            for (int i = 0; i < y.length; ++i) {
+                shifted[i] = y[i] + c;
+            }
+            return new PiecewiseLinearFunction(x, shifted, false);
+        }
+
+        // breakpoints of this function and the departure times arriving at breakpoints of next
+        double[] candidates = new double[x.length + count];
+        System.arraycopy(x, 0, candidates, 0, x.length);
+        for (int j = 0; j < count; ++j) {
+            candidates[x.length + j] = departureForArrival(nextX[from + j]);
+        }
+        Arrays.sort(candidates);
+
+        double[] resultX = new double[candidates.length];
+        double[] resultY = new double[candidates.length];
+        int k = 0;
+        for (double t : candidates) {
+            if (k > 0 && t <= resultX[k - 1]) {
+                continue;
+            }
+            double f = evaluate(t);
+            resultX[k] = t;
+            resultY[k] = f + evaluate(nextX, nextY, from, count, t + f);
+            ++k;
+        }
+        return simplify(resultX, resultY, k);
+    }
+
+    /**
+     * Computes the pointwise minimum of {@code this} and {@code other}.
+     *
+     * @param other the other function
+     * @return the pointwise minimum, or {@code this} if {@code other} is nowhere smaller
+     */
+    PiecewiseLinearFunction minimum(PiecewiseLinearFunction other)
+    {
+        if (other.minimum >= maximum - tolerance(maximum)) {
+            return this;
+        }
+
+        double[] candidates = new double[x.length + other.x.length];
+        System.arraycopy(x, 0, candidates, 0, x.length);
+        System.arraycopy(other.x, 0, candidates, x.length, other.x.length);
+        Arrays.sort(candidates);
+
+        double[] resultX = new double[2 * candidates.length];
+        double[] resultY = new double[2 * candidates.length];
+        int k = 0;
+        boolean improved = false;
+        double prevT = Double.NaN;
+        double prevDiff = 0d;
+        for (double t : candidates) {
+            if (k > 0 && t <= prevT) {
+                continue;
+            }
+            double f = evaluate(t);
+            double g = other.evaluate(t);
+            double diff = f - g;
+            if (k > 0 && (prevDiff < 0d && diff > 0d || prevDiff > 0d && diff < 0d)) {
+                // the functions cross between the previous and the current time
+                double crossing = prevT + (t - prevT) * prevDiff / (prevDiff - diff);
+                if (crossing > prevT && crossing < t) {
+                    resultX[k] = crossing;
+                    resultY[k] = evaluate(crossing);
+                    ++k;
+                }
+            }
+            if (g < f - tolerance(f)) {
+                improved = true;
+            }
+            resultX[k] = t;
+            resultY[k] = Math.min(f, g);
+            ++k;
+            prevT = t;
+            prevDiff = diff;
+        }
+        if (!improved) {
+            return this;
+        }
+        return simplify(resultX, resultY, k);
+    }
+
+    /**
+     * Finds a departure time $t$ with $t + f(t) = a$.
+     */
+    private double departureForArrival(double a)
+    {
+        int last = x.length - 1;
+        if (a <= x[0] + y[0]) {
+            return a - y[0];
+        }
+        if (a >= x[last] + y[last]) {
+            return a - y[last];
+        }
+        int lo = 0;
+        int hi = last;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (x[mid] + y[mid] <= a) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        double a0 = x[lo] + y[lo];
+        double a1 = x[hi] + y[hi];
+        if (a1 <= a0) {
+            return x[lo];
+        }
+        return x[lo] + (a - a0) * (x[hi] - x[lo]) / (a1 - a0);
+    }
+
+    /**
+     * Creates a function from the first {@code k} breakpoints, dropping breakpoints which do not
+     * change the shape of the function.
+     */
+    private static PiecewiseLinearFunction simplify(double[] xs, double[] ys, int k)
+    {
+        double[] rx = new double[k];
+        double[] ry = new double[k];
+        int size = 0;
+        for (int i = 0; i < k; ++i) {
+            // drop the previous point if it lies on the segment to the current one
+            while (size >= 2) {
+                double x0 = rx[size - 2];
+                double y0 = ry[size - 2];
+                double x1 = rx[size - 1];
+                double y1 = ry[size - 1];
+                double interpolated = y0 + (ys[i] - y0) * (x1 - x0) / (xs[i] - x0);
+                if (Math.abs(interpolated - y1) <= tolerance(y1)) {
+                    --size;
+                } else {
+                    break;
+                }
+            }
+            rx[size] = xs[i];
+            ry[size] = ys[i];
+            ++size;
+        }
+        // constant ends are covered by the extrapolation
+        int from = 0;
+        while (from + 1 < size && Math.abs(ry[from + 1] - ry[from]) <= tolerance(ry[from])) {
+            ++from;
+        }
+        while (size - 1 > from
+            && Math.abs(ry[size - 2] - ry[size - 1]) <= tolerance(ry[size - 1]))
+        {
+            --size;
+        }
+        return new PiecewiseLinearFunction(
+            Arrays.copyOfRange(rx, from, size), Arrays.copyOfRange(ry, from, size), false);
+    }
+
+    private static double tolerance(double value)
+    {
+        return EPSILON * Math.max(1d, Math.abs(value));
+    }
+
+    /**
+     * Evaluates the function given by {@code count} breakpoints starting at position
+     * {@code from} of the arrays.
+     */
+    static double evaluate(double[] xs, double[] ys, int from, int count, double t)
+    {
+        int last = from + count - 1;
+        if (t <= xs[from]) {
+            return ys[from];
+        }
+        if (t >= xs[last]) {
+            return ys[last];
+        }
+        int lo = from;
+        int hi = last;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] <= t) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return ys[lo] + (ys[hi] - ys[lo]) * (t - xs[lo]) / (xs[hi] - xs[lo]);
+    }
+
+    static boolean isFifo(double[] xs, int xFrom, double[] ys, int yFrom, int count)
+    {
+        for (int i = 1; i < count; ++i) {
+            if (ys[yFrom + i] - ys[yFrom + i - 1] < -(xs[xFrom + i] - xs[xFrom + i - 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void validate(double[] xs, int xFrom, double[] ys, int yFrom, int xCount, int yCount)
+    {
+        if (xCount != yCount) {
+            throw new IllegalArgumentException("Breakpoint arrays must have the same length");
+        }
+        if (xCount == 0) {
+            throw new IllegalArgumentException("At least one breakpoint is required");
+        }
+        for (int i = 0; i < xCount; ++i) {
+            if (!Double.isFinite(xs[xFrom + i]) || !Double.isFinite(ys[yFrom + i])) {
+                throw new IllegalArgumentException("Breakpoints must be finite");
+            }
+            if (i > 0 && xs[xFrom + i] <= xs[xFrom + i - 1]) {
+                throw new IllegalArgumentException("Breakpoint times must be strictly increasing");
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PiecewiseLinearFunction)) {
+            return false;
+        }
+        PiecewiseLinearFunction other = (PiecewiseLinearFunction) o;
+        return Arrays.equals(x, other.x) && Arrays.equals(y, other.y);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * Arrays.hashCode(x) + Arrays.hashCode(y);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < x.length; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('(').append(x[i]).append(", ").append(y[i]).append(')');
+        }
+        return sb.append(']').toString();
+    }
+}
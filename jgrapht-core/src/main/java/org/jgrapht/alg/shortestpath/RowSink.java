@@ -0,0 +1,38 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+/**
+ * Consumer of the rows of a distance matrix computed by a parallel algorithm such as
+ * {@link CHDistanceMatrix} or {@link ParallelJohnsonShortestPaths}. Implementations must be
+ * thread-safe, because rows are passed to the sink concurrently from the threads of the pool.
+ */
+@FunctionalInterface
+public interface RowSink
+{
+    /**
+     * Accepts a segment of a row of the distance matrix. The array is reused after the method
+     * returns, so implementations must copy the values they want to keep.
+     *
+     * @param sourceIndex index of the source in the list of sources
+     * @param targetStart index in the list of targets of the first distance of the segment
+     * @param distances distances from the source to the targets of the segment, infinite if a
+     *        target is unreachable
+     */
+    void accept(int sourceIndex, int targetStart, double[] distances);
+}
@@ -0,0 +1,288 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * Queue-based label-correcting shortest paths with subtree disassembly.
+ *
+ * <p>
+ * Computes shortest paths from a single source vertex to all other vertices in a graph which may
+ * contain negative edge weights. Instead of the passes over all edges of
+ * {@link BellmanFordShortestPath}, only vertices whose distance decreased are scanned, in the order
+ * of a queue. This is often called the Shortest Path Faster Algorithm (SPFA). Two queue
+ * disciplines are supported, see {@link QueueDiscipline}.
+ *
+ * <p>
+ * The current shortest path tree is maintained explicitly as a preorder thread. When the distance
+ * of a vertex $v$ decreases, the whole subtree of $v$ is removed from the tree, since the labels of
+ * its descendants are outdated and need not be scanned before they are improved in turn. This is
+ * Tarjan's subtree disassembly, see R. E. Tarjan. Shortest paths. Technical report, AT&amp;T Bell
+ * Laboratories, 1981, and B. V. Cherkassky, A. V. Goldberg. Negative-cycle detection algorithms.
+ * Mathematical Programming, 85:277–311, 1999. It reduces the number of scans and detects a negative
+ * cycle immediately: relaxing an edge $(u, v)$ where $u$ is a descendant of $v$ closes a
+ * cycle of negative weight. The cycle is then reported in a {@link NegativeCycleDetectedException}
+ * without completing the passes of the Bellman-Ford algorithm. Negative cycles which are not
+ * reachable from the source are not reported. The worst-case running time is $O(|E||V|)$.
+ *
+ * <p>
+ * The graph is copied once during construction into a compressed sparse row representation and
+ * the edge weights are read at that time. In undirected graphs every edge with a negative weight is
+ * reported as a negative cycle, traversed back and forth.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class SPFAShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Order in which vertices with decreased distances are scanned.
+     */
+    public enum QueueDiscipline
+    {
+        /**
+         * First in, first out.
+         */
+        FIFO,
+        /**
+         * Small label first: a vertex is added at the front of the queue if its distance is smaller
+         * than the distance of the vertex at the front, and at the back otherwise.
+         */
+        SMALL_LABEL_FIRST
+    }
+
+    private final QueueDiscipline discipline;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+
+    // CSR representation of the outgoing edges
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final List<E> arcEdges;
+
+    /**
+     * Construct a new instance using the small label first queue discipline.
+     *
+     * @param graph the input graph
+     */
+    public SPFAShortestPath(Graph<V, E> graph)
+    {
+        this(graph, QueueDiscipline.SMALL_LABEL_FIRST);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param discipline the queue discipline
+     */
+    public SPFAShortestPath(Graph<V, E> graph, QueueDiscipline discipline)
+    {
+        super(graph);
+        this.discipline = Objects.requireNonNull(discipline, "Queue discipline cannot be null");
+
+        CsrAdjacency<V, E> csr = new CsrAdjacency<>(graph);
+        this.vertexMap = csr.vertexMap;
+        this.vertices = csr.vertices;
+        this.n = csr.n;
+        this.offsets = csr.offsets;
+        this.targets = csr.targets;
+        this.weights = csr.arcWeights(graph::getEdgeWeight);
+        this.arcEdges = csr.arcEdges;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        Integer s = vertexMap.get(source);
+        if (s == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        int[] parentArc = new int[n];
+        Arrays.fill(parentArc, -1);
+        // shortest path tree as a doubly linked preorder thread
+        int[] parent = new int[n];
+        int[] depth = new int[n];
+        int[] next = new int[n];
+        int[] prev = new int[n];
+        boolean[] inTree = new boolean[n];
+        boolean[] inQueue = new boolean[n];
+        // circular deque with room for every vertex
+        int[] queue = new int[n];
+        int head = 0;
+        int size = 0;
+
+        dist[s] = 0d;
+        parent[s] = -1;
+        next[s] = -1;
+        prev[s] = -1;
+        inTree[s] = true;
+        queue[0] = s;
+        inQueue[s] = true;
+        size = 1;
+
+        while (size > 0) {
+            int u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            --size;
+            inQueue[u] = false;
+            if (!inTree[u]) {
+                // removed by disassembly, its label will be improved later
+                continue;
+            }
+
+            double du = dist[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; ++i) {
+                int v = targets[i];
+                double dv = du + weights[i];
+                if (dv >= dist[v]) {
+                    continue;
+                }
+                if (v == u) {
+                    throw negativeCycle(i, u, u, parent, parentArc);
+                }
+                if (inTree[v]) {
+                    // disassemble the subtree of v, detecting whether u is a descendant
+                    int last = v;
+                    for (int w = next[v]; w != -1 && depth[w] > depth[v]; w = next[w]) {
+                        if (w == u) {
+                            throw negativeCycle(i, u, v, parent, parentArc);
+                        }
+                        inTree[w] = false;
+                        last = w;
+                    }
+                    int before = prev[v];
+                    int after = next[last];
+                    if (before != -1) {
+                        next[before] = after;
+                    }
+                    if (after != -1) {
+                        prev[after] = before;
+                    }
+                }
+
+                // attach v as the first child of u
+                dist[v] = dv;
+                parentArc[v] = i;
+                parent[v] = u;
+                depth[v] = depth[u] + 1;
+                inTree[v] = true;
+                int after = next[u];
+                next[u] = v;
+                prev[v] = u;
+                next[v] = after;
+                if (after != -1) {
+                    prev[after] = v;
+                }
+
+                if (!inQueue[v]) {
+                    inQueue[v] = true;
+                    if (discipline == QueueDiscipline.SMALL_LABEL_FIRST && size > 0
+                        && dv < dist[queue[head]])
+                    {
+                        head = head == 0 ? n - 1 : head - 1;
+                        queue[head] = v;
+                    } else {
+                        int tail = head + size;
+                        queue[tail >= n ? tail - n : tail] = v;
+                    }
+                    ++size;
+                }
+            }
+        }
+
+        Map<V, Pair<Double, E>> map = HashMap.newHashMap(n);
+        for (int v = 0; v < n; ++v) {
+            if (dist[v] < Double.POSITIVE_INFINITY) {
+                E e = parentArc[v] < 0 ? null : arcEdges.get(parentArc[v]);
+                map.put(vertices.get(v), Pair.of(dist[v], e));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, map);
+    }
+
+    /**
+     * Find a path between two vertices.
+     *
+     * @param graph the graph to be searched
+     * @param source the vertex at which the path should start
+     * @param sink the vertex at which the path should end
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @return a shortest path, or null if no path exists
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    public static <V, E> GraphPath<V, E> findPathBetween(Graph<V, E> graph, V source, V sink)
+    {
+        return new SPFAShortestPath<>(graph).getPath(source, sink);
+    }
+
+    /**
+     * Builds the exception for the negative cycle closed by arc {@code closing} from {@code u} to
+     * its tree ancestor {@code v}.
+     */
+    private NegativeCycleDetectedException negativeCycle(
+        int closing, int u, int v, int[] parent, int[] parentArc)
+    {
+        LinkedList<E> cycle = new LinkedList<>();
+        E closingEdge = arcEdges.get(closing);
+        cycle.add(closingEdge);
+        double weight = graph.getEdgeWeight(closingEdge);
+        for (int w = u; w != v; w = parent[w]) {
+            E e = arcEdges.get(parentArc[w]);
+            cycle.addFirst(e);
+            weight += graph.getEdgeWeight(e);
+        }
+        V start = vertices.get(v);
+        return new NegativeCycleDetectedException(
+            GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE,
+            new GraphWalk<>(graph, start, start, cycle, weight));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+
+/**
+ * Reusable workspace for Dijkstra-like searches over vertices indexed from $0$ to $n-1$.
+ *
+ * <p>
+ * A workspace holds the tentative distance and the predecessor edge of each vertex together with a
+ * primitive {@link IndexedDaryDoubleHeap}. Instead of clearing the arrays between searches, every
+ * entry is stamped with the version of the search which wrote it, and entries with an older stamp
+ * are treated as unreached. Therefore {@link #reset()} runs in constant time for the arrays and in
+ * time proportional to the number of elements still in the heap, independently of the size of the
+ * graph. This makes workspaces useful when a large number of short local queries are executed on a
+ * large graph.
+ *
+ * <p>
+ * Workspaces are not thread-safe. They are usually obtained through a {@link SearchWorkspacePool}
+ * which decides how they are shared between queries and threads.
+ *
+ * @param <E> the graph edge type
+ */
+public final class SearchWorkspace<E>
+{
+    private final double[] dist;
+    private final Object[] pred;
+    private final int[] stamp;
+    private final IndexedDaryDoubleHeap heap;
+    private int version;
+
+    /**
+     * Create a new workspace.
+     *
+     * @param capacity the number of vertices the workspace can hold
+     */
+    public SearchWorkspace(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.dist = new double[capacity];
+        this.pred = new Object[capacity];
+        this.stamp = new int[capacity];
+        this.heap = new IndexedDaryDoubleHeap(4, capacity);
+        this.version = 1;
+    }
+
+    /**
+     * Get the number of vertices that the workspace can hold.
+     *
+     * @return the capacity of the workspace
+     */
+    public int capacity()
+    {
+        return dist.length;
+    }
+
+    /**
+     * Prepare the workspace for a new search. All vertices become unreached and the heap becomes
+     * empty.
+     */
+    public void reset()
+    {
+        heap.clear();
+        if (version == Integer.MAX_VALUE) {
+            // stamps are about to wrap around, pay for a full clear once
+            Arrays.fill(stamp, 0);
+            Arrays.fill(pred, null);
+            version = 0;
+        }
+        version++;
+    }
+
+    /**
+     * Check whether a vertex has been reached by the current search.
+     *
+     * @param v the vertex index
+     * @return true if the vertex has been reached, false otherwise
+     */
+    public boolean isReached(int v)
+    {
+        return stamp[v] == version;
+    }
+
+    /**
+     * Get the tentative distance of a vertex in the current search.
+     *
+     * @param v the vertex index
+     * @return the tentative distance or {@link Double#POSITIVE_INFINITY} if the vertex has not
+     *         been reached
+     */
+    public double getDistance(int v)
+    {
+        return stamp[v] == version ? dist[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Get the predecessor edge of a vertex in the current search.
+     *
+     * @param v the vertex index
+     * @return the predecessor edge or null if the vertex has not been reached or is the source of
+     *         the search
+     */
+    @SuppressWarnings("unchecked")
+    public E getPredecessor(int v)
+    {
+        return stamp[v] == version ? (E) pred[v] : null;
+    }
+
+    /**
+     * Set the tentative distance and the predecessor edge of a vertex. The vertex becomes reached.
+     *
+     * @param v the vertex index
+     * @param distance the distance
+     * @param e the predecessor edge or null
+     */
+    public void update(int v, double distance, E e)
+    {
+        stamp[v] = version;
+        dist[v] = distance;
+        pred[v] = e;
+    }
+
+    /**
+     * Relax a vertex. If the vertex has not been reached yet, it is reached and inserted in the
+     * heap. If it is in the heap with a larger tentative distance, its distance is decreased. In
+     * all other cases nothing happens.
+     *
+     * @param v the vertex index
+     * @param distance the candidate distance
+     * @param e the candidate predecessor edge
+     * @return true if the distance of the vertex was updated, false otherwise
+     */
+    public boolean relax(int v, double distance, E e)
+    {
+        if (stamp[v] != version) {
+            update(v, distance, e);
+            heap.insert(v, distance);
+            return true;
+        }
+        if (distance < dist[v] && heap.contains(v)) {
+            dist[v] = distance;
+            pred[v] = e;
+            heap.decreaseKey(v, distance);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the heap of the workspace. The keys of the heap are the tentative distances of the
+     * vertices.
+     *
+     * @return the heap
+     */
+    public IndexedDaryDoubleHeap heap()
+    {
+        return heap;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * A strategy for obtaining {@link SearchWorkspace} instances during shortest path queries.
+ *
+ * <p>
+ * Algorithms which accept a pool {@link #acquire(int) acquire} a workspace at the beginning of each
+ * query and {@link #release(SearchWorkspace) release} it once the result has been extracted.
+ * Acquired workspaces are always {@link SearchWorkspace#reset() reset}. A single query may hold
+ * more than one workspace at the same time, for example one per search direction.
+ *
+ * <p>
+ * Two strategies are provided. A {@link #perQuery() per-query} pool allocates a new workspace for
+ * every query, while a {@link #perThread() per-thread} pool keeps the released workspaces of each
+ * thread and hands them out again to later queries of the same thread. The latter avoids all
+ * allocations proportional to the size of the graph after warm-up and, since workspaces are never
+ * shared between threads, allows a single algorithm instance to serve concurrent queries without
+ * any locking.
+ *
+ * @param <E> the graph edge type
+ */
+public interface SearchWorkspacePool<E>
+{
+    /**
+     * Acquire a reset workspace with at least the given capacity.
+     *
+     * @param capacity the required capacity
+     * @return a workspace
+     */
+    SearchWorkspace<E> acquire(int capacity);
+
+    /**
+     * Return a workspace to the pool. The caller must not use the workspace afterwards.
+     *
+     * @param workspace the workspace
+     */
+    void release(SearchWorkspace<E> workspace);
+
+    /**
+     * Create a pool which allocates a new workspace for every query.
+     *
+     * @param <E> the graph edge type
+     * @return the pool
+     */
+    static <E> SearchWorkspacePool<E> perQuery()
+    {
+        return new SearchWorkspacePool<>()
+        {
+            @Override
+            public SearchWorkspace<E> acquire(int capacity)
+            {
+                return new SearchWorkspace<>(capacity);
+            }
+
+            @Override
+            public void release(SearchWorkspace<E> workspace)
+            {
+                // nothing to do, the workspace is garbage collected
+            }
+        };
+    }
+
+    /**
+     * Create a pool which reuses workspaces per thread.
+     *
+     * @param <E> the graph edge type
+     * @return the pool
+     */
+    static <E> SearchWorkspacePool<E> perThread()
+    {
+        return new SearchWorkspacePool<>()
+        {
+            private final ThreadLocal<Deque<SearchWorkspace<E>>> free =
+                ThreadLocal.withInitial(ArrayDeque::new);
+
+            @Override
+            public SearchWorkspace<E> acquire(int capacity)
+            {
+                Deque<SearchWorkspace<E>> stack = free.get();
+                SearchWorkspace<E> ws = stack.pollFirst();
+                if (ws == null || ws.capacity() < capacity) {
+                    return new SearchWorkspace<>(capacity);
+                }
+                ws.reset();
+                return ws;
+            }
+
+            @Override
+            public void release(SearchWorkspace<E> workspace)
+            {
+                free.get().addFirst(workspace);
+            }
+        };
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Time-dependent Dijkstra and A* search.
+ *
+ * <p>
+ * The travel time of each edge depends on the time at which the edge is entered and is given by a
+ * piecewise linear function, see {@link TravelTimeProfiles}. Two kinds of queries are supported:
+ * <ul>
+ * <li>Earliest arrival queries, which compute the earliest arrival time at a target for a given
+ * departure time at the source, see {@link #getPath(Object, Object, double)}. Since all profiles
+ * have the FIFO property, a Dijkstra search where each edge is evaluated at the arrival time of its
+ * source computes exact results. This is the algorithm of Dreyfus, see S. E. Dreyfus. An appraisal
+ * of some shortest-path algorithms. Operations Research, 17(3):395–412, 1969.</li>
+ * <li>Profile queries, which compute the travel time from a source to a target as a function of
+ * the departure time for all departure times at once, see {@link #getProfile(Object, Object)}.
+ * Each vertex is labeled with a piecewise linear function which is extended along edges by
+ * function composition and combined with the existing label by the pointwise minimum. The search
+ * is label-correcting and terminates once no remaining label can improve the function of the
+ * target anywhere.</li>
+ * </ul>
+ *
+ * <p>
+ * Both queries can be guided towards the target by a heuristic which gives a lower bound on the
+ * remaining travel time, independently of the time of day. In that case the earliest arrival query
+ * becomes an A* search, and the profile query prunes vertices whose minimum label plus lower bound
+ * cannot improve the target function. Any {@link AStarAdmissibleHeuristic} on the minimum travel
+ * times is suitable. For road networks with coordinates a typical choice is the great-circle
+ * distance between two vertices divided by the maximum speed in the network, or the landmark
+ * bounds of {@link ALTLandmarkTables} computed on the graph of minimum travel times, see
+ * {@link TravelTimeProfiles#getMinimumTravelTime(Object)}. The heuristic does not need to be
+ * consistent.
+ *
+ * <p>
+ * The outgoing edges of the graph are copied once during construction into a compressed sparse row
+ * representation which refers to the profiles by edge index, and queries use a primitive
+ * {@link IndexedDaryDoubleHeap} and reusable arrays of which only the touched entries are reset.
+ * Changes to the profiles are visible to subsequent queries, while changes to the structure of the
+ * graph require a new instance.
+ *
+ * <p>
+ * The algorithm keeps its workspace between queries and therefore instances are not thread-safe.
+ * Use a separate instance per thread for concurrent queries.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class TimeDependentShortestPath<V, E>
+{
+    private static final String GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX =
+        "Graph must contain the source vertex!";
+    private static final String GRAPH_MUST_CONTAIN_THE_SINK_VERTEX =
+        "Graph must contain the sink vertex!";
+
+    private final Graph<V, E> graph;
+    private final TravelTimeProfiles<V, E> profiles;
+    private final AStarAdmissibleHeuristic<V> heuristic;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+
+    // CSR representation of the outgoing edges
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] edges;
+
+    // query workspace
+    private final IndexedDaryDoubleHeap heap;
+    private final double[] arrival;
+    private final int[] predEdge;
+    private final int[] predVertex;
+    private final double[] lowerBound;
+    private final PiecewiseLinearFunction[] labels;
+    private final int[] touched;
+    private int touchedCount;
+    private final int[] bounded;
+    private int boundedCount;
+
+    /**
+     * Create a new time-dependent Dijkstra search.
+     *
+     * @param profiles the travel time profiles of the graph
+     */
+    public TimeDependentShortestPath(TravelTimeProfiles<V, E> profiles)
+    {
+        this(profiles, null);
+    }
+
+    /**
+     * Create a new time-dependent A* search.
+     *
+     * @param profiles the travel time profiles of the graph
+     * @param heuristic lower bounds on the remaining travel time, or null for a Dijkstra search
+     */
+    public TimeDependentShortestPath(
+        TravelTimeProfiles<V, E> profiles, AStarAdmissibleHeuristic<V> heuristic)
+    {
+        this.profiles = Objects.requireNonNull(profiles, "Profiles cannot be null");
+        this.graph = profiles.getGraph();
+        this.heuristic = heuristic;
+
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+
+        boolean directed = graph.getType().isDirected();
+        this.offsets = new int[n + 1];
+        int arcs = 0;
+        for (int v = 0; v < n; ++v) {
+            V vertex = vertices.get(v);
+            arcs += directed ? graph.outDegreeOf(vertex) : graph.degreeOf(vertex);
+        }
+        this.targets = new int[arcs];
+        this.edges = new int[arcs];
+        int pos = 0;
+        for (int v = 0; v < n; ++v) {
+            offsets[v] = pos;
+            V vertex = vertices.get(v);
+            Set<E> out = directed ? graph.outgoingEdgesOf(vertex) : graph.edgesOf(vertex);
+            for (E e : out) {
+                targets[pos] = vertexMap.get(Graphs.getOppositeVertex(graph, e, vertex));
+                edges[pos] = profiles.indexOf(e);
+                pos++;
+            }
+        }
+        offsets[n] = pos;
+
+        this.heap = new IndexedDaryDoubleHeap(n);
+        this.arrival = new double[n];
+        Arrays.fill(arrival, Double.POSITIVE_INFINITY);
+        this.predEdge = new int[n];
+        Arrays.fill(predEdge, -1);
+        this.predVertex = new int[n];
+        this.lowerBound = new double[n];
+        Arrays.fill(lowerBound, Double.NaN);
+        this.labels = new PiecewiseLinearFunction[n];
+        this.touched = new int[n];
+        this.touchedCount = 0;
+        this.bounded = new int[n];
+        this.boundedCount = 0;
+    }
+
+    /**
+     * Get the travel time profiles used by the search.
+     *
+     * @return the travel time profiles
+     */
+    public TravelTimeProfiles<V, E> getProfiles()
+    {
+        return profiles;
+    }
+
+    /**
+     * Compute a path with the earliest arrival time at the sink when departing from the source at
+     * a given time.
+     *
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param departureTime the departure time at the source
+     * @return a path whose weight is its travel time, or null if no path exists
+     * @throws IllegalArgumentException if the graph does not contain the source or the sink
+     */
+    public GraphPath<V, E> getPath(V source, V sink, double departureTime)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        runEarliestArrival(s, t, departureTime);
+        return buildPath(s, t, departureTime, arrival, predEdge, predVertex);
+    }
+
+    /**
+     * Compute the earliest arrival time at the sink when departing from the source at a given
+     * time.
+     *
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param departureTime the departure time at the source
+     * @return the earliest arrival time, or {@link Double#POSITIVE_INFINITY} if no path exists
+     * @throws IllegalArgumentException if the graph does not contain the source or the sink
+     */
+    public double getEarliestArrivalTime(V source, V sink, double departureTime)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        runEarliestArrival(s, t, departureTime);
+        return arrival[t];
+    }
+
+    /**
+     * Compute the paths with the earliest arrival times at all vertices when departing from the
+     * source at a given time. The weight of each path is its travel time. The heuristic, if any,
+     * is not used.
+     *
+     * @param source the source vertex
+     * @param departureTime the departure time at the source
+     * @return the earliest arrival paths
+     * @throws IllegalArgumentException if the graph does not contain the source
+     */
+    public SingleSourcePaths<V, E> getPaths(V source, double departureTime)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        runEarliestArrival(s, -1, departureTime);
+        Map<V, Pair<Double, E>> map = HashMap.newHashMap(touchedCount);
+        for (int i = 0; i < touchedCount; ++i) {
+            int v = touched[i];
+            E e = predEdge[v] < 0 ? null : profiles.getEdge(predEdge[v]);
+            map.put(vertices.get(v), Pair.of(arrival[v] - departureTime, e));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, map);
+    }
+
+    /**
+     * Compute the travel time from the source to the sink as a function of the departure time at
+     * the source. The path for a particular departure time can then be obtained from
+     * {@link #getPath(Object, Object, double)}.
+     *
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @return the travel time profile, or null if no path exists
+     * @throws IllegalArgumentException if the graph does not contain the source or the sink
+     */
+    public PiecewiseLinearFunction getProfile(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        reset();
+        if (s == t) {
+            return PiecewiseLinearFunction.constant(0d);
+        }
+
+        labels[s] = PiecewiseLinearFunction.constant(0d);
+        touched[touchedCount++] = s;
+        heap.insert(s, lowerBound(s, t));
+
+        while (!heap.isEmpty()) {
+            PiecewiseLinearFunction target = labels[t];
+            if (target != null && heap.findMinKey() >= target.getMaximum()) {
+                // no remaining label can improve the target function anywhere
+                break;
+            }
+            int v = heap.deleteMin();
+            if (v == t) {
+                continue;
+            }
+            PiecewiseLinearFunction label = labels[v];
+            for (int i = offsets[v], end = offsets[v + 1]; i < end; i++) {
+                int u = targets[i];
+                int e = edges[i];
+                double h = lowerBound(u, t);
+                if (h == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                if (target != null
+                    && label.getMinimum() + profiles.minimumTravelTime(e) + h >= target
+                        .getMaximum())
+                {
+                    continue;
+                }
+                PiecewiseLinearFunction extended = profiles.link(label, e);
+                PiecewiseLinearFunction cur = labels[u];
+                PiecewiseLinearFunction merged;
+                if (cur == null) {
+                    touched[touchedCount++] = u;
+                    merged = extended;
+                } else {
+                    merged = cur.minimum(extended);
+                    if (merged == cur) {
+                        continue;
+                    }
+                }
+                labels[u] = merged;
+                double key = merged.getMinimum() + h;
+                if (heap.contains(u)) {
+                    // the minimum of a merged label never increases
+                    heap.decreaseKey(u, Math.min(key, heap.getKey(u)));
+                } else {
+                    heap.insert(u, key);
+                }
+            }
+        }
+        return labels[t];
+    }
+
+    /**
+     * Run the earliest arrival search from a source. If the sink is non-negative the search stops
+     * as soon as the sink is settled.
+     */
+    private void runEarliestArrival(int source, int sink, double departureTime)
+    {
+        reset();
+
+        arrival[source] = departureTime;
+        touched[touchedCount++] = source;
+        heap.insert(source, departureTime + lowerBound(source, sink));
+
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            if (v == sink) {
+                break;
+            }
+            double vArrival = arrival[v];
+            for (int i = offsets[v], end = offsets[v + 1]; i < end; i++) {
+                int u = targets[i];
+                double uArrival = vArrival + profiles.travelTime(edges[i], vArrival);
+                double cur = arrival[u];
+                if (uArrival < cur) {
+                    double h = lowerBound(u, sink);
+                    if (h == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    if (cur == Double.POSITIVE_INFINITY) {
+                        touched[touchedCount++] = u;
+                    }
+                    if (heap.contains(u)) {
+                        heap.decreaseKey(u, uArrival + h);
+                    } else {
+                        // first visit, or reopening due to an inconsistent heuristic
+                        heap.insert(u, uArrival + h);
+                    }
+                    arrival[u] = uArrival;
+                    predEdge[u] = edges[i];
+                    predVertex[u] = v;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the lower bound from a vertex to the sink, computing it on first use in a query.
+     */
+    private double lowerBound(int v, int sink)
+    {
+        if (heuristic == null || sink < 0) {
+            return 0d;
+        }
+        double h = lowerBound[v];
+        if (Double.isNaN(h)) {
+            h = heuristic.getCostEstimate(vertices.get(v), vertices.get(sink));
+            lowerBound[v] = h;
+            bounded[boundedCount++] = v;
+        }
+        return h;
+    }
+
+    /**
+     * Reset only the entries of the workspace touched by the previous query.
+     */
+    private void reset()
+    {
+        heap.clear();
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            arrival[v] = Double.POSITIVE_INFINITY;
+            predEdge[v] = -1;
+            labels[v] = null;
+        }
+        touchedCount = 0;
+        for (int i = 0; i < boundedCount; i++) {
+            lowerBound[bounded[i]] = Double.NaN;
+        }
+        boundedCount = 0;
+    }
+
+    private GraphPath<V, E> buildPath(
+        int source, int sink, double departureTime, double[] arrival, int[] predEdge,
+        int[] predVertex)
+    {
+        if (source == sink) {
+            return GraphWalk.singletonWalk(graph, vertices.get(source), 0d);
+        }
+        if (predEdge[sink] < 0) {
+            return null;
+        }
+        List<E> edgeList = new ArrayList<>();
+        int cur = sink;
+        while (cur != source) {
+            edgeList.add(profiles.getEdge(predEdge[cur]));
+            cur = predVertex[cur];
+        }
+        Collections.reverse(edgeList);
+        return new GraphWalk<>(
+            graph, vertices.get(source), vertices.get(sink), null, edgeList,
+            arrival[sink] - departureTime);
+    }
+
+    private int indexOf(V vertex, String message)
+    {
+        Integer v = vertexMap.get(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return v;
+    }
+}
@@ -995,6 +995,28 @@ class TransitNodeRoutingPrecomputation<V, E>
             this.visitedBackwardVoronoiCells = visitedBackwardVoronoiCells;
         }
 
+        /**
+         * Returns the Voronoi cells visited by the forward search of each vertex. The id of a
+         * contracted vertex is the index in this list.
+         *
+         * @return visited Voronoi cells in the forward direction
+         */
+        List<Set<Integer>> getVisitedForwardVoronoiCells()
+        {
+            return visitedForwardVoronoiCells;
+        }
+
+        /**
+         * Returns the Voronoi cells visited by the backward search of each vertex. The id of a
+         * contracted vertex is the index in this list.
+         *
+         * @return visited Voronoi cells in the backward direction
+         */
+        List<Set<Integer>> getVisitedBackwardVoronoiCells()
+        {
+            return visitedBackwardVoronoiCells;
+        }
+
         /**
          * Returns $true$ when no shortest paths between {@code source} and {@code sink} contains a
          * transit vertex.
@@ -66,6 +66,8 @@ import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.Tran
  * The precomputation in this algorithm is performed in a lazy fashion. It can be performed by
  * directly calling the {@code #performPrecomputation()} method. Otherwise, this method is called
  * during the first call to either the {@code #getPath()} or {@code #getPathWeight()} methods.
+ * The result of the precomputation can be stored in a file and loaded later using
+ * {@link ContractionHierarchyIO}.
  *
  * @param <V> graph vertex type
  * @param <E> graph edge type
@@ -81,6 +83,11 @@ public class TransitNodeRoutingShortestPath<V, E> extends BaseShortestPathAlgori
      */
     private ThreadPoolExecutor executor;
 
+    /**
+     * Transit node routing which is used to compute shortest paths.
+     */
+    private TransitNodeRouting<V, E> transitNodeRouting;
+
     /**
      * Contraction hierarchy which is used to compute shortest paths.
      */
@@ -156,6 +163,7 @@ public class TransitNodeRoutingShortestPath<V, E> extends BaseShortestPathAlgori
      */
     private void initialize(TransitNodeRouting<V, E> transitNodeRouting)
     {
+        this.transitNodeRouting = transitNodeRouting;
         this.contractionHierarchy = transitNodeRouting.getContractionHierarchy();
         this.localityFilter = transitNodeRouting.getLocalityFilter();
         this.accessVertices = transitNodeRouting.getAccessVertices();
@@ -164,6 +172,17 @@ public class TransitNodeRoutingShortestPath<V, E> extends BaseShortestPathAlgori
             transitNodeRouting.getContractionHierarchy());
     }
 
+    /**
+     * Returns the transit node routing of this algorithm, performing the precomputation if needed.
+     *
+     * @return transit node routing
+     */
+    TransitNodeRouting<V, E> getTransitNodeRouting()
+    {
+        performPrecomputation();
+        return transitNodeRouting;
+    }
+
     /**
      * {@inheritDoc}
      */
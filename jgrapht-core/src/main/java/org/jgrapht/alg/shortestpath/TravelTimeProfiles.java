@@ -0,0 +1,283 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * Time-dependent travel times of the edges of a graph.
+ *
+ * <p>
+ * Each edge carries a piecewise linear travel time function of the departure time at the source of
+ * the edge, see {@link PiecewiseLinearFunction}. Initially the travel time of each edge is constant
+ * and equal to its weight in the graph. Profiles are then set with
+ * {@link #setProfile(Object, double[], double[])}, for example to model congestion during rush
+ * hours. For undirected graphs the same profile is used for both directions of an edge.
+ *
+ * <p>
+ * The breakpoints of all edges are stored contiguously in two primitive arrays, one for the
+ * departure times and one for the travel times, together with per-edge offsets and counts. Each
+ * edge is assigned an index in $[0, m)$ at construction time, which the time-dependent algorithms
+ * use to evaluate travel times without any hashing. The edge set of the graph must therefore not
+ * change after construction.
+ *
+ * <p>
+ * All profiles must have the FIFO property, that is departing later on an edge never results in
+ * arriving earlier. This property is checked when a profile is set, and is required for the
+ * correctness of {@link TimeDependentShortestPath}.
+ *
+ * <p>
+ * This class is not thread-safe while profiles are being modified.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class TravelTimeProfiles<V, E>
+{
+    private final Graph<V, E> graph;
+    private final Map<E, Integer> edgeIndex;
+    private final List<E> edges;
+
+    // per edge position and number of breakpoints in the shared arrays
+    private final int[] start;
+    private final int[] count;
+    private final double[] minimum;
+
+    // shared breakpoint storage
+    private double[] departureTimes;
+    private double[] travelTimes;
+    private int used;
+    private int live;
+
+    /**
+     * Create new travel times for a graph. The travel time of each edge is initially constant and
+     * equal to its weight.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains negative or non-finite edge weights
+     */
+    public TravelTimeProfiles(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        int m = graph.edgeSet().size();
+        this.edgeIndex = HashMap.newHashMap(m);
+        this.edges = new ArrayList<>(m);
+        this.start = new int[m];
+        this.count = new int[m];
+        this.minimum = new double[m];
+        this.departureTimes = new double[m];
+        this.travelTimes = new double[m];
+
+        for (E e : graph.edgeSet()) {
+            double w = graph.getEdgeWeight(e);
+            if (!Double.isFinite(w) || w < 0d) {
+                throw new IllegalArgumentException("Edge weights must be finite and non-negative");
+            }
+            int i = edges.size();
+            edgeIndex.put(e, i);
+            edges.add(e);
+            start[i] = i;
+            count[i] = 1;
+            minimum[i] = w;
+            travelTimes[i] = w;
+        }
+        this.used = m;
+        this.live = m;
+    }
+
+    /**
+     * Get the graph.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Set the travel time profile of an edge.
+     *
+     * @param edge the edge
+     * @param departureTimes the departure times of the breakpoints, strictly increasing
+     * @param travelTimes the travel times at the breakpoints
+     * @throws IllegalArgumentException if the edge is unknown, if the breakpoints are invalid, if a
+     *         travel time is negative or if the profile does not have the FIFO property
+     */
+    public void setProfile(E edge, double[] departureTimes, double[] travelTimes)
+    {
+        int e = indexOf(edge);
+        int k = departureTimes.length;
+        PiecewiseLinearFunction.validate(departureTimes, 0, travelTimes, 0, k, travelTimes.length);
+        if (!PiecewiseLinearFunction.isFifo(departureTimes, 0, travelTimes, 0, k)) {
+            throw new IllegalArgumentException("Travel time profile must have the FIFO property");
+        }
+        double min = Double.POSITIVE_INFINITY;
+        for (double t : travelTimes) {
+            if (t < 0d) {
+                throw new IllegalArgumentException("Travel times must be non-negative");
+            }
+            min = Math.min(min, t);
+        }
+
+        // reuse the current slot if the new profile fits, otherwise append
+        int s = start[e];
+        if (k > count[e]) {
+            ensureCapacity(used + k);
+            s = used;
+            used += k;
+        }
+        System.arraycopy(departureTimes, 0, this.departureTimes, s, k);
+        System.arraycopy(travelTimes, 0, this.travelTimes, s, k);
+        live += k - count[e];
+        start[e] = s;
+        count[e] = k;
+        minimum[e] = min;
+    }
+
+    /**
+     * Set the travel time profile of an edge.
+     *
+     * @param edge the edge
+     * @param profile the travel time profile
+     * @throws IllegalArgumentException if the edge is unknown, if a travel time is negative or if
+     *         the profile does not have the FIFO property
+     */
+    public void setProfile(E edge, PiecewiseLinearFunction profile)
+    {
+        int k = profile.getBreakpointCount();
+        double[] x = new double[k];
+        double[] y = new double[k];
+        for (int i = 0; i < k; ++i) {
+            x[i] = profile.getBreakpointTime(i);
+            y[i] = profile.getBreakpointValue(i);
+        }
+        setProfile(edge, x, y);
+    }
+
+    /**
+     * Get the travel time profile of an edge.
+     *
+     * @param edge the edge
+     * @return the travel time profile of the edge
+     * @throws IllegalArgumentException if the edge is unknown
+     */
+    public PiecewiseLinearFunction getProfile(E edge)
+    {
+        return profile(indexOf(edge));
+    }
+
+    /**
+     * Get the travel time of an edge.
+     *
+     * @param edge the edge
+     * @param departureTime the departure time at the source of the edge
+     * @return the travel time
+     * @throws IllegalArgumentException if the edge is unknown
+     */
+    public double getTravelTime(E edge, double departureTime)
+    {
+        return travelTime(indexOf(edge), departureTime);
+    }
+
+    /**
+     * Get the minimum travel time of an edge over all departure times. The minimum travel times
+     * can be used as the weights of a static graph in order to compute lower bounds, for example
+     * with {@link ALTLandmarkTables}.
+     *
+     * @param edge the edge
+     * @return the minimum travel time
+     * @throws IllegalArgumentException if the edge is unknown
+     */
+    public double getMinimumTravelTime(E edge)
+    {
+        return minimum[indexOf(edge)];
+    }
+
+    /**
+     * Get the total number of breakpoints of the profiles of all edges.
+     *
+     * @return the total number of breakpoints
+     */
+    public int getBreakpointCount()
+    {
+        return live;
+    }
+
+    int edgeCount()
+    {
+        return edges.size();
+    }
+
+    int indexOf(E edge)
+    {
+        Integer e = edgeIndex.get(edge);
+        if (e == null) {
+            throw new IllegalArgumentException("Unknown edge: " + edge);
+        }
+        return e;
+    }
+
+    E getEdge(int e)
+    {
+        return edges.get(e);
+    }
+
+    double travelTime(int e, double departureTime)
+    {
+        int k = count[e];
+        if (k == 1) {
+            return travelTimes[start[e]];
+        }
+        return PiecewiseLinearFunction
+            .evaluate(departureTimes, travelTimes, start[e], k, departureTime);
+    }
+
+    double minimumTravelTime(int e)
+    {
+        return minimum[e];
+    }
+
+    /**
+     * Link a travel time function with the profile of an edge, reading the profile in place.
+     */
+    PiecewiseLinearFunction link(PiecewiseLinearFunction function, int e)
+    {
+        return function.link(departureTimes, travelTimes, start[e], count[e]);
+    }
+
+    PiecewiseLinearFunction profile(int e)
+    {
+        int s = start[e];
+        return new PiecewiseLinearFunction(
+            Arrays.copyOfRange(departureTimes, s, s + count[e]),
+            Arrays.copyOfRange(travelTimes, s, s + count[e]));
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > departureTimes.length) {
+            int newCapacity =
+                Math.max(capacity, departureTimes.length + (departureTimes.length >> 1));
+            departureTimes = Arrays.copyOf(departureTimes, newCapacity);
+            travelTimes = Arrays.copyOf(travelTimes, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * Turn costs and turn restrictions of a directed graph.
+ *
+ * <p>
+ * A turn is a pair of edges $(e, f)$ such that the target of $e$ is the source of $f$, that is a
+ * transition from $e$ to $f$ at their common vertex. Each turn has a non-negative cost which is
+ * added to the length of any path using it. A turn with infinite cost is banned. Turns which are
+ * not explicitly listed in the table have cost zero, except for u-turns, that is turns $(e, f)$
+ * where $f$ ends at the source of $e$, whose default cost can be changed with
+ * {@link #setUTurnCost(double)}.
+ *
+ * <p>
+ * Road networks typically have few explicit turn entries compared to the number of edges. The
+ * table therefore stores only explicit entries, in a primitive open addressing hash table keyed by
+ * the indices of both edges. Each edge of the graph is assigned an index at construction time and
+ * the edge set of the graph must not change afterwards.
+ *
+ * <p>
+ * Searches which respect turn costs operate on the edge-based graph, whose vertices are the edges
+ * of the original graph, see {@link EdgeBasedGraph} and {@link TurnRestrictedShortestPath}.
+ *
+ * <p>
+ * This class is not thread-safe while turn costs are being modified.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class TurnCostTable<V, E>
+{
+    private static final long EMPTY = -1L;
+
+    private final Graph<V, E> graph;
+    private final Map<E, Integer> edgeIndex;
+    private final List<E> edges;
+    private double uTurnCost;
+
+    private long[] keys;
+    private double[] costs;
+    private int size;
+
+    /**
+     * Create a new table without any explicit turn costs.
+     *
+     * @param graph the directed graph
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public TurnCostTable(Graph<V, E> graph)
+    {
+        this.graph = GraphTests.requireDirected(graph);
+        int m = graph.edgeSet().size();
+        this.edgeIndex = HashMap.newHashMap(m);
+        this.edges = new ArrayList<>(m);
+        for (E e : graph.edgeSet()) {
+            edgeIndex.put(e, edges.size());
+            edges.add(e);
+        }
+        this.uTurnCost = 0d;
+        this.keys = new long[16];
+        Arrays.fill(keys, EMPTY);
+        this.costs = new double[16];
+        this.size = 0;
+    }
+
+    /**
+     * Get the graph.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Set the cost of a turn.
+     *
+     * @param from the edge before the turn
+     * @param to the edge after the turn
+     * @param cost the cost of the turn, which may be {@link Double#POSITIVE_INFINITY} in order to
+     *        ban the turn
+     * @throws IllegalArgumentException if the edges are unknown or do not form a turn, or if the
+     *         cost is negative or NaN
+     */
+    public void setTurnCost(E from, E to, double cost)
+    {
+        if (!(cost >= 0d)) {
+            throw new IllegalArgumentException("Turn costs must be non-negative");
+        }
+        long key = key(from, to);
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                costs[i] = cost;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        costs[i] = cost;
+        if (++size * 2 > keys.length) {
+            rehash();
+        }
+    }
+
+    /**
+     * Ban a turn.
+     *
+     * @param from the edge before the turn
+     * @param to the edge after the turn
+     * @throws IllegalArgumentException if the edges are unknown or do not form a turn
+     */
+    public void banTurn(E from, E to)
+    {
+        setTurnCost(from, to, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Get the cost of a turn.
+     *
+     * @param from the edge before the turn
+     * @param to the edge after the turn
+     * @return the cost of the turn, {@link Double#POSITIVE_INFINITY} if the turn is banned
+     * @throws IllegalArgumentException if the edges are unknown or do not form a turn
+     */
+    public double getTurnCost(E from, E to)
+    {
+        long key = key(from, to);
+        return turnCost((int) (key >>> 32), (int) key);
+    }
+
+    /**
+     * Get the default cost of u-turns.
+     *
+     * @return the default cost of u-turns
+     */
+    public double getUTurnCost()
+    {
+        return uTurnCost;
+    }
+
+    /**
+     * Set the default cost of u-turns, which applies to all u-turns without an explicit entry. Use
+     * {@link Double#POSITIVE_INFINITY} to ban u-turns. The initial value is zero.
+     *
+     * @param uTurnCost the default cost of u-turns
+     * @throws IllegalArgumentException if the cost is negative or NaN
+     */
+    public void setUTurnCost(double uTurnCost)
+    {
+        if (!(uTurnCost >= 0d)) {
+            throw new IllegalArgumentException("Turn costs must be non-negative");
+        }
+        this.uTurnCost = uTurnCost;
+    }
+
+    /**
+     * Get the number of explicit turn entries.
+     *
+     * @return the number of explicit turn entries
+     */
+    public int getTurnEntryCount()
+    {
+        return size;
+    }
+
+    int edgeCount()
+    {
+        return edges.size();
+    }
+
+    int indexOf(E edge)
+    {
+        Integer e = edgeIndex.get(edge);
+        if (e == null) {
+            throw new IllegalArgumentException("Unknown edge: " + edge);
+        }
+        return e;
+    }
+
+    E getEdge(int e)
+    {
+        return edges.get(e);
+    }
+
+    /**
+     * Get the edges of the graph ordered by their indices.
+     */
+    List<E> getEdges()
+    {
+        return Collections.unmodifiableList(edges);
+    }
+
+    /**
+     * Get the cost of the turn between the edges with the given indices, which must form a turn.
+     */
+    double turnCost(int from, int to)
+    {
+        if (size > 0) {
+            long key = ((long) from << 32) | (to & 0xffffffffL);
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != EMPTY) {
+                if (keys[i] == key) {
+                    return costs[i];
+                }
+                i = (i + 1) & mask;
+            }
+        }
+        if (uTurnCost != 0d) {
+            E f = edges.get(from);
+            E t = edges.get(to);
+            if (graph.getEdgeTarget(t).equals(graph.getEdgeSource(f))) {
+                return uTurnCost;
+            }
+        }
+        return 0d;
+    }
+
+    private long key(E from, E to)
+    {
+        int f = indexOf(from);
+        int t = indexOf(to);
+        if (!graph.getEdgeTarget(from).equals(graph.getEdgeSource(to))) {
+            throw new IllegalArgumentException("Edges do not form a turn");
+        }
+        return ((long) f << 32) | (t & 0xffffffffL);
+    }
+
+    private static int slot(long key, int mask)
+    {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash()
+    {
+        long[] oldKeys = keys;
+        double[] oldCosts = costs;
+        keys = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        costs = new double[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; ++j) {
+            if (oldKeys[j] != EMPTY) {
+                int i = slot(oldKeys[j], mask);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                costs[i] = oldCosts[j];
+            }
+        }
+    }
+}
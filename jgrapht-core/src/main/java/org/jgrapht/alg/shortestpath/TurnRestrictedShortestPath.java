@@ -0,0 +1,399 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Dijkstra and A* search respecting turn costs and turn restrictions.
+ *
+ * <p>
+ * The search runs on the implicit edge-based graph described in {@link EdgeBasedGraph}: labels are
+ * attached to the edges of the original graph, and an edge $f$ is reached from an edge $e$ through
+ * the turn $(e, f)$ at the cost of the turn plus the weight of $f$. All outgoing edges of the
+ * source are initial labels, and a query terminates as soon as an incoming edge of the sink is
+ * settled.
+ * Successors are generated on the fly from the outgoing edges of the graph and the
+ * {@link TurnCostTable}, and no line graph is ever built.
+ *
+ * <p>
+ * When a heuristic is given, the search is an A* search where the label of an edge is guided by
+ * the heuristic value of its target vertex. Since turn costs are non-negative, any admissible
+ * heuristic of the original graph remains admissible. The heuristic does not need to be
+ * consistent.
+ *
+ * <p>
+ * The outgoing edges and weights of the graph are copied once during construction into a
+ * compressed sparse row representation indexed like the turn cost table, and queries use a
+ * primitive {@link IndexedDaryDoubleHeap} over edges and reusable arrays of which only the touched
+ * entries are reset. Changes to edge weights or to the structure of the graph require a new
+ * instance, while changes to turn costs are visible to subsequent queries.
+ *
+ * <p>
+ * The algorithm keeps its workspace between queries and therefore instances are not thread-safe.
+ * Use a separate instance per thread for concurrent queries.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class TurnRestrictedShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    private final TurnCostTable<V, E> turnCosts;
+    private final AStarAdmissibleHeuristic<V> heuristic;
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final int n;
+    private final int m;
+
+    // CSR representation of the outgoing edges, using the edge indices of the turn cost table
+    private final int[] offsets;
+    private final int[] outEdges;
+    private final int[] edgeTarget;
+    private final double[] weights;
+
+    // query workspace over edges
+    private final IndexedDaryDoubleHeap heap;
+    private final double[] dist;
+    private final int[] pred;
+    private final int[] touched;
+    private int touchedCount;
+
+    // heuristic cache over vertices
+    private final double[] lowerBound;
+    private final int[] bounded;
+    private int boundedCount;
+
+    /**
+     * Create a new Dijkstra search respecting turn costs.
+     *
+     * @param turnCosts the turn costs of the graph
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public TurnRestrictedShortestPath(TurnCostTable<V, E> turnCosts)
+    {
+        this(turnCosts, null);
+    }
+
+    /**
+     * Create a new A* search respecting turn costs.
+     *
+     * @param turnCosts the turn costs of the graph
+     * @param heuristic an admissible heuristic of the graph, or null for a Dijkstra search
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public TurnRestrictedShortestPath(
+        TurnCostTable<V, E> turnCosts, AStarAdmissibleHeuristic<V> heuristic)
+    {
+        super(Objects.requireNonNull(turnCosts, "Turn costs cannot be null").getGraph());
+        this.turnCosts = turnCosts;
+        this.heuristic = heuristic;
+
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+        this.m = turnCosts.edgeCount();
+
+        this.offsets = new int[n + 1];
+        this.outEdges = new int[m];
+        this.edgeTarget = new int[m];
+        this.weights = new double[m];
+        int pos = 0;
+        for (int v = 0; v < n; ++v) {
+            offsets[v] = pos;
+            for (E e : graph.outgoingEdgesOf(vertices.get(v))) {
+                int i = turnCosts.indexOf(e);
+                double w = graph.getEdgeWeight(e);
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                outEdges[pos++] = i;
+                edgeTarget[i] = vertexMap.get(graph.getEdgeTarget(e));
+                weights[i] = w;
+            }
+        }
+        offsets[n] = pos;
+
+        this.heap = new IndexedDaryDoubleHeap(m);
+        this.dist = new double[m];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        this.pred = new int[m];
+        Arrays.fill(pred, -1);
+        this.touched = new int[m];
+        this.touchedCount = 0;
+        this.lowerBound = new double[n];
+        Arrays.fill(lowerBound, Double.NaN);
+        this.bounded = new int[n];
+        this.boundedCount = 0;
+    }
+
+    /**
+     * Get the turn costs used by the search.
+     *
+     * @return the turn costs
+     */
+    public TurnCostTable<V, E> getTurnCosts()
+    {
+        return turnCosts;
+    }
+
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        int last = run(s, t);
+        if (last < 0) {
+            return null;
+        }
+        return buildPath(graph, turnCosts.getEdges(), source, sink, last, dist, pred);
+    }
+
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return 0d;
+        }
+        int last = run(s, t);
+        return last < 0 ? Double.POSITIVE_INFINITY : dist[last];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned object holds its own copy of the labels and thus stays valid when further
+     * queries are executed. The heuristic, if any, is not used.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        run(s, -1);
+        double[] vertexDist = new double[n];
+        int[] vertexLast = new int[n];
+        Arrays.fill(vertexDist, Double.POSITIVE_INFINITY);
+        Arrays.fill(vertexLast, -1);
+        vertexDist[s] = 0d;
+        for (int i = 0; i < touchedCount; ++i) {
+            int e = touched[i];
+            int v = edgeTarget[e];
+            if (dist[e] < vertexDist[v]) {
+                vertexDist[v] = dist[e];
+                vertexLast[v] = e;
+            }
+        }
+        return new EdgeBasedSingleSourcePaths<>(
+            graph, turnCosts.getEdges(), vertexMap, source, vertexDist, vertexLast,
+            Arrays.copyOf(dist, m), Arrays.copyOf(pred, m));
+    }
+
+    /**
+     * Run the search from a source. If the sink is non-negative the search stops as soon as an
+     * incoming edge of the sink is settled.
+     *
+     * @return the settled incoming edge of the sink, or -1
+     */
+    private int run(int source, int sink)
+    {
+        reset();
+
+        for (int i = offsets[source], end = offsets[source + 1]; i < end; ++i) {
+            int e = outEdges[i];
+            relax(e, -1, weights[e], sink);
+        }
+
+        while (!heap.isEmpty()) {
+            int e = heap.deleteMin();
+            int v = edgeTarget[e];
+            if (v == sink) {
+                return e;
+            }
+            double d = dist[e];
+            for (int i = offsets[v], end = offsets[v + 1]; i < end; ++i) {
+                int f = outEdges[i];
+                double turn = turnCosts.turnCost(e, f);
+                if (turn < Double.POSITIVE_INFINITY) {
+                    relax(f, e, d + turn + weights[f], sink);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void relax(int e, int from, double d, int sink)
+    {
+        double cur = dist[e];
+        if (d >= cur) {
+            return;
+        }
+        double h = lowerBound(edgeTarget[e], sink);
+        if (h == Double.POSITIVE_INFINITY) {
+            return;
+        }
+        if (cur == Double.POSITIVE_INFINITY) {
+            touched[touchedCount++] = e;
+        }
+        if (heap.contains(e)) {
+            heap.decreaseKey(e, d + h);
+        } else {
+            // first visit, or reopening due to an inconsistent heuristic
+            heap.insert(e, d + h);
+        }
+        dist[e] = d;
+        pred[e] = from;
+    }
+
+    /**
+     * Get the lower bound from a vertex to the sink, computing it on first use in a query.
+     */
+    private double lowerBound(int v, int sink)
+    {
+        if (heuristic == null || sink < 0) {
+            return 0d;
+        }
+        double h = lowerBound[v];
+        if (Double.isNaN(h)) {
+            h = heuristic.getCostEstimate(vertices.get(v), vertices.get(sink));
+            lowerBound[v] = h;
+            bounded[boundedCount++] = v;
+        }
+        return h;
+    }
+
+    /**
+     * Reset only the entries of the workspace touched by the previous query.
+     */
+    private void reset()
+    {
+        heap.clear();
+        for (int i = 0; i < touchedCount; i++) {
+            int e = touched[i];
+            dist[e] = Double.POSITIVE_INFINITY;
+            pred[e] = -1;
+        }
+        touchedCount = 0;
+        for (int i = 0; i < boundedCount; i++) {
+            lowerBound[bounded[i]] = Double.NaN;
+        }
+        boundedCount = 0;
+    }
+
+    private static <V, E> GraphPath<V, E> buildPath(
+        Graph<V, E> graph, List<E> edges, V source, V sink, int last, double[] dist, int[] pred)
+    {
+        List<E> edgeList = new ArrayList<>();
+        for (int e = last; e >= 0; e = pred[e]) {
+            edgeList.add(edges.get(e));
+        }
+        Collections.reverse(edgeList);
+        return new GraphWalk<>(graph, source, sink, null, edgeList, dist[last]);
+    }
+
+    private int indexOf(V vertex, String message)
+    {
+        Integer v = vertexMap.get(vertex);
+        if (v == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return v;
+    }
+
+    private static class EdgeBasedSingleSourcePaths<V, E>
+        implements SingleSourcePaths<V, E>, Serializable
+    {
+        private static final long serialVersionUID = 2270813520381941573L;
+
+        private final Graph<V, E> graph;
+        private final List<E> edges;
+        private final Map<V, Integer> vertexMap;
+        private final V source;
+        private final double[] vertexDist;
+        private final int[] vertexLast;
+        private final double[] dist;
+        private final int[] pred;
+
+        EdgeBasedSingleSourcePaths(
+            Graph<V, E> graph, List<E> edges, Map<V, Integer> vertexMap, V source,
+            double[] vertexDist, int[] vertexLast, double[] dist, int[] pred)
+        {
+            this.graph = graph;
+            this.edges = edges;
+            this.vertexMap = vertexMap;
+            this.source = source;
+            this.vertexDist = vertexDist;
+            this.vertexLast = vertexLast;
+            this.dist = dist;
+            this.pred = pred;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V targetVertex)
+        {
+            return vertexDist[indexOf(targetVertex)];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V targetVertex)
+        {
+            if (source.equals(targetVertex)) {
+                return GraphWalk.singletonWalk(graph, source, 0d);
+            }
+            int last = vertexLast[indexOf(targetVertex)];
+            if (last < 0) {
+                return null;
+            }
+            return buildPath(graph, edges, source, targetVertex, last, dist, pred);
+        }
+
+        private int indexOf(V vertex)
+        {
+            Integer v = vertexMap.get(vertex);
+            if (v == null) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            return v;
+        }
+    }
+}
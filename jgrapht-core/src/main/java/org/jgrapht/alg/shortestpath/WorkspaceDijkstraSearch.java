@@ -0,0 +1,175 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Dijkstra search executed inside a {@link SearchWorkspace}. Shared by the shortest path
+ * algorithms which support a {@link SearchWorkspacePool}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+final class WorkspaceDijkstraSearch<V, E>
+{
+    private final Graph<V, E> graph;
+    private final int n;
+    private final ToIntFunction<V> indexOf;
+    private final IntFunction<V> vertexOf;
+
+    /**
+     * Create a search over a graph whose vertices are indexed using a vertex to integer mapping.
+     *
+     * @param graph the graph
+     * @param mapping the vertex to integer mapping
+     */
+    WorkspaceDijkstraSearch(Graph<V, E> graph, VertexToIntegerMapping<V> mapping)
+    {
+        this(
+            graph, mapping.getIndexList().size(), mapping.getVertexMap()::get,
+            mapping.getIndexList()::get);
+    }
+
+    /**
+     * Create a search.
+     *
+     * @param graph the graph
+     * @param n the number of vertex indices
+     * @param indexOf the vertex to index function
+     * @param vertexOf the index to vertex function
+     */
+    WorkspaceDijkstraSearch(
+        Graph<V, E> graph, int n, ToIntFunction<V> indexOf, IntFunction<V> vertexOf)
+    {
+        this.graph = graph;
+        this.n = n;
+        this.indexOf = indexOf;
+        this.vertexOf = vertexOf;
+    }
+
+    int capacity()
+    {
+        return n;
+    }
+
+    int indexOf(V v)
+    {
+        return indexOf.applyAsInt(v);
+    }
+
+    V vertexOf(int v)
+    {
+        return vertexOf.apply(v);
+    }
+
+    /**
+     * Run the search from a source. The search stops when the sink is settled (unless the sink is
+     * null) or when all vertices within the radius have been settled.
+     *
+     * @param ws a reset workspace
+     * @param source the source
+     * @param sink the sink or null
+     * @param radius the search radius
+     */
+    void run(SearchWorkspace<E> ws, V source, V sink, double radius)
+    {
+        int sinkIndex = sink == null ? -1 : indexOf(sink);
+        IndexedDaryDoubleHeap heap = ws.heap();
+        ws.relax(indexOf(source), 0d, null);
+
+        while (!heap.isEmpty()) {
+            double vDistance = heap.findMinKey();
+            if (vDistance > radius) {
+                heap.clear();
+                break;
+            }
+            int vIndex = heap.deleteMin();
+            if (vIndex == sinkIndex) {
+                break;
+            }
+            V v = vertexOf(vIndex);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double eWeight = graph.getEdgeWeight(e);
+                if (eWeight < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                V u = Graphs.getOppositeVertex(graph, e, v);
+                ws.relax(indexOf(u), vDistance + eWeight, e);
+            }
+        }
+    }
+
+    /**
+     * Build the path from the source to a sink using the predecessor edges of the workspace.
+     *
+     * @param ws the workspace
+     * @param source the source
+     * @param sink the sink
+     * @param radius the search radius
+     * @return the path or null if the sink was not reached within the radius
+     */
+    GraphPath<V, E> getPath(SearchWorkspace<E> ws, V source, V sink, double radius)
+    {
+        if (source.equals(sink)) {
+            return GraphWalk.singletonWalk(graph, source, 0d);
+        }
+        int sinkIndex = indexOf(sink);
+        double weight = ws.getDistance(sinkIndex);
+        if (weight == Double.POSITIVE_INFINITY || weight > radius) {
+            return null;
+        }
+        Deque<E> edgeList = new ArrayDeque<>();
+        V cur = sink;
+        E e;
+        while ((e = ws.getPredecessor(indexOf(cur))) != null) {
+            edgeList.addFirst(e);
+            cur = Graphs.getOppositeVertex(graph, e, cur);
+        }
+        return new GraphWalk<>(graph, source, sink, null, new ArrayList<>(edgeList), weight);
+    }
+
+    /**
+     * Copy the result of a search out of the workspace.
+     *
+     * @param ws the workspace
+     * @param source the source
+     * @param radius the search radius
+     * @return the single source paths
+     */
+    SingleSourcePaths<V, E> getPaths(SearchWorkspace<E> ws, V source, double radius)
+    {
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            if (ws.isReached(i)) {
+                double d = ws.getDistance(i);
+                if (d <= radius) {
+                    distanceAndPredecessorMap.put(vertexOf(i), Pair.of(d, ws.getPredecessor(i)));
+                }
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * Primitive indexed d-ary minimum heap with integer elements and double keys.
+ *
+ * <p>
+ * The elements of the heap are integers in the range $[0, n)$ where $n$ is the capacity of the
+ * heap. Each element can be present at most once, which allows the heap to keep an index from
+ * elements to their heap positions and to support the decrease-key operation without any handles.
+ * All storage is allocated at construction time and no objects are created afterwards, which makes
+ * the heap suitable for algorithms, like Dijkstra's, that are executed repeatedly on the same
+ * graph.
+ *
+ * <p>
+ * Operation {@link #clear()} costs time proportional to the number of elements currently in the
+ * heap, and not to its capacity.
+ */
+public final class IndexedDaryDoubleHeap
+{
+    private final int d;
+    private final int[] elements;
+    private final double[] keys;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Create a new 4-ary heap.
+     *
+     * @param capacity the capacity of the heap, elements must be in $[0, capacity)$
+     */
+    public IndexedDaryDoubleHeap(int capacity)
+    {
+        this(4, capacity);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param d the arity of the heap
+     * @param capacity the capacity of the heap, elements must be in $[0, capacity)$
+     */
+    public IndexedDaryDoubleHeap(int d, int capacity)
+    {
+        if (d < 2) {
+            throw new IllegalArgumentException("D-ary heaps must have at least 2 children");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.d = d;
+        this.elements = new int[capacity];
+        this.keys = new double[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+        this.size = 0;
+    }
+
+    /**
+     * Get the capacity of the heap.
+     *
+     * @return the capacity of the heap
+     */
+    public int capacity()
+    {
+        return elements.length;
+    }
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Check whether an element is contained in the heap.
+     *
+     * @param element the element
+     * @return true if the element is contained in the heap, false otherwise
+     */
+    public boolean contains(int element)
+    {
+        return positions[element] >= 0;
+    }
+
+    /**
+     * Get the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     */
+    public double getKey(int element)
+    {
+        assert positions[element] >= 0;
+        return keys[positions[element]];
+    }
+
+    /**
+     * Insert an element which is not already in the heap.
+     *
+     * @param element the element
+     * @param key the key of the element
+     */
+    public void insert(int element, double key)
+    {
+        assert positions[element] < 0;
+        int i = size++;
+        elements[i] = element;
+        keys[i] = key;
+        positions[element] = i;
+        siftUp(i);
+    }
+
+    /**
+     * Decrease the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @param key the new key, which must not be larger than the current key
+     */
+    public void decreaseKey(int element, double key)
+    {
+        int i = positions[element];
+        assert i >= 0 && key <= keys[i];
+        keys[i] = key;
+        siftUp(i);
+    }
+
+    /**
+     * Insert an element or decrease its key if it is already in the heap with a larger key. Does
+     * nothing if the element is in the heap with a smaller or equal key.
+     *
+     * @param element the element
+     * @param key the key
+     * @return true if the heap was modified, false otherwise
+     */
+    public boolean insertOrDecreaseKey(int element, double key)
+    {
+        int i = positions[element];
+        if (i < 0) {
+            insert(element, key);
+            return true;
+        }
+        if (key < keys[i]) {
+            keys[i] = key;
+            siftUp(i);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the minimum key of the heap.
+     *
+     * @return the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    /**
+     * Get the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * Delete and return the element with the minimum key. Its key can be read using
+     * {@link #findMinKey()} before calling this method.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = elements[0];
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            int last = elements[size];
+            elements[0] = last;
+            keys[0] = keys[size];
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Remove all elements from the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            positions[elements[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i)
+    {
+        int element = elements[i];
+        double key = keys[i];
+        while (i > 0) {
+            int p = (i - 1) / d;
+            if (keys[p] <= key) {
+                break;
+            }
+            elements[i] = elements[p];
+            keys[i] = keys[p];
+            positions[elements[i]] = i;
+            i = p;
+        }
+        elements[i] = element;
+        keys[i] = key;
+        positions[element] = i;
+    }
+
+    private void siftDown(int i)
+    {
+        int element = elements[i];
+        double key = keys[i];
+        while (true) {
+            int first = d * i + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + d, size);
+            int minChild = first;
+            double minKey = keys[first];
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < minKey) {
+                    minKey = keys[c];
+                    minChild = c;
+                }
+            }
+            if (key <= minKey) {
+                break;
+            }
+            elements[i] = elements[minChild];
+            keys[i] = minKey;
+            positions[elements[i]] = i;
+            i = minChild;
+        }
+        elements[i] = element;
+        keys[i] = key;
+        positions[element] = i;
+    }
+
+}
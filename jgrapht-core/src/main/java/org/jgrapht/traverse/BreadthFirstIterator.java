@@ -29,6 +29,9 @@ import java.util.*;
  * there are no means to ensure that, nor to fail-fast. The results of such modifications are
  * undefined.
  *
+ * <p>
+ * For large graphs with a small diameter see {@link DirectionOptimizingBreadthFirstIterator}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
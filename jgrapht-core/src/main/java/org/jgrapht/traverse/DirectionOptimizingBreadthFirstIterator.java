@@ -0,0 +1,188 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.traverse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A breadth-first iterator which expands the levels with a parallel direction-optimizing search.
+ *
+ * <p>
+ * The vertices are returned level by level, in order of their distance from the start vertex, as
+ * in {@link BreadthFirstIterator}. A level is computed as a whole by a
+ * {@link DirectionOptimizingBFSShortestPath} search when the iterator reaches it, switching
+ * between top-down and bottom-up expansion and running in parallel on a {@link ForkJoinPool}. The
+ * order of the vertices within a level is unspecified. The iteration is limited to the vertices
+ * reachable from the start vertex.
+ *
+ * <p>
+ * The graph is copied during construction. For this iterator to work correctly the graph must not
+ * be modified during iteration. Currently there are no means to ensure that, nor to fail-fast. The
+ * results of such modifications are undefined.
+ *
+ * <p>
+ * Note: only vertex events and edge events for the edges of the search tree are fired by this
+ * iterator.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class DirectionOptimizingBreadthFirstIterator<V, E>
+    extends AbstractGraphIterator<V, E>
+{
+    private final DirectionOptimizingBFSShortestPath<V, E> algorithm;
+    private final DirectionOptimizingBFSShortestPath<V, E>.LevelSearch search;
+    private int position;
+    private boolean exhausted;
+
+    /**
+     * Creates a new iterator for the specified graph which uses the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param graph the graph to be iterated
+     * @param startVertex the vertex iteration to be started
+     * @throws IllegalArgumentException if the graph does not contain the start vertex
+     * @throws NullPointerException if the graph is {@code null}
+     */
+    public DirectionOptimizingBreadthFirstIterator(Graph<V, E> graph, V startVertex)
+    {
+        this(graph, startVertex, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new iterator for the specified graph. It is up to a user of this iterator to
+     * handle the creation and termination of the provided {@code pool}.
+     *
+     * @param graph the graph to be iterated
+     * @param startVertex the vertex iteration to be started
+     * @param pool the pool which will be used for parallelization
+     * @throws IllegalArgumentException if the graph does not contain the start vertex
+     * @throws NullPointerException if the graph is {@code null}
+     */
+    public DirectionOptimizingBreadthFirstIterator(
+        Graph<V, E> graph, V startVertex, ForkJoinPool pool)
+    {
+        super(graph);
+        this.algorithm = new DirectionOptimizingBFSShortestPath<>(graph, pool);
+        this.search = algorithm.startSearch(startVertex);
+        this.crossComponentTraversal = false;
+    }
+
+    /**
+     * @return {@code false} always, since this iterator is limited to the vertices reachable from
+     *         the start vertex
+     */
+    @Override
+    public boolean isCrossComponentTraversal()
+    {
+        return false;
+    }
+
+    /**
+     * @throws IllegalArgumentException if enabling the cross components nature of this iterator is
+     *         attempted
+     */
+    @Override
+    public void setCrossComponentTraversal(boolean crossComponentTraversal)
+    {
+        if (crossComponentTraversal) {
+            throw new IllegalArgumentException("Iterator is limited to a single component");
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (exhausted) {
+            return false;
+        }
+        if (position == search.getLevelSize()) {
+            if (!search.advance()) {
+                exhausted = true;
+                return false;
+            }
+            position = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public V next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int v = search.getLevelVertex(position++);
+        V vertex = algorithm.getVertex(v);
+        if (nListeners != 0) {
+            E edge = search.getParentEdge(v);
+            if (edge != null) {
+                fireEdgeTraversed(createEdgeTraversalEvent(edge));
+            }
+            fireVertexTraversed(createVertexTraversalEvent(vertex));
+            fireVertexFinished(createVertexTraversalEvent(vertex));
+        }
+        return vertex;
+    }
+
+    /**
+     * Returns the parent node of vertex $v$ in the BFS search tree, or null if $v$ is the root
+     * node. This method can only be invoked on a vertex $v$ once the iterator has visited vertex
+     * $v$!
+     *
+     * @param v vertex
+     * @return parent node of vertex $v$ in the BFS search tree, or null if $v$ is a root node
+     */
+    public V getParent(V v)
+    {
+        int parent = search.getParent(algorithm.getVertexIndex(v));
+        return parent < 0 ? null : algorithm.getVertex(parent);
+    }
+
+    /**
+     * Returns the edge connecting vertex $v$ to its parent in the spanning tree formed by the BFS
+     * search, or null if $v$ is a root node. This method can only be invoked on a vertex $v$ once
+     * the iterator has visited vertex $v$!
+     *
+     * @param v vertex
+     * @return edge connecting vertex $v$ in the BFS search tree to its parent, or null if $v$ is a
+     *         root node
+     */
+    public E getSpanningTreeEdge(V v)
+    {
+        return search.getParentEdge(algorithm.getVertexIndex(v));
+    }
+
+    /**
+     * Returns the depth of vertex $v$ in the search tree. The depth of a vertex $v$ is defined as
+     * the number of edges traversed on the path from the root of the BFS tree to vertex $v$. The
+     * root of the search tree has depth 0. This method can only be invoked on a vertex $v$ once the
+     * iterator has visited vertex $v$!
+     *
+     * @param v vertex
+     * @return depth of vertex $v$ in the search tree
+     */
+    public int getDepth(V v)
+    {
+        return search.getDepth(algorithm.getVertexIndex(v));
+    }
+}
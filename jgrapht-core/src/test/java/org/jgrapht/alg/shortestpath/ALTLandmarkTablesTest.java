@@ -0,0 +1,230 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ALTLandmarkTables.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ALTLandmarkTables}.
+ */
+public class ALTLandmarkTablesTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 31L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            for (LandmarkSelection strategy : LandmarkSelection.values()) {
+                Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, rng);
+                ALTLandmarkTables<Integer, DefaultWeightedEdge> tables =
+                    ALTLandmarkTables.compute(graph, 4, strategy, rng, executor);
+                assertEquals(4, tables.getLandmarks().size());
+                assertEquals(4, new HashSet<>(tables.getLandmarks()).size());
+                assertAdmissibleAndExact(graph, tables);
+            }
+        }
+    }
+
+    @Test
+    public void testGivenLandmarks()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, rng);
+            ALTLandmarkTables<Integer, DefaultWeightedEdge> tables =
+                ALTLandmarkTables.compute(graph, List.of(3, 7, 3), executor);
+            assertEquals(List.of(3, 7), tables.getLandmarks());
+            assertAdmissibleAndExact(graph, tables);
+        }
+    }
+
+    @Test
+    public void testMoreLandmarksThanVertices()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        graph.addVertex(3);
+
+        ALTLandmarkTables<Integer, DefaultWeightedEdge> tables = ALTLandmarkTables
+            .compute(graph, 5, LandmarkSelection.FARTHEST, new Random(SEED), executor);
+        assertEquals(Set.of(1, 2, 3), new HashSet<>(tables.getLandmarks()));
+        assertEquals(3d, tables.getCostEstimate(1, 2), 1e-6);
+        assertTrue(tables.getCostEstimate(1, 2) <= 3d);
+        assertEquals(0d, tables.getCostEstimate(1, 3));
+    }
+
+    @Test
+    public void testWriteAndRead()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, rng);
+            ALTLandmarkTables<Integer, DefaultWeightedEdge> tables =
+                ALTLandmarkTables.compute(graph, 3, LandmarkSelection.AVOID, rng, executor);
+
+            Path file = Files.createTempFile("alt", ".bin");
+            try {
+                tables.write(file);
+                ALTLandmarkTables<Integer, DefaultWeightedEdge> read =
+                    ALTLandmarkTables.read(graph, file);
+                assertEquals(tables.getLandmarks(), read.getLandmarks());
+                for (Integer u : graph.vertexSet()) {
+                    for (Integer v : graph.vertexSet()) {
+                        assertEquals(tables.getCostEstimate(u, v), read.getCostEstimate(u, v));
+                    }
+                }
+
+                Graph<Integer, DefaultWeightedEdge> other = supplier.get();
+                other.addVertex(1);
+                assertThrows(
+                    IllegalArgumentException.class, () -> ALTLandmarkTables.read(other, file));
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Path file = Files.createTempFile("alt", ".bin");
+        try {
+            Files.write(file, new byte[64]);
+            assertThrows(IOException.class, () -> ALTLandmarkTables.read(graph, file));
+
+            // a valid header without any landmark
+            ALTLandmarkTables
+                .compute(graph, 1, LandmarkSelection.FARTHEST, new Random(SEED), executor)
+                .write(file);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, 4 * Integer.BYTES));
+            assertThrows(IOException.class, () -> ALTLandmarkTables.read(graph, file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testInvalidArguments()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -1);
+        Random rng = new Random(SEED);
+
+        assertThrows(
+            IllegalArgumentException.class, () -> ALTLandmarkTables
+                .compute(graph, 1, LandmarkSelection.FARTHEST, rng, executor));
+        graph.setEdgeWeight(1, 2, 1);
+        assertThrows(
+            IllegalArgumentException.class, () -> ALTLandmarkTables
+                .compute(graph, 0, LandmarkSelection.FARTHEST, rng, executor));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ALTLandmarkTables.compute(graph, List.of(), executor));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ALTLandmarkTables.compute(graph, List.of(5), executor));
+    }
+
+    private static void assertAdmissibleAndExact(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ALTLandmarkTables<Integer, DefaultWeightedEdge> tables)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        AStarShortestPath<Integer, DefaultWeightedEdge> aStar =
+            new AStarShortestPath<>(graph, tables);
+        BidirectionalAStarShortestPath<Integer, DefaultWeightedEdge> biAStar =
+            new BidirectionalAStarShortestPath<>(graph, tables);
+        for (Integer u : graph.vertexSet()) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                dijkstra.getPaths(u);
+            for (Integer v : graph.vertexSet()) {
+                double expected = paths.getWeight(v);
+                double estimate = tables.getCostEstimate(u, v);
+                assertTrue(estimate >= 0d);
+                assertTrue(estimate <= expected);
+                assertEquals(expected, aStar.getPathWeight(u, v), 1e-9);
+                assertEquals(expected, biAStar.getPathWeight(u, v), 1e-9);
+            }
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> generateGraph(
+        Supplier<Graph<Integer, DefaultWeightedEdge>> supplier, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = supplier.get();
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(40, 0.1, rng, true)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, 100 * rng.nextDouble());
+        }
+        return graph;
+    }
+
+    private static List<Supplier<Graph<Integer, DefaultWeightedEdge>>> graphSuppliers()
+    {
+        return List.of(
+            () -> new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER),
+            () -> new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.interfaces.AStarAdmissibleHeuristic;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleDirectedWeightedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AStarSpurEngine}.
+ */
+public class AStarSpurEngineTest
+{
+    private static final int SIDE = 30;
+
+    @Test
+    public void testFallbackHeuristicWithoutReverseDistances()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = grid();
+        AStarAdmissibleHeuristic<Integer> manhattan = (u, v) -> Math.abs(u / SIDE - v / SIDE)
+            + Math.abs(u % SIDE - v % SIDE);
+        // along the middle row, where the estimate is exact and only ties on the row remain
+        int source = SIDE / 2 * SIDE;
+        int sink = source + SIDE - 1;
+
+        AStarSpurEngine<Integer, DefaultWeightedEdge> plain = new AStarSpurEngine<>();
+        AStarSpurEngine<Integer, DefaultWeightedEdge> guided = new AStarSpurEngine<>(manhattan);
+        GraphPath<Integer, DefaultWeightedEdge> expected =
+            plain.findPath(g, source, sink, Collections.emptySet(), Collections.emptySet(), null);
+        GraphPath<Integer, DefaultWeightedEdge> path =
+            guided.findPath(g, source, sink, Collections.emptySet(), Collections.emptySet(), null);
+
+        assertEquals(SIDE - 1, expected.getWeight(), 1e-9);
+        assertEquals(expected.getWeight(), path.getWeight(), 1e-9);
+        assertTrue(guided.expandedVertices() < plain.expandedVertices());
+    }
+
+    @Test
+    public void testReverseDistancesTakePrecedence()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = grid();
+        int source = 0;
+        int sink = SIDE * SIDE - 1;
+        Map<Integer, Double> reverseDistances = new HashMap<>();
+        for (int v = 0; v < SIDE * SIDE; v++) {
+            reverseDistances.put(v, (double) (SIDE - 1 - v / SIDE) + (SIDE - 1 - v % SIDE));
+        }
+        // not admissible, so it must not be consulted while reverse distances are known
+        AStarSpurEngine<Integer, DefaultWeightedEdge> engine =
+            new AStarSpurEngine<>((u, v) -> u == 1 ? 0.0 : 1e9);
+
+        GraphPath<Integer, DefaultWeightedEdge> path = engine.findPath(
+            g, source, sink, Collections.emptySet(), Collections.emptySet(), reverseDistances);
+
+        assertEquals(2 * (SIDE - 1), path.getWeight(), 1e-9);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> grid()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int r = 0; r < SIDE; r++) {
+            for (int c = 0; c < SIDE; c++) {
+                int v = r * SIDE + c;
+                if (c + 1 < SIDE) {
+                    Graphs.addEdgeWithVertices(g, v, v + 1, 1.0);
+                    Graphs.addEdgeWithVertices(g, v + 1, v, 1.0);
+                }
+                if (r + 1 < SIDE) {
+                    Graphs.addEdgeWithVertices(g, v, v + SIDE, 1.0);
+                    Graphs.addEdgeWithVertices(g, v + SIDE, v, 1.0);
+                }
+            }
+        }
+        return g;
+    }
+}
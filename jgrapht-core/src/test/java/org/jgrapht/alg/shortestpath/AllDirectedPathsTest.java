@@ -22,6 +22,7 @@ import org.jgrapht.graph.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.stream.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -567,6 +568,107 @@ public class AllDirectedPathsTest
         }
     }
 
+    @Test
+    public void testStreamMatchesList()
+    {
+        // The lazy enumeration must produce exactly the paths of getAllPaths, both when
+        // consumed sequentially and when split across threads.
+        PathValidator<Integer, DefaultEdge> validator =
+            (partialPath, edge) -> partialPath.getLength() != 2
+            || !Integer.valueOf(4).equals(partialPath.getGraph().getEdgeTarget(edge));
+        long[] seeds = { 1L, 2L, 3L, 5L, 7L, 11L };
+        for (long seed : seeds) {
+            DefaultDirectedGraph<Integer, DefaultEdge> graph =
+                buildRandomCyclicGraph(new Random(seed), 8, 0.35, 0.2);
+            Set<Integer> sources = new HashSet<>(Arrays.asList(0, 1));
+            Set<Integer> targets = new HashSet<>(Arrays.asList(1, 6, 7));
+
+            for (boolean forwardPruning : new boolean[] { false, true }) {
+                for (AllDirectedPaths<Integer, DefaultEdge> alg : Arrays.asList(
+                    new AllDirectedPaths<>(graph), new AllDirectedPaths<>(graph, validator)))
+                {
+                    alg.setForwardPruning(forwardPruning);
+                    assertSamePaths(alg, sources, targets, true, null);
+                    assertSamePaths(alg, sources, targets, true, 3);
+                    assertSamePaths(alg, sources, targets, false, 0);
+                    assertSamePaths(alg, sources, targets, false, 6);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStreamIsLazy()
+    {
+        // A complete digraph on 12 vertices has more than 11^19 walks of length 20 between two
+        // vertices, so they cannot be materialized.
+        DefaultDirectedGraph<Integer, DefaultEdge> graph =
+            new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 12; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < 12; i++) {
+            for (int j = 0; j < 12; j++) {
+                if (i != j) {
+                    graph.addEdge(i, j);
+                }
+            }
+        }
+        AllDirectedPaths<Integer, DefaultEdge> alg = new AllDirectedPaths<>(graph);
+
+        assertEquals(1000, alg.getAllPathsStream(0, 11, false, 20).limit(1000).count());
+        assertEquals(
+            1000, alg.getAllPathsStream(0, 11, false, 20).parallel().limit(1000).count());
+
+        Iterator<GraphPath<Integer, DefaultEdge>> it =
+            alg.getAllPathsIterator(Set.of(0), Set.of(11), false, 20);
+        for (int i = 0; i < 100; i++) {
+            GraphPath<Integer, DefaultEdge> path = it.next();
+            assertEquals(Integer.valueOf(0), path.getStartVertex());
+            assertEquals(Integer.valueOf(11), path.getEndVertex());
+            assertTrue(path.getLength() <= 20);
+        }
+        assertTrue(it.hasNext());
+    }
+
+    @Test
+    public void testStreamArguments()
+    {
+        AllDirectedPaths<String, DefaultEdge> alg = new AllDirectedPaths<>(toyGraph());
+        assertThrows(
+            IllegalArgumentException.class, () -> alg.getAllPathsStream(I1, O1, false, null));
+        assertThrows(IllegalArgumentException.class, () -> alg.getAllPathsStream(I1, O1, true, -1));
+        assertEquals(
+            0, alg.getAllPathsStream(Collections.emptySet(), vertexSet(O1), true, null).count());
+        assertEquals(1, alg.getAllPathsStream(I1, I1, true, null).count());
+        assertEquals(7, alg.getAllPathsStream(vertexSet(I1, I2), vertexSet(O1, O2), true, null)
+            .parallel().count());
+    }
+
+    private static void assertSamePaths(
+        AllDirectedPaths<Integer, DefaultEdge> alg, Set<Integer> sources, Set<Integer> targets,
+        boolean simplePathsOnly, Integer maxPathLength)
+    {
+        List<List<Integer>> expected = new ArrayList<>();
+        for (GraphPath<Integer, DefaultEdge> path : alg
+            .getAllPaths(sources, targets, simplePathsOnly, maxPathLength))
+        {
+            expected.add(path.getVertexList());
+        }
+        expected.sort(Comparator.comparing(Object::toString));
+
+        for (boolean parallel : new boolean[] { false, true }) {
+            Stream<GraphPath<Integer, DefaultEdge>> stream =
+                alg.getAllPathsStream(sources, targets, simplePathsOnly, maxPathLength);
+            List<List<Integer>> actual = (parallel ? stream.parallel() : stream)
+                .map(GraphPath::getVertexList).sorted(Comparator.comparing(Object::toString))
+                .collect(Collectors.toList());
+            assertEquals(
+                expected, actual, "simplePathsOnly=" + simplePathsOnly + " maxPathLength="
+                    + maxPathLength + " parallel=" + parallel);
+        }
+    }
+
     private static DefaultDirectedGraph<Integer, DefaultEdge> buildRandomCyclicGraph(
         Random rng, int n, double edgeProbability, double selfLoopProbability)
     {
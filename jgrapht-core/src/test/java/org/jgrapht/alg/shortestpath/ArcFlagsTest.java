@@ -0,0 +1,233 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ClusteringAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.jheaps.tree.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ArcFlags}.
+ */
+public class ArcFlagsTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 17L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testFlags()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < 3; ++i) {
+            Graphs.addEdgeWithVertices(graph, i, i + 1, 1);
+            Graphs.addEdgeWithVertices(graph, i + 1, i, 1);
+        }
+        ArcFlags<Integer, DefaultWeightedEdge> arcFlags = new ArcFlags<>(
+            graph, new ClusteringImpl<>(List.of(Set.of(0, 1), Set.of(2, 3))), executor);
+        assertEquals(2, arcFlags.getNumberOfRegions());
+        assertEquals(0, arcFlags.getRegion(1));
+        assertEquals(1, arcFlags.getRegion(2));
+
+        Function<Integer, Iterable<DefaultWeightedEdge>> forward =
+            arcFlags.getForwardEdges(0, 3);
+        assertEquals(Set.of(graph.getEdge(0, 1)), edgeSet(forward.apply(0)));
+        assertEquals(Set.of(graph.getEdge(1, 2)), edgeSet(forward.apply(1)));
+        assertEquals(Set.of(graph.getEdge(2, 3)), edgeSet(forward.apply(2)));
+        assertEquals(Set.of(graph.getEdge(3, 2)), edgeSet(forward.apply(3)));
+
+        Function<Integer, Iterable<DefaultWeightedEdge>> backward =
+            arcFlags.getBackwardEdges(0, 3);
+        assertEquals(Set.of(graph.getEdge(1, 0)), edgeSet(backward.apply(0)));
+        assertEquals(Set.of(graph.getEdge(0, 1)), edgeSet(backward.apply(1)));
+        assertEquals(Set.of(graph.getEdge(1, 2)), edgeSet(backward.apply(2)));
+    }
+
+    private static Set<DefaultWeightedEdge> edgeSet(Iterable<DefaultWeightedEdge> edges)
+    {
+        Set<DefaultWeightedEdge> result = new HashSet<>();
+        edges.forEach(result::add);
+        return result;
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            for (int regions : new int[] { 1, 4, 70 }) {
+                Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, rng);
+                ArcFlags<Integer, DefaultWeightedEdge> arcFlags =
+                    new ArcFlags<>(graph, regions, rng, executor);
+                assertEquals(
+                    Math.min(regions, graph.vertexSet().size()), arcFlags.getNumberOfRegions());
+                assertShortestPaths(graph, arcFlags);
+            }
+        }
+    }
+
+    @Test
+    public void testRecompute()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, rng);
+            ArcFlags<Integer, DefaultWeightedEdge> arcFlags =
+                new ArcFlags<>(graph, 5, rng, executor);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, rng.nextInt(10));
+            }
+            arcFlags.recompute();
+            assertShortestPaths(graph, arcFlags);
+        }
+    }
+
+    @Test
+    public void testInvalidPartition()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ArcFlags<>(
+                graph, new ClusteringImpl<>(List.of(Set.of(1, 2), Set.of(2, 3))), executor));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ArcFlags<>(graph, new ClusteringImpl<>(List.of(Set.of(1, 2))), executor));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ArcFlags<>(graph, 0, new Random(SEED), executor));
+
+        graph.setEdgeWeight(1, 2, -1);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ArcFlags<>(graph, 2, new Random(SEED), executor));
+    }
+
+    @Test
+    public void testFilteredSearchArguments()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        ArcFlags<Integer, DefaultWeightedEdge> arcFlags =
+            new ArcFlags<>(graph, 1, new Random(SEED), executor);
+        AStarAdmissibleHeuristic<Integer> zero = (u, t) -> 0d;
+
+        assertThrows(
+            NullPointerException.class,
+            () -> new AStarShortestPath<>(graph, null, PairingHeap::new, arcFlags));
+        assertThrows(
+            NullPointerException.class,
+            () -> new AStarShortestPath<>(graph, zero, PairingHeap::new, null));
+        assertThrows(
+            NullPointerException.class,
+            () -> new BidirectionalAStarShortestPath<>(graph, null, PairingHeap::new, arcFlags));
+        assertThrows(
+            NullPointerException.class,
+            () -> new BidirectionalAStarShortestPath<>(graph, zero, PairingHeap::new, null));
+    }
+
+    private static void assertShortestPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ArcFlags<Integer, DefaultWeightedEdge> arcFlags)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        AStarAdmissibleHeuristic<Integer> zero = (u, t) -> 0d;
+        List<ShortestPathAlgorithm<Integer, DefaultWeightedEdge>> algorithms = List.of(
+            new BidirectionalDijkstraShortestPath<>(
+                graph, Double.POSITIVE_INFINITY, PairingHeap::new, arcFlags),
+            new BidirectionalDijkstraShortestPath<>(
+                graph, Double.POSITIVE_INFINITY, SearchWorkspacePool.perThread(), arcFlags),
+            new AStarShortestPath<>(graph, zero, PairingHeap::new, arcFlags),
+            new BidirectionalAStarShortestPath<>(graph, zero, PairingHeap::new, arcFlags));
+        for (Integer u : graph.vertexSet()) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                dijkstra.getPaths(u);
+            for (Integer v : graph.vertexSet()) {
+                double expected = paths.getWeight(v);
+                for (ShortestPathAlgorithm<Integer, DefaultWeightedEdge> algorithm : algorithms) {
+                    GraphPath<Integer, DefaultWeightedEdge> path = algorithm.getPath(u, v);
+                    if (expected == Double.POSITIVE_INFINITY) {
+                        assertNull(path);
+                    } else {
+                        assertEquals(expected, path.getWeight(), 1e-9);
+                        assertEquals(
+                            expected,
+                            path.getEdgeList().stream().mapToDouble(graph::getEdgeWeight).sum(),
+                            1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> generateGraph(
+        Supplier<Graph<Integer, DefaultWeightedEdge>> supplier, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = supplier.get();
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 0.06, rng, true)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, 100 * rng.nextDouble());
+        }
+        return graph;
+    }
+
+    private static List<Supplier<Graph<Integer, DefaultWeightedEdge>>> graphSuppliers()
+    {
+        return List.of(
+            () -> new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER),
+            () -> new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+}
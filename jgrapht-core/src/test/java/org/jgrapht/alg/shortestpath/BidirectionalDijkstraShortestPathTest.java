@@ -430,4 +430,42 @@ public class BidirectionalDijkstraShortestPathTest
         return total;
     }
 
+    @Test
+    public void testWorkspacePoolRandomGraphs()
+    {
+        GraphGenerator<String, DefaultWeightedEdge, String> gen =
+            new GnmRandomGraphGenerator<>(30, 120, 3);
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(
+                SupplierUtil.createStringSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        gen.generateGraph(g);
+
+        Random weightedGenerator = new Random(11);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, weightedGenerator.nextDouble());
+        }
+
+        BidirectionalDijkstraShortestPath<String, DefaultWeightedEdge> pooled =
+            new BidirectionalDijkstraShortestPath<>(
+                g, Double.POSITIVE_INFINITY, SearchWorkspacePool.perThread());
+
+        for (String v : g.vertexSet()) {
+            for (String u : g.vertexSet()) {
+                GraphPath<String, DefaultWeightedEdge> p1 =
+                    new DijkstraShortestPath<>(g).getPath(v, u);
+                GraphPath<String, DefaultWeightedEdge> p2 = pooled.getPath(v, u);
+
+                if (p1 == null) {
+                    assertNull(p2);
+                } else {
+                    assertNotNull(p2);
+                    assertEquals(p1.getWeight(), p2.getWeight(), 0.0001);
+                    assertEquals(p2.getWeight(), computePathWeight(g, p2), 0.0001);
+                    assertEquals(v, p2.getStartVertex());
+                    assertEquals(u, p2.getEndVertex());
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BlockedFloydWarshallShortestPaths}.
+ */
+public class BlockedFloydWarshallShortestPathsTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 23L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 3);
+        Graphs.addEdgeWithVertices(graph, "b", "c", -2);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 5);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 2);
+        Graphs.addEdgeWithVertices(graph, "c", "d", 1);
+        graph.addVertex("e");
+
+        BlockedFloydWarshallShortestPaths<String, DefaultWeightedEdge> algorithm =
+            new BlockedFloydWarshallShortestPaths<>(graph, pool, 2, false);
+        assertEquals(2d, algorithm.getPathWeight("a", "d"), 1e-9);
+        assertEquals(List.of("a", "b", "c", "d"), algorithm.getPath("a", "d").getVertexList());
+        assertEquals("b", algorithm.getFirstHop("a", "d"));
+        assertEquals(List.of("a"), algorithm.getPath("a", "a").getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, algorithm.getPathWeight("a", "e"));
+        assertNull(algorithm.getPath("d", "a"));
+        assertNull(algorithm.getPaths("a").getPath("e"));
+        assertEquals(-1d, algorithm.getPaths("b").getWeight("d"), 1e-9);
+
+        Graphs.addEdgeWithVertices(graph, "d", "a", -3);
+        assertThrows(
+            NegativeCycleDetectedException.class,
+            () -> new BlockedFloydWarshallShortestPaths<>(graph, pool).getPathWeight("a", "d"));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new BlockedFloydWarshallShortestPaths<>(graph, pool, 0, false));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = supplier.get();
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(70, 0.05, rng, true)
+                .generateGraph(graph);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, 100 * rng.nextDouble());
+            }
+            FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> expected =
+                new FloydWarshallShortestPaths<>(graph);
+            for (int blockSize : new int[] { 1, 7, 16, 64, 100 }) {
+                for (boolean singlePrecision : new boolean[] { false, true }) {
+                    BlockedFloydWarshallShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+                        new BlockedFloydWarshallShortestPaths<>(
+                            graph, pool, blockSize, singlePrecision);
+                    double tolerance = singlePrecision ? 1e-3 : 1e-9;
+                    for (Integer u : graph.vertexSet()) {
+                        for (Integer v : graph.vertexSet()) {
+                            double weight = expected.getPathWeight(u, v);
+                            assertEquals(weight, algorithm.getPathWeight(u, v), tolerance);
+                            GraphPath<Integer, DefaultWeightedEdge> path =
+                                algorithm.getPath(u, v);
+                            if (weight == Double.POSITIVE_INFINITY) {
+                                assertNull(path);
+                            } else {
+                                assertEquals(u, path.getStartVertex());
+                                assertEquals(v, path.getEndVertex());
+                                assertEquals(
+                                    weight, path
+                                        .getEdgeList().stream().mapToDouble(graph::getEdgeWeight)
+                                        .sum(),
+                                    tolerance);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Supplier<Graph<Integer, DefaultWeightedEdge>>> graphSuppliers()
+    {
+        return List.of(
+            () -> new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER),
+            () -> new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+}
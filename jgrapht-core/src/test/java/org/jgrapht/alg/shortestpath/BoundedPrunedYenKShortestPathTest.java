@@ -27,6 +27,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -386,6 +388,83 @@ public class BoundedPrunedYenKShortestPathTest
         assertEqualsWeights(std, bpAstar, label + " [AStar]");
     }
 
+    // ---------------------------------------------------------------------------------------
+    // Parallel mode
+    // ---------------------------------------------------------------------------------------
+
+    @Test
+    public void testParallelModeMatchesSequential()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Random meta = new Random(31415L);
+            for (int caseIdx = 0; caseIdx < 20; caseIdx++) {
+                int n = 6 + meta.nextInt(40);
+                int m = n + meta.nextInt(2 * n);
+                int k = 1 + meta.nextInt(20);
+                int width = 1 + meta.nextInt(8);
+                Graph<Integer, DefaultWeightedEdge> g = randomDigraph(n, m, meta.nextLong());
+                if (!g.containsVertex(0) || !g.containsVertex(n - 1)) {
+                    continue;
+                }
+                assertParallelMatchesSequential(g, 0, n - 1, k, width, executor);
+            }
+            for (long seed : new long[] { 11L, 22L, 33L }) {
+                Graph<Integer, DefaultWeightedEdge> g = grid(6, 6, seed);
+                assertParallelMatchesSequential(g, 0, 35, 15, 4, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParallelModeRejectsInvalidWidth()
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Graph<Integer, DefaultWeightedEdge> g = pathChain(3, 1L);
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new BoundedPrunedYenKShortestPath<>(g, DijkstraSpurEngine::new, executor, 0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertParallelMatchesSequential(
+        Graph<Integer, DefaultWeightedEdge> g, Integer source, Integer sink, int k, int width,
+        ExecutorService executor)
+    {
+        BoundedPrunedYenKShortestPath<Integer, DefaultWeightedEdge> sequential =
+            new BoundedPrunedYenKShortestPath<>(g, new AStarSpurEngine<>());
+        BoundedPrunedYenKShortestPath<Integer, DefaultWeightedEdge> parallel =
+            new BoundedPrunedYenKShortestPath<>(g, AStarSpurEngine::new, executor, width);
+        List<GraphPath<Integer, DefaultWeightedEdge>> expected =
+            sequential.getPaths(source, sink, k);
+        // run twice to exercise the reuse of thread-local engines
+        for (int run = 0; run < 2; run++) {
+            List<GraphPath<Integer, DefaultWeightedEdge>> actual =
+                parallel.getPaths(source, sink, k);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getVertexList(), actual.get(i).getVertexList());
+                assertEquals(expected.get(i).getWeight(), actual.get(i).getWeight(), EPS);
+            }
+
+            BoundedPrunedYenKShortestPath.Stats s = sequential.getStats();
+            BoundedPrunedYenKShortestPath.Stats p = parallel.getStats();
+            assertEquals(s.spurTasksMaterialized, p.spurTasksMaterialized);
+            assertEquals(s.materializedCandidates, p.materializedCandidates);
+            assertEquals(
+                p.speculativeSpurTasks, p.speculativeHits + p.speculativeWaste,
+                "every speculative query is either used or wasted");
+            assertEquals(
+                s.shortestPathCalls + p.speculativeWaste, p.shortestPathCalls,
+                "wasted speculative queries are the only extra queries");
+        }
+    }
+
     // ---------------------------------------------------------------------------------------
     // Impossible-spur skip
     // ---------------------------------------------------------------------------------------
@@ -0,0 +1,208 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BoundingGraphMeasurer}.
+ */
+public class BoundingGraphMeasurerTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 29L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        BoundingGraphMeasurer<Integer, DefaultEdge> measurer = new BoundingGraphMeasurer<>(graph);
+        assertEquals(0d, measurer.getDiameter());
+        assertEquals(0d, measurer.getRadius());
+        assertTrue(measurer.getVertexEccentricityMap().isEmpty());
+        assertTrue(measurer.getGraphCenter().isEmpty());
+        assertEquals(0, measurer.getNumberOfSearches());
+    }
+
+    @Test
+    public void testPath()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 6; i++) {
+            Graphs.addEdgeWithVertices(graph, i, i + 1);
+        }
+        BoundingGraphMeasurer<Integer, DefaultEdge> measurer = new BoundingGraphMeasurer<>(graph);
+        assertEquals(6d, measurer.getDiameter());
+        assertEquals(3d, measurer.getRadius());
+        assertEquals(Set.of(3), measurer.getGraphCenter());
+        assertEquals(Set.of(0, 6), measurer.getGraphPeriphery());
+        assertEquals(5d, measurer.getVertexEccentricityMap().get(1).doubleValue());
+    }
+
+    @Test
+    public void testDisconnected()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 2d);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1d);
+        BoundingGraphMeasurer<Integer, DefaultWeightedEdge> measurer =
+            new BoundingGraphMeasurer<>(graph);
+        assertEquals(Double.POSITIVE_INFINITY, measurer.getDiameter());
+        assertEquals(Double.POSITIVE_INFINITY, measurer.getRadius());
+        assertEquals(1, measurer.getNumberOfSearches());
+        for (double eccentricity : measurer.getVertexEccentricityMap().values()) {
+            assertEquals(Double.POSITIVE_INFINITY, eccentricity);
+        }
+        assertEquals(graph.vertexSet(), measurer.getGraphCenter());
+    }
+
+    @Test
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, -1d);
+        assertThrows(IllegalArgumentException.class, () -> new BoundingGraphMeasurer<>(graph));
+    }
+
+    @Test
+    public void testDirected()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleDirectedGraph<>(DefaultEdge.class);
+        assertThrows(IllegalArgumentException.class, () -> new BoundingGraphMeasurer<>(graph));
+    }
+
+    @Test
+    public void testRandomUnweighted()
+    {
+        Random rng = new Random(SEED);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(rng, 80, 0.03, false);
+            assertMeasures(graph, new BoundingGraphMeasurer<>(graph));
+            assertMeasures(graph, new BoundingGraphMeasurer<>(graph, pool));
+        }
+    }
+
+    @Test
+    public void testRandomWeighted()
+    {
+        Random rng = new Random(SEED);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(rng, 80, 0.03, true);
+            assertMeasures(graph, new BoundingGraphMeasurer<>(graph));
+            assertMeasures(graph, new BoundingGraphMeasurer<>(graph, pool));
+        }
+    }
+
+    @Test
+    public void testFewSearchesOnLargeGraph()
+    {
+        Random rng = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(20000, 30000, rng, false, false)
+            .generateGraph(graph);
+        connect(graph);
+
+        BoundingGraphMeasurer<Integer, DefaultWeightedEdge> measurer =
+            new BoundingGraphMeasurer<>(graph, pool);
+        double diameter = measurer.getDiameter();
+        assertTrue(measurer.getNumberOfSearches() < 100);
+
+        // the eccentricity of a vertex on a longest shortest path bounds the diameter
+        Integer v = measurer.getGraphPeriphery().iterator().next();
+        SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new BFSShortestPath<>(graph).getPaths(v);
+        double eccentricity = 0d;
+        for (Integer w : graph.vertexSet()) {
+            eccentricity = Math.max(eccentricity, paths.getWeight(w));
+        }
+        assertEquals(diameter, eccentricity);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        Random rng, int n, double p, boolean weighted)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, true)
+            .generateGraph(graph);
+        if (rng.nextBoolean()) {
+            connect(graph);
+        }
+        if (weighted) {
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, rng.nextInt(10) + rng.nextDouble());
+            }
+        }
+        return graph;
+    }
+
+    private static void connect(Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        Integer previous = null;
+        for (Set<Integer> component : new ConnectivityInspector<>(graph).connectedSets()) {
+            Integer v = component.iterator().next();
+            if (previous != null) {
+                graph.addEdge(previous, v);
+            }
+            previous = v;
+        }
+    }
+
+    private static <V, E> void assertMeasures(Graph<V, E> graph, BoundingGraphMeasurer<V, E> actual)
+    {
+        GraphMeasurer<V, E> expected = new GraphMeasurer<>(graph);
+        assertEquals(expected.getDiameter(), actual.getDiameter(), 1e-9);
+        assertEquals(expected.getRadius(), actual.getRadius(), 1e-9);
+        Map<V, Double> eccentricities = actual.getVertexEccentricityMap();
+        for (Map.Entry<V, Double> entry : expected.getVertexEccentricityMap().entrySet()) {
+            assertEquals(entry.getValue(), eccentricities.get(entry.getKey()), 1e-9);
+        }
+        assertEquals(expected.getGraphCenter(), actual.getGraphCenter());
+        assertEquals(expected.getGraphPeriphery(), actual.getGraphPeriphery());
+    }
+}
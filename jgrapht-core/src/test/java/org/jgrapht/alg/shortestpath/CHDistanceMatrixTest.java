@@ -0,0 +1,167 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CHDistanceMatrix}.
+ */
+public class CHDistanceMatrixTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 37L;
+
+    private static ThreadPoolExecutor executor;
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimpleGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 4);
+        Graphs.addEdgeWithVertices(graph, 1, 3, 10);
+
+        CHDistanceMatrix<Integer, DefaultWeightedEdge> matrix = new CHDistanceMatrix<>(
+            new ContractionHierarchyPrecomputation<>(graph, executor).computeContractionHierarchy(),
+            pool);
+        double[][] distances = matrix.computeMatrix(List.of(1, 3), List.of(1, 2, 3));
+        assertArrayEquals(new double[] { 0d, 3d, 7d }, distances[0], 1e-9);
+        double inf = Double.POSITIVE_INFINITY;
+        assertArrayEquals(new double[] { inf, inf, 0d }, distances[1], 1e-9);
+
+        assertThrows(
+            IllegalArgumentException.class, () -> matrix.computeMatrix(List.of(4), List.of(1)));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 5; ++i) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(random);
+            List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+            List<Integer> sources = new ArrayList<>();
+            List<Integer> targets = new ArrayList<>();
+            for (int j = 0; j < 40; ++j) {
+                sources.add(vertices.get(random.nextInt(vertices.size())));
+                targets.add(vertices.get(random.nextInt(vertices.size())));
+            }
+
+            CHDistanceMatrix<Integer, DefaultWeightedEdge> matrix = new CHDistanceMatrix<>(
+                new ContractionHierarchyPrecomputation<>(graph, executor)
+                    .computeContractionHierarchy(),
+                pool, 3, 7);
+            double[][] distances = matrix.computeMatrix(sources, targets);
+            assertDistances(graph, sources, targets, distances);
+        }
+    }
+
+    @Test
+    public void testMappedDistanceMatrix()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateGraph(random);
+        List<Integer> sources = new ArrayList<>(graph.vertexSet()).subList(0, 30);
+        List<Integer> targets = new ArrayList<>(graph.vertexSet()).subList(10, 60);
+
+        CHDistanceMatrix<Integer, DefaultWeightedEdge> matrix = new CHDistanceMatrix<>(
+            new ContractionHierarchyPrecomputation<>(graph, executor).computeContractionHierarchy(),
+            pool, 4, 16);
+        Path file = Files.createTempFile("matrix", ".bin");
+        try {
+            try (MappedDistanceMatrix sink =
+                MappedDistanceMatrix.create(file, sources.size(), targets.size()))
+            {
+                matrix.compute(sources, targets, sink);
+            }
+            try (MappedDistanceMatrix loaded = MappedDistanceMatrix.open(file))
+            {
+                assertEquals(sources.size(), loaded.getRows());
+                assertEquals(targets.size(), loaded.getColumns());
+                double[][] distances = new double[sources.size()][targets.size()];
+                for (int i = 0; i < sources.size(); ++i) {
+                    for (int j = 0; j < targets.size(); ++j) {
+                        distances[i][j] = loaded.getDistance(i, j);
+                    }
+                }
+                assertDistances(graph, sources, targets, distances);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> generateGraph(Random random)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 400, random.nextLong())
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+        return graph;
+    }
+
+    private void assertDistances(
+        Graph<Integer, DefaultWeightedEdge> graph, List<Integer> sources, List<Integer> targets,
+        double[][] distances)
+    {
+        for (int i = 0; i < sources.size(); ++i) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                new DijkstraShortestPath<>(graph).getPaths(sources.get(i));
+            for (int j = 0; j < targets.size(); ++j) {
+                assertEquals(paths.getWeight(targets.get(j)), distances[i][j], 1e-9);
+            }
+        }
+    }
+}
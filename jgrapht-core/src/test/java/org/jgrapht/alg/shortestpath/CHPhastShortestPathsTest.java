@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CHPhastShortestPaths}.
+ */
+public class CHPhastShortestPathsTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 31L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testSimpleGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 4);
+        Graphs.addEdgeWithVertices(graph, 1, 3, 10);
+        Graphs.addEdgeWithVertices(graph, 3, 4, 1);
+        graph.addVertex(5);
+
+        CHPhastShortestPaths<Integer, DefaultWeightedEdge> phast =
+            new CHPhastShortestPaths<>(graph, executor);
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            phast.getPaths(1);
+        assertEquals(0d, paths.getWeight(1), 1e-9);
+        assertEquals(7d, paths.getWeight(3), 1e-9);
+        assertEquals(List.of(1, 2, 3, 4), paths.getPath(4).getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(5));
+        assertNull(paths.getPath(5));
+        assertNull(phast.getPath(4, 1));
+
+        assertEquals(Map.of(1, 0d, 2, 3d), phast.getIsochrone(1, 5d));
+    }
+
+    @Test
+    public void testSourceNotPresent()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        graph.addVertex(1);
+        CHPhastShortestPaths<Integer, DefaultWeightedEdge> phast =
+            new CHPhastShortestPaths<>(graph, executor);
+        assertThrows(IllegalArgumentException.class, () -> phast.getPaths(2));
+        assertThrows(IllegalArgumentException.class, () -> phast.getPath(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> phast.getIsochrone(1, -1d));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; ++i) {
+            Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 400, random.nextLong())
+                .generateGraph(graph);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, random.nextDouble());
+            }
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                    .computeContractionHierarchy();
+            CHPhastShortestPaths<Integer, DefaultWeightedEdge> phast =
+                new CHPhastShortestPaths<>(hierarchy, 3);
+
+            List<Integer> sources = new ArrayList<>(graph.vertexSet()).subList(0, 10);
+            List<ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge>> paths =
+                phast.getPaths(sources);
+            assertEquals(sources.size(), paths.size());
+            for (int s = 0; s < sources.size(); ++s) {
+                assertEquals(sources.get(s), paths.get(s).getSourceVertex());
+                assertEqualPaths(
+                    graph, new DijkstraShortestPath<>(graph).getPaths(sources.get(s)),
+                    paths.get(s), Double.POSITIVE_INFINITY);
+            }
+
+            double radius = 0.5;
+            paths = phast.getPaths(sources, radius);
+            for (int s = 0; s < sources.size(); ++s) {
+                assertEqualPaths(
+                    graph, new DijkstraShortestPath<>(graph).getPaths(sources.get(s)),
+                    paths.get(s), radius);
+            }
+        }
+    }
+
+    @Test
+    public void testIsochrone()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(20, 20).generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+        CHPhastShortestPaths<Integer, DefaultWeightedEdge> phast =
+            new CHPhastShortestPaths<>(graph, executor);
+
+        for (Integer source : List.of(0, 57, 210)) {
+            double radius = 3d;
+            Map<Integer, Double> isochrone = phast.getIsochrone(source, radius);
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(graph).getPaths(source);
+            for (Integer v : graph.vertexSet()) {
+                double d = expected.getWeight(v);
+                if (d <= radius) {
+                    assertEquals(d, isochrone.get(v), 1e-9);
+                } else {
+                    assertFalse(isochrone.containsKey(v));
+                }
+            }
+        }
+    }
+
+    private void assertEqualPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected,
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> actual,
+        double radius)
+    {
+        for (Integer v : graph.vertexSet()) {
+            double weight = expected.getWeight(v);
+            if (weight == Double.POSITIVE_INFINITY || weight > radius) {
+                assertEquals(Double.POSITIVE_INFINITY, actual.getWeight(v));
+                assertNull(actual.getPath(v));
+                continue;
+            }
+            assertEquals(weight, actual.getWeight(v), 1e-9);
+            GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(v);
+            assertEquals(expected.getSourceVertex(), path.getStartVertex());
+            assertEquals(v, path.getEndVertex());
+            assertEquals(path.getEdgeList().size() + 1, path.getVertexList().size());
+            double sum = 0d;
+            for (DefaultWeightedEdge e : path.getEdgeList()) {
+                sum += graph.getEdgeWeight(e);
+            }
+            assertEquals(weight, sum, 1e-9);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ContractionHierarchyIO}.
+ */
+public class ContractionHierarchyIOTest
+{
+    private static final long SEED = 19L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testContractionHierarchyDirected()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateGraph(new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+        assertContractionHierarchyRoundTrip(graph);
+    }
+
+    @Test
+    public void testContractionHierarchyUndirected()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateGraph(new WeightedPseudograph<>(DefaultWeightedEdge.class));
+        assertContractionHierarchyRoundTrip(graph);
+    }
+
+    @Test
+    public void testTransitNodeRouting()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateGraph(new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+
+        Path file = Files.createTempFile("tnr", ".bin");
+        try {
+            ContractionHierarchyIO.writeTransitNodeRouting(
+                new TransitNodeRoutingShortestPath<>(graph, executor), file);
+            TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> loaded =
+                ContractionHierarchyIO.readTransitNodeRouting(graph, file);
+
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            for (Integer source : graph.vertexSet()) {
+                for (Integer target : graph.vertexSet()) {
+                    double expected = dijkstra.getPathWeight(source, target);
+                    assertEquals(expected, loaded.getPathWeight(source, target), 1e-9);
+
+                    GraphPath<Integer, DefaultWeightedEdge> path = loaded.getPath(source, target);
+                    if (expected == Double.POSITIVE_INFINITY) {
+                        assertTrue(path == null || path.getEdgeList().isEmpty());
+                    } else {
+                        assertEquals(expected, path.getWeight(), 1e-9);
+                        assertEquals(expected, computeWeight(graph, path), 1e-9);
+                        assertEquals(source, path.getStartVertex());
+                        assertEquals(target, path.getEndVertex());
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testGraphMismatch()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateGraph(new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+        Graph<Integer, DefaultWeightedEdge> other =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addGraph(other, graph);
+        other.addVertex(1000);
+
+        Path file = Files.createTempFile("ch", ".bin");
+        try {
+            ContractionHierarchyIO.writeContractionHierarchy(
+                new ContractionHierarchyPrecomputation<>(graph, executor)
+                    .computeContractionHierarchy(),
+                file);
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> ContractionHierarchyIO.readContractionHierarchy(other, file));
+            assertThrows(
+                IOException.class,
+                () -> ContractionHierarchyIO.readTransitNodeRouting(graph, file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testCorruptFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateGraph(new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+
+        Path file = Files.createTempFile("tnr", ".bin");
+        try {
+            ContractionHierarchyIO.writeTransitNodeRouting(
+                new TransitNodeRoutingShortestPath<>(graph, executor), file);
+            byte[] bytes = Files.readAllBytes(file);
+            int n = graph.vertexSet().size();
+
+            // truncated file
+            Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+            assertThrows(
+                IOException.class,
+                () -> ContractionHierarchyIO.readTransitNodeRouting(graph, file));
+
+            // negative number of upward edges
+            byte[] corrupt = bytes.clone();
+            putInt(corrupt, 5 * Integer.BYTES, -1);
+            Files.write(file, corrupt);
+            assertThrows(
+                IOException.class,
+                () -> ContractionHierarchyIO.readTransitNodeRouting(graph, file));
+
+            // first upward edge pointing past the last vertex
+            corrupt = bytes.clone();
+            putInt(corrupt, (8 + 2 * n + n + 1) * Integer.BYTES, n);
+            Files.write(file, corrupt);
+            assertThrows(
+                IOException.class,
+                () -> ContractionHierarchyIO.readTransitNodeRouting(graph, file));
+
+            // last forward access vertex offset past the number of stored entries
+            int upwardSize = getInt(bytes, 5 * Integer.BYTES);
+            int downwardSize = getInt(bytes, 6 * Integer.BYTES);
+            int position = (8 + 2 * n + 2 * (n + 1) + 5 * (upwardSize + downwardSize))
+                * Integer.BYTES + (upwardSize + downwardSize) * Double.BYTES;
+            int k = getInt(bytes, position);
+            position += (1 + k + n) * Integer.BYTES + k * k * Double.BYTES;
+            int size = getInt(bytes, position);
+            int last = position + (1 + n) * Integer.BYTES;
+            assertEquals(size, getInt(bytes, last));
+            corrupt = bytes.clone();
+            putInt(corrupt, last, size + 1);
+            Files.write(file, corrupt);
+            assertThrows(
+                IOException.class,
+                () -> ContractionHierarchyIO.readTransitNodeRouting(graph, file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static int getInt(byte[] bytes, int offset)
+    {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; ++i) {
+            value |= (bytes[offset + i] & 0xff) << (8 * i);
+        }
+        return value;
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value)
+    {
+        for (int i = 0; i < Integer.BYTES; ++i) {
+            bytes[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private void assertContractionHierarchyRoundTrip(Graph<Integer, DefaultWeightedEdge> graph)
+        throws IOException
+    {
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, executor).computeContractionHierarchy();
+
+        Path file = Files.createTempFile("ch", ".bin");
+        try {
+            ContractionHierarchyIO.writeContractionHierarchy(hierarchy, file);
+            ContractionHierarchy<Integer, DefaultWeightedEdge> loaded =
+                ContractionHierarchyIO.readContractionHierarchy(graph, file);
+
+            assertEquals(
+                hierarchy.getContractionGraph().edgeSet().size(),
+                loaded.getContractionGraph().edgeSet().size());
+            for (Integer v : graph.vertexSet()) {
+                ContractionVertex<Integer> expected = hierarchy.getContractionMapping().get(v);
+                ContractionVertex<Integer> actual = loaded.getContractionMapping().get(v);
+                assertEquals(expected.contractionLevel, actual.contractionLevel);
+                assertEquals(expected.vertexId, actual.vertexId);
+            }
+
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected =
+                new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> actual =
+                new ContractionHierarchyBidirectionalDijkstra<>(loaded);
+            for (Integer source : graph.vertexSet()) {
+                for (Integer target : graph.vertexSet()) {
+                    GraphPath<Integer, DefaultWeightedEdge> p1 = expected.getPath(source, target);
+                    GraphPath<Integer, DefaultWeightedEdge> p2 = actual.getPath(source, target);
+                    if (p1 == null) {
+                        assertNull(p2);
+                    } else {
+                        assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                        assertEquals(p1.getEdgeList(), p2.getEdgeList());
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> generateGraph(
+        AbstractBaseGraph<Integer, DefaultWeightedEdge> graph)
+    {
+        graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 0.08, SEED)
+            .generateGraph(graph);
+        Random random = new Random(SEED);
+        graph.edgeSet().forEach(e -> graph.setEdgeWeight(e, random.nextDouble()));
+        return graph;
+    }
+
+    private double computeWeight(
+        Graph<Integer, DefaultWeightedEdge> graph, GraphPath<Integer, DefaultWeightedEdge> path)
+    {
+        double weight = 0d;
+        for (DefaultWeightedEdge e : path.getEdgeList()) {
+            weight += graph.getEdgeWeight(e);
+        }
+        return weight;
+    }
+}
@@ -18,10 +18,12 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
+import org.jheaps.tree.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
@@ -434,6 +436,73 @@ public class ContractionHierarchyPrecomputationTest
         }
     }
 
+    @Test
+    public void testWitnessSearchLimits()
+    {
+        int numOfGraphs = 10;
+        int numOfVertices = 40;
+        double probability = 0.15;
+        int[][] limits = { { 1, Integer.MAX_VALUE }, { 3, 5 }, { Integer.MAX_VALUE, 1 } };
+
+        for (int i = 0; i < numOfGraphs; ++i) {
+            DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> graph =
+                new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+            graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+
+            generateRandomGraph(graph, numOfVertices, probability);
+
+            for (int[] limit : limits) {
+                ContractionHierarchyPrecomputation<Integer, DefaultWeightedEdge> contractor =
+                    new ContractionHierarchyPrecomputation<>(
+                        graph, () -> new Random(SEED), PairingHeap::new, executor, limit[0],
+                        limit[1]);
+                ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                    contractor.computeContractionHierarchy();
+
+                assertCorrectMapping(graph, hierarchy);
+                assertNoEdgesRemoved(graph, hierarchy);
+                assertCorrectEdgeWeights(graph, hierarchy);
+
+                ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                    new DijkstraShortestPath<>(graph);
+                ShortestPathAlgorithm<Integer, DefaultWeightedEdge> chDijkstra =
+                    new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+                for (Integer source : graph.vertexSet()) {
+                    for (Integer target : graph.vertexSet()) {
+                        assertEquals(
+                            dijkstra.getPathWeight(source, target),
+                            chDijkstra.getPathWeight(source, target), 1e-9);
+                    }
+                }
+
+                List<ContractionRoundStatistics> rounds = contractor.getRoundStatistics();
+                int contracted = 0;
+                for (ContractionRoundStatistics round : rounds) {
+                    assertTrue(round.getContractedVertices() > 0);
+                    contracted += round.getContractedVertices();
+                    assertEquals(numOfVertices - contracted, round.getRemainingVertices());
+                }
+                assertEquals(numOfVertices, contracted);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidWitnessSearchLimits()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ContractionHierarchyPrecomputation<>(
+                graph, Random::new, PairingHeap::new, executor, 0, Integer.MAX_VALUE));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ContractionHierarchyPrecomputation<>(
+                graph, Random::new, PairingHeap::new, executor, Integer.MAX_VALUE, 0));
+    }
+
     /**
      * Asserts that {@code mapping} includes all vertices in {@code graph} as keys, all vertices in
      * {@code contractionGraph} as values and the values in {@code mapping} are unique.
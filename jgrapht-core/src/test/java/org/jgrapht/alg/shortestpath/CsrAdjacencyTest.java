@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CsrAdjacency}.
+ */
+public class CsrAdjacencyTest
+{
+    @Test
+    public void testUndirectedSelfLoops()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.addVertex(0);
+        DefaultWeightedEdge loop = Graphs.addEdgeWithVertices(graph, 1, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 2, 0, 2);
+        Graphs.addEdgeWithVertices(graph, 0, 0, 1);
+
+        CsrAdjacency<Integer, DefaultWeightedEdge> csr =
+            new CsrAdjacency<>(graph, List.of(0, 1, 2));
+
+        // a self-loop yields a single arc although the degree counts it twice
+        assertEquals(3, graph.degreeOf(1));
+        assertArrayEquals(new int[] { 0, 2, 4, 6 }, csr.offsets);
+        assertEquals(6, csr.arcCount());
+        assertEquals(6, csr.arcEdges.size());
+        assertArrayEquals(new int[] { 0, 0, 1, 1, 2, 2 }, csr.arcSources());
+        for (int i = 0; i < csr.arcCount(); ++i) {
+            DefaultWeightedEdge e = csr.arcEdges.get(i);
+            int source = csr.arcSources()[i];
+            assertEquals(
+                Graphs.getOppositeVertex(graph, e, csr.vertices.get(source)),
+                csr.vertices.get(csr.targets[i]));
+        }
+        assertEquals(1, csr.targets[csr.arcEdges.indexOf(loop)]);
+        double[] weights = sortedWithinVertices(csr, csr.arcWeights(graph::getEdgeWeight));
+        assertArrayEquals(new double[] { 1, 2, 1, 3, 2, 3 }, weights, 0d);
+    }
+
+    @Test
+    public void testDirected()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 1);
+        Graphs.addEdgeWithVertices(graph, "b", "b", 2);
+        Graphs.addEdgeWithVertices(graph, "c", "a", 3);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 4);
+
+        CsrAdjacency<String, DefaultWeightedEdge> csr = new CsrAdjacency<>(graph);
+
+        assertEquals(3, csr.n);
+        assertEquals(4, csr.arcCount());
+        for (int v = 0; v < csr.n; ++v) {
+            String vertex = csr.vertices.get(v);
+            assertEquals(v, csr.vertexMap.get(vertex));
+            assertEquals(graph.outDegreeOf(vertex), csr.offsets[v + 1] - csr.offsets[v]);
+            for (int i = csr.offsets[v]; i < csr.offsets[v + 1]; ++i) {
+                DefaultWeightedEdge e = csr.arcEdges.get(i);
+                assertEquals(vertex, graph.getEdgeSource(e));
+                assertEquals(graph.getEdgeTarget(e), csr.vertices.get(csr.targets[i]));
+            }
+        }
+    }
+
+    private static double[] sortedWithinVertices(
+        CsrAdjacency<Integer, DefaultWeightedEdge> csr, double[] values)
+    {
+        double[] result = values.clone();
+        for (int v = 0; v < csr.n; ++v) {
+            Arrays.sort(result, csr.offsets[v], csr.offsets[v + 1]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CustomizableContractionHierarchy}.
+ */
+public class CustomizableContractionHierarchyTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 23L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testSimpleGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 4);
+        Graphs.addEdgeWithVertices(graph, 1, 3, 10);
+        Graphs.addEdgeWithVertices(graph, 3, 4, 1);
+
+        CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+            new CustomizableContractionHierarchy<>(graph, executor);
+        ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> dijkstra =
+            new ContractionHierarchyBidirectionalDijkstra<>(cch.computeContractionHierarchy());
+
+        GraphPath<Integer, DefaultWeightedEdge> path = dijkstra.getPath(1, 4);
+        assertEquals(8d, path.getWeight(), 1e-9);
+        assertEquals(List.of(1, 2, 3, 4), path.getVertexList());
+
+        DefaultWeightedEdge e = graph.getEdge(1, 3);
+        graph.setEdgeWeight(e, 2d);
+        cch.customize(List.of(e));
+        path = dijkstra.getPath(4, 1);
+        assertEquals(3d, path.getWeight(), 1e-9);
+        assertEquals(List.of(4, 3, 1), path.getVertexList());
+    }
+
+    @Test
+    public void testNoPath()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        Graphs.addEdgeWithVertices(graph, 3, 2, 1);
+
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new CustomizableContractionHierarchy<>(graph, executor).computeContractionHierarchy();
+        ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> dijkstra =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+        assertNull(dijkstra.getPath(1, 3));
+        assertNull(dijkstra.getPath(2, 1));
+        assertEquals(1d, dijkstra.getPathWeight(3, 2), 1e-9);
+    }
+
+    @Test
+    public void testInvalidOrder()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CustomizableContractionHierarchy<>(graph, List.of(1, 2), executor));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CustomizableContractionHierarchy<>(graph, List.of(1, 2, 2), executor));
+    }
+
+    @Test
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        Graphs.addEdgeWithVertices(graph, 2, 3, -1);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CustomizableContractionHierarchy<>(graph, executor)
+                .computeContractionHierarchy());
+    }
+
+    @Test
+    public void testRandomDirectedGraphs()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; ++i) {
+            Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 300, random.nextLong())
+                .generateGraph(graph);
+            testCustomization(graph, null, random);
+        }
+    }
+
+    @Test
+    public void testRandomUndirectedGraphs()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; ++i) {
+            Graph<Integer, DefaultWeightedEdge> graph = new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 200, random.nextLong())
+                .generateGraph(graph);
+            List<Integer> order = new ArrayList<>(graph.vertexSet());
+            Collections.shuffle(order, random);
+            testCustomization(graph, order, random);
+        }
+    }
+
+    @Test
+    public void testGridGraph()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(16, 16).generateGraph(graph);
+        testCustomization(graph, null, random);
+    }
+
+    @Test
+    public void testParallelCustomization()
+        throws InterruptedException
+    {
+        Random random = new Random(SEED);
+        ThreadPoolExecutor parallelExecutor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (int i = 0; i < 5; ++i) {
+                Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    100, 300, random.nextLong()).generateGraph(graph);
+                // every level with at least two vertices is split among the tasks
+                assertCustomization(
+                    graph, new CustomizableContractionHierarchy<>(graph, null, parallelExecutor, 2),
+                    random);
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(parallelExecutor);
+        }
+    }
+
+    /**
+     * Customizes a hierarchy for {@code graph}, changes random edge weights and checks the
+     * distances after full and incremental customization.
+     */
+    private void testCustomization(Graph<Integer, DefaultWeightedEdge> graph, List<Integer> order,
+        Random random)
+    {
+        assertCustomization(
+            graph, new CustomizableContractionHierarchy<>(graph, order, executor), random);
+    }
+
+    private void assertCustomization(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch, Random random)
+    {
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            cch.computeContractionHierarchy();
+        assertSame(hierarchy, cch.computeContractionHierarchy());
+        assertDistances(graph, hierarchy, random);
+
+        List<DefaultWeightedEdge> edges = new ArrayList<>(graph.edgeSet());
+        for (int round = 0; round < 2; ++round) {
+            List<DefaultWeightedEdge> changed = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                DefaultWeightedEdge e = edges.get(random.nextInt(edges.size()));
+                graph.setEdgeWeight(e, 2 * random.nextDouble());
+                changed.add(e);
+            }
+            cch.customize(changed);
+            assertDistances(graph, hierarchy, random);
+        }
+
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+        cch.customize();
+        assertDistances(graph, hierarchy, random);
+    }
+
+    private void assertDistances(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy, Random random)
+    {
+        // the number of original edges of every shortcut matches its unpacked path
+        for (ContractionEdge<DefaultWeightedEdge> e : hierarchy.getContractionGraph().edgeSet()) {
+            assertEquals(countOriginalEdges(e), e.originalEdges);
+        }
+
+        List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+        ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> chDijkstra =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+
+        Set<Integer> sources = new HashSet<>();
+        for (int i = 0; i < 5; ++i) {
+            Integer source = vertices.get(random.nextInt(vertices.size()));
+            sources.add(source);
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(graph).getPaths(source);
+            for (Integer sink : vertices) {
+                GraphPath<Integer, DefaultWeightedEdge> expectedPath = expected.getPath(sink);
+                GraphPath<Integer, DefaultWeightedEdge> actualPath =
+                    chDijkstra.getPath(source, sink);
+                if (expectedPath == null) {
+                    assertNull(actualPath);
+                } else {
+                    assertPath(graph, expectedPath, actualPath);
+                }
+            }
+        }
+
+        Set<Integer> targets = new HashSet<>(vertices.subList(0, 10));
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> manyToMany =
+                new CHManyToManyShortestPaths<>(hierarchy).getManyToManyPaths(sources, targets);
+        for (Integer source : sources) {
+            for (Integer target : targets) {
+                assertEquals(
+                    new DijkstraShortestPath<>(graph).getPathWeight(source, target),
+                    manyToMany.getWeight(source, target), 1e-9);
+            }
+        }
+    }
+
+    private int countOriginalEdges(ContractionEdge<DefaultWeightedEdge> e)
+    {
+        if (e.bypassedEdges == null) {
+            return 1;
+        }
+        return countOriginalEdges(e.bypassedEdges.getFirst())
+            + countOriginalEdges(e.bypassedEdges.getSecond());
+    }
+
+    private void assertPath(
+        Graph<Integer, DefaultWeightedEdge> graph, GraphPath<Integer, DefaultWeightedEdge> expected,
+        GraphPath<Integer, DefaultWeightedEdge> actual)
+    {
+        assertNotNull(actual);
+        assertEquals(expected.getWeight(), actual.getWeight(), 1e-9);
+        assertEquals(expected.getStartVertex(), actual.getStartVertex());
+        assertEquals(expected.getEndVertex(), actual.getEndVertex());
+        double weight = 0d;
+        for (DefaultWeightedEdge e : actual.getEdgeList()) {
+            weight += graph.getEdgeWeight(e);
+        }
+        assertEquals(expected.getWeight(), weight, 1e-9);
+    }
+}
@@ -157,4 +157,32 @@ public class DijkstraShortestPathTest extends ShortestPathTestCase
             IllegalArgumentException.class, () -> new DijkstraShortestPath<>(g).getPath(V1, V2));
     }
 
+    @Test
+    public void testWorkspacePool()
+    {
+        Graph<String, DefaultWeightedEdge> g = create();
+        DijkstraShortestPath<String, DefaultWeightedEdge> expected = new DijkstraShortestPath<>(g);
+
+        List<SearchWorkspacePool<DefaultWeightedEdge>> pools =
+            Arrays.asList(SearchWorkspacePool.perQuery(), SearchWorkspacePool.perThread());
+        for (SearchWorkspacePool<DefaultWeightedEdge> pool : pools) {
+            DijkstraShortestPath<String, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, pool);
+            for (String v : g.vertexSet()) {
+                SingleSourcePaths<String, DefaultWeightedEdge> paths = dijkstra.getPaths(v);
+                for (String u : g.vertexSet()) {
+                    GraphPath<String, DefaultWeightedEdge> p1 = expected.getPath(v, u);
+                    GraphPath<String, DefaultWeightedEdge> p2 = dijkstra.getPath(v, u);
+                    assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                    assertEquals(p1.getWeight(), paths.getWeight(u), 1e-9);
+                    assertEquals(p1.getEdgeList(), p2.getEdgeList());
+                }
+            }
+
+            GraphPath<String, DefaultWeightedEdge> path =
+                new DijkstraShortestPath<>(g, 7.0, pool).getPath(V3, V4);
+            assertNull(path);
+        }
+    }
+
 }
@@ -0,0 +1,197 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DirectionOptimizingBFSShortestPath}.
+ */
+public class DirectionOptimizingBFSShortestPathTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 41L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<String, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b");
+        Graphs.addEdgeWithVertices(graph, "b", "c");
+        Graphs.addEdgeWithVertices(graph, "c", "d");
+        Graphs.addEdgeWithVertices(graph, "a", "c");
+        graph.addVertex("e");
+
+        DirectionOptimizingBFSShortestPath<String, DefaultEdge> algorithm =
+            new DirectionOptimizingBFSShortestPath<>(graph, pool);
+        GraphPath<String, DefaultEdge> path = algorithm.getPath("a", "d");
+        assertEquals(List.of("a", "c", "d"), path.getVertexList());
+        assertEquals(2d, path.getWeight());
+        assertNull(algorithm.getPath("d", "a"));
+        assertEquals(0d, algorithm.getPath("e", "e").getWeight());
+
+        SingleSourcePaths<String, DefaultEdge> paths = algorithm.getPaths("b");
+        assertEquals(2d, paths.getWeight("d"));
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("a"));
+
+        int[] hops = algorithm.getHopDistances(algorithm.getVertexIndex("a"));
+        assertEquals(2, hops[algorithm.getVertexIndex("d")]);
+        assertEquals(-1, hops[algorithm.getVertexIndex("e")]);
+    }
+
+    @Test
+    public void testIntegerVerticesAreNotMapped()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        for (int v = 4; v >= 0; --v) {
+            graph.addVertex(v);
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+
+        DirectionOptimizingBFSShortestPath<Integer, DefaultEdge> algorithm =
+            new DirectionOptimizingBFSShortestPath<>(graph, pool);
+        assertArrayEquals(new int[] { 2, 1, 0, 1, -1 }, algorithm.getHopDistances(2));
+        for (int v = 0; v < 5; ++v) {
+            assertEquals(v, algorithm.getVertexIndex(v));
+        }
+    }
+
+    @Test
+    public void testLevelSearch()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        for (int v = 0; v < 6; ++v) {
+            graph.addVertex(v);
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+
+        DirectionOptimizingBFSShortestPath<Integer, DefaultEdge>.LevelSearch search =
+            new DirectionOptimizingBFSShortestPath<>(graph, pool).startSearch(0);
+        int[] sizes = { 1, 2, 1, 1 };
+        for (int level = 0; level < sizes.length; ++level) {
+            assertEquals(level, search.getLevel());
+            assertEquals(sizes[level], search.getLevelSize());
+            for (int i = 0; i < search.getLevelSize(); ++i) {
+                assertEquals(level, search.getDepth(search.getLevelVertex(i)));
+            }
+            assertEquals(level < sizes.length - 1, search.advance());
+        }
+        assertEquals(-1, search.getDepth(5));
+        assertEquals(-1, search.getParent(0));
+        assertEquals(3, search.getParent(4));
+        assertFalse(search.advance());
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        // large graphs are expanded in parallel, extreme parameters force a single direction
+        int[] sizes = { 30, 300, 20000 };
+        double[][] parameters = { { 14d, 24d }, { 1e-9, 1e9 }, { 1e9, 1e-9 } };
+        for (int n : sizes) {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultEdge> graph = directed
+                    ? new DirectedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new Pseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, 6 * n, rng, true, true)
+                    .generateGraph(graph);
+
+                Integer source = rng.nextInt(n);
+                SingleSourcePaths<Integer, DefaultEdge> expected =
+                    new BFSShortestPath<>(graph).getPaths(source);
+                for (double[] p : parameters) {
+                    DirectionOptimizingBFSShortestPath<Integer, DefaultEdge> algorithm =
+                        new DirectionOptimizingBFSShortestPath<>(graph, pool, p[0], p[1]);
+                    int[] hops = algorithm.getHopDistances(source);
+                    SingleSourcePaths<Integer, DefaultEdge> paths = algorithm.getPaths(source);
+                    for (int v = 0; v < n; ++v) {
+                        double weight = expected.getWeight(v);
+                        assertEquals(weight, paths.getWeight(v));
+                        if (weight == Double.POSITIVE_INFINITY) {
+                            assertEquals(-1, hops[v]);
+                            assertNull(paths.getPath(v));
+                        } else {
+                            assertEquals((int) weight, hops[v]);
+                            assertPath(graph, source, v, weight, paths.getPath(v));
+                        }
+                    }
+                    Integer sink = rng.nextInt(n);
+                    GraphPath<Integer, DefaultEdge> path = algorithm.getPath(source, sink);
+                    if (hops[sink] < 0) {
+                        assertNull(path);
+                    } else {
+                        assertPath(graph, source, sink, hops[sink], path);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertPath(
+        Graph<Integer, DefaultEdge> graph, Integer source, Integer sink, double weight,
+        GraphPath<Integer, DefaultEdge> path)
+    {
+        assertEquals(weight, path.getWeight());
+        assertEquals((int) weight, path.getLength());
+        List<Integer> vertexList = path.getVertexList();
+        assertEquals(source, vertexList.get(0));
+        assertEquals(sink, vertexList.get(vertexList.size() - 1));
+        for (int i = 0; i < path.getLength(); ++i) {
+            DefaultEdge e = path.getEdgeList().get(i);
+            assertEquals(
+                vertexList.get(i + 1), Graphs.getOppositeVertex(graph, e, vertexList.get(i)));
+        }
+    }
+}
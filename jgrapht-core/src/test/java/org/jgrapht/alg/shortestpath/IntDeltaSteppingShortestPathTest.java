@@ -0,0 +1,193 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link IntDeltaSteppingShortestPath}.
+ */
+public class IntDeltaSteppingShortestPathTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 19L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 3);
+        Graphs.addEdgeWithVertices(graph, "b", "c", 4);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 10);
+        Graphs.addEdgeWithVertices(graph, "c", "d", 1);
+        graph.addVertex("e");
+
+        IntDeltaSteppingShortestPath<String, DefaultWeightedEdge> algorithm =
+            new IntDeltaSteppingShortestPath<>(graph, pool);
+        SingleSourcePaths<String, DefaultWeightedEdge> paths = algorithm.getPaths("a");
+        assertEquals("a", paths.getSourceVertex());
+        assertEquals(0d, paths.getWeight("a"));
+        assertEquals(8d, paths.getWeight("d"), 1e-9);
+        assertEquals(List.of("a", "b", "c", "d"), paths.getPath("d").getVertexList());
+        assertEquals(List.of("a"), paths.getPath("a").getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("e"));
+        assertNull(paths.getPath("e"));
+        assertNull(algorithm.getPath("d", "a"));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, 3000, 8, rng);
+            // automatic width, narrow buckets and a single wide bucket
+            for (double delta : new double[] { 0d, 0.01, 1000d }) {
+                IntDeltaSteppingShortestPath<Integer, DefaultWeightedEdge> algorithm =
+                    new IntDeltaSteppingShortestPath<>(graph, delta, pool);
+                assertTrue(algorithm.getDelta() > 0d);
+                for (int i = 0; i < 3; ++i) {
+                    assertSamePaths(graph, algorithm, rng.nextInt(graph.vertexSet().size()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testZeroWeights()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, 2000, 4, rng);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, rng.nextInt(3));
+            }
+            IntDeltaSteppingShortestPath<Integer, DefaultWeightedEdge> algorithm =
+                new IntDeltaSteppingShortestPath<>(graph, pool);
+            assertSamePaths(graph, algorithm, 0);
+        }
+    }
+
+    @Test
+    public void testHeavyEdge()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, 3000, 8, rng);
+            // a single heavy edge makes the ring of the automatic width far too large
+            graph.setEdgeWeight(graph.edgeSet().iterator().next(), 1e9);
+            // narrow buckets move most vertices through the overflow bucket
+            for (double delta : new double[] { 0d, 1e-4 }) {
+                IntDeltaSteppingShortestPath<Integer, DefaultWeightedEdge> algorithm =
+                    new IntDeltaSteppingShortestPath<>(graph, delta, pool);
+                for (int i = 0; i < 3; ++i) {
+                    assertSamePaths(graph, algorithm, rng.nextInt(graph.vertexSet().size()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidArguments()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DefaultUndirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -1);
+        assertThrows(
+            IllegalArgumentException.class, () -> new IntDeltaSteppingShortestPath<>(graph, pool));
+        graph.setEdgeWeight(1, 2, 1);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IntDeltaSteppingShortestPath<>(graph, -1d, pool));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IntDeltaSteppingShortestPath<>(graph, pool).getPaths(3));
+    }
+
+    private static void assertSamePaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        IntDeltaSteppingShortestPath<Integer, DefaultWeightedEdge> algorithm, Integer source)
+    {
+        SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(graph).getPaths(source);
+        SingleSourcePaths<Integer, DefaultWeightedEdge> actual = algorithm.getPaths(source);
+        for (Integer v : graph.vertexSet()) {
+            double weight = expected.getWeight(v);
+            assertEquals(weight, actual.getWeight(v), 1e-9);
+            GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(v);
+            if (weight == Double.POSITIVE_INFINITY) {
+                assertNull(path);
+            } else {
+                assertEquals(source, path.getStartVertex());
+                assertEquals(v, path.getEndVertex());
+                assertEquals(
+                    weight, path.getEdgeList().stream().mapToDouble(graph::getEdgeWeight).sum(),
+                    1e-9);
+            }
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> generateGraph(
+        Supplier<Graph<Integer, DefaultWeightedEdge>> supplier, int n, int degree, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = supplier.get();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, n * degree, rng, true, true)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, rng.nextDouble());
+        }
+        return graph;
+    }
+
+    private static List<Supplier<Graph<Integer, DefaultWeightedEdge>>> graphSuppliers()
+    {
+        return List.of(
+            () -> new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER),
+            () -> new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+}
@@ -255,4 +255,33 @@ public class IntVertexDijkstraShortestPathTest
             () -> new IntVertexDijkstraShortestPath<>(g).getPath(1, 2));
     }
 
+    @Test
+    public void testWorkspacePoolWithOffset()
+    {
+        final int offset = 100;
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+
+        Graphs.addAllVertices(g, Arrays.asList(offset, offset + 1, offset + 2, offset + 3));
+        g.setEdgeWeight(g.addEdge(offset, offset + 1), 2.0);
+        g.setEdgeWeight(g.addEdge(offset, offset + 2), 5.0);
+        g.setEdgeWeight(g.addEdge(offset + 1, offset + 2), 1.0);
+        g.setEdgeWeight(g.addEdge(offset + 2, offset + 3), 4.0);
+
+        IntVertexDijkstraShortestPath<DefaultWeightedEdge> algo =
+            new IntVertexDijkstraShortestPath<>(g, SearchWorkspacePool.perThread());
+
+        for (int i = 0; i < 2; i++) {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = algo.getPaths(offset);
+            assertEquals(0d, paths.getWeight(offset), 1e-9);
+            assertEquals(2d, paths.getWeight(offset + 1), 1e-9);
+            assertEquals(3d, paths.getWeight(offset + 2), 1e-9);
+            assertEquals(7d, paths.getWeight(offset + 3), 1e-9);
+
+            assertEquals(7d, algo.getPathWeight(offset, offset + 3), 1e-9);
+            assertEquals(3, algo.getPath(offset, offset + 3).getLength());
+            assertNull(algo.getPath(offset + 3, offset));
+        }
+    }
+
 }
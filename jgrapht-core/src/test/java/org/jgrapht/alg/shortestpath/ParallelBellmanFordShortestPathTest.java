@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ParallelBellmanFordShortestPath}.
+ */
+public class ParallelBellmanFordShortestPathTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 37L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 4);
+        Graphs.addEdgeWithVertices(graph, "b", "c", -3);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 2);
+        Graphs.addEdgeWithVertices(graph, "c", "d", -1);
+        graph.addVertex("e");
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths =
+            new ParallelBellmanFordShortestPath<>(graph, pool).getPaths("a");
+        assertEquals(0d, paths.getWeight("d"), 1e-9);
+        assertEquals(List.of("a", "b", "c", "d"), paths.getPath("d").getVertexList());
+        assertEquals(0d, paths.getWeight("a"));
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("e"));
+        assertNull(paths.getPath("e"));
+        assertEquals(
+            List.of("b", "c", "d"),
+            ParallelBellmanFordShortestPath.findPathBetween(graph, "b", "d").getVertexList());
+    }
+
+    @Test
+    public void testNegativeCycle()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -2);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1);
+        Graphs.addEdgeWithVertices(graph, 3, 1, -1);
+        Graphs.addEdgeWithVertices(graph, 4, 5, -1);
+        Graphs.addEdgeWithVertices(graph, 5, 4, -1);
+
+        ParallelBellmanFordShortestPath<Integer, DefaultWeightedEdge> algorithm =
+            new ParallelBellmanFordShortestPath<>(graph, pool);
+        NegativeCycleDetectedException e =
+            assertThrows(NegativeCycleDetectedException.class, () -> algorithm.getPaths(0));
+        GraphPath<?, ?> cycle = e.getCycle();
+        assertEquals(-2d, cycle.getWeight(), 1e-9);
+        assertEquals(3, cycle.getLength());
+        SPFAShortestPathTest.assertCycle(graph, cycle);
+
+        Graph<Integer, DefaultWeightedEdge> undirected =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(undirected, 0, 1, 2);
+        Graphs.addEdgeWithVertices(undirected, 1, 2, -1);
+        e = assertThrows(
+            NegativeCycleDetectedException.class,
+            () -> new ParallelBellmanFordShortestPath<>(undirected, pool).getPaths(0));
+        assertEquals(-2d, e.getCycle().getWeight(), 1e-9);
+        assertEquals(2, e.getCycle().getLength());
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        // the larger graphs have frontiers which are relaxed in parallel
+        int[] sizes = { 50, 200, 5000 };
+        for (int n : sizes) {
+            Graph<Integer, DefaultWeightedEdge> graph =
+                SPFAShortestPathTest.createGraph(rng, n, 8d / n);
+            // weights from a random potential may be negative but never form negative cycles
+            double[] p = rng.doubles(graph.vertexSet().size(), 0, 50).toArray();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(
+                    e, 10 * rng.nextDouble() + p[graph.getEdgeSource(e)]
+                        - p[graph.getEdgeTarget(e)]);
+            }
+
+            ParallelBellmanFordShortestPath<Integer, DefaultWeightedEdge> algorithm =
+                new ParallelBellmanFordShortestPath<>(graph, pool);
+            for (int query = 0; query < 3; ++query) {
+                Integer source = rng.nextInt(n);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new SPFAShortestPath<>(graph).getPaths(source);
+                SPFAShortestPathTest.assertPaths(graph, expected, algorithm.getPaths(source));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomNegativeCycles()
+    {
+        Random rng = new Random(SEED);
+        int[] sizes = { 50, 100, 5000 };
+        for (int n : sizes) {
+            for (int round = 0; round < 5; ++round) {
+                Graph<Integer, DefaultWeightedEdge> graph =
+                    SPFAShortestPathTest.createGraph(rng, n, 5d / n);
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    graph.setEdgeWeight(e, rng.nextDouble() * 10 - 1);
+                }
+                Integer source = rng.nextInt(n);
+
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected;
+                try {
+                    expected = new SPFAShortestPath<>(graph).getPaths(source);
+                } catch (NegativeCycleDetectedException e) {
+                    expected = null;
+                }
+                ParallelBellmanFordShortestPath<Integer, DefaultWeightedEdge> algorithm =
+                    new ParallelBellmanFordShortestPath<>(graph, pool);
+                if (expected == null) {
+                    NegativeCycleDetectedException e = assertThrows(
+                        NegativeCycleDetectedException.class, () -> algorithm.getPaths(source));
+                    SPFAShortestPathTest.assertCycle(graph, e.getCycle());
+                } else {
+                    SPFAShortestPathTest.assertPaths(graph, expected, algorithm.getPaths(source));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ParallelJohnsonShortestPaths}.
+ */
+public class ParallelJohnsonShortestPathsTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 29L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 4);
+        Graphs.addEdgeWithVertices(graph, "b", "c", -3);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 2);
+        Graphs.addEdgeWithVertices(graph, "c", "d", -1);
+        graph.addVertex("e");
+
+        ParallelJohnsonShortestPaths<String, DefaultWeightedEdge> algorithm =
+            new ParallelJohnsonShortestPaths<>(graph, pool);
+        assertEquals(0d, algorithm.getPathWeight("a", "d"), 1e-9);
+        assertEquals(List.of("a", "b", "c", "d"), algorithm.getPath("a", "d").getVertexList());
+        assertNull(algorithm.getPath("d", "a"));
+        SingleSourcePaths<String, DefaultWeightedEdge> paths = algorithm.getPaths("b");
+        assertEquals(-4d, paths.getWeight("d"), 1e-9);
+        assertEquals(List.of("b", "c", "d"), paths.getPath("d").getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("e"));
+
+        List<String> vertices = List.of("a", "b", "c", "d", "e");
+        double[] matrix = algorithm.computeMatrix(vertices, List.of("d", "a"));
+        assertEquals(10, matrix.length);
+        assertEquals(0d, matrix[0], 1e-9);
+        assertEquals(0d, matrix[1], 1e-9);
+        assertEquals(-4d, matrix[2], 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, matrix[3]);
+        assertEquals(Double.POSITIVE_INFINITY, matrix[9]);
+    }
+
+    @Test
+    public void testNegativeCycle()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -2);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1);
+        Graphs.addEdgeWithVertices(graph, 3, 1, -1);
+
+        NegativeCycleDetectedException e = assertThrows(
+            NegativeCycleDetectedException.class,
+            () -> new ParallelJohnsonShortestPaths<>(graph, pool));
+        GraphPath<?, ?> cycle = e.getCycle();
+        assertEquals(-2d, cycle.getWeight(), 1e-9);
+        assertEquals(3, cycle.getLength());
+        assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+
+        Graph<Integer, DefaultWeightedEdge> undirected =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(undirected, 0, 1, -1);
+        assertThrows(
+            NegativeCycleDetectedException.class,
+            () -> new ParallelJohnsonShortestPaths<>(undirected, pool));
+    }
+
+    @Test
+    public void testUndirectedSelfLoops()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.addVertex(0);
+        Graphs.addEdgeWithVertices(graph, 1, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 2, 0, 2);
+        Graphs.addEdgeWithVertices(graph, 0, 0, 1);
+
+        ParallelJohnsonShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+            new ParallelJohnsonShortestPaths<>(graph, pool);
+        assertEquals(5d, algorithm.getPathWeight(1, 0), 1e-9);
+        assertEquals(List.of(1, 2, 0), algorithm.getPath(1, 0).getVertexList());
+        assertEquals(3d, algorithm.getPathWeight(2, 1), 1e-9);
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        for (int round = 0; round < 3; ++round) {
+            Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(80, 0.05, rng, true)
+                .generateGraph(graph);
+            // weights from a random potential may be negative but never form negative cycles
+            double[] p = rng.doubles(graph.vertexSet().size(), 0, 50).toArray();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(
+                    e, 10 * rng.nextDouble() + p[graph.getEdgeSource(e)]
+                        - p[graph.getEdgeTarget(e)]);
+            }
+
+            JohnsonShortestPaths<Integer, DefaultWeightedEdge> expected =
+                new JohnsonShortestPaths<>(graph);
+            ParallelJohnsonShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+                new ParallelJohnsonShortestPaths<>(graph, pool, 1 + round * 5);
+            List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+            double[] matrix = algorithm.computeMatrix(vertices, vertices);
+            int[] rows = new int[vertices.size()];
+            algorithm.compute(vertices, vertices, (sourceIndex, targetStart, distances) -> {
+                assertEquals(0, targetStart);
+                assertEquals(vertices.size(), distances.length);
+                synchronized (rows) {
+                    rows[sourceIndex]++;
+                }
+            });
+            for (int i = 0; i < vertices.size(); ++i) {
+                assertEquals(1, rows[i]);
+                Integer u = vertices.get(i);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths = algorithm.getPaths(u);
+                for (int j = 0; j < vertices.size(); ++j) {
+                    Integer v = vertices.get(j);
+                    double weight = expected.getPathWeight(u, v);
+                    assertEquals(weight, matrix[i * vertices.size() + j], 1e-9);
+                    assertEquals(weight, algorithm.getPathWeight(u, v), 1e-9);
+                    assertEquals(weight, paths.getWeight(v), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = algorithm.getPath(u, v);
+                    if (weight == Double.POSITIVE_INFINITY) {
+                        assertNull(path);
+                    } else {
+                        assertEquals(
+                            weight,
+                            path.getEdgeList().stream().mapToDouble(graph::getEdgeWeight).sum(),
+                            1e-9);
+                    }
+                }
+            }
+        }
+    }
+}
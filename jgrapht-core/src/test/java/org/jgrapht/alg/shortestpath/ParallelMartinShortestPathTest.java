@@ -0,0 +1,301 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MultiObjectiveShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ParallelMartinShortestPath}.
+ */
+public class ParallelMartinShortestPathTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 41L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testGraphDirected()
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+
+        IntStream.range(1, 6).forEach(g::addVertex);
+        DefaultEdgeFunction<DefaultEdge, double[]> f =
+            new DefaultEdgeFunction<>(new double[] { 0.0, 0.0 });
+        f.set(g.addEdge(1, 2), new double[] { 1.0, 5.0 });
+        f.set(g.addEdge(1, 3), new double[] { 4.0, 2.0 });
+        f.set(g.addEdge(1, 4), new double[] { 4.0, 4.0 });
+        f.set(g.addEdge(2, 4), new double[] { 1.0, 2.0 });
+        f.set(g.addEdge(2, 5), new double[] { 2.0, 5.0 });
+        f.set(g.addEdge(3, 4), new double[] { 2.0, 3.0 });
+        f.set(g.addEdge(3, 5), new double[] { 6.0, 1.0 });
+        f.set(g.addEdge(4, 5), new double[] { 3.0, 3.0 });
+
+        MultiObjectiveSingleSourcePaths<Integer, DefaultEdge> paths =
+            new ParallelMartinShortestPath<>(g, f, pool).getPaths(1);
+        assertEquals(1, paths.getPaths(1).size());
+        assertEquals(1, paths.getPaths(2).size());
+        assertEquals(1, paths.getPaths(3).size());
+        assertEquals(2, paths.getPaths(4).size());
+        assertEquals(3, paths.getPaths(5).size());
+        assertEquals(
+            Set.of(List.of(3d, 10d), List.of(7d, 7d), List.of(10d, 3d)),
+            values(paths.getPaths(5), f));
+    }
+
+    @Test
+    public void testNoPaths()
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addVertex(3);
+        DefaultEdgeFunction<DefaultEdge, double[]> f =
+            new DefaultEdgeFunction<>(new double[] { 1.0, 1.0 });
+        g.addEdge(2, 3);
+
+        ParallelMartinShortestPath<Integer, DefaultEdge> alg =
+            new ParallelMartinShortestPath<>(g, f, pool);
+        assertEquals(1, alg.getPaths(1, 1).size());
+        assertEquals(0, alg.getPaths(1, 2).size());
+        assertEquals(1, alg.getPaths(2, 3).size());
+        assertEquals(0, alg.getPaths(3, 2).size());
+    }
+
+    @Test
+    public void testInvalidArguments()
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex(1);
+        g.addVertex(2);
+        DefaultEdge e = g.addEdge(1, 2);
+        DefaultEdgeFunction<DefaultEdge, double[]> f =
+            new DefaultEdgeFunction<>(new double[] { 1.0, 1.0 });
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ParallelMartinShortestPath<>(g, f, -0.1, pool));
+        f.set(e, new double[] { 1.0, -1.0 });
+        assertThrows(
+            IllegalArgumentException.class, () -> new ParallelMartinShortestPath<>(g, f, pool));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ParallelMartinShortestPath<>(g, x -> new double[] { 1.0 }, pool)
+                .getPaths(3));
+    }
+
+    @Test
+    public void testCompareWithMartinShortestPath()
+    {
+        Random rng = new Random(SEED);
+        for (int objectives = 1; objectives <= 3; objectives++) {
+            for (int i = 0; i < 5; i++) {
+                Graph<Integer, DefaultWeightedEdge> graph = createGraph(rng, 40, 0.1, i % 2 == 0);
+                Map<DefaultWeightedEdge, double[]> f = createWeights(rng, graph, objectives);
+
+                MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new MartinShortestPath<>(graph, f::get).getPaths(0);
+                MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+                    new ParallelMartinShortestPath<>(graph, f::get, pool).getPaths(0);
+                for (Integer v : graph.vertexSet()) {
+                    assertEquals(
+                        values(expected.getPaths(v), f::get), values(actual.getPaths(v), f::get));
+                    for (GraphPath<Integer, DefaultWeightedEdge> path : actual.getPaths(v)) {
+                        assertEquals(0, path.getStartVertex().intValue());
+                        assertEquals(v, path.getEndVertex());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelExpansion()
+    {
+        // many labels with the same sum make the buckets large enough to be split into tasks
+        Random rng = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = createGraph(rng, 300, 0.03, false);
+        Map<DefaultWeightedEdge, double[]> f = createWeights(rng, graph, 2);
+        for (double[] w : f.values()) {
+            w[1] = 10 - w[0];
+        }
+
+        MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new MartinShortestPath<>(graph, f::get).getPaths(0);
+        ParallelMartinShortestPath<Integer, DefaultWeightedEdge> alg =
+            new ParallelMartinShortestPath<>(graph, f::get, pool);
+        MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> actual = alg.getPaths(0);
+        for (Integer v : graph.vertexSet()) {
+            assertEquals(values(expected.getPaths(v), f::get), values(actual.getPaths(v), f::get));
+        }
+        assertEquals(actual.getPaths(7).size(), alg.getPaths(0, 7).size());
+    }
+
+    @Test
+    public void testApproximation()
+    {
+        Random rng = new Random(SEED);
+        double epsilon = 0.1;
+        int exactLabels = 0;
+        int approximateLabels = 0;
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(rng, 40, 0.1, false);
+            Map<DefaultWeightedEdge, double[]> f = createWeights(rng, graph, 3);
+
+            MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> exact =
+                new ParallelMartinShortestPath<>(graph, f::get, pool).getPaths(0);
+            MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> approximate =
+                new ParallelMartinShortestPath<>(graph, f::get, epsilon, pool).getPaths(0);
+
+            for (Integer v : graph.vertexSet()) {
+                List<GraphPath<Integer, DefaultWeightedEdge>> exactPaths = exact.getPaths(v);
+                Set<List<Double>> approximateValues = values(approximate.getPaths(v), f::get);
+                exactLabels += exactPaths.size();
+                approximateLabels += approximateValues.size();
+                assertTrue(approximateValues.size() <= exactPaths.size());
+                assertEquals(exactPaths.isEmpty(), approximateValues.isEmpty());
+                for (GraphPath<Integer, DefaultWeightedEdge> path : exactPaths) {
+                    List<Double> p = values(List.of(path), f::get).iterator().next();
+                    // the tolerance of every pruned label compounds along the path
+                    double factor = Math.pow(1 + epsilon, path.getLength()) + 1e-9;
+                    assertTrue(approximateValues.stream().anyMatch(q -> {
+                        for (int j = 0; j < p.size(); j++) {
+                            if (q.get(j) > factor * p.get(j)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+            }
+        }
+        // the fronts are large enough for the tolerance to prune labels
+        assertTrue(approximateLabels < exactLabels);
+    }
+
+    @Test
+    public void testApproximationChain()
+    {
+        // every hop of the chain offers the values (4, 5) and (5, 4), which differ by more than
+        // the tolerance, while their combinations over several hops are partly within it
+        double epsilon = 0.1;
+        int hops = 6;
+        Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        Map<DefaultWeightedEdge, double[]> f = new HashMap<>();
+        for (int v = 0; v < hops; v++) {
+            f.put(Graphs.addEdgeWithVertices(graph, v, v + 1), new double[] { 4, 5 });
+            f.put(Graphs.addEdgeWithVertices(graph, v, v + 1), new double[] { 5, 4 });
+        }
+
+        MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> exact =
+            new ParallelMartinShortestPath<>(graph, f::get, pool).getPaths(0);
+        MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> approximate =
+            new ParallelMartinShortestPath<>(graph, f::get, epsilon, pool).getPaths(0);
+
+        // after a single hop both labels are kept
+        assertEquals(
+            Set.of(List.of(4d, 5d), List.of(5d, 4d)), values(approximate.getPaths(1), f::get));
+        for (int v = 1; v <= hops; v++) {
+            List<GraphPath<Integer, DefaultWeightedEdge>> exactPaths = exact.getPaths(v);
+            Set<List<Double>> approximateValues = values(approximate.getPaths(v), f::get);
+            assertEquals(v + 1, values(exactPaths, f::get).size());
+            double factor = Math.pow(1 + epsilon, v) + 1e-9;
+            for (List<Double> p : values(exactPaths, f::get)) {
+                assertTrue(
+                    approximateValues.stream().anyMatch(
+                        q -> q.get(0) <= factor * p.get(0) && q.get(1) <= factor * p.get(1)));
+            }
+        }
+        assertTrue(approximate.getPaths(hops).size() < hops + 1);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        Random rng, int n, double p, boolean directed)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, true)
+            .generateGraph(graph);
+        return graph;
+    }
+
+    private static Map<DefaultWeightedEdge, double[]> createWeights(
+        Random rng, Graph<Integer, DefaultWeightedEdge> graph, int objectives)
+    {
+        Map<DefaultWeightedEdge, double[]> weights = new HashMap<>();
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            double[] w = new double[objectives];
+            for (int i = 0; i < objectives; i++) {
+                w[i] = 1 + rng.nextInt(9);
+            }
+            weights.put(e, w);
+        }
+        return weights;
+    }
+
+    private static <E> Set<List<Double>> values(
+        List<GraphPath<Integer, E>> paths, Function<E, double[]> f)
+    {
+        Set<List<Double>> result = new HashSet<>();
+        for (GraphPath<Integer, E> path : paths) {
+            List<Double> value = null;
+            for (E e : path.getEdgeList()) {
+                double[] w = f.apply(e);
+                if (value == null) {
+                    value = new ArrayList<>(Collections.nCopies(w.length, 0d));
+                }
+                for (int i = 0; i < w.length; i++) {
+                    value.set(i, value.get(i) + w[i]);
+                }
+            }
+            result.add(value == null ? List.of() : value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.SPFAShortestPath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SPFAShortestPath}.
+ */
+public class SPFAShortestPathTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 31L;
+
+    @Test
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b", 4);
+        Graphs.addEdgeWithVertices(graph, "b", "c", -3);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 2);
+        Graphs.addEdgeWithVertices(graph, "c", "d", -1);
+        graph.addVertex("e");
+
+        for (QueueDiscipline discipline : QueueDiscipline.values()) {
+            SingleSourcePaths<String, DefaultWeightedEdge> paths =
+                new SPFAShortestPath<>(graph, discipline).getPaths("a");
+            assertEquals(0d, paths.getWeight("d"), 1e-9);
+            assertEquals(List.of("a", "b", "c", "d"), paths.getPath("d").getVertexList());
+            assertEquals(0d, paths.getWeight("a"));
+            assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("e"));
+            assertNull(paths.getPath("e"));
+        }
+        assertEquals(
+            List.of("b", "c", "d"),
+            SPFAShortestPath.findPathBetween(graph, "b", "d").getVertexList());
+    }
+
+    @Test
+    public void testNegativeCycle()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -2);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1);
+        Graphs.addEdgeWithVertices(graph, 3, 1, -1);
+        Graphs.addEdgeWithVertices(graph, 4, 0, 1);
+
+        for (QueueDiscipline discipline : QueueDiscipline.values()) {
+            SPFAShortestPath<Integer, DefaultWeightedEdge> algorithm =
+                new SPFAShortestPath<>(graph, discipline);
+            NegativeCycleDetectedException e = assertThrows(
+                NegativeCycleDetectedException.class, () -> algorithm.getPaths(0));
+            GraphPath<?, ?> cycle = e.getCycle();
+            assertEquals(-2d, cycle.getWeight(), 1e-9);
+            assertEquals(3, cycle.getLength());
+            assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+        }
+
+        Graph<Integer, DefaultWeightedEdge> undirected =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(undirected, 0, 1, 2);
+        Graphs.addEdgeWithVertices(undirected, 1, 2, -1);
+        NegativeCycleDetectedException e = assertThrows(
+            NegativeCycleDetectedException.class,
+            () -> new SPFAShortestPath<>(undirected).getPaths(0));
+        assertEquals(-2d, e.getCycle().getWeight(), 1e-9);
+        assertEquals(2, e.getCycle().getLength());
+    }
+
+    @Test
+    public void testUnreachableNegativeCycle()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 2, 3, -2);
+        Graphs.addEdgeWithVertices(graph, 3, 2, 1);
+
+        SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new SPFAShortestPath<>(graph).getPaths(0);
+        assertEquals(1d, paths.getWeight(1), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(2));
+    }
+
+    @Test
+    public void testUndirectedSelfLoops()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.addVertex(0);
+        Graphs.addEdgeWithVertices(graph, 1, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 2, 0, 2);
+        Graphs.addEdgeWithVertices(graph, 0, 0, 1);
+
+        SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new SPFAShortestPath<>(graph).getPaths(1);
+        assertEquals(5d, paths.getWeight(0), 1e-9);
+        assertEquals(List.of(1, 2, 0), paths.getPath(0).getVertexList());
+        assertPaths(graph, paths, new ParallelBellmanFordShortestPath<>(graph).getPaths(1));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        for (int round = 0; round < 10; ++round) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(rng, 150, 0.03);
+            // weights from a random potential may be negative but never form negative cycles
+            double[] p = rng.doubles(graph.vertexSet().size(), 0, 50).toArray();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(
+                    e, 10 * rng.nextDouble() + p[graph.getEdgeSource(e)]
+                        - p[graph.getEdgeTarget(e)]);
+            }
+
+            Integer source = rng.nextInt(graph.vertexSet().size());
+            SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                new BellmanFordShortestPath<>(graph).getPaths(source);
+            for (QueueDiscipline discipline : QueueDiscipline.values()) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                    new SPFAShortestPath<>(graph, discipline).getPaths(source);
+                assertPaths(graph, expected, paths);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomNegativeCycles()
+    {
+        Random rng = new Random(SEED);
+        for (int round = 0; round < 10; ++round) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(rng, 100, 0.05);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, rng.nextDouble() * 10 - 1);
+            }
+            Integer source = rng.nextInt(graph.vertexSet().size());
+
+            boolean expectedCycle;
+            try {
+                new BellmanFordShortestPath<>(graph).getPaths(source);
+                expectedCycle = false;
+            } catch (NegativeCycleDetectedException e) {
+                expectedCycle = true;
+            }
+            for (QueueDiscipline discipline : QueueDiscipline.values()) {
+                SPFAShortestPath<Integer, DefaultWeightedEdge> algorithm =
+                    new SPFAShortestPath<>(graph, discipline);
+                if (expectedCycle) {
+                    NegativeCycleDetectedException e = assertThrows(
+                        NegativeCycleDetectedException.class, () -> algorithm.getPaths(source));
+                    assertCycle(graph, e.getCycle());
+                } else {
+                    algorithm.getPaths(source);
+                }
+            }
+        }
+    }
+
+    static Graph<Integer, DefaultWeightedEdge> createGraph(Random rng, int n, double p)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, true)
+            .generateGraph(graph);
+        return graph;
+    }
+
+    static <V, E> void assertPaths(
+        Graph<V, E> graph, SingleSourcePaths<V, E> expected, SingleSourcePaths<V, E> actual)
+    {
+        for (V v : graph.vertexSet()) {
+            double weight = expected.getWeight(v);
+            assertEquals(weight, actual.getWeight(v), 1e-9);
+            GraphPath<V, E> path = actual.getPath(v);
+            if (weight == Double.POSITIVE_INFINITY) {
+                assertNull(path);
+            } else {
+                assertEquals(expected.getSourceVertex(), path.getStartVertex());
+                assertEquals(v, path.getEndVertex());
+                assertEquals(
+                    weight, path.getEdgeList().stream().mapToDouble(graph::getEdgeWeight).sum(),
+                    1e-9);
+            }
+        }
+    }
+
+    static void assertCycle(Graph<Integer, DefaultWeightedEdge> graph, GraphPath<?, ?> cycle)
+    {
+        assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+        Object v = cycle.getStartVertex();
+        double weight = 0d;
+        for (Object o : cycle.getEdgeList()) {
+            DefaultWeightedEdge e = (DefaultWeightedEdge) o;
+            assertEquals(v, graph.getEdgeSource(e));
+            v = graph.getEdgeTarget(e);
+            weight += graph.getEdgeWeight(e);
+        }
+        assertEquals(cycle.getStartVertex(), v);
+        assertEquals(weight, cycle.getWeight(), 1e-9);
+        assertTrue(weight < 0d);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SearchWorkspace} and {@link SearchWorkspacePool}.
+ */
+public class SearchWorkspaceTest
+{
+    @Test
+    public void testRelaxAndReset()
+    {
+        SearchWorkspace<String> ws = new SearchWorkspace<>(4);
+        ws.reset();
+
+        assertFalse(ws.isReached(0));
+        assertEquals(Double.POSITIVE_INFINITY, ws.getDistance(0), 0d);
+        assertNull(ws.getPredecessor(0));
+
+        assertTrue(ws.relax(1, 5d, "a"));
+        assertTrue(ws.relax(2, 3d, "b"));
+        assertTrue(ws.isReached(1));
+        assertEquals(5d, ws.getDistance(1), 0d);
+        assertEquals("a", ws.getPredecessor(1));
+        assertEquals(2, ws.heap().size());
+
+        assertFalse(ws.relax(1, 6d, "c"));
+        assertTrue(ws.relax(1, 2d, "d"));
+        assertEquals(2d, ws.getDistance(1), 0d);
+        assertEquals("d", ws.getPredecessor(1));
+        assertEquals(1, ws.heap().deleteMin());
+
+        // settled vertices are never updated again
+        assertFalse(ws.relax(1, 1d, "e"));
+        assertEquals(2d, ws.getDistance(1), 0d);
+
+        ws.reset();
+        assertTrue(ws.heap().isEmpty());
+        for (int v = 0; v < 4; v++) {
+            assertFalse(ws.isReached(v));
+            assertEquals(Double.POSITIVE_INFINITY, ws.getDistance(v), 0d);
+            assertNull(ws.getPredecessor(v));
+        }
+        assertTrue(ws.relax(2, 7d, "f"));
+        assertEquals(7d, ws.getDistance(2), 0d);
+    }
+
+    @Test
+    public void testPerThreadPoolReusesWorkspaces()
+    {
+        SearchWorkspacePool<String> pool = SearchWorkspacePool.perThread();
+
+        SearchWorkspace<String> ws1 = pool.acquire(10);
+        ws1.relax(3, 1d, "a");
+        pool.release(ws1);
+
+        SearchWorkspace<String> ws2 = pool.acquire(10);
+        assertSame(ws1, ws2);
+        assertFalse(ws2.isReached(3));
+
+        // nested acquisitions obtain different workspaces
+        SearchWorkspace<String> ws3 = pool.acquire(10);
+        assertNotSame(ws2, ws3);
+        pool.release(ws3);
+        pool.release(ws2);
+
+        SearchWorkspace<String> ws4 = pool.acquire(20);
+        assertTrue(ws4.capacity() >= 20);
+        pool.release(ws4);
+    }
+
+    @Test
+    public void testPerQueryPool()
+    {
+        SearchWorkspacePool<String> pool = SearchWorkspacePool.perQuery();
+        SearchWorkspace<String> ws1 = pool.acquire(5);
+        pool.release(ws1);
+        SearchWorkspace<String> ws2 = pool.acquire(5);
+        assertNotSame(ws1, ws2);
+        assertEquals(5, ws2.capacity());
+    }
+}
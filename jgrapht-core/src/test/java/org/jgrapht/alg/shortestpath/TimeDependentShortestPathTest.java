@@ -0,0 +1,307 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TimeDependentShortestPath}.
+ */
+public class TimeDependentShortestPathTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 17L;
+
+    @Test
+    public void testFunctionOperations()
+    {
+        PiecewiseLinearFunction f =
+            new PiecewiseLinearFunction(new double[] { 0, 10 }, new double[] { 5, 15 });
+        assertEquals(5, f.evaluate(-3), 1e-9);
+        assertEquals(10, f.evaluate(5), 1e-9);
+        assertEquals(15, f.evaluate(20), 1e-9);
+        assertTrue(f.isFifo());
+
+        // second edge is slow when entered in [10, 20]
+        PiecewiseLinearFunction g = new PiecewiseLinearFunction(
+            new double[] { 10, 15, 20 }, new double[] { 1, 6, 1 });
+        PiecewiseLinearFunction linked = f.link(g);
+        for (double t = -5; t <= 25; t += 0.25) {
+            double a = f.evaluate(t);
+            assertEquals(a + g.evaluate(t + a), linked.evaluate(t), 1e-9);
+        }
+
+        PiecewiseLinearFunction h = PiecewiseLinearFunction.constant(12);
+        PiecewiseLinearFunction min = f.minimum(h);
+        assertEquals(2, min.getBreakpointCount());
+        for (double t = -5; t <= 25; t += 0.25) {
+            assertEquals(Math.min(f.evaluate(t), 12), min.evaluate(t), 1e-9);
+        }
+        assertSame(h, h.minimum(PiecewiseLinearFunction.constant(13)));
+
+        assertFalse(
+            new PiecewiseLinearFunction(new double[] { 0, 1 }, new double[] { 5, 3 }).isFifo());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new PiecewiseLinearFunction(new double[] { 0, 0 }, new double[] { 1, 2 }));
+    }
+
+    @Test
+    public void testInvalidProfiles()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e = Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        TravelTimeProfiles<Integer, DefaultWeightedEdge> profiles =
+            new TravelTimeProfiles<>(graph);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> profiles.setProfile(e, new double[] { 0, 1 }, new double[] { 5, 3 }));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> profiles.setProfile(e, new double[] { 0, 1 }, new double[] { -1, 0 }));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> profiles
+                .setProfile(new DefaultWeightedEdge(), new double[] { 0 }, new double[] { 1 }));
+
+        graph.setEdgeWeight(e, -1);
+        assertThrows(IllegalArgumentException.class, () -> new TravelTimeProfiles<>(graph));
+    }
+
+    @Test
+    public void testRushHour()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge highway = Graphs.addEdgeWithVertices(graph, "a", "b", 10);
+        Graphs.addEdgeWithVertices(graph, "a", "c", 8);
+        Graphs.addEdgeWithVertices(graph, "c", "b", 8);
+        TravelTimeProfiles<String, DefaultWeightedEdge> profiles = new TravelTimeProfiles<>(graph);
+        // the highway is congested around time 100
+        profiles.setProfile(highway, new double[] { 80, 100, 120 }, new double[] { 10, 30, 10 });
+        assertEquals(5, profiles.getBreakpointCount());
+        TimeDependentShortestPath<String, DefaultWeightedEdge> search =
+            new TimeDependentShortestPath<>(profiles);
+
+        assertEquals(List.of("a", "b"), search.getPath("a", "b", 0).getVertexList());
+        assertEquals(10, search.getPath("a", "b", 0).getWeight(), 1e-9);
+        assertEquals(List.of("a", "c", "b"), search.getPath("a", "b", 100).getVertexList());
+        assertEquals(116, search.getEarliestArrivalTime("a", "b", 100), 1e-9);
+
+        PiecewiseLinearFunction profile = search.getProfile("a", "b");
+        assertEquals(10, profile.evaluate(0), 1e-9);
+        assertEquals(16, profile.evaluate(100), 1e-9);
+        assertEquals(16, profile.getMaximum(), 1e-9);
+        assertEquals(10, profile.evaluate(200), 1e-9);
+        assertNull(search.getProfile("b", "a"));
+        assertNull(search.getPath("b", "a", 0));
+
+        // the abandoned breakpoints of the old profile are not counted
+        profiles.setProfile(highway, new double[] { 0 }, new double[] { 10 });
+        assertEquals(3, profiles.getBreakpointCount());
+    }
+
+    @Test
+    public void testConstantProfiles()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, rng);
+            TimeDependentShortestPath<Integer, DefaultWeightedEdge> search =
+                new TimeDependentShortestPath<>(new TravelTimeProfiles<>(graph));
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            for (Integer u : graph.vertexSet()) {
+                ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    dijkstra.getPaths(u);
+                ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+                    search.getPaths(u, 42);
+                for (Integer v : graph.vertexSet()) {
+                    double weight = expected.getWeight(v);
+                    assertEquals(weight, actual.getWeight(v), 1e-9);
+                    if (weight == Double.POSITIVE_INFINITY) {
+                        assertNull(search.getProfile(u, v));
+                    } else {
+                        assertEquals(weight, search.getPath(u, v, 7).getWeight(), 1e-9);
+                        PiecewiseLinearFunction profile = search.getProfile(u, v);
+                        assertEquals(weight, profile.getMinimum(), 1e-9);
+                        assertEquals(weight, profile.getMaximum(), 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRandomProfiles()
+    {
+        Random rng = new Random(SEED);
+        for (Supplier<Graph<Integer, DefaultWeightedEdge>> supplier : graphSuppliers()) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(supplier, rng);
+            TravelTimeProfiles<Integer, DefaultWeightedEdge> profiles =
+                new TravelTimeProfiles<>(graph);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                if (rng.nextBoolean()) {
+                    profiles.setProfile(e, randomProfile(graph.getEdgeWeight(e), rng));
+                }
+            }
+
+            // lower bounds from the minimum travel times towards each target
+            Graph<Integer, DefaultWeightedEdge> minimumGraph =
+                new AsWeightedGraph<>(graph, profiles::getMinimumTravelTime, false, false);
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> lowerBounds =
+                new DijkstraShortestPath<>(minimumGraph);
+            AStarAdmissibleHeuristic<Integer> heuristic =
+                (u, t) -> lowerBounds.getPathWeight(u, t);
+
+            List<TimeDependentShortestPath<Integer, DefaultWeightedEdge>> searches = List.of(
+                new TimeDependentShortestPath<>(profiles),
+                new TimeDependentShortestPath<>(profiles, heuristic));
+            for (int q = 0; q < 30; ++q) {
+                Integer s = rng.nextInt(graph.vertexSet().size());
+                Integer t = rng.nextInt(graph.vertexSet().size());
+                double[] departures = { -10, 0, 25, 50, 50.5, 99, 150, 300 };
+                for (TimeDependentShortestPath<Integer, DefaultWeightedEdge> search : searches) {
+                    PiecewiseLinearFunction profile = search.getProfile(s, t);
+                    for (double departure : departures) {
+                        double expected = earliestArrival(graph, profiles, s, t, departure);
+                        assertEquals(
+                            expected, search.getEarliestArrivalTime(s, t, departure), 1e-6);
+                        GraphPath<Integer, DefaultWeightedEdge> path =
+                            search.getPath(s, t, departure);
+                        if (expected == Double.POSITIVE_INFINITY) {
+                            assertNull(path);
+                            assertNull(profile);
+                            continue;
+                        }
+                        assertEquals(expected - departure, path.getWeight(), 1e-6);
+                        assertEquals(
+                            expected - departure, traverse(profiles, path, departure), 1e-6);
+                        assertEquals(expected - departure, profile.evaluate(departure), 1e-6);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Earliest arrival times by label-correcting iteration over all edges.
+     */
+    private static double earliestArrival(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        TravelTimeProfiles<Integer, DefaultWeightedEdge> profiles, Integer source, Integer sink,
+        double departure)
+    {
+        Map<Integer, Double> arrival = new HashMap<>();
+        arrival.put(source, departure);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                Integer u = graph.getEdgeSource(e);
+                Integer v = graph.getEdgeTarget(e);
+                changed |= relax(profiles, arrival, e, u, v);
+                if (!graph.getType().isDirected()) {
+                    changed |= relax(profiles, arrival, e, v, u);
+                }
+            }
+        }
+        return arrival.getOrDefault(sink, Double.POSITIVE_INFINITY);
+    }
+
+    private static boolean relax(
+        TravelTimeProfiles<Integer, DefaultWeightedEdge> profiles, Map<Integer, Double> arrival,
+        DefaultWeightedEdge e, Integer u, Integer v)
+    {
+        Double a = arrival.get(u);
+        if (a == null) {
+            return false;
+        }
+        double b = a + profiles.getTravelTime(e, a);
+        if (b < arrival.getOrDefault(v, Double.POSITIVE_INFINITY) - 1e-12) {
+            arrival.put(v, b);
+            return true;
+        }
+        return false;
+    }
+
+    private static double traverse(
+        TravelTimeProfiles<Integer, DefaultWeightedEdge> profiles,
+        GraphPath<Integer, DefaultWeightedEdge> path, double departure)
+    {
+        double time = departure;
+        for (DefaultWeightedEdge e : path.getEdgeList()) {
+            time += profiles.getTravelTime(e, time);
+        }
+        return time - departure;
+    }
+
+    private static PiecewiseLinearFunction randomProfile(double base, Random rng)
+    {
+        int k = 2 + rng.nextInt(4);
+        double[] x = new double[k];
+        double[] y = new double[k];
+        double time = rng.nextDouble() * 50;
+        for (int i = 0; i < k; ++i) {
+            x[i] = time;
+            // slopes of at least -1 keep the profile FIFO
+            if (i == 0) {
+                y[i] = base;
+            } else {
+                double slope = rng.nextDouble() * 2 - 0.9;
+                y[i] = Math.max(0d, y[i - 1] + slope * (time - x[i - 1]));
+            }
+            time += 1 + rng.nextDouble() * 40;
+        }
+        return new PiecewiseLinearFunction(x, y);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> generateGraph(
+        Supplier<Graph<Integer, DefaultWeightedEdge>> supplier, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = supplier.get();
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(30, 0.1, rng, true)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, 20 * rng.nextDouble());
+        }
+        return graph;
+    }
+
+    private static List<Supplier<Graph<Integer, DefaultWeightedEdge>>> graphSuppliers()
+    {
+        return List.of(
+            () -> new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER),
+            () -> new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.EdgeBasedGraph.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TurnRestrictedShortestPath} and the {@link EdgeBasedGraph}.
+ */
+public class TurnRestrictedShortestPathTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 17L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testBannedTurn()
+    {
+        // a square a-b-c-d with a diagonal b-d, left turn at b towards d is banned
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge ab = Graphs.addEdgeWithVertices(graph, "a", "b", 1);
+        DefaultWeightedEdge bd = Graphs.addEdgeWithVertices(graph, "b", "d", 1);
+        DefaultWeightedEdge bc = Graphs.addEdgeWithVertices(graph, "b", "c", 1);
+        DefaultWeightedEdge cd = Graphs.addEdgeWithVertices(graph, "c", "d", 1);
+        DefaultWeightedEdge db = Graphs.addEdgeWithVertices(graph, "d", "b", 1);
+
+        TurnCostTable<String, DefaultWeightedEdge> turnCosts = new TurnCostTable<>(graph);
+        TurnRestrictedShortestPath<String, DefaultWeightedEdge> search =
+            new TurnRestrictedShortestPath<>(turnCosts);
+        assertEquals(List.of("a", "b", "d"), search.getPath("a", "d").getVertexList());
+
+        turnCosts.banTurn(ab, bd);
+        assertEquals(Double.POSITIVE_INFINITY, turnCosts.getTurnCost(ab, bd));
+        assertEquals(1, turnCosts.getTurnEntryCount());
+        GraphPath<String, DefaultWeightedEdge> path = search.getPath("a", "d");
+        assertEquals(List.of(ab, bc, cd), path.getEdgeList());
+        assertEquals(3, path.getWeight(), 1e-9);
+
+        turnCosts.setTurnCost(bc, cd, 5);
+        assertEquals(8, search.getPathWeight("a", "d"), 1e-9);
+
+        assertEquals(List.of(ab), search.getPath("a", "b").getEdgeList());
+
+        EdgeBasedGraph<String, DefaultWeightedEdge> edgeBased = new EdgeBasedGraph<>(turnCosts);
+        assertNull(edgeBased.getEdge(ab, bd));
+        assertEquals(new Turn<>(ab, bc), edgeBased.getEdge(ab, bc));
+        assertEquals(6, edgeBased.getEdgeWeight(new Turn<>(bc, cd)), 1e-9);
+        assertEquals(Set.of(new Turn<>(ab, bc)), edgeBased.outgoingEdgesOf(ab));
+        assertEquals(Set.of(new Turn<>(bd, db), new Turn<>(cd, db)), edgeBased.incomingEdgesOf(db));
+        assertEquals(6, edgeBased.edgeSet().size());
+
+        assertThrows(IllegalArgumentException.class, () -> turnCosts.setTurnCost(ab, cd, 1));
+        assertThrows(IllegalArgumentException.class, () -> turnCosts.setTurnCost(ab, bc, -1));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new TurnCostTable<>(new SimpleWeightedGraph<>(DefaultWeightedEdge.class)));
+    }
+
+    @Test
+    public void testUTurnCost()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e01 = Graphs.addEdgeWithVertices(graph, 0, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        Graphs.addEdgeWithVertices(graph, 2, 1, 1);
+        DefaultWeightedEdge e13 = Graphs.addEdgeWithVertices(graph, 1, 3, 1);
+
+        TurnCostTable<Integer, DefaultWeightedEdge> turnCosts = new TurnCostTable<>(graph);
+        turnCosts.banTurn(e01, e13);
+        TurnRestrictedShortestPath<Integer, DefaultWeightedEdge> search =
+            new TurnRestrictedShortestPath<>(turnCosts);
+
+        // turning around at 2 is the only way to reach 3
+        assertEquals(List.of(0, 1, 2, 1, 3), search.getPath(0, 3).getVertexList());
+        assertEquals(4, search.getPathWeight(0, 3), 1e-9);
+
+        turnCosts.setUTurnCost(3);
+        assertEquals(7, search.getPathWeight(0, 3), 1e-9);
+        assertEquals(7, search.getPaths(0).getWeight(3), 1e-9);
+
+        turnCosts.setUTurnCost(Double.POSITIVE_INFINITY);
+        assertNull(search.getPath(0, 3));
+        assertNull(search.getPaths(0).getPath(3));
+        assertEquals(2, search.getPathWeight(0, 2), 1e-9);
+    }
+
+    @Test
+    public void testSerializablePaths()
+        throws Exception
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e01 = Graphs.addEdgeWithVertices(graph, 0, 1, 1);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        Graphs.addEdgeWithVertices(graph, 0, 2, 3);
+
+        TurnCostTable<Integer, DefaultWeightedEdge> turnCosts = new TurnCostTable<>(graph);
+        turnCosts.setTurnCost(e01, graph.getEdge(1, 2), 2);
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            SerializationTestUtils
+                .serializeAndDeserialize(new TurnRestrictedShortestPath<>(turnCosts).getPaths(0));
+
+        // the paths hold the graph and the labels, not the turn cost table or the workspace
+        assertEquals(3, paths.getWeight(2), 1e-9);
+        assertEquals(1, paths.getPath(2).getLength());
+        assertEquals(List.of(0), paths.getPath(0).getVertexList());
+        assertThrows(IllegalArgumentException.class, () -> paths.getWeight(5));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(SEED);
+        for (int round = 0; round < 3; ++round) {
+            Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(40, 0.08, rng, true)
+                .generateGraph(graph);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, 1 + 10 * rng.nextDouble());
+            }
+            TurnCostTable<Integer, DefaultWeightedEdge> turnCosts = new TurnCostTable<>(graph);
+
+            // without turn costs the results match the node-based search
+            assertAllPaths(graph, turnCosts, new DijkstraShortestPath<>(graph));
+
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                for (DefaultWeightedEdge f : graph.outgoingEdgesOf(graph.getEdgeTarget(e))) {
+                    double r = rng.nextDouble();
+                    if (r < 0.2) {
+                        turnCosts.banTurn(e, f);
+                    } else if (r < 0.5) {
+                        turnCosts.setTurnCost(e, f, 5 * rng.nextDouble());
+                    }
+                }
+            }
+            turnCosts.setUTurnCost(round == 0 ? 0 : 3);
+
+            EdgeBasedGraph<Integer, DefaultWeightedEdge> edgeBased =
+                new EdgeBasedGraph<>(turnCosts);
+            DijkstraShortestPath<DefaultWeightedEdge, Turn<DefaultWeightedEdge>> reference =
+                new DijkstraShortestPath<>(edgeBased);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected =
+                new BaseShortestPathAlgorithm<>(graph)
+                {
+                    @Override
+                    public GraphPath<Integer, DefaultWeightedEdge> getPath(
+                        Integer source, Integer sink)
+                    {
+                        return edgeBased.getPath(reference, source, sink);
+                    }
+                };
+            assertAllPaths(graph, turnCosts, expected);
+
+            ContractionHierarchyBidirectionalDijkstra<DefaultWeightedEdge,
+                Turn<DefaultWeightedEdge>> ch =
+                    new ContractionHierarchyBidirectionalDijkstra<>(edgeBased, executor);
+            for (Integer u : graph.vertexSet()) {
+                for (Integer v : graph.vertexSet()) {
+                    assertEquals(
+                        expected.getPathWeight(u, v), pathWeight(edgeBased.getPath(ch, u, v)),
+                        1e-9);
+                }
+            }
+        }
+    }
+
+    private static void assertAllPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        TurnCostTable<Integer, DefaultWeightedEdge> turnCosts,
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        AStarAdmissibleHeuristic<Integer> heuristic = (u, t) -> dijkstra.getPathWeight(u, t);
+        List<TurnRestrictedShortestPath<Integer, DefaultWeightedEdge>> searches = List.of(
+            new TurnRestrictedShortestPath<>(turnCosts),
+            new TurnRestrictedShortestPath<>(turnCosts, heuristic));
+        for (Integer u : graph.vertexSet()) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                searches.get(0).getPaths(u);
+            for (Integer v : graph.vertexSet()) {
+                double weight = expected.getPathWeight(u, v);
+                assertEquals(weight, paths.getWeight(v), 1e-9);
+                assertEquals(weight, pathWeight(paths.getPath(v)), 1e-9);
+                for (TurnRestrictedShortestPath<Integer, DefaultWeightedEdge> search : searches) {
+                    GraphPath<Integer, DefaultWeightedEdge> path = search.getPath(u, v);
+                    assertEquals(weight, pathWeight(path), 1e-9);
+                    if (path != null) {
+                        assertEquals(weight, cost(graph, turnCosts, path), 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    private static double pathWeight(GraphPath<?, ?> path)
+    {
+        return path == null ? Double.POSITIVE_INFINITY : path.getWeight();
+    }
+
+    private static double cost(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        TurnCostTable<Integer, DefaultWeightedEdge> turnCosts,
+        GraphPath<Integer, DefaultWeightedEdge> path)
+    {
+        double cost = 0;
+        DefaultWeightedEdge prev = null;
+        for (DefaultWeightedEdge e : path.getEdgeList()) {
+            if (prev != null) {
+                cost += turnCosts.getTurnCost(prev, e);
+            }
+            cost += graph.getEdgeWeight(e);
+            prev = e;
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IndexedDaryDoubleHeap}.
+ */
+public class IndexedDaryDoubleHeapTest
+{
+
+    @Test
+    public void testSortRandom()
+    {
+        for (int d = 2; d <= 8; d++) {
+            Random rng = new Random(17);
+            IndexedDaryDoubleHeap heap = new IndexedDaryDoubleHeap(d, 1000);
+            double[] keys = new double[1000];
+            for (int i = 0; i < 1000; i++) {
+                keys[i] = rng.nextDouble();
+                heap.insert(i, keys[i]);
+            }
+            for (int i = 0; i < 1000; i += 3) {
+                keys[i] /= 2;
+                heap.decreaseKey(i, keys[i]);
+            }
+            assertEquals(1000, heap.size());
+
+            double last = Double.NEGATIVE_INFINITY;
+            while (!heap.isEmpty()) {
+                double minKey = heap.findMinKey();
+                int min = heap.deleteMin();
+                assertEquals(keys[min], minKey, 0d);
+                assertTrue(minKey >= last);
+                assertFalse(heap.contains(min));
+                last = minKey;
+            }
+        }
+    }
+
+    @Test
+    public void testInsertOrDecreaseKey()
+    {
+        IndexedDaryDoubleHeap heap = new IndexedDaryDoubleHeap(4);
+        assertTrue(heap.insertOrDecreaseKey(2, 5d));
+        assertTrue(heap.insertOrDecreaseKey(3, 4d));
+        assertFalse(heap.insertOrDecreaseKey(2, 6d));
+        assertTrue(heap.insertOrDecreaseKey(2, 1d));
+        assertEquals(1d, heap.getKey(2), 0d);
+        assertEquals(2, heap.findMin());
+        assertEquals(2, heap.deleteMin());
+        assertEquals(3, heap.deleteMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testClear()
+    {
+        IndexedDaryDoubleHeap heap = new IndexedDaryDoubleHeap(2, 10);
+        for (int i = 0; i < 10; i++) {
+            heap.insert(i, 10 - i);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        for (int i = 0; i < 10; i++) {
+            assertFalse(heap.contains(i));
+        }
+        heap.insert(7, 1d);
+        assertEquals(7, heap.deleteMin());
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        IndexedDaryDoubleHeap heap = new IndexedDaryDoubleHeap(4);
+        assertThrows(NoSuchElementException.class, () -> heap.deleteMin());
+        assertThrows(NoSuchElementException.class, () -> heap.findMinKey());
+    }
+
+    @Test
+    public void testIllegalArity()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new IndexedDaryDoubleHeap(1, 10));
+    }
+}
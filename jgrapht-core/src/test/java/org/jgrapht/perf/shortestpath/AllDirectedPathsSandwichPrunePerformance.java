@@ -27,7 +27,7 @@ import java.util.concurrent.*;
 
 /**
  * JMH benchmark for {@link AllDirectedPaths} preprocessing on workloads that target the
- * forward-pruning step in {@code edgeMinDistancesBackwards}.
+ * forward-pruning step of the preprocessing sweeps.
  *
  * <p>
  * Two cell families, each parameterised over {@code forwardPruning} so the cost of the
@@ -28,10 +28,12 @@ import org.openjdk.jmh.annotations.*;
 import java.util.concurrent.*;
 
 /**
- * A benchmark comparing {@link DeltaSteppingShortestPath} to
- * {@link org.jgrapht.alg.shortestpath.DijkstraShortestPath} and
+ * A benchmark comparing {@link DeltaSteppingShortestPath} and
+ * {@link IntDeltaSteppingShortestPath} to {@link org.jgrapht.alg.shortestpath.DijkstraShortestPath},
+ * {@link IntVertexDijkstraShortestPath} and
  * {@link org.jgrapht.alg.shortestpath.BellmanFordShortestPath}. The benchmark test the algorithms
- * on random, dense and sparse graphs.
+ * on random, dense and sparse graphs. The parallel algorithms use all available processors, run
+ * with {@code -t} or restrict the processors of the JVM to measure the scaling.
  *
  * @author Semen Chudakov
  */
@@ -58,6 +60,20 @@ public class DeltaSteppingShortestPathPerformance
         return new DijkstraShortestPath<>(data.graph).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntDeltaSteppingGnm(
+        GnmState data)
+    {
+        return new IntDeltaSteppingShortestPath<>(data.graph, data.forkJoinPool).getPaths(0);
+    }
+
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntVertexDijkstraGnm(
+        GnmState data)
+    {
+        return new IntVertexDijkstraShortestPath<>(data.graph).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testBellmanFordGnm(
         GnmState data)
@@ -80,6 +96,20 @@ public class DeltaSteppingShortestPathPerformance
         return new DijkstraShortestPath<>(data.graph).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntDeltaSteppingGnp(
+        GnpState data)
+    {
+        return new IntDeltaSteppingShortestPath<>(data.graph, data.forkJoinPool).getPaths(0);
+    }
+
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntVertexDijkstraGnp(
+        GnpState data)
+    {
+        return new IntVertexDijkstraShortestPath<>(data.graph).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testBellmanFordGnp(
         GnpState data)
@@ -102,6 +132,20 @@ public class DeltaSteppingShortestPathPerformance
         return new DijkstraShortestPath<>(data.graph).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntDeltaSteppingBarabasiAlbert(
+        BarabasiAlbertState data)
+    {
+        return new IntDeltaSteppingShortestPath<>(data.graph, data.forkJoinPool).getPaths(0);
+    }
+
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntVertexDijkstraBarabasiAlbert(
+        BarabasiAlbertState data)
+    {
+        return new IntVertexDijkstraShortestPath<>(data.graph).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testBellmanFordBarabasiAlbert(
         BarabasiAlbertState data)
@@ -123,6 +167,20 @@ public class DeltaSteppingShortestPathPerformance
         return new DijkstraShortestPath<>(data.graph).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntDeltaSteppingWattsStogatz(
+        WattsStogatzState data)
+    {
+        return new IntDeltaSteppingShortestPath<>(data.graph, data.forkJoinPool).getPaths(0);
+    }
+
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntVertexDijkstraWattsStogatz(
+        WattsStogatzState data)
+    {
+        return new IntVertexDijkstraShortestPath<>(data.graph).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testBellmanFordWattsStogatz(
         WattsStogatzState data)
@@ -145,6 +203,20 @@ public class DeltaSteppingShortestPathPerformance
         return new DijkstraShortestPath<>(data.graph).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntDeltaSteppingComplete(
+        CompleteGraphState data)
+    {
+        return new IntDeltaSteppingShortestPath<>(data.graph, data.forkJoinPool).getPaths(0);
+    }
+
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testIntVertexDijkstraComplete(
+        CompleteGraphState data)
+    {
+        return new IntVertexDijkstraShortestPath<>(data.graph).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testBellmanFordComplete(
         CompleteGraphState data)
@@ -157,12 +229,14 @@ public class DeltaSteppingShortestPathPerformance
     {
         DefaultUndirectedWeightedGraph<Integer, DefaultWeightedEdge> graph;
         public ThreadPoolExecutor executor;
+        public ForkJoinPool forkJoinPool;
 
         @Setup
         public void createExecutor()
         {
             executor = ConcurrencyUtil
                 .createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+            forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
         }
 
         @TearDown
@@ -170,6 +244,7 @@ public class DeltaSteppingShortestPathPerformance
             throws InterruptedException
         {
             ConcurrencyUtil.shutdownExecutionService(executor);
+            forkJoinPool.shutdown();
         }
 
         public abstract void generateGraph();
@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.traverse;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DirectionOptimizingBreadthFirstIterator} class.
+ */
+public class DirectionOptimizingBreadthFirstIteratorTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testLevels()
+    {
+        Graph<String, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(graph, "1", "2");
+        Graphs.addEdgeWithVertices(graph, "1", "3");
+        Graphs.addEdgeWithVertices(graph, "2", "4");
+        Graphs.addEdgeWithVertices(graph, "3", "4");
+        Graphs.addEdgeWithVertices(graph, "4", "5");
+        Graphs.addEdgeWithVertices(graph, "6", "1");
+
+        DirectionOptimizingBreadthFirstIterator<String, DefaultEdge> it =
+            new DirectionOptimizingBreadthFirstIterator<>(graph, "1", pool);
+        assertFalse(it.isCrossComponentTraversal());
+        assertThrows(IllegalArgumentException.class, () -> it.setCrossComponentTraversal(true));
+
+        List<String> tree = new ArrayList<>();
+        it.addTraversalListener(new TraversalListenerAdapter<>()
+        {
+            @Override
+            public void edgeTraversed(EdgeTraversalEvent<DefaultEdge> e)
+            {
+                tree.add(graph.getEdgeTarget(e.getEdge()));
+            }
+        });
+
+        List<String> order = new ArrayList<>();
+        while (it.hasNext()) {
+            order.add(it.next());
+        }
+        assertThrows(NoSuchElementException.class, it::next);
+        assertEquals(5, order.size());
+        assertEquals("1", order.get(0));
+        assertEquals(Set.of("2", "3"), Set.copyOf(order.subList(1, 3)));
+        assertEquals(List.of("4", "5"), order.subList(3, 5));
+        assertEquals(order.subList(1, 5), tree);
+
+        assertEquals(0, it.getDepth("1"));
+        assertEquals(2, it.getDepth("4"));
+        assertNull(it.getParent("1"));
+        assertNull(it.getSpanningTreeEdge("1"));
+        assertEquals("4", it.getParent("5"));
+        assertEquals(graph.getEdge("4", "5"), it.getSpanningTreeEdge("5"));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(43L);
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(20000, 100000, rng, false, false)
+            .generateGraph(graph);
+
+        BreadthFirstIterator<Integer, DefaultEdge> expected = new BreadthFirstIterator<>(graph, 0);
+        expected.setCrossComponentTraversal(false);
+        Set<Integer> reached = new HashSet<>();
+        while (expected.hasNext()) {
+            reached.add(expected.next());
+        }
+
+        DirectionOptimizingBreadthFirstIterator<Integer, DefaultEdge> it =
+            new DirectionOptimizingBreadthFirstIterator<>(graph, 0, pool);
+        Set<Integer> visited = new HashSet<>();
+        int depth = 0;
+        while (it.hasNext()) {
+            Integer v = it.next();
+            assertTrue(visited.add(v));
+            assertTrue(it.getDepth(v) >= depth);
+            depth = it.getDepth(v);
+            assertEquals(expected.getDepth(v), depth);
+            if (depth > 0) {
+                assertEquals(depth - 1, it.getDepth(it.getParent(v)));
+                assertEquals(
+                    v, Graphs.getOppositeVertex(graph, it.getSpanningTreeEdge(v), it.getParent(v)));
+            }
+        }
+        assertEquals(reached, visited);
+    }
+}
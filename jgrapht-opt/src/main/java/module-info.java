@@ -23,6 +23,7 @@
  */
 module org.jgrapht.opt
 {
+    exports org.jgrapht.opt.alg.shortestpath;
     exports org.jgrapht.opt.graph.fastutil;
     exports org.jgrapht.opt.graph.sparse;
     exports org.jgrapht.opt.graph.sparse.specifics;
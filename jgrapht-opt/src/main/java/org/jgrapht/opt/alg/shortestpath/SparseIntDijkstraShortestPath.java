@@ -0,0 +1,322 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.graph.sparse.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Dijkstra Shortest Path implementation specialized for {@link SparseIntDirectedWeightedGraph}.
+ *
+ * <p>
+ * Vertices and edges of a sparse graph are numbered from $0$ to $n-1$ and from $0$ to $m-1$
+ * respectively. This implementation takes advantage of this fact and runs entirely on primitive
+ * arrays. During construction the outgoing edges of the graph are copied once into a compressed
+ * sparse row (CSR) representation where the target and the weight of each edge are stored
+ * contiguously in the order of the outgoing edges of each vertex. Queries are executed using a
+ * primitive {@link IndexedDaryDoubleHeap} and reusable distance and predecessor arrays. Only the
+ * entries which were touched by a query are reset before the next one, so after the first query
+ * no memory is allocated by {@link #getPathWeight(Integer, Integer)} or
+ * {@link #getDistance(int, int)}, and the cost of a query is proportional to the part of the graph
+ * it explores.
+ *
+ * <p>
+ * The edge weights are read once during construction. Changes to the weights of the graph after
+ * that point are not visible to the algorithm and require a new instance.
+ *
+ * <p>
+ * The algorithm keeps its workspace between queries and therefore instances are not thread-safe.
+ * Use a separate instance per thread for concurrent queries.
+ */
+public class SparseIntDijkstraShortestPath
+    implements ShortestPathAlgorithm<Integer, Integer>
+{
+    private static final String GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX =
+        "Graph must contain the source vertex!";
+    private static final String GRAPH_MUST_CONTAIN_THE_SINK_VERTEX =
+        "Graph must contain the sink vertex!";
+
+    private final SparseIntDirectedWeightedGraph graph;
+    private final int n;
+
+    // CSR representation of the outgoing edges
+    private final int[] offsets;
+    private final int[] edges;
+    private final int[] targets;
+    private final double[] weights;
+
+    // query workspace
+    private final IndexedDaryDoubleHeap heap;
+    private final double[] dist;
+    private final int[] predEdge;
+    private final int[] touched;
+    private int touchedCount;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using a 4-ary heap.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public SparseIntDijkstraShortestPath(SparseIntDirectedWeightedGraph graph)
+    {
+        this(graph, 4);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param heapArity the arity of the d-ary heap used during queries
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public SparseIntDijkstraShortestPath(SparseIntDirectedWeightedGraph graph, int heapArity)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph is null");
+        this.n = graph.vertexSet().size();
+        int m = graph.edgeSet().size();
+
+        this.offsets = new int[n + 1];
+        this.edges = new int[m];
+        this.targets = new int[m];
+        this.weights = new double[m];
+
+        int pos = 0;
+        for (int v = 0; v < n; v++) {
+            offsets[v] = pos;
+            for (Integer e : graph.outgoingEdgesOf(v)) {
+                double w = graph.getEdgeWeight(e);
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                edges[pos] = e;
+                targets[pos] = graph.getEdgeTarget(e);
+                weights[pos] = w;
+                pos++;
+            }
+        }
+        offsets[n] = pos;
+
+        this.heap = new IndexedDaryDoubleHeap(heapArity, n);
+        this.dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        this.predEdge = new int[n];
+        Arrays.fill(predEdge, -1);
+        this.touched = new int[n];
+        this.touchedCount = 0;
+    }
+
+    /**
+     * Find a path between two vertices.
+     *
+     * @param graph the graph to be searched
+     * @param source the vertex at which the path should start
+     * @param sink the vertex at which the path should end
+     * @return a shortest path, or null if no path exists
+     */
+    public static GraphPath<Integer, Integer> findPathBetween(
+        SparseIntDirectedWeightedGraph graph, Integer source, Integer sink)
+    {
+        return new SparseIntDijkstraShortestPath(graph).getPath(source, sink);
+    }
+
+    @Override
+    public GraphPath<Integer, Integer> getPath(Integer source, Integer sink)
+    {
+        assertVertices(source, sink);
+        run(source, sink);
+        return buildPath(graph, source, sink, dist[sink], predEdge);
+    }
+
+    @Override
+    public double getPathWeight(Integer source, Integer sink)
+    {
+        assertVertices(source, sink);
+        return getDistance(source, sink);
+    }
+
+    /**
+     * Compute the shortest path distance between two vertices without creating any objects.
+     *
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @return the shortest path distance or {@link Double#POSITIVE_INFINITY} if no path exists
+     */
+    public double getDistance(int source, int sink)
+    {
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (sink < 0 || sink >= n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        run(source, sink);
+        return dist[sink];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned object holds its own copy of the distance and predecessor arrays and thus stays
+     * valid when further queries are executed.
+     */
+    @Override
+    public SingleSourcePaths<Integer, Integer> getPaths(Integer source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        run(source, -1);
+        return new ArrayBasedSingleSourcePathsImpl(
+            graph, source, Arrays.copyOf(dist, n), Arrays.copyOf(predEdge, n));
+    }
+
+    private void assertVertices(Integer source, Integer sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+    }
+
+    /**
+     * Run the search from a source. If the sink is non-negative the search stops as soon as the
+     * sink is settled.
+     */
+    private void run(int source, int sink)
+    {
+        reset();
+
+        dist[source] = 0d;
+        touched[touchedCount++] = source;
+        heap.insert(source, 0d);
+
+        while (!heap.isEmpty()) {
+            double vDist = heap.findMinKey();
+            int v = heap.deleteMin();
+            if (v == sink) {
+                break;
+            }
+            for (int i = offsets[v], end = offsets[v + 1]; i < end; i++) {
+                int u = targets[i];
+                double uDist = vDist + weights[i];
+                double cur = dist[u];
+                if (uDist < cur) {
+                    if (cur == Double.POSITIVE_INFINITY) {
+                        touched[touchedCount++] = u;
+                        heap.insert(u, uDist);
+                    } else if (heap.contains(u)) {
+                        heap.decreaseKey(u, uDist);
+                    } else {
+                        continue;
+                    }
+                    dist[u] = uDist;
+                    predEdge[u] = edges[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Reset only the entries of the workspace touched by the previous query.
+     */
+    private void reset()
+    {
+        heap.clear();
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            dist[v] = Double.POSITIVE_INFINITY;
+            predEdge[v] = -1;
+        }
+        touchedCount = 0;
+    }
+
+    private static GraphPath<Integer, Integer> buildPath(
+        Graph<Integer, Integer> graph, int source, int sink, double weight, int[] predEdge)
+    {
+        if (source == sink) {
+            return GraphWalk.singletonWalk(graph, source, 0d);
+        }
+        if (predEdge[sink] < 0) {
+            return null;
+        }
+        List<Integer> edgeList = new ArrayList<>();
+        int cur = sink;
+        while (cur != source) {
+            int e = predEdge[cur];
+            edgeList.add(e);
+            cur = graph.getEdgeSource(e);
+        }
+        Collections.reverse(edgeList);
+        return new GraphWalk<>(graph, source, sink, null, edgeList, weight);
+    }
+
+    private static class ArrayBasedSingleSourcePathsImpl
+        implements SingleSourcePaths<Integer, Integer>, Serializable
+    {
+        private static final long serialVersionUID = -1803206651893409306L;
+
+        private final SparseIntDirectedWeightedGraph graph;
+        private final int source;
+        private final double[] dist;
+        private final int[] predEdge;
+
+        ArrayBasedSingleSourcePathsImpl(
+            SparseIntDirectedWeightedGraph graph, int source, double[] dist, int[] predEdge)
+        {
+            this.graph = graph;
+            this.source = source;
+            this.dist = dist;
+            this.predEdge = predEdge;
+        }
+
+        @Override
+        public Graph<Integer, Integer> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public Integer getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(Integer targetVertex)
+        {
+            return dist[targetVertex];
+        }
+
+        @Override
+        public GraphPath<Integer, Integer> getPath(Integer targetVertex)
+        {
+            return buildPath(graph, source, targetVertex, dist[targetVertex], predEdge);
+        }
+    }
+
+}
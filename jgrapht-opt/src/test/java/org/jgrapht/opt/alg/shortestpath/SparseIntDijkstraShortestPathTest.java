@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SparseIntDijkstraShortestPath}.
+ */
+public class SparseIntDijkstraShortestPathTest
+{
+
+    @Test
+    public void testDirected()
+    {
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        edges.add(Triple.of(0, 1, 10d));
+        edges.add(Triple.of(0, 2, 20d));
+        edges.add(Triple.of(2, 4, 33d));
+        edges.add(Triple.of(2, 3, 20d));
+        edges.add(Triple.of(1, 4, 10d));
+        edges.add(Triple.of(1, 3, 50d));
+        edges.add(Triple.of(3, 4, 20d));
+        edges.add(Triple.of(4, 5, 1d));
+        edges.add(Triple.of(3, 5, 2d));
+        SparseIntDirectedWeightedGraph g = new SparseIntDirectedWeightedGraph(6, edges);
+
+        SparseIntDijkstraShortestPath algo = new SparseIntDijkstraShortestPath(g);
+
+        SingleSourcePaths<Integer, Integer> source0 = algo.getPaths(0);
+        assertEquals(0d, source0.getWeight(0), 1e-9);
+        assertEquals(List.of(), source0.getPath(0).getEdgeList());
+        assertEquals(10d, source0.getWeight(1), 1e-9);
+        assertEquals(List.of(0), source0.getPath(1).getEdgeList());
+        assertEquals(40d, source0.getWeight(3), 1e-9);
+        assertEquals(List.of(1, 3), source0.getPath(3).getEdgeList());
+        assertEquals(21d, source0.getWeight(5), 1e-9);
+        assertEquals(List.of(0, 4, 7), source0.getPath(5).getEdgeList());
+
+        // workspace reuse must not leak into the previously returned paths
+        assertEquals(Double.POSITIVE_INFINITY, algo.getPathWeight(5, 0), 0d);
+        assertNull(algo.getPath(5, 0));
+        assertEquals(21d, source0.getWeight(5), 1e-9);
+
+        GraphPath<Integer, Integer> p = algo.getPath(2, 5);
+        assertEquals(22d, p.getWeight(), 1e-9);
+        assertEquals(List.of(3, 8), p.getEdgeList());
+        assertEquals(22d, algo.getDistance(2, 5), 1e-9);
+        assertEquals(0d, algo.getDistance(4, 4), 1e-9);
+    }
+
+    @Test
+    public void testAgainstDijkstra()
+    {
+        Random rng = new Random(7);
+        int n = 500;
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            edges.add(Triple.of(rng.nextInt(n), rng.nextInt(n), rng.nextDouble() * 100));
+        }
+        SparseIntDirectedWeightedGraph g = new SparseIntDirectedWeightedGraph(n, edges);
+
+        SparseIntDijkstraShortestPath algo = new SparseIntDijkstraShortestPath(g, 2);
+        DijkstraShortestPath<Integer, Integer> dijkstra = new DijkstraShortestPath<>(g);
+
+        for (int i = 0; i < 200; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            double expected = dijkstra.getPathWeight(s, t);
+            assertEquals(expected, algo.getPathWeight(s, t), 1e-9);
+            GraphPath<Integer, Integer> path = algo.getPath(s, t);
+            if (Double.isInfinite(expected)) {
+                assertNull(path);
+            } else {
+                assertEquals(expected, path.getWeight(), 1e-9);
+                assertEquals(s, path.getStartVertex());
+                assertEquals(t, path.getEndVertex());
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeWeights()
+    {
+        SparseIntDirectedWeightedGraph g =
+            new SparseIntDirectedWeightedGraph(2, List.of(Triple.of(0, 1, -1d)));
+        assertThrows(IllegalArgumentException.class, () -> new SparseIntDijkstraShortestPath(g));
+    }
+
+    @Test
+    public void testInvalidVertices()
+    {
+        SparseIntDirectedWeightedGraph g =
+            new SparseIntDirectedWeightedGraph(2, List.of(Triple.of(0, 1, 1d)));
+        SparseIntDijkstraShortestPath algo = new SparseIntDijkstraShortestPath(g);
+        assertThrows(IllegalArgumentException.class, () -> algo.getPath(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> algo.getDistance(0, 5));
+    }
+}
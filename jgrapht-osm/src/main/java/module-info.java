@@ -22,8 +22,10 @@
  * <p>
  * Builds {@code Graph<Integer, ...>} instances from Geofabrik free-tier OSM extracts,
  * either by preprocessing a GPKG into edge / node CSVs or by loading a previously
- * preprocessed pair of CSVs directly into a target graph. Pairs with the bundled
- * {@code HaversineHeuristic} for A* heuristics over geographic graphs.
+ * preprocessed pair of CSVs directly into a target graph, or by memory-mapping the binary
+ * compressed sparse row file written next to them. Pairs with the bundled
+ * {@code HaversineHeuristic} for A* heuristics over geographic graphs, and with
+ * {@code OsmSpatialIndex} for snapping positions to the nearest vertices or road segments.
  *
  * @since 1.6.0
  */
@@ -17,9 +17,6 @@
  */
 package org.jgrapht.osm;
 
-import org.jgrapht.alg.connectivity.*;
-import org.jgrapht.graph.*;
-
 import java.io.*;
 import java.nio.*;
 import java.nio.charset.*;
@@ -46,6 +43,10 @@ import java.util.zip.*;
  * </ul>
  *
  * <p>
+ * A binary compressed sparse row copy of both files, {@code <prefix>.csr}, is written as well
+ * by {@link OsmCsrGraphWriter}; {@link OsmCsrGraphLoader} memory-maps it without parsing.
+ *
+ * <p>
  * Invoke from the command line:
  *
  * <pre>{@code
@@ -64,9 +65,27 @@ import java.util.zip.*;
  * {@code gis_osm_roads_free} table whose columns include {@code oneway} (B / F / T,
  * default B) and {@code geom} (GPKG-wrapped WKB {@code LINESTRING}). The preprocessor
  * filters to a routable {@code fclass} whitelist (motorway through service), parses each
- * line-string into directed edges, runs Tarjan-equivalent SCC analysis via
- * {@link KosarajuStrongConnectivityInspector}, keeps the largest component, deduplicates
- * parallel edges keeping the shortest, and writes the result.
+ * line-string into directed edges, runs an iterative Tarjan SCC analysis, keeps the
+ * largest component, deduplicates parallel edges keeping the shortest, and writes the
+ * result ordered by {@code (src, dst)}.
+ *
+ * <h2>Memory use</h2>
+ *
+ * The preprocessor is meant to handle continent-sized extracts with hundreds of millions
+ * of segments. Shared endpoints are deduplicated through a primitive open-addressing
+ * table, raw edges are spilled to a temporary file next to the output instead of being
+ * kept on the heap, the SCC pass works on plain {@code int} arrays, and parallel edges
+ * are removed by an external sort over bounded chunks. The heap therefore holds a few
+ * {@code int}s per vertex and one {@code int} per raw edge, but no per-edge objects.
+ * Temporary files are removed when the run completes.
+ *
+ * <p>
+ * The one {@code int} per raw edge is the target array of the SCC pass, which holds
+ * every directed edge at once, before parallel edges are removed. A single run is
+ * therefore limited to {@code Integer.MAX_VALUE - 8} directed edges, about 2.1 billion,
+ * and needs a heap of roughly 4 bytes per directed edge for that array; larger inputs
+ * are rejected with an {@link IOException} before it is allocated. Every two-way
+ * segment counts as two directed edges.
  *
  * <p>
  * The class only depends on the GPKG / SQLite layout, not on any specific region, so it
@@ -94,6 +113,22 @@ public final class GpkgRoadGraphPreprocessor
      */
     public static final double COORD_PRECISION = 1e7;
 
+    /** Decimals written for coordinates; matches {@link #COORD_PRECISION}. */
+    private static final int COORD_DECIMALS = 7;
+
+    private static final long WEIGHT_SCALE = 10_000L;
+    private static final int WEIGHT_DECIMALS = 4;
+
+    /**
+     * Number of edges sorted in memory at a time during parallel-edge dedupe (16 bytes
+     * each); larger inputs are merged from sorted runs on disk.
+     */
+    private static final int SORT_CHUNK_EDGES = 1 << 23;
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
     private GpkgRoadGraphPreprocessor()
     {
     }
@@ -118,21 +153,23 @@ public final class GpkgRoadGraphPreprocessor
                 + "largest SCC vertices: %d%n"
                 + "edges in largest SCC (after parallel-edge dedupe): %d%n"
                 + "edges file: %s%n"
-                + "nodes file: %s%n",
+                + "nodes file: %s%n"
+                + "binary file: %s%n",
             result.inputSegments,
             result.verticesAll,
             result.verticesInLargestScc,
             result.edgesInLargestScc,
             result.edgesOut,
-            result.nodesOut);
+            result.nodesOut,
+            result.csrOut);
     }
 
     /**
      * Library entry point.
      *
      * @param gpkgPath path to the input Geofabrik GPKG
-     * @param edgesOutPath destination for the edges CSV; the nodes CSV is written
-     *        alongside with suffix {@code .nodes.csv.gz}
+     * @param edgesOutPath destination for the edges CSV; the nodes CSV and the binary file
+     *        are written alongside with suffixes {@code .nodes.csv.gz} and {@code .csr}
      * @return summary statistics
      * @throws IOException on I/O failure
      * @throws SQLException on GPKG / SQLite read failure
@@ -140,78 +177,112 @@ public final class GpkgRoadGraphPreprocessor
     public static Result run(Path gpkgPath, Path edgesOutPath)
         throws IOException, SQLException
     {
+        return run(sink -> readSegments(gpkgPath, sink), edgesOutPath);
+    }
+
+    /**
+     * Runs the preprocessor over the segments of an arbitrary source, which keeps the
+     * pipeline usable without a GPKG at hand.
+     */
+    static Result run(SegmentSource source, Path edgesOutPath)
+        throws IOException, SQLException
+    {
+        return run(source, edgesOutPath, SORT_CHUNK_EDGES);
+    }
+
+    /**
+     * Runs the preprocessor with a given number of edges sorted in memory at a time, so
+     * that small inputs can exercise the merge of sorted runs.
+     */
+    static Result run(SegmentSource source, Path edgesOutPath, int sortChunkEdges)
+        throws IOException, SQLException
+    {
+        if (sortChunkEdges < 1) {
+            throw new IllegalArgumentException("sort chunk must hold at least one edge");
+        }
         Path nodesOutPath = deriveNodesPath(edgesOutPath);
+        Path csrOutPath = deriveSiblingPath(edgesOutPath, ".csr");
+        Path workDir = edgesOutPath.toAbsolutePath().getParent();
+        if (workDir != null) {
+            Files.createDirectories(workDir);
+        }
 
-        Map<Long, Integer> coordToId = new LinkedHashMap<>();
-        List<double[]> coordLatLon = new ArrayList<>();
-        List<long[]> rawEdges = new ArrayList<>();
-        long[] segCountBox = { 0L };
-
-        readSegments(
-            gpkgPath, (lon1, lat1, lon2, lat2, oneway) -> {
-                segCountBox[0]++;
-                long k1 = packCoordKey(lon1, lat1);
-                long k2 = packCoordKey(lon2, lat2);
-                if (k1 == k2) {
-                    return;
-                }
-                int a = idForCoord(coordToId, coordLatLon, k1, lat1, lon1);
-                int b = idForCoord(coordToId, coordLatLon, k2, lat2, lon2);
-                double weight = HaversineHeuristic.distanceMeters(lat1, lon1, lat2, lon2);
-                if ("T".equals(oneway)) {
-                    rawEdges.add(packEdge(b, a, weight));
-                } else {
-                    rawEdges.add(packEdge(a, b, weight));
-                    if (!"F".equals(oneway)) {
-                        rawEdges.add(packEdge(b, a, weight));
+        // Raw edges are spilled next to the output rather than to the default temp
+        // directory, which is often too small for a continent-sized extract.
+        Path spillPath = Files.createTempFile(workDir, "gpkg-edges-", ".tmp");
+        List<Path> runPaths = new ArrayList<>();
+        try {
+            VertexTable vertices = new VertexTable();
+            long[] segCountBox = { 0L };
+            long[] edgeCountBox = { 0L };
+            try (DataOutputStream spill = newDataOutput(spillPath)) {
+                source.readInto((lon1, lat1, lon2, lat2, oneway) -> {
+                    segCountBox[0]++;
+                    long k1 = packCoordKey(lon1, lat1);
+                    long k2 = packCoordKey(lon2, lat2);
+                    if (k1 == k2) {
+                        return;
                     }
-                }
-            });
+                    int a = vertices.idFor(k1);
+                    int b = vertices.idFor(k2);
+                    double weight = HaversineHeuristic.distanceMeters(lat1, lon1, lat2, lon2);
+                    if ("T".equals(oneway)) {
+                        spillEdge(spill, vertices, b, a, weight);
+                        edgeCountBox[0]++;
+                    } else {
+                        spillEdge(spill, vertices, a, b, weight);
+                        edgeCountBox[0]++;
+                        if (!"F".equals(oneway)) {
+                            spillEdge(spill, vertices, b, a, weight);
+                            edgeCountBox[0]++;
+                        }
+                    }
+                });
+            }
 
-        int verticesAll = coordLatLon.size();
-        Set<Integer> largestScc = findLargestScc(verticesAll, rawEdges);
+            int verticesAll = vertices.size();
+            long edgeCount = edgeCountBox[0];
+            int[] remap = findLargestScc(vertices, spillPath, edgeCount);
+            int sccSize = 0;
+            for (int v = 0; v < verticesAll; v++) {
+                if (remap[v] >= 0) {
+                    sccSize++;
+                }
+            }
 
-        int[] remap = new int[verticesAll];
-        Arrays.fill(remap, -1);
-        List<Integer> sortedScc = new ArrayList<>(largestScc);
-        Collections.sort(sortedScc);
-        for (int i = 0; i < sortedScc.size(); i++) {
-            remap[sortedScc.get(i)] = i;
-        }
+            int edgesOut = writeEdgesCsv(
+                edgesOutPath, spillPath, edgeCount, remap, workDir, runPaths, sortChunkEdges);
+            writeNodesCsv(nodesOutPath, remap, vertices);
+            OsmCsrGraphWriter.write(edgesOutPath, nodesOutPath, csrOutPath);
 
-        // Deduplicate parallel edges, keeping the shortest weight.
-        Map<Long, Double> bestEdge = new LinkedHashMap<>();
-        for (long[] e : rawEdges) {
-            int newSrc = remap[(int) e[0]];
-            int newDst = remap[(int) e[1]];
-            if (newSrc < 0 || newDst < 0) {
-                continue;
+            return new Result(
+                segCountBox[0], verticesAll, sccSize, edgesOut, edgesOutPath, nodesOutPath,
+                csrOutPath);
+        } finally {
+            Files.deleteIfExists(spillPath);
+            for (Path runPath : runPaths) {
+                Files.deleteIfExists(runPath);
             }
-            double weight = Double.longBitsToDouble(e[2]);
-            long key = (((long) newSrc) << 32) | (newDst & 0xffffffffL);
-            bestEdge.merge(key, weight, Math::min);
-        }
-
-        Path edgesAbs = edgesOutPath.toAbsolutePath();
-        if (edgesAbs.getParent() != null) {
-            Files.createDirectories(edgesAbs.getParent());
         }
-        writeEdgesCsv(edgesOutPath, bestEdge);
-        writeNodesCsv(nodesOutPath, sortedScc, coordLatLon);
-
-        return new Result(
-            segCountBox[0], verticesAll, sortedScc.size(), bestEdge.size(),
-            edgesOutPath, nodesOutPath);
     }
 
     private static Path deriveNodesPath(Path edgesOutPath)
+    {
+        return deriveSiblingPath(edgesOutPath, ".nodes.csv.gz");
+    }
+
+    /**
+     * Derives the path of a companion file by replacing the {@code .csv.gz} suffix of the
+     * edges file, or appending to its name when it has none.
+     */
+    static Path deriveSiblingPath(Path edgesOutPath, String suffix)
     {
         String name = edgesOutPath.getFileName().toString();
-        String nodesName = name.endsWith(".csv.gz")
-            ? name.substring(0, name.length() - ".csv.gz".length()) + ".nodes.csv.gz"
-            : name + ".nodes.csv.gz";
+        String siblingName = name.endsWith(".csv.gz")
+            ? name.substring(0, name.length() - ".csv.gz".length()) + suffix
+            : name + suffix;
         Path parent = edgesOutPath.getParent();
-        return parent != null ? parent.resolve(nodesName) : Path.of(nodesName);
+        return parent != null ? parent.resolve(siblingName) : Path.of(siblingName);
     }
 
     private static long packCoordKey(double lon, double lat)
@@ -221,28 +292,14 @@ public final class GpkgRoadGraphPreprocessor
         return (lonKey << 32) | (latKey & 0xffffffffL);
     }
 
-    private static int idForCoord(
-        Map<Long, Integer> coordToId, List<double[]> coordLatLon,
-        long key, double lat, double lon)
-    {
-        Integer existing = coordToId.get(key);
-        if (existing != null) {
-            return existing;
-        }
-        int id = coordLatLon.size();
-        coordToId.put(key, id);
-        coordLatLon.add(new double[] { lat, lon });
-        return id;
-    }
-
-    /**
-     * Packs a directed edge into a {@code long[3]} tuple of {@code {src, dst,
-     * doubleToRawLongBits(weight)}}. The packed form keeps the per-edge memory low
-     * during the in-memory accumulation pass before SCC analysis runs.
-     */
-    private static long[] packEdge(int src, int dst, double weight)
+    private static void spillEdge(
+        DataOutputStream spill, VertexTable vertices, int src, int dst, double weight)
+        throws IOException
     {
-        return new long[] { src, dst, Double.doubleToRawLongBits(weight) };
+        spill.writeInt(src);
+        spill.writeInt(dst);
+        spill.writeDouble(weight);
+        vertices.outDegree[src]++;
     }
 
     private static void readSegments(Path gpkgPath, SegmentSink sink)
@@ -319,69 +376,368 @@ public final class GpkgRoadGraphPreprocessor
         return points;
     }
 
-    private static Set<Integer> findLargestScc(int verticesAll, List<long[]> rawEdges)
+    /**
+     * Finds the largest strongly-connected component of the spilled raw edges with an
+     * iterative Tarjan pass over a compressed sparse row copy of the graph, held in plain
+     * {@code int} arrays. Parallel edges are kept in the copy, since connectivity is
+     * unchanged by edge multiplicity.
+     *
+     * @return for every vertex its id in the output, or -1 if it is outside the largest
+     *         component; ids are assigned in increasing order of the original ids
+     */
+    private static int[] findLargestScc(VertexTable vertices, Path spillPath, long edgeCount)
+        throws IOException
+    {
+        if (edgeCount > MAX_ARRAY_LENGTH) {
+            throw new IOException(
+                "too many directed edges for a single pass: " + edgeCount);
+        }
+        int n = vertices.size();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + vertices.outDegree[v];
+        }
+        int[] targets = new int[(int) edgeCount];
+        int[] next = Arrays.copyOf(offsets, n);
+        try (DataInputStream in = newDataInput(spillPath)) {
+            for (long i = 0; i < edgeCount; i++) {
+                int src = in.readInt();
+                int dst = in.readInt();
+                in.readDouble();
+                targets[next[src]++] = dst;
+            }
+        }
+
+        // next[] doubles as the per-vertex edge cursor of the explicit call stack
+        System.arraycopy(offsets, 0, next, 0, n);
+        int[] index = new int[n];
+        Arrays.fill(index, -1);
+        int[] low = new int[n];
+        int[] callStack = new int[n];
+        int[] sccStack = new int[n];
+        BitSet onStack = new BitSet(n);
+        int counter = 0;
+        int bestRoot = -1;
+        int bestSize = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (index[s] >= 0) {
+                continue;
+            }
+            int callTop = 0;
+            int sccTop = 0;
+            index[s] = low[s] = counter++;
+            callStack[callTop++] = s;
+            sccStack[sccTop++] = s;
+            onStack.set(s);
+            while (callTop > 0) {
+                int v = callStack[callTop - 1];
+                if (next[v] < offsets[v + 1]) {
+                    int w = targets[next[v]++];
+                    if (index[w] < 0) {
+                        index[w] = low[w] = counter++;
+                        callStack[callTop++] = w;
+                        sccStack[sccTop++] = w;
+                        onStack.set(w);
+                    } else if (onStack.get(w)) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                callTop--;
+                if (low[v] == index[v]) {
+                    // pop the component rooted at v; from here on low[] of its members
+                    // holds the root vertex instead of a discovery index
+                    int size = 0;
+                    int w;
+                    do {
+                        w = sccStack[--sccTop];
+                        onStack.clear(w);
+                        low[w] = v;
+                        size++;
+                    } while (w != v);
+                    if (size > bestSize) {
+                        bestSize = size;
+                        bestRoot = v;
+                    }
+                } else {
+                    int u = callStack[callTop - 1];
+                    low[u] = Math.min(low[u], low[v]);
+                }
+            }
+        }
+
+        int[] remap = index;
+        int newId = 0;
+        for (int v = 0; v < n; v++) {
+            remap[v] = low[v] == bestRoot ? newId++ : -1;
+        }
+        return remap;
+    }
+
+    /**
+     * Deduplicates the parallel edges of the largest component, keeping the shortest, and
+     * writes the result ordered by {@code (src, dst)}. Edges are sorted in bounded chunks
+     * which are spilled as sorted runs and merged when they do not fit in a single chunk.
+     *
+     * @return the number of edges written
+     */
+    private static int writeEdgesCsv(
+        Path edgesOutPath, Path spillPath, long edgeCount, int[] remap, Path workDir,
+        List<Path> runPaths, int sortChunkEdges)
+        throws IOException
     {
-        // SimpleDirectedGraph silently drops parallel edges, which is fine for SCC
-        // analysis: connectivity is unchanged by edge multiplicity.
-        SimpleDirectedGraph<Integer, DefaultEdge> g =
-            new SimpleDirectedGraph<>(DefaultEdge.class);
-        for (int i = 0; i < verticesAll; i++) {
-            g.addVertex(i);
-        }
-        for (long[] e : rawEdges) {
-            int u = (int) e[0];
-            int v = (int) e[1];
-            if (u != v) {
-                g.addEdge(u, v);
+        int chunk = (int) Math.max(1L, Math.min(sortChunkEdges, edgeCount));
+        long[] keys = new long[chunk];
+        double[] weights = new double[chunk];
+        int size = 0;
+        try (DataInputStream in = newDataInput(spillPath)) {
+            for (long i = 0; i < edgeCount; i++) {
+                int src = remap[in.readInt()];
+                int dst = remap[in.readInt()];
+                double weight = in.readDouble();
+                if (src < 0 || dst < 0) {
+                    continue;
+                }
+                if (size == chunk) {
+                    runPaths.add(writeRun(workDir, keys, weights, size));
+                    size = 0;
+                }
+                keys[size] = (((long) src) << 32) | (dst & 0xffffffffL);
+                weights[size++] = weight;
             }
         }
-        KosarajuStrongConnectivityInspector<Integer, DefaultEdge> scc =
-            new KosarajuStrongConnectivityInspector<>(g);
-        Set<Integer> best = Collections.emptySet();
-        for (Set<Integer> comp : scc.stronglyConnectedSets()) {
-            if (comp.size() > best.size()) {
-                best = comp;
+
+        if (runPaths.isEmpty()) {
+            size = sortAndCollapse(keys, weights, size);
+            try (Writer w = newGzWriter(edgesOutPath)) {
+                for (int i = 0; i < size; i++) {
+                    writeEdge(w, keys[i], weights[i]);
+                }
+            }
+            return size;
+        }
+        runPaths.add(writeRun(workDir, keys, weights, size));
+        keys = null;
+        weights = null;
+        return mergeRuns(edgesOutPath, runPaths);
+    }
+
+    private static Path writeRun(Path workDir, long[] keys, double[] weights, int size)
+        throws IOException
+    {
+        size = sortAndCollapse(keys, weights, size);
+        Path runPath = Files.createTempFile(workDir, "gpkg-run-", ".tmp");
+        try (DataOutputStream out = newDataOutput(runPath)) {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(keys[i]);
+                out.writeDouble(weights[i]);
             }
         }
-        return best;
+        return runPath;
     }
 
-    private static void writeEdgesCsv(Path edgesOutPath, Map<Long, Double> bestEdge)
+    private static int mergeRuns(Path edgesOutPath, List<Path> runPaths)
         throws IOException
     {
+        PriorityQueue<RunReader> heap =
+            new PriorityQueue<>(runPaths.size(), Comparator.comparingLong(r -> r.key));
+        List<RunReader> readers = new ArrayList<>(runPaths.size());
+        int count = 0;
         try (Writer w = newGzWriter(edgesOutPath)) {
-            for (Map.Entry<Long, Double> e : bestEdge.entrySet()) {
-                long key = e.getKey();
-                int src = (int) (key >>> 32);
-                int dst = (int) (key & 0xffffffffL);
-                w.write(Integer.toString(src));
-                w.write(',');
-                w.write(Integer.toString(dst));
-                w.write(',');
-                w.write(String.format(Locale.ROOT, "%.4f", e.getValue()));
-                w.write('\n');
+            for (Path runPath : runPaths) {
+                RunReader reader = new RunReader(runPath);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+            while (!heap.isEmpty()) {
+                RunReader head = heap.poll();
+                long key = head.key;
+                double weight = head.weight;
+                if (head.advance()) {
+                    heap.add(head);
+                }
+                while (!heap.isEmpty() && heap.peek().key == key) {
+                    RunReader other = heap.poll();
+                    weight = Math.min(weight, other.weight);
+                    if (other.advance()) {
+                        heap.add(other);
+                    }
+                }
+                writeEdge(w, key, weight);
+                count++;
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sorts the first {@code size} entries by key and collapses equal keys into one entry
+     * with the minimum weight.
+     *
+     * @return the number of distinct keys
+     */
+    private static int sortAndCollapse(long[] keys, double[] weights, int size)
+    {
+        sort(keys, weights, 0, size);
+        int out = 0;
+        for (int i = 0; i < size; i++) {
+            if (out > 0 && keys[out - 1] == keys[i]) {
+                weights[out - 1] = Math.min(weights[out - 1], weights[i]);
+            } else {
+                keys[out] = keys[i];
+                weights[out++] = weights[i];
             }
         }
+        return out;
+    }
+
+    /**
+     * Quicksort of {@code [from, to)} by key that moves the weights along. Recurses into
+     * the smaller partition only, so the stack depth stays logarithmic.
+     */
+    private static void sort(long[] keys, double[] weights, int from, int to)
+    {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            long a = keys[from];
+            long b = keys[(from + to) >>> 1];
+            long c = keys[to - 1];
+            long pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+            int i = from;
+            int j = to - 1;
+            while (i <= j) {
+                while (keys[i] < pivot) {
+                    i++;
+                }
+                while (keys[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, weights, i++, j--);
+                }
+            }
+            if (j + 1 - from < to - i) {
+                sort(keys, weights, from, j + 1);
+                from = i;
+            } else {
+                sort(keys, weights, i, to);
+                to = j + 1;
+            }
+        }
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && keys[j - 1] > keys[j]; j--) {
+                swap(keys, weights, j - 1, j);
+            }
+        }
+    }
+
+    private static void swap(long[] keys, double[] weights, int i, int j)
+    {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        double weight = weights[i];
+        weights[i] = weights[j];
+        weights[j] = weight;
+    }
+
+    private static void writeEdge(Writer w, long key, double weight)
+        throws IOException
+    {
+        w.write(Integer.toString((int) (key >>> 32)));
+        w.write(',');
+        w.write(Integer.toString((int) key));
+        w.write(',');
+        writeWeight(w, weight);
+        w.write('\n');
     }
 
-    private static void writeNodesCsv(
-        Path nodesOutPath, List<Integer> sortedScc, List<double[]> coordLatLon)
+    /**
+     * Writes an edge weight with the fixed number of decimals of the edges file. Shared
+     * with {@link RoadGraphRenumbering}, so that rewritten files keep the same format.
+     */
+    static void writeWeight(Writer w, double weight)
         throws IOException
     {
+        writeFixedPoint(w, Math.round(weight * WEIGHT_SCALE), WEIGHT_SCALE, WEIGHT_DECIMALS);
+    }
+
+    /**
+     * Writes a coordinate in decimal degrees with the fixed number of decimals of the
+     * nodes file. Coordinates read back from a nodes file are written unchanged.
+     */
+    static void writeCoordinate(Writer w, double degrees)
+        throws IOException
+    {
+        writeFixedPoint(
+            w, Math.round(degrees * COORD_PRECISION), (long) COORD_PRECISION, COORD_DECIMALS);
+    }
+
+    /**
+     * Writes the coordinates of the largest component in new-id order. The coordinates
+     * are recovered from the snapped keys, which hold them to {@code 1 / COORD_PRECISION}
+     * degrees, i.e. exactly the seven decimals written.
+     */
+    private static void writeNodesCsv(Path nodesOutPath, int[] remap, VertexTable vertices)
+        throws IOException
+    {
+        long scale = (long) COORD_PRECISION;
         try (Writer w = newGzWriter(nodesOutPath)) {
-            for (int newId = 0; newId < sortedScc.size(); newId++) {
-                int oldId = sortedScc.get(newId);
-                double[] c = coordLatLon.get(oldId);
+            for (int oldId = 0; oldId < remap.length; oldId++) {
+                int newId = remap[oldId];
+                if (newId < 0) {
+                    continue;
+                }
+                long key = vertices.coordKeys[oldId];
                 w.write(Integer.toString(newId));
                 w.write(',');
-                w.write(String.format(Locale.ROOT, "%.7f", c[0]));
+                writeFixedPoint(w, (int) key, scale, COORD_DECIMALS);
                 w.write(',');
-                w.write(String.format(Locale.ROOT, "%.7f", c[1]));
+                writeFixedPoint(w, (int) (key >> 32), scale, COORD_DECIMALS);
                 w.write('\n');
             }
         }
     }
 
+    /**
+     * Writes {@code value / scale} with {@code decimals} fraction digits, avoiding the cost
+     * of {@link String#format} on hundreds of millions of lines.
+     */
+    private static void writeFixedPoint(Writer w, long value, long scale, int decimals)
+        throws IOException
+    {
+        if (value < 0) {
+            w.write('-');
+            value = -value;
+        }
+        w.write(Long.toString(value / scale));
+        w.write('.');
+        String fraction = Long.toString(value % scale);
+        for (int i = fraction.length(); i < decimals; i++) {
+            w.write('0');
+        }
+        w.write(fraction);
+    }
+
+    private static DataOutputStream newDataOutput(Path path) throws IOException
+    {
+        return new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+    }
+
+    private static DataInputStream newDataInput(Path path) throws IOException
+    {
+        return new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE));
+    }
+
     private static Writer newGzWriter(Path path) throws IOException
     {
         return new BufferedWriter(
@@ -393,9 +749,127 @@ public final class GpkgRoadGraphPreprocessor
 
     /** Per-segment sink used to accumulate raw directed edges from the GPKG read. */
     @FunctionalInterface
-    private interface SegmentSink
+    interface SegmentSink
+    {
+        void accept(double lon1, double lat1, double lon2, double lat2, String oneway)
+            throws IOException;
+    }
+
+    /** Source of road segments, the GPKG table outside of tests. */
+    @FunctionalInterface
+    interface SegmentSource
+    {
+        void readInto(SegmentSink sink) throws IOException, SQLException;
+    }
+
+    /**
+     * Assigns dense ids to snapped coordinate keys with an open-addressing table of
+     * {@code int} ids; the keys themselves are only stored once, in id order.
+     */
+    private static final class VertexTable
+    {
+        private static final int MAX_TABLE_SIZE = 1 << 30;
+
+        long[] coordKeys = new long[1024];
+        int[] outDegree = new int[1024];
+        private int size;
+        private int[] table;
+        private int mask;
+
+        VertexTable()
+        {
+            table = new int[1 << 16];
+            Arrays.fill(table, -1);
+            mask = table.length - 1;
+        }
+
+        int size()
+        {
+            return size;
+        }
+
+        int idFor(long key)
+        {
+            int slot = hash(key) & mask;
+            int id;
+            while ((id = table[slot]) >= 0) {
+                if (coordKeys[id] == key) {
+                    return id;
+                }
+                slot = (slot + 1) & mask;
+            }
+            id = size++;
+            if (id == coordKeys.length) {
+                int capacity = (int) Math.min(MAX_ARRAY_LENGTH, id + (long) (id >> 1));
+                if (capacity == id) {
+                    throw new IllegalStateException("too many distinct coordinates");
+                }
+                coordKeys = Arrays.copyOf(coordKeys, capacity);
+                outDegree = Arrays.copyOf(outDegree, capacity);
+            }
+            coordKeys[id] = key;
+            table[slot] = id;
+            if (size > table.length - (table.length >> 2)) {
+                rehash();
+            }
+            return id;
+        }
+
+        private void rehash()
+        {
+            if (table.length == MAX_TABLE_SIZE) {
+                throw new IllegalStateException("too many distinct coordinates");
+            }
+            table = new int[table.length << 1];
+            Arrays.fill(table, -1);
+            mask = table.length - 1;
+            for (int id = 0; id < size; id++) {
+                int slot = hash(coordKeys[id]) & mask;
+                while (table[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id;
+            }
+        }
+
+        private static int hash(long key)
+        {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /** Sequential reader over one sorted run written by {@code writeRun}. */
+    private static final class RunReader
+        implements Closeable
     {
-        void accept(double lon1, double lat1, double lon2, double lat2, String oneway);
+        private final DataInputStream in;
+        private int remaining;
+        long key;
+        double weight;
+
+        RunReader(Path path) throws IOException
+        {
+            in = newDataInput(path);
+            remaining = in.readInt();
+        }
+
+        boolean advance() throws IOException
+        {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            key = in.readLong();
+            weight = in.readDouble();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            in.close();
+        }
     }
 
     /** Summary statistics from a preprocessor run. */
@@ -413,10 +887,12 @@ public final class GpkgRoadGraphPreprocessor
         public final Path edgesOut;
         /** Nodes CSV output path. */
         public final Path nodesOut;
+        /** Binary compressed sparse row output path. */
+        public final Path csrOut;
 
         Result(
             long inputSegments, int verticesAll, int verticesInLargestScc,
-            int edgesInLargestScc, Path edgesOut, Path nodesOut)
+            int edgesInLargestScc, Path edgesOut, Path nodesOut, Path csrOut)
         {
             this.inputSegments = inputSegments;
             this.verticesAll = verticesAll;
@@ -424,6 +900,7 @@ public final class GpkgRoadGraphPreprocessor
             this.edgesInLargestScc = edgesInLargestScc;
             this.edgesOut = edgesOut;
             this.nodesOut = nodesOut;
+            this.csrOut = csrOut;
         }
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+/**
+ * Positions of points along a Hilbert curve filling the bounding box of a set of coordinates.
+ *
+ * <p>
+ * Points which are close on the curve are close in the plane, so ordering items by their
+ * position keeps spatially related items together in memory. The box is divided into a
+ * $2^{16} \times 2^{16}$ grid, so the positions fit into 32 bits.
+ */
+final class HilbertCurve
+{
+    /** Number of bits per axis. */
+    static final int ORDER = 16;
+
+    private static final int MAX_CELL = (1 << ORDER) - 1;
+
+    private HilbertCurve()
+    {
+    }
+
+    /**
+     * Computes the curve positions of points over their bounding box.
+     *
+     * @param xs the first coordinates, e.g. longitudes
+     * @param ys the second coordinates, e.g. latitudes
+     * @return the position of each point, in $[0, 2^{32})$
+     */
+    static long[] positions(double[] xs, double[] ys)
+    {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < xs.length; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        double scaleX = maxX > minX ? MAX_CELL / (maxX - minX) : 0d;
+        double scaleY = maxY > minY ? MAX_CELL / (maxY - minY) : 0d;
+        long[] positions = new long[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            positions[i] = position(
+                (int) ((xs[i] - minX) * scaleX), (int) ((ys[i] - minY) * scaleY));
+        }
+        return positions;
+    }
+
+    /**
+     * Computes the position of a grid cell along the curve.
+     *
+     * @param x the column, in $[0, 2^{16})$
+     * @param y the row, in $[0, 2^{16})$
+     * @return the position of the cell, in $[0, 2^{32})$
+     */
+    static long position(int x, int y)
+    {
+        long d = 0;
+        for (int s = 1 << (ORDER - 1); s > 0; s >>= 1) {
+            int rx = (x & s) != 0 ? 1 : 0;
+            int ry = (y & s) != 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+            // rotate the quadrant so that the curve inside it has the canonical orientation
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = MAX_CELL - x;
+                    y = MAX_CELL - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * Layout of the binary road-graph files written by {@link OsmCsrGraphWriter} and mapped by
+ * {@link OsmCsrGraphLoader}.
+ *
+ * <p>
+ * A file starts with a {@value #HEADER_SIZE}-byte header holding the magic number, the format
+ * version, the vertex count $n$ and the edge count $m$, followed by six little-endian columns,
+ * each starting on an 8-byte boundary:
+ * <ol>
+ * <li>{@code offsets} &mdash; $n + 1$ {@code int}s; the outgoing edges of vertex $v$ are the ids
+ * {@code offsets[v] .. offsets[v + 1] - 1}</li>
+ * <li>{@code sources} &mdash; $m$ {@code int}s</li>
+ * <li>{@code targets} &mdash; $m$ {@code int}s</li>
+ * <li>{@code weights} &mdash; $m$ {@code float}s</li>
+ * <li>{@code latitudes} &mdash; $n$ {@code double}s, in decimal degrees</li>
+ * <li>{@code longitudes} &mdash; $n$ {@code double}s, in decimal degrees</li>
+ * </ol>
+ */
+final class OsmCsrFormat
+{
+    static final int MAGIC = 0x4A47_4353; // "JGCS"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private OsmCsrFormat()
+    {
+    }
+
+    /**
+     * Byte positions of the columns of a file with a given number of vertices and edges.
+     */
+    static final class Layout
+    {
+        final int vertexCount;
+        final int edgeCount;
+        final long offsets;
+        final long sources;
+        final long targets;
+        final long weights;
+        final long latitudes;
+        final long longitudes;
+        final long fileSize;
+
+        Layout(int vertexCount, int edgeCount)
+            throws IOException
+        {
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.offsets = HEADER_SIZE;
+            this.sources = next(offsets, (vertexCount + 1L) * Integer.BYTES);
+            this.targets = next(sources, (long) edgeCount * Integer.BYTES);
+            this.weights = next(targets, (long) edgeCount * Integer.BYTES);
+            this.latitudes = next(weights, (long) edgeCount * Float.BYTES);
+            this.longitudes = next(latitudes, (long) vertexCount * Double.BYTES);
+            this.fileSize = next(longitudes, (long) vertexCount * Double.BYTES);
+        }
+
+        /**
+         * Returns the aligned start of the column following one which starts at {@code start}
+         * and has the given size. Each column is mapped as a single buffer, which caps its size.
+         */
+        private static long next(long start, long size)
+            throws IOException
+        {
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("column of " + size + " bytes exceeds the format limit");
+            }
+            return (start + size + 7) & ~7L;
+        }
+    }
+}
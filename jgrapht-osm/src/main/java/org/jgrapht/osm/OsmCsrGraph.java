@@ -0,0 +1,373 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.nio.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Road graph backed by the memory-mapped columns of a binary road-graph file, see
+ * {@link OsmCsrGraphLoader}.
+ *
+ * <p>
+ * The graph follows the conventions of {@code SparseIntDirectedWeightedGraph} without incoming
+ * edges support: the vertices are the integers $0$ to $n-1$, the edges are the integers $0$ to
+ * $m-1$ numbered in the order of the edges file, the structure is unmodifiable and all methods
+ * which need incoming edges throw {@link UnsupportedOperationException}. Edge source and target
+ * lookups take constant time and the outgoing edges of a vertex are a contiguous range of edge
+ * ids, which {@link #getOutgoingEdgesStart(int)} and {@link #getOutgoingEdgesEnd(int)} expose
+ * without boxing. The coordinates of each vertex are available through
+ * {@link #getLatitude(int)} and {@link #getLongitude(int)}.
+ *
+ * <p>
+ * Edge weights are stored in single precision. They can be changed, in which case the weights
+ * are first copied from the file to the heap; the file itself is never modified. Concurrent reads
+ * are safe, but changing weights requires external synchronization.
+ */
+public class OsmCsrGraph
+    extends AbstractGraph<Integer, Integer>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+    private static final String NO_INCOMING = "this graph does not support incoming edges";
+
+    private final int n;
+    private final int m;
+    private final IntBuffer offsets;
+    private final IntBuffer sources;
+    private final IntBuffer targets;
+    private FloatBuffer weights;
+    private boolean weightsOnHeap;
+    private final DoubleBuffer latitudes;
+    private final DoubleBuffer longitudes;
+
+    OsmCsrGraph(
+        int n, int m, IntBuffer offsets, IntBuffer sources, IntBuffer targets,
+        FloatBuffer weights, DoubleBuffer latitudes, DoubleBuffer longitudes)
+    {
+        this.n = n;
+        this.m = m;
+        this.offsets = offsets;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    /**
+     * Returns the id of the first outgoing edge of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the id of the first outgoing edge of the vertex
+     * @throws IndexOutOfBoundsException if the vertex does not exist
+     */
+    public int getOutgoingEdgesStart(int vertex)
+    {
+        checkVertex(vertex);
+        return offsets.get(vertex);
+    }
+
+    /**
+     * Returns one past the id of the last outgoing edge of a vertex.
+     *
+     * @param vertex the vertex
+     * @return one past the id of the last outgoing edge of the vertex
+     * @throws IndexOutOfBoundsException if the vertex does not exist
+     */
+    public int getOutgoingEdgesEnd(int vertex)
+    {
+        checkVertex(vertex);
+        return offsets.get(vertex + 1);
+    }
+
+    /**
+     * Returns the latitude of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the latitude of the vertex in decimal degrees
+     * @throws IndexOutOfBoundsException if the vertex does not exist
+     */
+    public double getLatitude(int vertex)
+    {
+        return latitudes.get(vertex);
+    }
+
+    /**
+     * Returns the longitude of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the longitude of the vertex in decimal degrees
+     * @throws IndexOutOfBoundsException if the vertex does not exist
+     */
+    public double getLongitude(int vertex)
+    {
+        return longitudes.get(vertex);
+    }
+
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Integer> result = new LinkedHashSet<>();
+        for (int e = offsets.get(sourceVertex), end = offsets.get(sourceVertex + 1); e < end;
+            e++)
+        {
+            if (targets.get(e) == targetVertex) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        for (int e = offsets.get(sourceVertex), end = offsets.get(sourceVertex + 1); e < end;
+            e++)
+        {
+            if (targets.get(e) == targetVertex) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e >= 0 && e < m;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v >= 0 && v < n;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new IntegerRangeSet(0, m);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        throw new UnsupportedOperationException(NO_INCOMING);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        throw new UnsupportedOperationException(NO_INCOMING);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        throw new UnsupportedOperationException(NO_INCOMING);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        throw new UnsupportedOperationException(NO_INCOMING);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return offsets.get(vertex + 1) - offsets.get(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new IntegerRangeSet(offsets.get(vertex), offsets.get(vertex + 1));
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new IntegerRangeSet(0, n);
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return sources.get(e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return targets.get(e);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(true).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return weights.get(e);
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        assertEdgeExist(e);
+        if (!weightsOnHeap) {
+            FloatBuffer copy = FloatBuffer.allocate(m);
+            copy.put(0, weights, 0, m);
+            weights = copy;
+            weightsOnHeap = true;
+        }
+        weights.put(e, (float) weight);
+    }
+
+    private void checkVertex(int vertex)
+    {
+        if (vertex < 0 || vertex >= n) {
+            throw new IndexOutOfBoundsException("no such vertex in graph: " + vertex);
+        }
+    }
+
+    private void assertEdgeExist(Integer e)
+    {
+        if (!containsEdge(e)) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    /**
+     * The integers of a half-open range as an unmodifiable set.
+     */
+    private static final class IntegerRangeSet
+        extends AbstractSet<Integer>
+    {
+        private final int from;
+        private final int to;
+
+        IntegerRangeSet(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return IntStream.range(from, to).iterator();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (o instanceof Integer x) {
+                return x >= from && x < to;
+            }
+            return false;
+        }
+
+        @Override
+        public int size()
+        {
+            return to - from;
+        }
+    }
+}
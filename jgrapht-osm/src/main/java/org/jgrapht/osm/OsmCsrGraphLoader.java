@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+/**
+ * Memory-maps a binary road graph written by {@link OsmCsrGraphWriter} (or by
+ * {@link GpkgRoadGraphPreprocessor}, which writes one next to its CSVs).
+ *
+ * <p>
+ * Loading reads the fixed-size header and maps every column of the file; nothing is parsed or
+ * copied, and the pages are shared between processes mapping the same file. A single linear
+ * pass over the mapped offsets, sources and targets rejects corrupt files up front, so that
+ * accessing the graph never indexes outside of its columns. Compared to
+ * {@link OsmCsvGraphLoader} the result is a {@link OsmCsrGraph} over {@code Integer} ids instead
+ * of a {@code Graph<Integer, DefaultWeightedEdge>}.
+ */
+public final class OsmCsrGraphLoader
+{
+    private OsmCsrGraphLoader()
+    {
+    }
+
+    /**
+     * Maps a binary road-graph file.
+     *
+     * @param path the file
+     * @return the mapped graph
+     * @throws IOException on I/O failure, or if the file is not a supported binary road graph
+     */
+    public static OsmCsrGraph load(Path path)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header =
+                ByteBuffer.allocate(OsmCsrFormat.HEADER_SIZE).order(OsmCsrFormat.BYTE_ORDER);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("truncated header in " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != OsmCsrFormat.MAGIC) {
+                throw new IOException("not a binary road graph: " + path);
+            }
+            int version = header.getInt();
+            if (version != OsmCsrFormat.VERSION) {
+                throw new IOException("unsupported binary road graph version: " + version);
+            }
+            int n = header.getInt();
+            int m = header.getInt();
+            if (n < 0 || m < 0) {
+                throw new IOException("corrupt header in " + path);
+            }
+            OsmCsrFormat.Layout layout = new OsmCsrFormat.Layout(n, m);
+            if (channel.size() < layout.fileSize) {
+                throw new IOException("truncated binary road graph: " + path);
+            }
+
+            IntBuffer offsets =
+                map(channel, layout.offsets, (n + 1L) * Integer.BYTES).asIntBuffer();
+            IntBuffer sources =
+                map(channel, layout.sources, (long) m * Integer.BYTES).asIntBuffer();
+            IntBuffer targets =
+                map(channel, layout.targets, (long) m * Integer.BYTES).asIntBuffer();
+            checkStructure(path, n, m, offsets, sources, targets);
+
+            return new OsmCsrGraph(
+                n, m, offsets, sources, targets,
+                map(channel, layout.weights, (long) m * Float.BYTES).asFloatBuffer(),
+                map(channel, layout.latitudes, (long) n * Double.BYTES).asDoubleBuffer(),
+                map(channel, layout.longitudes, (long) n * Double.BYTES).asDoubleBuffer());
+        }
+    }
+
+    /**
+     * Checks that the offsets start at zero, never decrease and end at the number of edges, that
+     * every edge lies in the row of its source and that every target is a vertex.
+     */
+    private static void checkStructure(
+        Path path, int n, int m, IntBuffer offsets, IntBuffer sources, IntBuffer targets)
+        throws IOException
+    {
+        if (offsets.get(0) != 0 || offsets.get(n) != m) {
+            throw new IOException("corrupt offsets in " + path);
+        }
+        for (int u = 0; u < n; ++u) {
+            int start = offsets.get(u);
+            int end = offsets.get(u + 1);
+            if (end < start || end > m) {
+                throw new IOException("corrupt offsets in " + path);
+            }
+            for (int e = start; e < end; ++e) {
+                if (sources.get(e) != u) {
+                    throw new IOException("corrupt sources in " + path);
+                }
+                int target = targets.get(e);
+                if (target < 0 || target >= n) {
+                    throw new IOException("corrupt targets in " + path);
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size)
+        throws IOException
+    {
+        // the mapping stays valid after the channel is closed
+        return channel
+            .map(FileChannel.MapMode.READ_ONLY, position, size).order(OsmCsrFormat.BYTE_ORDER);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.zip.*;
+
+/**
+ * Converts a pair of road-graph CSVs, as written by {@link GpkgRoadGraphPreprocessor}, into the
+ * binary compressed sparse row format read by {@link OsmCsrGraphLoader}.
+ *
+ * <p>
+ * The edges file must list the edges grouped by source vertex in increasing order, which is how
+ * the preprocessor writes them; the id of an edge is its line number, counting from zero, so the
+ * numbering matches a {@code SparseIntDirectedWeightedGraph} built from the same file. The nodes
+ * file must list the vertices in increasing id order starting at zero. Both files are streamed
+ * twice and never held in memory. Weights are stored in single precision.
+ */
+public final class OsmCsrGraphWriter
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private OsmCsrGraphWriter()
+    {
+    }
+
+    /**
+     * Writes the binary form of a pair of gzipped road-graph CSVs.
+     *
+     * @param edgesCsvGz gzipped {@code src,dst,weight} edges file
+     * @param nodesCsvGz gzipped {@code node_id,lat,lon} nodes file
+     * @param csrOut destination of the binary file
+     * @throws IOException on I/O failure, or if the input is malformed or not ordered as
+     *         required
+     */
+    public static void write(Path edgesCsvGz, Path nodesCsvGz, Path csrOut)
+        throws IOException
+    {
+        int[] vertexCount = { 0 };
+        forEachLine(nodesCsvGz, (line, d1, d2) -> {
+            int id = Integer.parseInt(line, 0, d1, 10);
+            if (id != vertexCount[0]) {
+                throw new IllegalArgumentException(
+                    "expected node id " + vertexCount[0] + " but found " + id);
+            }
+            vertexCount[0]++;
+        });
+        int n = vertexCount[0];
+
+        long[] edgeCount = { 0L };
+        int[] lastSource = { 0 };
+        forEachLine(edgesCsvGz, (line, d1, d2) -> {
+            int src = Integer.parseInt(line, 0, d1, 10);
+            int dst = Integer.parseInt(line, d1 + 1, d2, 10);
+            if (src < 0 || src >= n || dst < 0 || dst >= n) {
+                throw new IllegalArgumentException("edge endpoint is not a node id");
+            }
+            if (src < lastSource[0]) {
+                throw new IllegalArgumentException("edges are not grouped by source vertex");
+            }
+            lastSource[0] = src;
+            edgeCount[0]++;
+        });
+        if (edgeCount[0] > Integer.MAX_VALUE) {
+            throw new IOException("too many edges: " + edgeCount[0]);
+        }
+        OsmCsrFormat.Layout layout = new OsmCsrFormat.Layout(n, (int) edgeCount[0]);
+
+        try (FileChannel channel = FileChannel.open(
+            csrOut, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE))
+        {
+            ColumnWriter header = new ColumnWriter(channel, 0);
+            header.putInt(OsmCsrFormat.MAGIC);
+            header.putInt(OsmCsrFormat.VERSION);
+            header.putInt(layout.vertexCount);
+            header.putInt(layout.edgeCount);
+            header.flush();
+
+            ColumnWriter offsets = new ColumnWriter(channel, layout.offsets);
+            ColumnWriter sources = new ColumnWriter(channel, layout.sources);
+            ColumnWriter targets = new ColumnWriter(channel, layout.targets);
+            ColumnWriter weights = new ColumnWriter(channel, layout.weights);
+            int[] edge = { 0 };
+            int[] vertex = { 0 };
+            offsets.putInt(0);
+            forEachLine(edgesCsvGz, (line, d1, d2) -> {
+                int src = Integer.parseInt(line, 0, d1, 10);
+                for (; vertex[0] < src; vertex[0]++) {
+                    offsets.putInt(edge[0]);
+                }
+                sources.putInt(src);
+                targets.putInt(Integer.parseInt(line, d1 + 1, d2, 10));
+                weights.putFloat(Float.parseFloat(line.substring(d2 + 1)));
+                edge[0]++;
+            });
+            for (; vertex[0] < n; vertex[0]++) {
+                offsets.putInt(edge[0]);
+            }
+            offsets.flush();
+            sources.flush();
+            targets.flush();
+            weights.flush();
+
+            ColumnWriter latitudes = new ColumnWriter(channel, layout.latitudes);
+            ColumnWriter longitudes = new ColumnWriter(channel, layout.longitudes);
+            forEachLine(nodesCsvGz, (line, d1, d2) -> {
+                latitudes.putDouble(Double.parseDouble(line.substring(d1 + 1, d2)));
+                longitudes.putDouble(Double.parseDouble(line.substring(d2 + 1)));
+            });
+            latitudes.flush();
+            longitudes.flush();
+
+            if (channel.size() < layout.fileSize) {
+                channel.write(ByteBuffer.allocate(1), layout.fileSize - 1);
+            }
+        }
+    }
+
+    /**
+     * Calls the handler for every non-empty line of a gzipped three-column CSV, with the
+     * positions of both delimiters.
+     */
+    static void forEachLine(Path gzippedCsv, LineHandler handler)
+        throws IOException
+    {
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(gzippedCsv), BUFFER_SIZE),
+            StandardCharsets.UTF_8), BUFFER_SIZE))
+        {
+            String line;
+            long lineNo = 0;
+            while ((line = r.readLine()) != null) {
+                lineNo++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    int d1 = line.indexOf(',');
+                    int d2 = d1 < 0 ? -1 : line.indexOf(',', d1 + 1);
+                    if (d2 < 0) {
+                        throw new IllegalArgumentException("expected three columns");
+                    }
+                    handler.accept(line, d1, d2);
+                } catch (RuntimeException ex) {
+                    throw new IOException(
+                        "failed to parse " + gzippedCsv.getFileName() + " at line " + lineNo
+                            + ": " + line,
+                        ex);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface LineHandler
+    {
+        void accept(String line, int d1, int d2)
+            throws IOException;
+    }
+
+    /**
+     * Buffered sequential writer of one column, starting at a fixed position of the file.
+     */
+    private static final class ColumnWriter
+    {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+
+        ColumnWriter(FileChannel channel, long position)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(OsmCsrFormat.BYTE_ORDER);
+            this.position = position;
+        }
+
+        void putInt(int value)
+            throws IOException
+        {
+            ensureRoom();
+            buffer.putInt(value);
+        }
+
+        void putFloat(float value)
+            throws IOException
+        {
+            ensureRoom();
+            buffer.putFloat(value);
+        }
+
+        void putDouble(double value)
+            throws IOException
+        {
+            ensureRoom();
+            buffer.putDouble(value);
+        }
+
+        void flush()
+            throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRoom()
+            throws IOException
+        {
+            if (buffer.remaining() < Long.BYTES) {
+                flush();
+            }
+        }
+    }
+}
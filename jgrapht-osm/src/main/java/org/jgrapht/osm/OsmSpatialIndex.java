@@ -0,0 +1,362 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import org.jgrapht.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Static spatial index over the vertices and edge segments of a road graph, for snapping
+ * positions to the nearest routable vertex or edge.
+ *
+ * <p>
+ * Vertices and edges are kept in two packed Hilbert R-trees over primitive arrays, built once
+ * from the {@code {lat, lon}} coordinates of the vertices, for example as read by
+ * {@link OsmCoordinatesReader}. Points are placed on the unit sphere, so the index works for any
+ * region including ones crossing the antimeridian or containing a pole; the straight-line
+ * distance on the sphere orders points exactly as the great-circle distance does. An edge is
+ * indexed as the straight segment between its endpoints, which deviates from the great-circle
+ * arc between them by less than two centimetres for segments up to a kilometre.
+ *
+ * <p>
+ * All queries take a position in decimal degrees and return results in increasing order of
+ * distance. The index is immutable and queries may run concurrently from any number of threads.
+ *
+ * @param <E> the graph edge type
+ */
+public final class OsmSpatialIndex<E>
+{
+    private final int[] vertices;
+    private final double[] vertexPoints;
+    private final PackedRTree vertexTree;
+    private final IntFunction<E> edges;
+    private final double[] edgePoints;
+    private final PackedRTree edgeTree;
+    private final double radiusMeters;
+
+    private OsmSpatialIndex(
+        int[] vertices, double[] vertexLatLon, IntFunction<E> edges, int[] edgeEndpoints)
+    {
+        this.radiusMeters = HaversineHeuristic.EARTH_RADIUS_M;
+
+        int n = vertices.length;
+        this.vertices = vertices;
+        this.vertexPoints = new double[3 * n];
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        double[] boxes = new double[6 * n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = vertexLatLon[2 * i];
+            lons[i] = vertexLatLon[2 * i + 1];
+            toPoint(lats[i], lons[i], vertexPoints, 3 * i);
+            System.arraycopy(vertexPoints, 3 * i, boxes, 6 * i, 3);
+            System.arraycopy(vertexPoints, 3 * i, boxes, 6 * i + 3, 3);
+        }
+        this.vertexTree = new PackedRTree(boxes, HilbertCurve.positions(lons, lats));
+
+        int m = edgeEndpoints.length / 2;
+        this.edges = edges;
+        this.edgePoints = new double[6 * m];
+        double[] edgeLats = new double[m];
+        double[] edgeLons = new double[m];
+        double[] edgeBoxes = new double[6 * m];
+        for (int e = 0; e < m; e++) {
+            int a = edgeEndpoints[2 * e];
+            int b = edgeEndpoints[2 * e + 1];
+            System.arraycopy(vertexPoints, 3 * a, edgePoints, 6 * e, 3);
+            System.arraycopy(vertexPoints, 3 * b, edgePoints, 6 * e + 3, 3);
+            for (int d = 0; d < 3; d++) {
+                edgeBoxes[6 * e + d] = Math.min(vertexPoints[3 * a + d], vertexPoints[3 * b + d]);
+                edgeBoxes[6 * e + 3 + d] =
+                    Math.max(vertexPoints[3 * a + d], vertexPoints[3 * b + d]);
+            }
+            edgeLats[e] = (lats[a] + lats[b]) / 2;
+            edgeLons[e] = (lons[a] + lons[b]) / 2;
+        }
+        this.edgeTree = new PackedRTree(edgeBoxes, HilbertCurve.positions(edgeLons, edgeLats));
+    }
+
+    /**
+     * Creates an index over vertices only; edge queries return no results.
+     *
+     * @param coordinates maps each vertex to {@code {lat, lon}} in decimal degrees
+     * @param <E> the graph edge type
+     * @return the index
+     */
+    public static <E> OsmSpatialIndex<E> ofVertices(Map<Integer, double[]> coordinates)
+    {
+        return of(coordinates, null);
+    }
+
+    /**
+     * Creates an index over the vertices of a coordinate map and the edges of a graph. Edges with
+     * an endpoint without coordinates are not indexed.
+     *
+     * @param coordinates maps each vertex to {@code {lat, lon}} in decimal degrees
+     * @param graph the graph whose edges are indexed, or {@code null} to index vertices only
+     * @param <E> the graph edge type
+     * @return the index
+     */
+    public static <E> OsmSpatialIndex<E> of(
+        Map<Integer, double[]> coordinates, Graph<Integer, E> graph)
+    {
+        int n = coordinates.size();
+        int[] vertices = new int[n];
+        double[] latLon = new double[2 * n];
+        Map<Integer, Integer> items = HashMap.newHashMap(n);
+        int i = 0;
+        for (Map.Entry<Integer, double[]> entry : coordinates.entrySet()) {
+            vertices[i] = entry.getKey();
+            latLon[2 * i] = entry.getValue()[0];
+            latLon[2 * i + 1] = entry.getValue()[1];
+            items.put(entry.getKey(), i++);
+        }
+
+        List<E> edgeList = new ArrayList<>();
+        int[] endpoints = new int[0];
+        if (graph != null) {
+            endpoints = new int[2 * graph.edgeSet().size()];
+            for (E e : graph.edgeSet()) {
+                Integer a = items.get(graph.getEdgeSource(e));
+                Integer b = items.get(graph.getEdgeTarget(e));
+                if (a != null && b != null) {
+                    endpoints[2 * edgeList.size()] = a;
+                    endpoints[2 * edgeList.size() + 1] = b;
+                    edgeList.add(e);
+                }
+            }
+            endpoints = Arrays.copyOf(endpoints, 2 * edgeList.size());
+        }
+        return new OsmSpatialIndex<>(vertices, latLon, edgeList::get, endpoints);
+    }
+
+    /**
+     * Creates an index over the vertices and edges of a memory-mapped road graph.
+     *
+     * @param graph the graph
+     * @return the index
+     */
+    public static OsmSpatialIndex<Integer> of(OsmCsrGraph graph)
+    {
+        int n = graph.vertexSet().size();
+        int m = graph.edgeSet().size();
+        int[] vertices = new int[n];
+        double[] latLon = new double[2 * n];
+        int[] endpoints = new int[2 * m];
+        for (int v = 0; v < n; v++) {
+            vertices[v] = v;
+            latLon[2 * v] = graph.getLatitude(v);
+            latLon[2 * v + 1] = graph.getLongitude(v);
+            for (int e = graph.getOutgoingEdgesStart(v), end = graph.getOutgoingEdgesEnd(v);
+                e < end; e++)
+            {
+                endpoints[2 * e] = v;
+                endpoints[2 * e + 1] = graph.getEdgeTarget(e);
+            }
+        }
+        return new OsmSpatialIndex<>(vertices, latLon, Integer::valueOf, endpoints);
+    }
+
+    /**
+     * Returns the vertex nearest to a position.
+     *
+     * @param lat the latitude in decimal degrees
+     * @param lon the longitude in decimal degrees
+     * @return the nearest vertex, or {@code null} if the index has no vertices
+     */
+    public Integer nearestVertex(double lat, double lon)
+    {
+        List<Integer> result = nearestVertices(lat, lon, 1);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * Returns the {@code k} vertices nearest to a position.
+     *
+     * @param lat the latitude in decimal degrees
+     * @param lon the longitude in decimal degrees
+     * @param k the maximum number of vertices
+     * @return the nearest vertices, nearest first
+     */
+    public List<Integer> nearestVertices(double lat, double lon, int k)
+    {
+        double[] q = toPoint(lat, lon, new double[3], 0);
+        List<Integer> result = new ArrayList<>(Math.max(0, Math.min(k, vertices.length)));
+        vertexTree.nearest(
+            q[0], q[1], q[2], k, Double.POSITIVE_INFINITY, this::vertexDistance,
+            (item, d) -> result.add(vertices[item]));
+        return result;
+    }
+
+    /**
+     * Returns the vertices within a great-circle distance of a position.
+     *
+     * @param lat the latitude in decimal degrees
+     * @param lon the longitude in decimal degrees
+     * @param radiusMeters the distance in metres
+     * @return the vertices within the distance, nearest first
+     */
+    public List<Integer> verticesWithin(double lat, double lon, double radiusMeters)
+    {
+        double[] q = toPoint(lat, lon, new double[3], 0);
+        Neighbors found = new Neighbors();
+        vertexTree.within(
+            q[0], q[1], q[2], squaredChord(radiusMeters), this::vertexDistance, found::add);
+        return found.sorted(item -> vertices[item]);
+    }
+
+    /**
+     * Returns the edge nearest to a position, measured to the segment between its endpoints.
+     *
+     * @param lat the latitude in decimal degrees
+     * @param lon the longitude in decimal degrees
+     * @return the nearest edge, or {@code null} if the index has no edges
+     */
+    public E nearestEdge(double lat, double lon)
+    {
+        List<E> result = nearestEdges(lat, lon, 1);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * Returns the {@code k} edges nearest to a position, measured to the segments between their
+     * endpoints.
+     *
+     * @param lat the latitude in decimal degrees
+     * @param lon the longitude in decimal degrees
+     * @param k the maximum number of edges
+     * @return the nearest edges, nearest first
+     */
+    public List<E> nearestEdges(double lat, double lon, int k)
+    {
+        double[] q = toPoint(lat, lon, new double[3], 0);
+        List<E> result = new ArrayList<>();
+        edgeTree.nearest(
+            q[0], q[1], q[2], k, Double.POSITIVE_INFINITY, this::edgeDistance,
+            (item, d) -> result.add(edges.apply(item)));
+        return result;
+    }
+
+    /**
+     * Returns the edges whose segment passes within a distance of a position.
+     *
+     * @param lat the latitude in decimal degrees
+     * @param lon the longitude in decimal degrees
+     * @param radiusMeters the distance in metres
+     * @return the edges within the distance, nearest first
+     */
+    public List<E> edgesWithin(double lat, double lon, double radiusMeters)
+    {
+        double[] q = toPoint(lat, lon, new double[3], 0);
+        Neighbors found = new Neighbors();
+        edgeTree.within(
+            q[0], q[1], q[2], squaredChord(radiusMeters), this::edgeDistance, found::add);
+        return found.sorted(edges);
+    }
+
+    private double vertexDistance(int item, double x, double y, double z)
+    {
+        int p = 3 * item;
+        double dx = vertexPoints[p] - x;
+        double dy = vertexPoints[p + 1] - y;
+        double dz = vertexPoints[p + 2] - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private double edgeDistance(int item, double x, double y, double z)
+    {
+        int p = 6 * item;
+        double ax = edgePoints[p];
+        double ay = edgePoints[p + 1];
+        double az = edgePoints[p + 2];
+        double abx = edgePoints[p + 3] - ax;
+        double aby = edgePoints[p + 4] - ay;
+        double abz = edgePoints[p + 5] - az;
+        double aqx = x - ax;
+        double aqy = y - ay;
+        double aqz = z - az;
+        double length = abx * abx + aby * aby + abz * abz;
+        double t = length > 0 ? (aqx * abx + aqy * aby + aqz * abz) / length : 0d;
+        t = Math.max(0d, Math.min(1d, t));
+        double dx = aqx - t * abx;
+        double dy = aqy - t * aby;
+        double dz = aqz - t * abz;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Converts a great-circle distance to the squared length of the chord on the unit sphere.
+     */
+    private double squaredChord(double meters)
+    {
+        if (!(meters >= 0)) {
+            throw new IllegalArgumentException("radiusMeters must be non-negative");
+        }
+        double angle = Math.min(meters / radiusMeters, Math.PI);
+        double chord = 2 * Math.sin(angle / 2);
+        // guard against rounding excluding points exactly at the distance
+        return chord * chord * (1 + 1e-12);
+    }
+
+    private static double[] toPoint(double lat, double lon, double[] out, int offset)
+    {
+        double phi = Math.toRadians(lat);
+        double lambda = Math.toRadians(lon);
+        double cosPhi = Math.cos(phi);
+        out[offset] = cosPhi * Math.cos(lambda);
+        out[offset + 1] = cosPhi * Math.sin(lambda);
+        out[offset + 2] = Math.sin(phi);
+        return out;
+    }
+
+    /**
+     * Items found by a radius query, sorted by distance on demand.
+     */
+    private static final class Neighbors
+    {
+        private int[] items = new int[16];
+        private double[] distances = new double[16];
+        private int size;
+
+        void add(int item, double squaredDistance)
+        {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, 2 * size);
+                distances = Arrays.copyOf(distances, 2 * size);
+            }
+            items[size] = item;
+            distances[size++] = squaredDistance;
+        }
+
+        <T> List<T> sorted(IntFunction<T> mapping)
+        {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingDouble(i -> distances[i]));
+            List<T> result = new ArrayList<>(size);
+            for (Integer i : order) {
+                result.add(mapping.apply(items[i]));
+            }
+            return result;
+        }
+    }
+}
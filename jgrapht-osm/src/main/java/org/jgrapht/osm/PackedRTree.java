@@ -0,0 +1,289 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import java.util.*;
+
+/**
+ * Static packed Hilbert R-tree over three-dimensional boxes.
+ *
+ * <p>
+ * The items are sorted along a Hilbert curve and grouped bottom-up into nodes of
+ * {@value #NODE_SIZE} children, so the whole tree lives in one {@code double[]} of boxes and one
+ * {@code int[]} of child pointers, with the items at positions $0$ to $n-1$ and the root at the
+ * last position. The tree is immutable once built; every query keeps its state on its own stack
+ * and heap, so queries can run concurrently.
+ *
+ * <p>
+ * Distances are squared Euclidean distances. The distance from a query point to an item is
+ * supplied by the caller, and must be bounded from below by the distance to the item's box.
+ */
+final class PackedRTree
+{
+    static final int NODE_SIZE = 16;
+
+    private final int numItems;
+    private final int[] levelBounds;
+    private final double[] boxes;
+    private final int[] indices;
+
+    /**
+     * Squared distance from a query point to an item.
+     */
+    @FunctionalInterface
+    interface ItemDistance
+    {
+        double squaredDistance(int item, double x, double y, double z);
+    }
+
+    /**
+     * Receives the items found by a query together with their squared distance.
+     */
+    @FunctionalInterface
+    interface ItemVisitor
+    {
+        void visit(int item, double squaredDistance);
+    }
+
+    /**
+     * Builds the tree.
+     *
+     * @param itemBoxes the boxes of the items, six values {@code minX, minY, minZ, maxX, maxY,
+     *        maxZ} per item
+     * @param hilbert the position of each item along a Hilbert curve, in $[0, 2^{32})$
+     */
+    PackedRTree(double[] itemBoxes, long[] hilbert)
+    {
+        int n = hilbert.length;
+        this.numItems = n;
+
+        int numNodes = n;
+        int count = n;
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(n);
+        if (n > 0) {
+            do {
+                count = (count + NODE_SIZE - 1) / NODE_SIZE;
+                numNodes += count;
+                bounds.add(numNodes);
+            } while (count != 1);
+        }
+        this.levelBounds = bounds.stream().mapToInt(Integer::intValue).toArray();
+        this.boxes = new double[6 * numNodes];
+        this.indices = new int[numNodes];
+
+        // items ordered by their position along the curve, ties by item
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (hilbert[i] << 31) | i;
+        }
+        Arrays.parallelSort(order);
+        for (int pos = 0; pos < n; pos++) {
+            int item = (int) (order[pos] & Integer.MAX_VALUE);
+            indices[pos] = item;
+            System.arraycopy(itemBoxes, 6 * item, boxes, 6 * pos, 6);
+        }
+
+        int pos = 0;
+        int parent = n;
+        for (int level = 1; level < levelBounds.length; level++) {
+            int end = levelBounds[level - 1];
+            while (pos < end) {
+                int first = pos;
+                int last = Math.min(pos + NODE_SIZE, end);
+                int b = 6 * parent;
+                System.arraycopy(boxes, 6 * first, boxes, b, 6);
+                for (pos = first + 1; pos < last; pos++) {
+                    int c = 6 * pos;
+                    for (int d = 0; d < 3; d++) {
+                        boxes[b + d] = Math.min(boxes[b + d], boxes[c + d]);
+                        boxes[b + 3 + d] = Math.max(boxes[b + 3 + d], boxes[c + 3 + d]);
+                    }
+                }
+                indices[parent++] = first;
+            }
+        }
+    }
+
+    /**
+     * Finds the {@code k} items nearest to a point, in increasing order of distance.
+     *
+     * @param x the first coordinate of the point
+     * @param y the second coordinate of the point
+     * @param z the third coordinate of the point
+     * @param k the maximum number of items to find
+     * @param maxSquaredDistance only items at most this far are found
+     * @param distance the distance from the point to the items
+     * @param visitor receives the items found
+     */
+    void nearest(
+        double x, double y, double z, int k, double maxSquaredDistance, ItemDistance distance,
+        ItemVisitor visitor)
+    {
+        if (numItems == 0 || k <= 0) {
+            return;
+        }
+        MinHeap heap = new MinHeap();
+        heap.push(indices.length - 1, 0d);
+        int found = 0;
+        while (!heap.isEmpty()) {
+            double d = heap.minKey();
+            int pos = heap.pop();
+            if (pos < numItems) {
+                visitor.visit(indices[pos], d);
+                if (++found == k) {
+                    return;
+                }
+                continue;
+            }
+            for (int c = indices[pos], end = childrenEnd(pos); c < end; c++) {
+                double cd = c < numItems ? distance.squaredDistance(indices[c], x, y, z)
+                    : boxDistance(c, x, y, z);
+                if (cd <= maxSquaredDistance) {
+                    heap.push(c, cd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds all items within a distance of a point, in no particular order.
+     *
+     * @param x the first coordinate of the point
+     * @param y the second coordinate of the point
+     * @param z the third coordinate of the point
+     * @param maxSquaredDistance the squared distance
+     * @param distance the distance from the point to the items
+     * @param visitor receives the items found
+     */
+    void within(
+        double x, double y, double z, double maxSquaredDistance, ItemDistance distance,
+        ItemVisitor visitor)
+    {
+        if (numItems == 0) {
+            return;
+        }
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = indices.length - 1;
+        while (top > 0) {
+            int pos = stack[--top];
+            for (int c = indices[pos], end = childrenEnd(pos); c < end; c++) {
+                if (c < numItems) {
+                    double cd = distance.squaredDistance(indices[c], x, y, z);
+                    if (cd <= maxSquaredDistance) {
+                        visitor.visit(indices[c], cd);
+                    }
+                } else if (boxDistance(c, x, y, z) <= maxSquaredDistance) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, 2 * top);
+                    }
+                    stack[top++] = c;
+                }
+            }
+        }
+    }
+
+    private int childrenEnd(int pos)
+    {
+        int first = indices[pos];
+        int level = 0;
+        while (levelBounds[level] <= first) {
+            level++;
+        }
+        return Math.min(first + NODE_SIZE, levelBounds[level]);
+    }
+
+    private double boxDistance(int pos, double x, double y, double z)
+    {
+        int b = 6 * pos;
+        double dx = axisDistance(x, boxes[b], boxes[b + 3]);
+        double dy = axisDistance(y, boxes[b + 1], boxes[b + 4]);
+        double dz = axisDistance(z, boxes[b + 2], boxes[b + 5]);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double axisDistance(double v, double min, double max)
+    {
+        return v < min ? min - v : (v > max ? v - max : 0d);
+    }
+
+    /**
+     * Binary min-heap of tree positions keyed by distance.
+     */
+    private static final class MinHeap
+    {
+        private double[] keys = new double[64];
+        private int[] values = new int[64];
+        private int size;
+
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        double minKey()
+        {
+            return keys[0];
+        }
+
+        void push(int value, double key)
+        {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * size);
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                values[i] = values[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        int pop()
+        {
+            int result = values[0];
+            double key = keys[--size];
+            int value = values[size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[i] = keys[child];
+                values[i] = values[child];
+                i = child;
+            }
+            keys[i] = key;
+            values[i] = value;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.*;
+
+/**
+ * Renumbers the vertices of a road graph so that vertices which are close in the graph get
+ * close ids.
+ *
+ * <p>
+ * {@link GpkgRoadGraphPreprocessor} numbers the vertices in the order in which their
+ * coordinates were first seen, which has little to do with where they are. Shortest path
+ * algorithms over array-backed graphs then touch distant parts of their arrays on almost every
+ * edge relaxation. After renumbering, the neighbours of a vertex mostly sit in the same or in
+ * adjacent cache lines and pages.
+ *
+ * <p>
+ * Three orderings are supported:
+ * <ul>
+ * <li>{@link Ordering#HILBERT} sorts the vertices along a Hilbert curve over their coordinates.
+ * It only needs the coordinates and is usually the best choice for road networks.</li>
+ * <li>{@link Ordering#BREADTH_FIRST} numbers the vertices in breadth-first order of the graph
+ * with the edge directions ignored, starting each component from a pseudo-peripheral
+ * vertex.</li>
+ * <li>{@link Ordering#REVERSE_CUTHILL_MCKEE} is the reverse Cuthill&ndash;McKee ordering, a
+ * breadth-first order which visits the neighbours of each vertex by increasing degree, reversed.
+ * It reduces the bandwidth of the adjacency matrix.</li>
+ * </ul>
+ * The last two work on graphs without coordinates.
+ *
+ * <p>
+ * The permutations can be computed from plain arrays, or applied to a pair of road-graph CSVs as
+ * written by the preprocessor through {@link #run(Path, Path, Ordering)}. The latter writes the
+ * renumbered edges and nodes files with the fixed decimals of {@link GpkgRoadGraphPreprocessor},
+ * the binary file of {@link OsmCsrGraphWriter}, and the permutation itself. While doing so it
+ * holds the whole edge list and a sort key per edge in memory, about 24 bytes per edge, next to
+ * the coordinates and a few arrays of 4 bytes per vertex.
+ * Invoke it from the command line:
+ *
+ * <pre>{@code
+ * java --module-path <...> --module org.jgrapht.osm/org.jgrapht.osm.RoadGraphRenumbering \
+ *     /path/to/region-edges.csv.gz \
+ *     /path/to/region-hilbert-edges.csv.gz \
+ *     HILBERT
+ * }</pre>
+ *
+ * <p>
+ * All permutations are returned as arrays holding the new id of each vertex, indexed by its old
+ * id.
+ */
+public final class RoadGraphRenumbering
+{
+    /**
+     * Vertex orderings.
+     */
+    public enum Ordering
+    {
+        /** Order along a Hilbert curve over the vertex coordinates. */
+        HILBERT,
+        /** Breadth-first order from a pseudo-peripheral vertex of each component. */
+        BREADTH_FIRST,
+        /** Reverse Cuthill&ndash;McKee order. */
+        REVERSE_CUTHILL_MCKEE
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private RoadGraphRenumbering()
+    {
+    }
+
+    /**
+     * CLI entry point.
+     *
+     * @param args {@code <input-edges.csv.gz>}, {@code <output-edges.csv.gz>} and optionally
+     *        the name of an {@link Ordering}, {@code HILBERT} by default
+     * @throws Exception on I/O or parse failure
+     */
+    public static void main(String[] args)
+        throws Exception
+    {
+        if (args.length != 2 && args.length != 3) {
+            System.err.println(
+                "Usage: RoadGraphRenumbering <input-edges.csv.gz> <output-edges.csv.gz>"
+                    + " [HILBERT|BREADTH_FIRST|REVERSE_CUTHILL_MCKEE]");
+            System.exit(2);
+        }
+        Ordering ordering = args.length == 3 ? Ordering.valueOf(args[2].toUpperCase(Locale.ROOT))
+            : Ordering.HILBERT;
+        Result result = run(Path.of(args[0]), Path.of(args[1]), ordering);
+        System.out.printf(
+            "vertices: %d%n"
+                + "edges: %d%n"
+                + "mean id gap between edge endpoints: %.1f -> %.1f%n"
+                + "edges file: %s%n"
+                + "nodes file: %s%n"
+                + "binary file: %s%n"
+                + "permutation file: %s%n",
+            result.vertexCount,
+            result.edgeCount,
+            result.meanIdGapBefore,
+            result.meanIdGapAfter,
+            result.edgesOut,
+            result.nodesOut,
+            result.csrOut,
+            result.permutationOut);
+    }
+
+    /**
+     * Renumbers a pair of road-graph CSVs.
+     *
+     * <p>
+     * The nodes file is expected next to the edges file, as written by the preprocessor, and
+     * must list the vertices in increasing id order starting at zero. The renumbered files are
+     * written in the same format and order: nodes by id, edges by {@code (src, dst)}. The
+     * permutation is written as a headerless {@code old_id,new_id} CSV.
+     *
+     * @param edgesCsvGz gzipped {@code src,dst,weight} edges file to renumber
+     * @param edgesOutPath destination for the renumbered edges CSV; the nodes CSV, the binary
+     *        file and the permutation are written alongside with suffixes
+     *        {@code .nodes.csv.gz}, {@code .csr} and {@code .permutation.csv.gz}
+     * @param ordering the vertex ordering
+     * @return summary statistics
+     * @throws IOException on I/O failure, or if the input is malformed
+     */
+    public static Result run(Path edgesCsvGz, Path edgesOutPath, Ordering ordering)
+        throws IOException
+    {
+        Objects.requireNonNull(ordering, "ordering cannot be null");
+        Path nodesCsvGz = GpkgRoadGraphPreprocessor.deriveSiblingPath(edgesCsvGz, ".nodes.csv.gz");
+        Path nodesOutPath =
+            GpkgRoadGraphPreprocessor.deriveSiblingPath(edgesOutPath, ".nodes.csv.gz");
+        Path csrOutPath = GpkgRoadGraphPreprocessor.deriveSiblingPath(edgesOutPath, ".csr");
+        Path permutationOutPath =
+            GpkgRoadGraphPreprocessor.deriveSiblingPath(edgesOutPath, ".permutation.csv.gz");
+
+        double[][] coordinates = { new double[1024], new double[1024] };
+        int[] n = { 0 };
+        OsmCsrGraphWriter.forEachLine(nodesCsvGz, (line, d1, d2) -> {
+            int id = Integer.parseInt(line, 0, d1, 10);
+            if (id != n[0]) {
+                throw new IllegalArgumentException(
+                    "expected node id " + n[0] + " but found " + id);
+            }
+            if (id == coordinates[0].length) {
+                coordinates[0] = Arrays.copyOf(coordinates[0], 2 * id);
+                coordinates[1] = Arrays.copyOf(coordinates[1], 2 * id);
+            }
+            coordinates[0][id] = Double.parseDouble(line.substring(d1 + 1, d2));
+            coordinates[1][id] = Double.parseDouble(line.substring(d2 + 1));
+            n[0]++;
+        });
+        int vertexCount = n[0];
+        double[] latitudes = Arrays.copyOf(coordinates[0], vertexCount);
+        double[] longitudes = Arrays.copyOf(coordinates[1], vertexCount);
+
+        EdgeList edges = new EdgeList();
+        OsmCsrGraphWriter.forEachLine(edgesCsvGz, (line, d1, d2) -> {
+            int src = Integer.parseInt(line, 0, d1, 10);
+            int dst = Integer.parseInt(line, d1 + 1, d2, 10);
+            if (src < 0 || src >= vertexCount || dst < 0 || dst >= vertexCount) {
+                throw new IllegalArgumentException("edge endpoint is not a node id");
+            }
+            edges.add(src, dst, Double.parseDouble(line.substring(d2 + 1)));
+        });
+        int m = edges.size;
+
+        int[] permutation;
+        switch (ordering) {
+        case HILBERT:
+            permutation = hilbertPermutation(latitudes, longitudes);
+            break;
+        case BREADTH_FIRST:
+            permutation = graphPermutation(vertexCount, edges.sources, edges.targets, m, false);
+            break;
+        default:
+            permutation = graphPermutation(vertexCount, edges.sources, edges.targets, m, true);
+            break;
+        }
+
+        int[] inverse = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            inverse[permutation[v]] = v;
+        }
+        try (Writer w = newGzWriter(nodesOutPath)) {
+            for (int v = 0; v < vertexCount; v++) {
+                int old = inverse[v];
+                w.write(Integer.toString(v));
+                w.write(',');
+                GpkgRoadGraphPreprocessor.writeCoordinate(w, latitudes[old]);
+                w.write(',');
+                GpkgRoadGraphPreprocessor.writeCoordinate(w, longitudes[old]);
+                w.write('\n');
+            }
+        }
+        inverse = null;
+
+        // bucket the edges by new source, then order each bucket by new target
+        int[] start = new int[vertexCount + 1];
+        for (int e = 0; e < m; e++) {
+            start[permutation[edges.sources[e]] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] next = Arrays.copyOf(start, vertexCount);
+        long[] keys = new long[m];
+        double gapBefore = 0d;
+        double gapAfter = 0d;
+        for (int e = 0; e < m; e++) {
+            int src = permutation[edges.sources[e]];
+            int dst = permutation[edges.targets[e]];
+            keys[next[src]++] = ((long) dst << 32) | e;
+            gapBefore += Math.abs(edges.sources[e] - edges.targets[e]);
+            gapAfter += Math.abs(src - dst);
+        }
+        next = null;
+        try (Writer w = newGzWriter(edgesOutPath)) {
+            for (int v = 0; v < vertexCount; v++) {
+                Arrays.sort(keys, start[v], start[v + 1]);
+                String src = Integer.toString(v);
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    w.write(src);
+                    w.write(',');
+                    w.write(Integer.toString((int) (keys[i] >>> 32)));
+                    w.write(',');
+                    GpkgRoadGraphPreprocessor.writeWeight(w, edges.weights[(int) keys[i]]);
+                    w.write('\n');
+                }
+            }
+        }
+        keys = null;
+
+        try (Writer w = newGzWriter(permutationOutPath)) {
+            for (int v = 0; v < vertexCount; v++) {
+                w.write(Integer.toString(v));
+                w.write(',');
+                w.write(Integer.toString(permutation[v]));
+                w.write('\n');
+            }
+        }
+
+        OsmCsrGraphWriter.write(edgesOutPath, nodesOutPath, csrOutPath);
+
+        return new Result(
+            vertexCount, m, m == 0 ? 0d : gapBefore / m, m == 0 ? 0d : gapAfter / m, edgesOutPath,
+            nodesOutPath, csrOutPath, permutationOutPath);
+    }
+
+    /**
+     * Computes the ordering of vertices along a Hilbert curve over their coordinates.
+     *
+     * @param latitudes the latitude of each vertex
+     * @param longitudes the longitude of each vertex
+     * @return the new id of each vertex
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static int[] hilbertPermutation(double[] latitudes, double[] longitudes)
+    {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("coordinate arrays differ in length");
+        }
+        int n = latitudes.length;
+        long[] hilbert = HilbertCurve.positions(longitudes, latitudes);
+        // vertices ordered by their position along the curve, ties by vertex
+        for (int v = 0; v < n; v++) {
+            hilbert[v] = (hilbert[v] << 31) | v;
+        }
+        Arrays.parallelSort(hilbert);
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[(int) (hilbert[i] & Integer.MAX_VALUE)] = i;
+        }
+        return permutation;
+    }
+
+    /**
+     * Computes the breadth-first ordering of a graph, ignoring edge directions. Each component
+     * is numbered from a pseudo-peripheral vertex, and the components are numbered in the order
+     * of their smallest vertex.
+     *
+     * @param n the number of vertices, which are numbered from zero
+     * @param sources the source of each edge
+     * @param targets the target of each edge
+     * @return the new id of each vertex
+     * @throws IllegalArgumentException if the arrays differ in length or an edge endpoint is
+     *         not a vertex
+     */
+    public static int[] breadthFirstPermutation(int n, int[] sources, int[] targets)
+    {
+        checkEdges(n, sources, targets);
+        return graphPermutation(n, sources, targets, sources.length, false);
+    }
+
+    /**
+     * Computes the reverse Cuthill&ndash;McKee ordering of a graph, ignoring edge directions.
+     * Each component is numbered from a pseudo-peripheral vertex, and the components are
+     * numbered in the order of their smallest vertex before the whole order is reversed.
+     *
+     * @param n the number of vertices, which are numbered from zero
+     * @param sources the source of each edge
+     * @param targets the target of each edge
+     * @return the new id of each vertex
+     * @throws IllegalArgumentException if the arrays differ in length or an edge endpoint is
+     *         not a vertex
+     */
+    public static int[] reverseCuthillMcKeePermutation(int n, int[] sources, int[] targets)
+    {
+        checkEdges(n, sources, targets);
+        return graphPermutation(n, sources, targets, sources.length, true);
+    }
+
+    private static void checkEdges(int n, int[] sources, int[] targets)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("number of vertices must be non-negative");
+        }
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("edge arrays differ in length");
+        }
+        for (int e = 0; e < sources.length; e++) {
+            if (sources[e] < 0 || sources[e] >= n || targets[e] < 0 || targets[e] >= n) {
+                throw new IllegalArgumentException("edge endpoint is not a vertex");
+            }
+        }
+    }
+
+    /**
+     * Breadth-first or Cuthill&ndash;McKee numbering over the first {@code m} edges.
+     */
+    private static int[] graphPermutation(
+        int n, int[] sources, int[] targets, int m, boolean cuthillMcKee)
+    {
+        // symmetric adjacency in compressed sparse row form, self-loops dropped
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            if (sources[e] != targets[e]) {
+                offsets[sources[e] + 1]++;
+                offsets[targets[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] neighbors = new int[offsets[n]];
+        int[] next = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < m; e++) {
+            int s = sources[e];
+            int t = targets[e];
+            if (s != t) {
+                neighbors[next[s]++] = t;
+                neighbors[next[t]++] = s;
+            }
+        }
+        next = null;
+
+        // the order array doubles as the queue of the numbering search
+        int[] order = new int[n];
+        boolean[] placed = new boolean[n];
+        int[] mark = new int[n];
+        int[] queue = new int[n];
+        long[] scratch = new long[16];
+        int[] stamp = { 0 };
+        int tail = 0;
+        for (int root = 0; root < n; root++) {
+            if (placed[root]) {
+                continue;
+            }
+            int head = tail;
+            order[tail++] = pseudoPeripheralVertex(root, offsets, neighbors, mark, queue, stamp);
+            placed[order[head]] = true;
+            while (head < tail) {
+                int u = order[head++];
+                int first = tail;
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int w = neighbors[i];
+                    if (!placed[w]) {
+                        placed[w] = true;
+                        order[tail++] = w;
+                    }
+                }
+                if (cuthillMcKee && tail - first > 1) {
+                    int count = tail - first;
+                    if (scratch.length < count) {
+                        scratch = new long[Math.max(count, 2 * scratch.length)];
+                    }
+                    for (int i = 0; i < count; i++) {
+                        int w = order[first + i];
+                        scratch[i] = ((long) (offsets[w + 1] - offsets[w]) << 32) | w;
+                    }
+                    Arrays.sort(scratch, 0, count);
+                    for (int i = 0; i < count; i++) {
+                        order[first + i] = (int) scratch[i];
+                    }
+                }
+            }
+        }
+
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[order[i]] = cuthillMcKee ? n - 1 - i : i;
+        }
+        return permutation;
+    }
+
+    /**
+     * Finds a vertex of large eccentricity in the component of {@code root} with the heuristic
+     * of George and Liu: repeatedly restart the search from a vertex of minimum degree in the
+     * last level, for as long as the number of levels grows.
+     */
+    private static int pseudoPeripheralVertex(
+        int root, int[] offsets, int[] neighbors, int[] mark, int[] queue, int[] stamp)
+    {
+        int best = root;
+        int bestDepth = -1;
+        int start = root;
+        while (true) {
+            int s = ++stamp[0];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            mark[start] = s;
+            int depth = 0;
+            int levelStart = 0;
+            while (true) {
+                int levelEnd = tail;
+                for (; head < levelEnd; head++) {
+                    int u = queue[head];
+                    for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                        int w = neighbors[i];
+                        if (mark[w] != s) {
+                            mark[w] = s;
+                            queue[tail++] = w;
+                        }
+                    }
+                }
+                if (tail == levelEnd) {
+                    break;
+                }
+                levelStart = levelEnd;
+                depth++;
+            }
+            if (depth <= bestDepth) {
+                return best;
+            }
+            best = start;
+            bestDepth = depth;
+
+            int candidate = queue[levelStart];
+            for (int i = levelStart + 1; i < tail; i++) {
+                int w = queue[i];
+                if (offsets[w + 1] - offsets[w] < offsets[candidate + 1] - offsets[candidate]) {
+                    candidate = w;
+                }
+            }
+            if (candidate == start) {
+                return best;
+            }
+            start = candidate;
+        }
+    }
+
+    private static Writer newGzWriter(Path path)
+        throws IOException
+    {
+        return new BufferedWriter(
+            new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(path), BUFFER_SIZE),
+                StandardCharsets.UTF_8),
+            BUFFER_SIZE);
+    }
+
+    /**
+     * Growable primitive edge list.
+     */
+    private static final class EdgeList
+    {
+        int[] sources = new int[1024];
+        int[] targets = new int[1024];
+        double[] weights = new double[1024];
+        int size;
+
+        void add(int source, int target, double weight)
+        {
+            if (size == sources.length) {
+                if (size == Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("too many edges");
+                }
+                int capacity = (int) Math.min(2L * size, Integer.MAX_VALUE - 8);
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            sources[size] = source;
+            targets[size] = target;
+            weights[size++] = weight;
+        }
+    }
+
+    /** Summary statistics from a renumbering run. */
+    public static final class Result
+    {
+        /** Number of vertices. */
+        public final int vertexCount;
+        /** Number of edges. */
+        public final int edgeCount;
+        /** Mean absolute difference of the endpoint ids of an edge before renumbering. */
+        public final double meanIdGapBefore;
+        /** Mean absolute difference of the endpoint ids of an edge after renumbering. */
+        public final double meanIdGapAfter;
+        /** Renumbered edges CSV output path. */
+        public final Path edgesOut;
+        /** Renumbered nodes CSV output path. */
+        public final Path nodesOut;
+        /** Binary compressed sparse row output path. */
+        public final Path csrOut;
+        /** Permutation CSV output path. */
+        public final Path permutationOut;
+
+        Result(
+            int vertexCount, int edgeCount, double meanIdGapBefore, double meanIdGapAfter,
+            Path edgesOut, Path nodesOut, Path csrOut, Path permutationOut)
+        {
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.meanIdGapBefore = meanIdGapBefore;
+            this.meanIdGapAfter = meanIdGapAfter;
+            this.edgesOut = edgesOut;
+            this.nodesOut = nodesOut;
+            this.csrOut = csrOut;
+            this.permutationOut = permutationOut;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static org.jgrapht.osm.TestStreams.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link GpkgRoadGraphPreprocessor}, fed through a synthetic segment source.
+ */
+class GpkgRoadGraphPreprocessorTest
+{
+    // corners of a small square in Andorra, as {lon, lat}
+    private static final double[] A = { 1.5000000, 42.5000000 };
+    private static final double[] B = { 1.5010000, 42.5000000 };
+    private static final double[] C = { 1.5010000, 42.5010000 };
+    private static final double[] D = { 1.5000000, 42.5010000 };
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void followsOnewayDirections() throws IOException, SQLException
+    {
+        GpkgRoadGraphPreprocessor.Result result = run(sink -> {
+            sink.accept(A[0], A[1], B[0], B[1], "B");
+            sink.accept(B[0], B[1], C[0], C[1], "F");
+            // reverse only, so C -> A closes the cycle
+            sink.accept(A[0], A[1], C[0], C[1], "T");
+        });
+
+        assertEquals(3, result.inputSegments);
+        assertEquals(3, result.verticesAll);
+        assertEquals(3, result.verticesInLargestScc);
+        assertEquals(List.of("0,1", "1,0", "1,2", "2,0"), edgePairs(result));
+    }
+
+    @Test
+    void dropsSelfLoopsAndSnapsDuplicateCoordinates() throws IOException, SQLException
+    {
+        GpkgRoadGraphPreprocessor.Result result = run(sink -> {
+            sink.accept(A[0], A[1], B[0], B[1], "B");
+            sink.accept(A[0], A[1], A[0], A[1], "B");
+            // both endpoints snap to A
+            sink.accept(A[0], A[1], A[0] + 2e-9, A[1] - 2e-9, "B");
+            // snaps onto the existing A -> B segment
+            sink.accept(A[0] + 3e-9, A[1], B[0], B[1] + 3e-9, "F");
+        });
+
+        assertEquals(4, result.inputSegments);
+        assertEquals(2, result.verticesAll);
+        assertEquals(2, result.verticesInLargestScc);
+        assertEquals(List.of("0,1", "1,0"), edgePairs(result));
+        assertEquals(
+            List.of("0,42.5000000,1.5000000", "1,42.5000000,1.5010000"),
+            gunzipLines(result.nodesOut));
+    }
+
+    @Test
+    void keepsLargestComponent() throws IOException, SQLException
+    {
+        double[] e = { 1.6000000, 42.6000000 };
+        double[] f = { 1.6010000, 42.6000000 };
+        GpkgRoadGraphPreprocessor.Result result = run(sink -> {
+            // two-vertex component A <-> E
+            sink.accept(A[0], A[1], e[0], e[1], "B");
+            // one-way bridge into the triangle, which does not merge the components
+            sink.accept(A[0], A[1], B[0], B[1], "F");
+            // one-way triangle B -> C -> D -> B
+            sink.accept(B[0], B[1], C[0], C[1], "F");
+            sink.accept(C[0], C[1], D[0], D[1], "F");
+            sink.accept(D[0], D[1], B[0], B[1], "F");
+            // dead end leaving the triangle
+            sink.accept(D[0], D[1], f[0], f[1], "F");
+        });
+
+        assertEquals(6, result.verticesAll);
+        assertEquals(3, result.verticesInLargestScc);
+        assertEquals(3, result.edgesInLargestScc);
+        // B, C and D keep their relative order as the first three ids
+        assertEquals(List.of("0,1", "1,2", "2,0"), edgePairs(result));
+        assertEquals(
+            List.of(
+                "0,42.5000000,1.5010000", "1,42.5010000,1.5010000", "2,42.5010000,1.5000000"),
+            gunzipLines(result.nodesOut));
+    }
+
+    @Test
+    void collapsesParallelEdgesToMinimumWeight() throws IOException, SQLException
+    {
+        // both start points snap to A, but the second one is about 3 mm closer to D
+        double[] near = { A[0], A[1] + 3e-8 };
+        double farWeight = HaversineHeuristic.distanceMeters(A[1], A[0], D[1], D[0]);
+        double nearWeight = HaversineHeuristic.distanceMeters(near[1], near[0], D[1], D[0]);
+        GpkgRoadGraphPreprocessor.Result result = run(sink -> {
+            sink.accept(A[0], A[1], D[0], D[1], "B");
+            sink.accept(near[0], near[1], D[0], D[1], "B");
+        });
+
+        assertTrue(farWeight - nearWeight > 1e-3);
+        assertEquals(2, result.edgesInLargestScc);
+        for (String line : gunzipLines(result.edgesOut)) {
+            assertEquals(nearWeight, Double.parseDouble(line.split(",")[2]), 1e-4);
+        }
+    }
+
+    @Test
+    void mergesSortedRuns() throws IOException, SQLException
+    {
+        GpkgRoadGraphPreprocessor.SegmentSource grid = sink -> {
+            for (int i = 0; i < 5; i++) {
+                for (int j = 0; j < 5; j++) {
+                    double lon = 1.5 + i * 1e-3;
+                    double lat = 42.5 + j * 1e-3;
+                    if (i < 4) {
+                        sink.accept(lon, lat, lon + 1e-3, lat, "B");
+                    }
+                    if (j < 4) {
+                        sink.accept(lon, lat, lon, lat + 1e-3, "B");
+                        // a slightly shorter parallel edge, which lands in another run
+                        sink.accept(lon, lat + 3e-8, lon, lat + 1e-3, "B");
+                    }
+                }
+            }
+        };
+        GpkgRoadGraphPreprocessor.Result inMemory =
+            GpkgRoadGraphPreprocessor.run(grid, dir.resolve("memory.csv.gz"));
+        GpkgRoadGraphPreprocessor.Result merged =
+            GpkgRoadGraphPreprocessor.run(grid, dir.resolve("merged.csv.gz"), 7);
+
+        assertEquals(25, merged.verticesInLargestScc);
+        assertEquals(80, merged.edgesInLargestScc);
+        assertEquals(inMemory.edgesInLargestScc, merged.edgesInLargestScc);
+        assertEquals(gunzipLines(inMemory.edgesOut), gunzipLines(merged.edgesOut));
+        assertEquals(gunzipLines(inMemory.nodesOut), gunzipLines(merged.nodesOut));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.noneMatch(p -> p.getFileName().toString().endsWith(".tmp")));
+        }
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> GpkgRoadGraphPreprocessor.run(grid, dir.resolve("none.csv.gz"), 0));
+    }
+
+    private GpkgRoadGraphPreprocessor.Result run(GpkgRoadGraphPreprocessor.SegmentSource source)
+        throws IOException, SQLException
+    {
+        return GpkgRoadGraphPreprocessor.run(source, dir.resolve("region.csv.gz"));
+    }
+
+    private static List<String> edgePairs(GpkgRoadGraphPreprocessor.Result result)
+        throws IOException
+    {
+        List<String> pairs = new ArrayList<>();
+        for (String line : gunzipLines(result.edgesOut)) {
+            pairs.add(line.substring(0, line.lastIndexOf(',')));
+        }
+        return pairs;
+    }
+}
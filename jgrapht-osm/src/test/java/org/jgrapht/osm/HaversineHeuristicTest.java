@@ -17,8 +17,12 @@
  */
 package org.jgrapht.osm;
 
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
 import org.junit.jupiter.api.*;
 
+import java.nio.*;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -106,4 +110,173 @@ class HaversineHeuristicTest
             IllegalArgumentException.class,
             () -> new HaversineHeuristic<>(coords::get, -1.0));
     }
+
+    @Test
+    void flatBoundNeverExceedsHaversine()
+    {
+        Random rng = new Random(3L);
+        int n = 2000;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int v = 0; v < n; v++) {
+            // half the points worldwide, half within a city
+            lats[v] = v % 2 == 0 ? rng.nextDouble() * 180 - 90 : 42.5 + rng.nextDouble() * 0.1;
+            lons[v] = v % 2 == 0 ? rng.nextDouble() * 360 - 180 : 1.5 + rng.nextDouble() * 0.1;
+        }
+        HaversineHeuristic.Flat h = HaversineHeuristic.ofArrays(lats, lons);
+
+        for (int i = 0; i < 20_000; i++) {
+            int u = rng.nextInt(n);
+            int v = rng.nextInt(n);
+            double exact = HaversineHeuristic.distanceMeters(lats[u], lons[u], lats[v], lons[v]);
+            double estimate = h.getCostEstimate(u, v);
+            assertTrue(estimate <= exact, estimate + " > " + exact);
+            if (u % 2 == 1 && v % 2 == 1) {
+                assertEquals(exact, estimate, exact * 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void flatBoundAcrossAntimeridianAndPoles()
+    {
+        HaversineHeuristic.Flat h = HaversineHeuristic
+            .ofArrays(new double[] { 10, 10, 89.9, 89.9 }, new double[] { 179.9, -179.9, 0, 180 });
+
+        double across = HaversineHeuristic.distanceMeters(10, 179.9, 10, -179.9);
+        assertTrue(h.getCostEstimate(0, 1) <= across);
+        assertEquals(across, h.getCostEstimate(0, 1), across * 1e-6);
+        double overPole = HaversineHeuristic.distanceMeters(89.9, 0, 89.9, 180);
+        assertTrue(h.getCostEstimate(2, 3) <= overPole);
+        assertEquals(overPole, h.getCostEstimate(2, 3), overPole * 1e-3);
+    }
+
+    @Test
+    void singlePrecisionStaysBelowDoubleDistance()
+    {
+        Random rng = new Random(5L);
+        int n = 500;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        float[] floatLats = new float[n];
+        float[] floatLons = new float[n];
+        for (int v = 0; v < n; v++) {
+            lats[v] = 42.5 + rng.nextDouble() * 0.01;
+            lons[v] = 179.99 + rng.nextDouble() * 0.01;
+            floatLats[v] = (float) lats[v];
+            floatLons[v] = (float) lons[v];
+        }
+        HaversineHeuristic.Flat h = HaversineHeuristic.ofArrays(floatLats, floatLons);
+
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                double exact =
+                    HaversineHeuristic.distanceMeters(lats[u], lons[u], lats[v], lons[v]);
+                double estimate = h.getCostEstimate(u, v);
+                assertTrue(estimate <= exact);
+                assertTrue(estimate >= exact - 4);
+            }
+        }
+    }
+
+    @Test
+    void flatUnknownVerticesEstimateZero()
+    {
+        HaversineHeuristic.Flat h =
+            HaversineHeuristic.ofArrays(new double[] { 42.5 }, new double[] { 1.5 });
+
+        assertEquals(0.0, h.getCostEstimate(0, 0), 0.0);
+        assertEquals(0.0, h.getCostEstimate(0, 1), 0.0);
+        assertEquals(0.0, h.getCostEstimate(Integer.valueOf(-1), Integer.valueOf(0)), 0.0);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> HaversineHeuristic.ofArrays(new double[1], new double[2]));
+    }
+
+    @Test
+    void flatTravelTimeScalesByMaxSpeed()
+    {
+        double[] lats = { 42.50, 42.50, 42.51 };
+        double[] lons = { 1.50, 1.51, 1.51 };
+        double d01 = HaversineHeuristic.distanceMeters(lats[0], lons[0], lats[1], lons[1]);
+        double d12 = HaversineHeuristic.distanceMeters(lats[1], lons[1], lats[2], lons[2]);
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        // a motorway at 30 m/s and a street at 10 m/s
+        Graphs.addEdgeWithVertices(g, 0, 1, d01 / 30);
+        Graphs.addEdgeWithVertices(g, 1, 2, d12 / 10);
+        HaversineHeuristic.Flat distance = HaversineHeuristic.ofArrays(lats, lons);
+
+        HaversineHeuristic.Flat time = distance.forTravelTime(g);
+
+        assertEquals(distance.getCostEstimate(0, 2) / 30, time.getCostEstimate(0, 2), 1e-6);
+        assertEquals(
+            distance.getCostEstimate(0, 2) / 20,
+            distance.forTravelTime(20).getCostEstimate(0, 2), 1e-6);
+        assertThrows(IllegalArgumentException.class, () -> distance.forTravelTime(0));
+        g.setEdgeWeight(g.getEdge(0, 1), 0);
+        assertThrows(IllegalArgumentException.class, () -> distance.forTravelTime(g));
+    }
+
+    @Test
+    void flatAStarFindsShortestPaths()
+    {
+        Random rng = new Random(9L);
+        int n = 600;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int v = 0; v < n; v++) {
+            lats[v] = 42.4 + rng.nextDouble() * 0.2;
+            lons[v] = 1.4 + rng.nextDouble() * 0.2;
+            g.addVertex(v);
+        }
+        // connect every vertex to a few near ones, with roads somewhat longer than the crow flies
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                double d = HaversineHeuristic.distanceMeters(lats[u], lons[u], lats[v], lons[v]);
+                if (u != v && d < 1500) {
+                    g.setEdgeWeight(g.addEdge(u, v), d * (1 + rng.nextDouble() * 0.3));
+                }
+            }
+        }
+        HaversineHeuristic.Flat h = HaversineHeuristic.ofArrays(lats, lons);
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(g);
+        AStarShortestPath<Integer, DefaultWeightedEdge> astar = new AStarShortestPath<>(g, h);
+        AStarShortestPath<Integer, DefaultWeightedEdge> blind =
+            new AStarShortestPath<>(g, (u, v) -> 0.0);
+
+        int guidedExpansions = 0;
+        int blindExpansions = 0;
+        for (int i = 0; i < 30; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            double expected = dijkstra.getPathWeight(s, t);
+            GraphPath<Integer, DefaultWeightedEdge> path = astar.getPath(s, t);
+            if (Double.isInfinite(expected)) {
+                assertTrue(path == null || path.getEdgeList().isEmpty());
+                continue;
+            }
+            assertEquals(expected, path.getWeight(), 1e-6);
+            guidedExpansions += astar.getNumberOfExpandedNodes();
+            blind.getPath(s, t);
+            blindExpansions += blind.getNumberOfExpandedNodes();
+        }
+        assertTrue(guidedExpansions < blindExpansions);
+    }
+
+    @Test
+    void ofGraphReadsMappedCoordinates()
+    {
+        OsmCsrGraph g = new OsmCsrGraph(
+            2, 1, IntBuffer.wrap(new int[] { 0, 1, 1 }), IntBuffer.wrap(new int[] { 0 }),
+            IntBuffer.wrap(new int[] { 1 }), FloatBuffer.wrap(new float[] { 1f }),
+            DoubleBuffer.wrap(new double[] { 42.50, 42.51 }),
+            DoubleBuffer.wrap(new double[] { 1.50, 1.51 }));
+
+        assertEquals(
+            HaversineHeuristic.distanceMeters(42.50, 1.50, 42.51, 1.51),
+            HaversineHeuristic.ofGraph(g).getCostEstimate(0, 1), 0.05);
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.jgrapht.osm.TestStreams.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link OsmCsrGraphWriter} and {@link OsmCsrGraphLoader}.
+ */
+class OsmCsrGraphLoaderTest
+{
+    private static final String EDGES = "0,1,2.5\n0,2,7.0\n2,0,7.0\n2,3,1.25\n3,3,0.5\n";
+    private static final String NODES =
+        "0,42.5078,1.5211\n1,42.5100,1.5300\n2,42.4600,1.4900\n3,42.5631,1.5997\n4,42.5,1.5\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsStructureWeightsAndCoordinates() throws IOException
+    {
+        OsmCsrGraph g = OsmCsrGraphLoader.load(write(EDGES, NODES));
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(5, g.edgeSet().size());
+        assertEquals(Set.of(0, 1), g.outgoingEdgesOf(0));
+        assertEquals(Set.of(), g.outgoingEdgesOf(1));
+        assertEquals(Set.of(), g.outgoingEdgesOf(4));
+        assertEquals(2, g.getOutgoingEdgesStart(2));
+        assertEquals(4, g.getOutgoingEdgesEnd(2));
+        assertEquals(2, g.outDegreeOf(2));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(3));
+        assertEquals(Integer.valueOf(3), g.getEdgeTarget(3));
+        assertEquals(Integer.valueOf(3), g.getEdge(2, 3));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(Set.of(4), g.getAllEdges(3, 3));
+        assertEquals(1.25, g.getEdgeWeight(3), 0.0);
+        assertEquals(42.5631, g.getLatitude(3), 0.0);
+        assertEquals(1.5997, g.getLongitude(3), 0.0);
+        assertTrue(g.getType().isDirected());
+        assertTrue(g.getType().isWeighted());
+    }
+
+    @Test
+    void matchesSparseIntDirectedWeightedGraph() throws IOException
+    {
+        OsmCsrGraph g = OsmCsrGraphLoader.load(write(EDGES, NODES));
+
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        for (String line : EDGES.split("\n")) {
+            String[] cols = line.split(",");
+            edges.add(
+                Triple.of(
+                    Integer.parseInt(cols[0]), Integer.parseInt(cols[1]),
+                    Double.parseDouble(cols[2])));
+        }
+        SparseIntDirectedWeightedGraph sparse = new SparseIntDirectedWeightedGraph(
+            5, edges, IncomingEdgesSupport.NO_INCOMING_EDGES);
+
+        assertEquals(sparse.vertexSet(), g.vertexSet());
+        assertEquals(sparse.edgeSet(), g.edgeSet());
+        for (Integer v : sparse.vertexSet()) {
+            assertEquals(sparse.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+        }
+        for (Integer e : sparse.edgeSet()) {
+            assertEquals(sparse.getEdgeSource(e), g.getEdgeSource(e));
+            assertEquals(sparse.getEdgeTarget(e), g.getEdgeTarget(e));
+            assertEquals(sparse.getEdgeWeight(e), g.getEdgeWeight(e), 0.0);
+        }
+    }
+
+    @Test
+    void weightChangesDoNotTouchTheFile() throws IOException
+    {
+        Path csr = write(EDGES, NODES);
+        OsmCsrGraph g = OsmCsrGraphLoader.load(csr);
+
+        g.setEdgeWeight(0, 9.0);
+        assertEquals(9.0, g.getEdgeWeight(0), 0.0);
+        assertEquals(7.0, g.getEdgeWeight(1), 0.0);
+        assertEquals(2.5, OsmCsrGraphLoader.load(csr).getEdgeWeight(0), 0.0);
+    }
+
+    @Test
+    void isUnmodifiable() throws IOException
+    {
+        Graph<Integer, Integer> g = OsmCsrGraphLoader.load(write(EDGES, NODES));
+
+        assertThrows(UnsupportedOperationException.class, () -> g.addVertex(5));
+        assertThrows(UnsupportedOperationException.class, () -> g.addEdge(1, 0));
+        assertThrows(UnsupportedOperationException.class, () -> g.removeEdge(0));
+        assertThrows(UnsupportedOperationException.class, () -> g.incomingEdgesOf(0));
+        assertThrows(IllegalArgumentException.class, () -> g.getEdgeSource(5));
+    }
+
+    @Test
+    void loadsEmptyGraph() throws IOException
+    {
+        OsmCsrGraph g = OsmCsrGraphLoader.load(write("", ""));
+
+        assertTrue(g.vertexSet().isEmpty());
+        assertTrue(g.edgeSet().isEmpty());
+    }
+
+    @Test
+    void rejectsEdgesNotGroupedBySource()
+    {
+        assertThrows(IOException.class, () -> write("1,0,1.0\n0,1,1.0\n", "0,0,0\n1,0,0\n"));
+    }
+
+    @Test
+    void rejectsUnknownEndpoint()
+    {
+        assertThrows(IOException.class, () -> write("0,2,1.0\n", "0,0,0\n1,0,0\n"));
+    }
+
+    @Test
+    void rejectsForeignFile() throws IOException
+    {
+        Path file = dir.resolve("foreign.csr");
+        Files.write(file, new byte[32]);
+
+        assertThrows(IOException.class, () -> OsmCsrGraphLoader.load(file));
+    }
+
+    @Test
+    void rejectsCorruptColumns() throws IOException
+    {
+        OsmCsrFormat.Layout layout = new OsmCsrFormat.Layout(5, 5);
+        // a decreasing offset, a source outside of its row and a target which is not a vertex
+        long[] positions = { layout.offsets + 3L * Integer.BYTES,
+            layout.sources + 2L * Integer.BYTES, layout.targets + 3L * Integer.BYTES };
+        int[] values = { 1, 1, 5 };
+        String[] messages = { "corrupt offsets", "corrupt sources", "corrupt targets" };
+        for (int i = 0; i < positions.length; ++i) {
+            Path csr = write(EDGES, NODES);
+            try (FileChannel channel = FileChannel.open(csr, StandardOpenOption.WRITE)) {
+                channel.write(
+                    ByteBuffer
+                        .allocate(Integer.BYTES).order(OsmCsrFormat.BYTE_ORDER)
+                        .putInt(0, values[i]),
+                    positions[i]);
+            }
+
+            IOException e = assertThrows(IOException.class, () -> OsmCsrGraphLoader.load(csr));
+            assertTrue(e.getMessage().startsWith(messages[i]), e.getMessage());
+        }
+    }
+
+    private Path write(String edges, String nodes) throws IOException
+    {
+        Path edgesPath = dir.resolve("edges.csv.gz");
+        Path nodesPath = dir.resolve("edges.nodes.csv.gz");
+        Path csrPath = dir.resolve("edges.csr");
+        try (InputStream in = gzipOf(edges)) {
+            Files.copy(in, edgesPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (InputStream in = gzipOf(nodes)) {
+            Files.copy(in, nodesPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        OsmCsrGraphWriter.write(edgesPath, nodesPath, csrPath);
+        return csrPath;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.jupiter.api.*;
+
+import java.nio.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link OsmSpatialIndex}.
+ */
+class OsmSpatialIndexTest
+{
+    private static final long SEED = 17L;
+
+    @Test
+    void emptyIndexFindsNothing()
+    {
+        OsmSpatialIndex<DefaultWeightedEdge> index = OsmSpatialIndex.ofVertices(Map.of());
+
+        assertNull(index.nearestVertex(42.5, 1.5));
+        assertTrue(index.nearestVertices(42.5, 1.5, 3).isEmpty());
+        assertTrue(index.verticesWithin(42.5, 1.5, 1000).isEmpty());
+        assertNull(index.nearestEdge(42.5, 1.5));
+    }
+
+    @Test
+    void singleVertex()
+    {
+        OsmSpatialIndex<DefaultWeightedEdge> index =
+            OsmSpatialIndex.ofVertices(Map.of(7, new double[] { 42.5, 1.5 }));
+
+        assertEquals(Integer.valueOf(7), index.nearestVertex(-10, 100));
+        assertEquals(List.of(7), index.nearestVertices(42.5, 1.5, 5));
+        assertEquals(List.of(7), index.verticesWithin(42.5, 1.5, 0));
+    }
+
+    @Test
+    void verticesMatchLinearScan()
+    {
+        Random rng = new Random(SEED);
+        Map<Integer, double[]> coords = randomCoordinates(rng, 2000);
+        OsmSpatialIndex<DefaultWeightedEdge> index = OsmSpatialIndex.ofVertices(coords);
+
+        for (int i = 0; i < 100; i++) {
+            double lat = 42.4 + rng.nextDouble() * 0.3;
+            double lon = 1.4 + rng.nextDouble() * 0.4;
+            List<Integer> byDistance = coords
+                .keySet().stream()
+                .sorted(Comparator.comparingDouble(v -> distance(coords.get(v), lat, lon)))
+                .collect(Collectors.toList());
+
+            assertEquals(byDistance.get(0), index.nearestVertex(lat, lon));
+            assertEquals(byDistance.subList(0, 10), index.nearestVertices(lat, lon, 10));
+
+            double radius = 500 + rng.nextDouble() * 2000;
+            List<Integer> expected = byDistance
+                .stream().filter(v -> distance(coords.get(v), lat, lon) <= radius)
+                .collect(Collectors.toList());
+            assertEquals(expected, index.verticesWithin(lat, lon, radius));
+        }
+    }
+
+    @Test
+    void snapsToEdgeBetweenDistantEndpoints()
+    {
+        // a long straight road passing close to the query point, with its endpoints far away,
+        // and a short road whose endpoint is nearer than either endpoint of the long road
+        Map<Integer, double[]> coords = new HashMap<>();
+        coords.put(0, new double[] { 42.50, 1.40 });
+        coords.put(1, new double[] { 42.50, 1.60 });
+        coords.put(2, new double[] { 42.52, 1.50 });
+        coords.put(3, new double[] { 42.53, 1.50 });
+        Graph<Integer, DefaultWeightedEdge> g = graphOf(coords.keySet());
+        DefaultWeightedEdge road = g.addEdge(0, 1);
+        DefaultWeightedEdge spur = g.addEdge(2, 3);
+
+        OsmSpatialIndex<DefaultWeightedEdge> index = OsmSpatialIndex.of(coords, g);
+
+        assertEquals(Integer.valueOf(2), index.nearestVertex(42.501, 1.50));
+        assertSame(road, index.nearestEdge(42.501, 1.50));
+        assertEquals(List.of(road, spur), index.nearestEdges(42.501, 1.50, 5));
+        assertEquals(List.of(road), index.edgesWithin(42.501, 1.50, 200));
+        assertEquals(List.of(road, spur), index.edgesWithin(42.501, 1.50, 2500));
+    }
+
+    @Test
+    void edgesMatchLinearScan()
+    {
+        Random rng = new Random(SEED);
+        // road-like segments of at most a few hundred metres
+        Map<Integer, double[]> coords = randomCoordinates(rng, 1000);
+        for (int v = 500; v < 1000; v++) {
+            double[] a = coords.get(v - 500);
+            coords.put(
+                v, new double[] { a[0] + (rng.nextDouble() - 0.5) * 0.006,
+                    a[1] + (rng.nextDouble() - 0.5) * 0.006 });
+        }
+        Graph<Integer, DefaultWeightedEdge> g = graphOf(coords.keySet());
+        for (int v = 500; v < 1000; v++) {
+            g.addEdge(v - 500, v);
+        }
+        OsmSpatialIndex<DefaultWeightedEdge> index = OsmSpatialIndex.of(coords, g);
+
+        for (int i = 0; i < 100; i++) {
+            double lat = 42.4 + rng.nextDouble() * 0.3;
+            double lon = 1.4 + rng.nextDouble() * 0.4;
+            double best = g
+                .edgeSet().stream().mapToDouble(e -> segmentDistance(g, coords, e, lat, lon))
+                .min().getAsDouble();
+            DefaultWeightedEdge nearest = index.nearestEdge(lat, lon);
+            assertEquals(best, segmentDistance(g, coords, nearest, lat, lon), 0.5);
+
+            double radius = 300;
+            Set<DefaultWeightedEdge> expected = g
+                .edgeSet().stream()
+                .filter(e -> segmentDistance(g, coords, e, lat, lon) <= radius)
+                .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(index.edgesWithin(lat, lon, radius)));
+        }
+    }
+
+    @Test
+    void indexesMappedGraph()
+    {
+        Map<Integer, double[]> coords = new HashMap<>();
+        coords.put(0, new double[] { 42.50, 1.40 });
+        coords.put(1, new double[] { 42.50, 1.60 });
+        coords.put(2, new double[] { 42.52, 1.50 });
+        OsmCsrGraph g = new OsmCsrGraph(
+            3, 2, IntBuffer.wrap(new int[] { 0, 1, 2, 2 }),
+            IntBuffer.wrap(new int[] { 0, 1 }),
+            IntBuffer.wrap(new int[] { 1, 0 }),
+            FloatBuffer.wrap(new float[] { 1f, 1f }),
+            DoubleBuffer.wrap(new double[] { 42.50, 42.50, 42.52 }),
+            DoubleBuffer.wrap(new double[] { 1.40, 1.60, 1.50 }));
+
+        OsmSpatialIndex<Integer> index = OsmSpatialIndex.of(g);
+
+        assertEquals(Integer.valueOf(2), index.nearestVertex(42.519, 1.50));
+        assertEquals(Set.of(0, 1), new HashSet<>(index.nearestEdges(42.501, 1.50, 2)));
+    }
+
+    private static Map<Integer, double[]> randomCoordinates(Random rng, int n)
+    {
+        Map<Integer, double[]> coords = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            coords.put(
+                v, new double[] { 42.4 + rng.nextDouble() * 0.3, 1.4 + rng.nextDouble() * 0.4 });
+        }
+        return coords;
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> graphOf(Set<Integer> vertices)
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        vertices.forEach(g::addVertex);
+        return g;
+    }
+
+    private static double distance(double[] c, double lat, double lon)
+    {
+        return HaversineHeuristic.distanceMeters(c[0], c[1], lat, lon);
+    }
+
+    /**
+     * Distance to a segment in a local equirectangular projection, which is accurate to well
+     * below a metre at this scale.
+     */
+    private static double segmentDistance(
+        Graph<Integer, DefaultWeightedEdge> g, Map<Integer, double[]> coords,
+        DefaultWeightedEdge e, double lat, double lon)
+    {
+        double[] a = coords.get(g.getEdgeSource(e));
+        double[] b = coords.get(g.getEdgeTarget(e));
+        double k = Math.cos(Math.toRadians(lat));
+        double ax = (a[1] - lon) * k;
+        double ay = a[0] - lat;
+        double bx = (b[1] - lon) * k;
+        double by = b[0] - lat;
+        double abx = bx - ax;
+        double aby = by - ay;
+        double t = Math.max(0, Math.min(1, -(ax * abx + ay * aby) / (abx * abx + aby * aby)));
+        double dx = ax + t * abx;
+        double dy = ay + t * aby;
+        return Math.toRadians(Math.hypot(dx, dy)) * HaversineHeuristic.EARTH_RADIUS_M;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.*;
+
+import static org.jgrapht.osm.TestStreams.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RoadGraphRenumbering}.
+ */
+class RoadGraphRenumberingTest
+{
+    @TempDir
+    Path dir;
+
+    @Test
+    void hilbertFollowsTheCurve()
+    {
+        // the corners of a square, visited by the first-order curve as
+        // bottom-left, top-left, top-right, bottom-right
+        double[] lats = { 42.6, 42.5, 42.5, 42.6 };
+        double[] lons = { 1.6, 1.6, 1.5, 1.5 };
+
+        assertArrayEquals(
+            new int[] { 2, 3, 0, 1 }, RoadGraphRenumbering.hilbertPermutation(lats, lons));
+    }
+
+    @Test
+    void orderingsNumberShuffledPathConsecutively()
+    {
+        int n = 50;
+        int[] shuffled = shuffledIds(n, new Random(5L));
+        int[] sources = new int[2 * (n - 1)];
+        int[] targets = new int[2 * (n - 1)];
+        for (int i = 0; i < n - 1; i++) {
+            sources[2 * i] = shuffled[i];
+            targets[2 * i] = shuffled[i + 1];
+            sources[2 * i + 1] = shuffled[i + 1];
+            targets[2 * i + 1] = shuffled[i];
+        }
+
+        for (int[] permutation : List.of(
+            RoadGraphRenumbering.breadthFirstPermutation(n, sources, targets),
+            RoadGraphRenumbering.reverseCuthillMcKeePermutation(n, sources, targets)))
+        {
+            assertPermutation(permutation);
+            assertEquals(1, bandwidth(permutation, sources, targets));
+        }
+    }
+
+    @Test
+    void reverseCuthillMcKeeReducesGridBandwidth()
+    {
+        int side = 20;
+        int n = side * side;
+        int[] ids = shuffledIds(n, new Random(7L));
+        List<int[]> edges = new ArrayList<>();
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                if (c + 1 < side) {
+                    edges.add(new int[] { ids[r * side + c], ids[r * side + c + 1] });
+                }
+                if (r + 1 < side) {
+                    edges.add(new int[] { ids[r * side + c], ids[(r + 1) * side + c] });
+                }
+            }
+        }
+        int[] sources = edges.stream().mapToInt(e -> e[0]).toArray();
+        int[] targets = edges.stream().mapToInt(e -> e[1]).toArray();
+
+        int[] permutation =
+            RoadGraphRenumbering.reverseCuthillMcKeePermutation(n, sources, targets);
+
+        assertPermutation(permutation);
+        // a grid has bandwidth equal to its side when numbered by diagonals
+        assertTrue(bandwidth(permutation, sources, targets) <= side + 1);
+    }
+
+    @Test
+    void numbersEveryComponentAndIsolatedVertex()
+    {
+        int[] sources = { 4, 1, 6 };
+        int[] targets = { 1, 4, 2 };
+
+        for (int[] permutation : List.of(
+            RoadGraphRenumbering.breadthFirstPermutation(8, sources, targets),
+            RoadGraphRenumbering.reverseCuthillMcKeePermutation(8, sources, targets)))
+        {
+            assertPermutation(permutation);
+        }
+        assertArrayEquals(
+            new int[0], RoadGraphRenumbering.breadthFirstPermutation(0, new int[0], new int[0]));
+    }
+
+    @Test
+    void rejectsEdgesOutsideTheVertexRange()
+    {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> RoadGraphRenumbering.breadthFirstPermutation(
+                2, new int[] { 0 }, new int[] { 2 }));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> RoadGraphRenumbering.reverseCuthillMcKeePermutation(
+                2, new int[] { 0 }, new int[0]));
+    }
+
+    @Test
+    void rewritesFilesConsistently() throws IOException
+    {
+        Path edges = dir.resolve("region.csv.gz");
+        gzipTo(edges, "0,2,10.5\n0,3,3.25\n1,3,7.0\n2,0,10.5\n3,0,3.25\n3,1,7.0\n");
+        gzipTo(
+            dir.resolve("region.nodes.csv.gz"),
+            "0,42.5,1.5\n1,42.6,1.6\n2,42.5,1.6\n3,42.6,1.5\n");
+        Path edgesOut = dir.resolve("region-hilbert.csv.gz");
+
+        RoadGraphRenumbering.Result result =
+            RoadGraphRenumbering.run(edges, edgesOut, RoadGraphRenumbering.Ordering.HILBERT);
+
+        assertEquals(4, result.vertexCount);
+        assertEquals(6, result.edgeCount);
+        assertEquals(dir.resolve("region-hilbert.nodes.csv.gz"), result.nodesOut);
+        assertEquals(dir.resolve("region-hilbert.csr"), result.csrOut);
+        assertEquals(dir.resolve("region-hilbert.permutation.csv.gz"), result.permutationOut);
+
+        int[] permutation = new int[4];
+        for (String line : gunzipLines(result.permutationOut)) {
+            String[] cols = line.split(",");
+            permutation[Integer.parseInt(cols[0])] = Integer.parseInt(cols[1]);
+        }
+        assertArrayEquals(new int[] { 0, 2, 3, 1 }, permutation);
+
+        assertEquals(
+            List.of(
+                "0,42.5000000,1.5000000", "1,42.6000000,1.5000000", "2,42.6000000,1.6000000",
+                "3,42.5000000,1.6000000"),
+            gunzipLines(result.nodesOut));
+        assertEquals(
+            List.of(
+                "0,1,3.2500", "0,3,10.5000", "1,0,3.2500", "1,2,7.0000", "2,1,7.0000",
+                "3,0,10.5000"),
+            gunzipLines(result.edgesOut));
+
+        OsmCsrGraph g = OsmCsrGraphLoader.load(result.csrOut);
+        assertEquals(6, g.edgeSet().size());
+        assertEquals(42.6, g.getLatitude(2), 0.0);
+        assertEquals(Integer.valueOf(4), g.getEdge(2, 1));
+        assertEquals(7.0, g.getEdgeWeight(g.getEdge(2, 1)), 0.0);
+    }
+
+    @Test
+    void reportsIdGaps() throws IOException
+    {
+        Path edges = dir.resolve("line.csv.gz");
+        gzipTo(edges, "0,2,1.0\n2,0,1.0\n1,2,1.0\n2,1,1.0\n");
+        gzipTo(dir.resolve("line.nodes.csv.gz"), "0,42.5,1.5\n1,42.5,1.7\n2,42.5,1.6\n");
+
+        RoadGraphRenumbering.Result result = RoadGraphRenumbering.run(
+            edges, dir.resolve("line-rcm.csv.gz"),
+            RoadGraphRenumbering.Ordering.REVERSE_CUTHILL_MCKEE);
+
+        assertEquals(1.5, result.meanIdGapBefore, 0.0);
+        assertEquals(1.0, result.meanIdGapAfter, 0.0);
+    }
+
+    private static int[] shuffledIds(int n, Random rng)
+    {
+        List<Integer> ids = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            ids.add(v);
+        }
+        Collections.shuffle(ids, rng);
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void assertPermutation(int[] permutation)
+    {
+        boolean[] seen = new boolean[permutation.length];
+        for (int id : permutation) {
+            assertFalse(seen[id]);
+            seen[id] = true;
+        }
+    }
+
+    private static int bandwidth(int[] permutation, int[] sources, int[] targets)
+    {
+        int bandwidth = 0;
+        for (int e = 0; e < sources.length; e++) {
+            bandwidth = Math.max(
+                bandwidth, Math.abs(permutation[sources[e]] - permutation[targets[e]]));
+        }
+        return bandwidth;
+    }
+
+    private static void gzipTo(Path path, String body) throws IOException
+    {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
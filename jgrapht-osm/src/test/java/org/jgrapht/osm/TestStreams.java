@@ -19,6 +19,8 @@ package org.jgrapht.osm;
 
 import java.io.*;
 import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
 import java.util.zip.*;
 
 /**
@@ -49,4 +51,26 @@ final class TestStreams
         }
         return new ByteArrayInputStream(baos.toByteArray());
     }
+
+    /**
+     * Reads the lines of a gzip-compressed UTF-8 file, such as the output of the
+     * preprocessor.
+     *
+     * @param path the file
+     * @return the lines of the file
+     * @throws IOException if the file cannot be read
+     */
+    static List<String> gunzipLines(Path path) throws IOException
+    {
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8)))
+        {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = r.readLine()) != null) {
+                lines.add(line);
+            }
+            return lines;
+        }
+    }
 }
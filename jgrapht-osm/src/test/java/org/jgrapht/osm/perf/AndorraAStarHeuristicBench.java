@@ -0,0 +1,124 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm.perf;
+
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.osm.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Andorra-OSM benchmark of {@link AStarShortestPath} guided by {@link HaversineHeuristic} over a
+ * coordinate map, against the same search guided by the flat-array
+ * {@link HaversineHeuristic.Flat} bound, with {@link DijkstraShortestPath} as the baseline.
+ *
+ * <p>
+ * All three answer the same batch of random point-to-point queries. Both heuristics expand
+ * almost the same vertices, so the difference between them is the cost of one estimate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, warmups = 0, jvmArgs = {
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED"
+})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AndorraAStarHeuristicBench
+{
+    @Benchmark
+    public double dijkstra(AndorraAStarState s)
+    {
+        double total = 0d;
+        for (int i = 0; i < s.sources.length; i++) {
+            total += s.dijkstra.getPathWeight(s.sources[i], s.targets[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double aStarHaversine(AndorraAStarState s)
+    {
+        double total = 0d;
+        for (int i = 0; i < s.sources.length; i++) {
+            total += s.haversine.getPathWeight(s.sources[i], s.targets[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double aStarFlat(AndorraAStarState s)
+    {
+        double total = 0d;
+        for (int i = 0; i < s.sources.length; i++) {
+            total += s.flat.getPathWeight(s.sources[i], s.targets[i]);
+        }
+        return total;
+    }
+
+    @State(Scope.Benchmark)
+    public static class AndorraAStarState
+    {
+        @Param({ "16" })
+        int queries;
+
+        AndorraGraphLoader.AndorraData data;
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra;
+        AStarShortestPath<Integer, DefaultWeightedEdge> haversine;
+        AStarShortestPath<Integer, DefaultWeightedEdge> flat;
+        int[] sources;
+        int[] targets;
+
+        @Setup(Level.Trial)
+        public void load()
+        {
+            data = AndorraGraphLoader.load();
+            int n = data.graph.vertexSet().size();
+            double[] latitudes = new double[n];
+            double[] longitudes = new double[n];
+            for (int v = 0; v < n; v++) {
+                latitudes[v] = data.coords.get(v)[0];
+                longitudes[v] = data.coords.get(v)[1];
+            }
+
+            dijkstra = new DijkstraShortestPath<>(data.graph);
+            haversine =
+                new AStarShortestPath<>(data.graph, HaversineHeuristic.ofMap(data.coords));
+            flat = new AStarShortestPath<>(
+                data.graph, HaversineHeuristic.ofArrays(latitudes, longitudes));
+        }
+
+        @Setup(Level.Iteration)
+        public void buildEndpoints()
+        {
+            int v = data.graph.vertexSet().size();
+            Random rng = new Random(11L);
+            sources = new int[queries];
+            targets = new int[queries];
+            for (int i = 0; i < queries; i++) {
+                sources[i] = rng.nextInt(v);
+                targets[i] = rng.nextInt(v);
+            }
+        }
+    }
+}
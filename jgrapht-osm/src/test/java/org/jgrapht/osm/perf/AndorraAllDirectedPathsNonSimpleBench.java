@@ -74,6 +74,22 @@ public class AndorraAllDirectedPathsNonSimpleBench
             Collections.singleton(s.source), Collections.singleton(s.sink), false, s.maxPathLen);
     }
 
+    @Benchmark
+    public long allDirectedPathsNonSimpleStream(AndorraAdpState s)
+    {
+        AllDirectedPaths<Integer, DefaultWeightedEdge> adp =
+            new AllDirectedPaths<>(s.subgraph);
+        return adp.getAllPathsStream(s.source, s.sink, false, s.maxPathLen).count();
+    }
+
+    @Benchmark
+    public long allDirectedPathsNonSimpleParallelStream(AndorraAdpState s)
+    {
+        AllDirectedPaths<Integer, DefaultWeightedEdge> adp =
+            new AllDirectedPaths<>(s.subgraph);
+        return adp.getAllPathsStream(s.source, s.sink, false, s.maxPathLen).parallel().count();
+    }
+
     @State(Scope.Benchmark)
     public static class AndorraAdpState
     {
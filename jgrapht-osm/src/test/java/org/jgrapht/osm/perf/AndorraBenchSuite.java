@@ -51,4 +51,38 @@ class AndorraBenchSuite
         JmhBenchRunner.runAverageTime(
             AndorraAllDirectedPathsNonSimpleBench.class, OUT_DIR.resolve("adp.txt"));
     }
+
+    @Test
+    void runSparseDijkstra() throws Exception
+    {
+        JmhBenchRunner.runAverageTime(
+            AndorraSparseIntDijkstraBench.class, OUT_DIR.resolve("sparse-dijkstra.txt"));
+    }
+
+    @Test
+    void runLoad() throws Exception
+    {
+        JmhBenchRunner.runAverageTime(AndorraGraphLoadBench.class, OUT_DIR.resolve("load.txt"));
+    }
+
+    @Test
+    void runSpatialIndex() throws Exception
+    {
+        JmhBenchRunner.runAverageTime(
+            AndorraSpatialIndexBench.class, OUT_DIR.resolve("spatial-index.txt"));
+    }
+
+    @Test
+    void runRenumbering() throws Exception
+    {
+        JmhBenchRunner.runAverageTime(
+            AndorraRenumberingBench.class, OUT_DIR.resolve("renumbering.txt"));
+    }
+
+    @Test
+    void runAStarHeuristic() throws Exception
+    {
+        JmhBenchRunner.runAverageTime(
+            AndorraAStarHeuristicBench.class, OUT_DIR.resolve("astar-heuristic.txt"));
+    }
 }
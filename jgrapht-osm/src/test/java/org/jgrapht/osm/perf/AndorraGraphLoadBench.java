@@ -0,0 +1,104 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm.perf;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.osm.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+/**
+ * Andorra-OSM benchmark comparing startup loading of the road graph from the gzipped CSVs through
+ * {@link OsmCsvGraphLoader} with memory-mapping the binary form through {@link OsmCsrGraphLoader}.
+ *
+ * <p>
+ * The binary file is written once per trial from the CSV fixtures with {@link OsmCsrGraphWriter}.
+ * Both benchmarks touch every edge weight so that the mapped pages are actually read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, warmups = 0, jvmArgs = {
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED"
+})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AndorraGraphLoadBench
+{
+    @Benchmark
+    public double loadCsv(AndorraLoadState s)
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = OsmCsvGraphLoader.loadGzippedFile(s.edges);
+        double total = 0d;
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            total += g.getEdgeWeight(e);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double loadCsr(AndorraLoadState s)
+        throws IOException
+    {
+        OsmCsrGraph g = OsmCsrGraphLoader.load(s.csr);
+        double total = 0d;
+        for (int e = 0, m = g.edgeSet().size(); e < m; e++) {
+            total += g.getEdgeWeight(e);
+        }
+        return total;
+    }
+
+    @State(Scope.Benchmark)
+    public static class AndorraLoadState
+    {
+        Path edges;
+        Path csr;
+
+        @Setup(Level.Trial)
+        public void writeBinary()
+            throws IOException, URISyntaxException
+        {
+            if (!AndorraGraphLoader.isFixtureAvailable()) {
+                throw new IllegalStateException(
+                    "Andorra CSV fixtures not on the classpath; see "
+                        + "jgrapht-osm/src/test/resources/perf/osm/README.md");
+            }
+            edges = Path.of(
+                AndorraGraphLoader.class.getResource(AndorraGraphLoader.EDGES_RESOURCE).toURI());
+            Path nodes = Path.of(
+                AndorraGraphLoader.class.getResource(AndorraGraphLoader.NODES_RESOURCE).toURI());
+            csr = Files.createTempFile("andorra-edges", ".csr");
+            OsmCsrGraphWriter.write(edges, nodes, csr);
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteBinary()
+            throws IOException
+        {
+            Files.deleteIfExists(csr);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm.perf;
+
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.alg.shortestpath.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.jgrapht.osm.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Andorra-OSM benchmark of {@link SparseIntDijkstraShortestPath} over the road graph numbered as
+ * written by the preprocessor and renumbered by each {@link RoadGraphRenumbering.Ordering}.
+ *
+ * <p>
+ * Every numbering answers the same batch of point-to-point queries, mapped through its
+ * permutation, so the differences come from memory locality alone. The trial setup prints the
+ * mean id gap between the endpoints of an edge for each numbering. Hardware cache-miss counts
+ * need a forked run, e.g. through {@code org.openjdk.jmh.Main} with {@code -prof perfnorm} on
+ * Linux, since {@link JmhBenchRunner} runs in-process.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, warmups = 0, jvmArgs = {
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED"
+})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AndorraRenumberingBench
+{
+    @Benchmark
+    public double sparseIntDijkstra(AndorraRenumberingState s)
+    {
+        double total = 0d;
+        for (int i = 0; i < s.sources.length; i++) {
+            total += s.dijkstra.getDistance(s.sources[i], s.targets[i]);
+        }
+        return total;
+    }
+
+    @State(Scope.Benchmark)
+    public static class AndorraRenumberingState
+    {
+        @Param({ "PREPROCESSOR", "HILBERT", "BREADTH_FIRST", "REVERSE_CUTHILL_MCKEE" })
+        String numbering;
+
+        @Param({ "16" })
+        int queries;
+
+        int vertexCount;
+        int[] permutation;
+        SparseIntDijkstraShortestPath dijkstra;
+        int[] sources;
+        int[] targets;
+
+        @Setup(Level.Trial)
+        public void load()
+        {
+            AndorraGraphLoader.AndorraData data = AndorraGraphLoader.load();
+            vertexCount = data.graph.vertexSet().size();
+            int m = data.graph.edgeSet().size();
+            int[] edgeSources = new int[m];
+            int[] edgeTargets = new int[m];
+            double[] weights = new double[m];
+            int e = 0;
+            for (DefaultWeightedEdge edge : data.graph.edgeSet()) {
+                edgeSources[e] = data.graph.getEdgeSource(edge);
+                edgeTargets[e] = data.graph.getEdgeTarget(edge);
+                weights[e++] = data.graph.getEdgeWeight(edge);
+            }
+
+            switch (numbering) {
+            case "PREPROCESSOR":
+                permutation = new int[vertexCount];
+                Arrays.setAll(permutation, v -> v);
+                break;
+            case "HILBERT":
+                double[] latitudes = new double[vertexCount];
+                double[] longitudes = new double[vertexCount];
+                for (int v = 0; v < vertexCount; v++) {
+                    latitudes[v] = data.coords.get(v)[0];
+                    longitudes[v] = data.coords.get(v)[1];
+                }
+                permutation = RoadGraphRenumbering.hilbertPermutation(latitudes, longitudes);
+                break;
+            case "BREADTH_FIRST":
+                permutation = RoadGraphRenumbering
+                    .breadthFirstPermutation(vertexCount, edgeSources, edgeTargets);
+                break;
+            default:
+                permutation = RoadGraphRenumbering
+                    .reverseCuthillMcKeePermutation(vertexCount, edgeSources, edgeTargets);
+                break;
+            }
+
+            List<Triple<Integer, Integer, Double>> edges = new ArrayList<>(m);
+            double gap = 0d;
+            for (e = 0; e < m; e++) {
+                int src = permutation[edgeSources[e]];
+                int dst = permutation[edgeTargets[e]];
+                edges.add(Triple.of(src, dst, weights[e]));
+                gap += Math.abs(src - dst);
+            }
+            System.out.printf("%s: mean id gap between edge endpoints %.1f%n", numbering, gap / m);
+
+            SparseIntDirectedWeightedGraph sparse = new SparseIntDirectedWeightedGraph(
+                vertexCount, edges, IncomingEdgesSupport.NO_INCOMING_EDGES);
+            dijkstra = new SparseIntDijkstraShortestPath(sparse);
+        }
+
+        @Setup(Level.Iteration)
+        public void buildEndpoints()
+        {
+            Random rng = new Random(11L);
+            sources = new int[queries];
+            targets = new int[queries];
+            for (int i = 0; i < queries; i++) {
+                sources[i] = permutation[rng.nextInt(vertexCount)];
+                targets[i] = permutation[rng.nextInt(vertexCount)];
+            }
+        }
+    }
+}
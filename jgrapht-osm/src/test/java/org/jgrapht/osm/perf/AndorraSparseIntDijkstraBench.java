@@ -0,0 +1,117 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm.perf;
+
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.alg.shortestpath.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.jgrapht.osm.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Andorra-OSM benchmark comparing {@link IntVertexDijkstraShortestPath} with the primitive
+ * {@link SparseIntDijkstraShortestPath} on the same batch of random point-to-point queries.
+ *
+ * <p>
+ * Both algorithm instances are created once per trial so that the measured time only covers the
+ * queries themselves; the sparse variant reuses its workspace across queries and does not allocate
+ * after the first one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, warmups = 0, jvmArgs = {
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED"
+})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AndorraSparseIntDijkstraBench
+{
+    @Benchmark
+    public double intVertexDijkstra(AndorraSparseState s)
+    {
+        double total = 0d;
+        for (int i = 0; i < s.sources.length; i++) {
+            total += s.intVertexDijkstra.getPathWeight(s.sources[i], s.targets[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double sparseIntDijkstra(AndorraSparseState s)
+    {
+        double total = 0d;
+        for (int i = 0; i < s.sources.length; i++) {
+            total += s.sparseDijkstra.getDistance(s.sources[i], s.targets[i]);
+        }
+        return total;
+    }
+
+    @State(Scope.Benchmark)
+    public static class AndorraSparseState
+    {
+        @Param({ "16" })
+        int queries;
+
+        AndorraGraphLoader.AndorraData data;
+        SparseIntDirectedWeightedGraph sparse;
+        IntVertexDijkstraShortestPath<DefaultWeightedEdge> intVertexDijkstra;
+        SparseIntDijkstraShortestPath sparseDijkstra;
+        int[] sources;
+        int[] targets;
+
+        @Setup(Level.Trial)
+        public void load()
+        {
+            data = AndorraGraphLoader.load();
+
+            List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+            for (DefaultWeightedEdge e : data.graph.edgeSet()) {
+                edges.add(
+                    Triple.of(
+                        data.graph.getEdgeSource(e), data.graph.getEdgeTarget(e),
+                        data.graph.getEdgeWeight(e)));
+            }
+            sparse = new SparseIntDirectedWeightedGraph(
+                data.graph.vertexSet().size(), edges, IncomingEdgesSupport.NO_INCOMING_EDGES);
+
+            intVertexDijkstra = new IntVertexDijkstraShortestPath<>(data.graph);
+            sparseDijkstra = new SparseIntDijkstraShortestPath(sparse);
+        }
+
+        @Setup(Level.Iteration)
+        public void buildEndpoints()
+        {
+            int v = data.graph.vertexSet().size();
+            Random rng = new Random(11L);
+            sources = new int[queries];
+            targets = new int[queries];
+            for (int i = 0; i < queries; i++) {
+                sources[i] = rng.nextInt(v);
+                targets[i] = rng.nextInt(v);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.osm.perf;
+
+import org.jgrapht.graph.*;
+import org.jgrapht.osm.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Andorra-OSM benchmark of snapping random positions to the road graph with
+ * {@link OsmSpatialIndex}, against the linear scan over all vertex coordinates it replaces.
+ *
+ * <p>
+ * The positions are drawn uniformly from the bounding box of the graph. Each benchmark answers
+ * the whole batch of positions; {@code nearestVertexConcurrent} runs the same batch from four
+ * threads sharing one index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, warmups = 0, jvmArgs = {
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-opens=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf=ALL-UNNAMED",
+    "--add-exports=org.jgrapht.osm/org.jgrapht.osm.perf.jmh_generated=ALL-UNNAMED"
+})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AndorraSpatialIndexBench
+{
+    @Benchmark
+    public int nearestVertexLinearScan(AndorraSpatialState s)
+    {
+        int total = 0;
+        for (int i = 0; i < s.lats.length; i++) {
+            int best = -1;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            for (Map.Entry<Integer, double[]> e : s.data.coords.entrySet()) {
+                double[] c = e.getValue();
+                double d = HaversineHeuristic.distanceMeters(c[0], c[1], s.lats[i], s.lons[i]);
+                if (d < bestDistance) {
+                    bestDistance = d;
+                    best = e.getKey();
+                }
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int nearestVertex(AndorraSpatialState s)
+    {
+        int total = 0;
+        for (int i = 0; i < s.lats.length; i++) {
+            total += s.index.nearestVertex(s.lats[i], s.lons[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int nearestVertexConcurrent(AndorraSpatialState s)
+    {
+        return nearestVertex(s);
+    }
+
+    @Benchmark
+    public int nearestVertices(AndorraSpatialState s)
+    {
+        int total = 0;
+        for (int i = 0; i < s.lats.length; i++) {
+            total += s.index.nearestVertices(s.lats[i], s.lons[i], 8).size();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int verticesWithin(AndorraSpatialState s)
+    {
+        int total = 0;
+        for (int i = 0; i < s.lats.length; i++) {
+            total += s.index.verticesWithin(s.lats[i], s.lons[i], 250).size();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int nearestEdge(AndorraSpatialState s)
+    {
+        int total = 0;
+        for (int i = 0; i < s.lats.length; i++) {
+            total += s.index.nearestEdge(s.lats[i], s.lons[i]) != null ? 1 : 0;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int edgesWithin(AndorraSpatialState s)
+    {
+        int total = 0;
+        for (int i = 0; i < s.lats.length; i++) {
+            total += s.index.edgesWithin(s.lats[i], s.lons[i], 100).size();
+        }
+        return total;
+    }
+
+    @State(Scope.Benchmark)
+    public static class AndorraSpatialState
+    {
+        @Param({ "64" })
+        int queries;
+
+        AndorraGraphLoader.AndorraData data;
+        OsmSpatialIndex<DefaultWeightedEdge> index;
+        double[] lats;
+        double[] lons;
+
+        @Setup(Level.Trial)
+        public void load()
+        {
+            data = AndorraGraphLoader.load();
+            index = OsmSpatialIndex.of(data.coords, data.graph);
+        }
+
+        @Setup(Level.Iteration)
+        public void buildPositions()
+        {
+            double minLat = Double.POSITIVE_INFINITY;
+            double maxLat = Double.NEGATIVE_INFINITY;
+            double minLon = Double.POSITIVE_INFINITY;
+            double maxLon = Double.NEGATIVE_INFINITY;
+            for (double[] c : data.coords.values()) {
+                minLat = Math.min(minLat, c[0]);
+                maxLat = Math.max(maxLat, c[0]);
+                minLon = Math.min(minLon, c[1]);
+                maxLon = Math.max(maxLon, c[1]);
+            }
+            Random rng = new Random(13L);
+            lats = new double[queries];
+            lons = new double[queries];
+            for (int i = 0; i < queries; i++) {
+                lats[i] = minLat + rng.nextDouble() * (maxLat - minLat);
+                lons[i] = minLon + rng.nextDouble() * (maxLon - minLon);
+            }
+        }
+    }
+}